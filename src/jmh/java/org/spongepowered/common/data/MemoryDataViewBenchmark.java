@@ -0,0 +1,96 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link DataQuery} lookups and writes on a {@link MemoryDataView}
+ * shaped like a serialized item stack.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MemoryDataViewBenchmark {
+
+    private static final DataQuery COUNT = DataQuery.of("Count");
+    private static final DataQuery DISPLAY_NAME = DataQuery.of("UnsafeData", "display", "Name");
+    private static final DataQuery ENCHANTMENT_LEVEL = DataQuery.of("UnsafeData", "tag", "ench", "lvl");
+    private static final DataQuery MISSING = DataQuery.of("UnsafeData", "display", "Missing");
+
+    private DataContainer container;
+    private int counter;
+
+    @Setup
+    public void setup() {
+        this.container = new MemoryDataContainer()
+                .set(DataQuery.of("ItemType"), "minecraft:diamond_sword")
+                .set(COUNT, 1)
+                .set(DataQuery.of("UnsafeDamage"), 0)
+                .set(DISPLAY_NAME, "Benchmark Sword")
+                .set(ENCHANTMENT_LEVEL, 5);
+    }
+
+    @Benchmark
+    public Optional<Integer> getShallowInt() {
+        return this.container.getInt(COUNT);
+    }
+
+    @Benchmark
+    public Optional<String> getNestedString() {
+        return this.container.getString(DISPLAY_NAME);
+    }
+
+    @Benchmark
+    public Optional<Integer> getDeepInt() {
+        return this.container.getInt(ENCHANTMENT_LEVEL);
+    }
+
+    @Benchmark
+    public boolean containsMissing() {
+        return this.container.contains(MISSING);
+    }
+
+    @Benchmark
+    public DataContainer setNested() {
+        return this.container.set(ENCHANTMENT_LEVEL, this.counter++);
+    }
+
+}
@@ -0,0 +1,157 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the eager and lazy {@link NbtTranslator} paths on a chunk sized
+ * compound, and measures the NBT and JSON round trips.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DataTranslationBenchmark {
+
+    private static final DataQuery LEVEL_STATUS = DataQuery.of("Level", "Status");
+    private static final DataQuery LEVEL_HEIGHT_MAP = DataQuery.of("Level", "HeightMap");
+
+    private final NbtTranslator translator = NbtTranslator.getInstance();
+    private final JsonDataFormat json = new JsonDataFormat();
+    private NBTTagCompound compound;
+    private DataContainer container;
+    private DataContainer jsonContainer;
+    private String jsonString;
+
+    @Setup
+    public void setup() throws IOException {
+        final NBTTagCompound level = new NBTTagCompound();
+        level.setString("Status", "postprocessed");
+        level.setInteger("xPos", 12);
+        level.setInteger("zPos", -7);
+        level.setLong("InhabitedTime", 123456L);
+        level.setIntArray("HeightMap", new int[256]);
+        level.setByteArray("Biomes", new byte[256]);
+        final NBTTagList sections = new NBTTagList();
+        for (int y = 0; y < 16; y++) {
+            final NBTTagCompound section = new NBTTagCompound();
+            section.setByte("Y", (byte) y);
+            section.setByteArray("Blocks", new byte[4096]);
+            section.setByteArray("Data", new byte[2048]);
+            section.setByteArray("BlockLight", new byte[2048]);
+            section.setByteArray("SkyLight", new byte[2048]);
+            sections.appendTag(section);
+        }
+        level.setTag("Sections", sections);
+        final NBTTagList entities = new NBTTagList();
+        for (int i = 0; i < 32; i++) {
+            final NBTTagCompound entity = new NBTTagCompound();
+            entity.setString("id", "minecraft:zombie");
+            entity.setUniqueId("UUID", new UUID(i, i));
+            entity.setFloat("Health", 20.0F);
+            entities.appendTag(entity);
+        }
+        level.setTag("Entities", entities);
+        this.compound = new NBTTagCompound();
+        this.compound.setTag("Level", level);
+        this.compound.setInteger("DataVersion", 1343);
+
+        this.container = this.translator.translateFrom(this.compound);
+
+        // JSON has no representation for primitive arrays, so use item stack like data instead
+        final List<DataView> enchantments = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            enchantments.add(DataContainer.createNew()
+                    .set(DataQuery.of("id"), i)
+                    .set(DataQuery.of("lvl"), 5));
+        }
+        this.jsonContainer = DataContainer.createNew()
+                .set(DataQuery.of("ItemType"), "minecraft:diamond_sword")
+                .set(DataQuery.of("Count"), 1)
+                .set(DataQuery.of("UnsafeDamage"), 0)
+                .set(DataQuery.of("UnsafeData", "display", "Name"), "Benchmark Sword")
+                .set(DataQuery.of("UnsafeData", "display", "Lore"), Arrays.asList("first line", "second line", "third line"))
+                .set(DataQuery.of("UnsafeData", "ench"), enchantments);
+        this.jsonString = this.json.write(this.jsonContainer);
+    }
+
+    @Benchmark
+    public void nbtToContainerEager(Blackhole blackhole) {
+        final DataContainer data = this.translator.translateFrom(this.compound);
+        blackhole.consume(data.getString(LEVEL_STATUS));
+        blackhole.consume(data.get(LEVEL_HEIGHT_MAP));
+    }
+
+    @Benchmark
+    public void nbtToContainerLazy(Blackhole blackhole) {
+        final DataContainer data = this.translator.translateLazily(this.compound);
+        blackhole.consume(data.getString(LEVEL_STATUS));
+        blackhole.consume(data.get(LEVEL_HEIGHT_MAP));
+    }
+
+    @Benchmark
+    public NBTTagCompound containerToNbt() {
+        return this.translator.translate(this.container);
+    }
+
+    @Benchmark
+    public NBTTagCompound nbtRoundTrip() {
+        return this.translator.translate(this.translator.translateFrom(this.compound));
+    }
+
+    @Benchmark
+    public String containerToJson() throws IOException {
+        return this.json.write(this.jsonContainer);
+    }
+
+    @Benchmark
+    public DataContainer jsonToContainer() throws IOException {
+        return this.json.read(this.jsonString);
+    }
+
+}
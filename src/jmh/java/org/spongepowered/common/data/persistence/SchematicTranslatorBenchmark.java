@@ -0,0 +1,116 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import com.flowpowered.math.vector.Vector3i;
+import net.minecraft.init.Blocks;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.world.schematic.Schematic;
+import org.spongepowered.common.util.gen.ArrayMutableBlockBuffer;
+import org.spongepowered.common.world.schematic.SpongeSchematicBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures reading and writing uncompressed schematics through the NBT tree
+ * and {@link SchematicTranslator}, which decodes the block data into packed
+ * palette ids with {@link SchematicCodec}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SchematicTranslatorBenchmark {
+
+    @Param({"32", "128"})
+    public int size;
+
+    private Schematic schematic;
+    private byte[] bytes;
+
+    @Setup
+    public void setup() throws IOException {
+        final BlockState[] states = {
+            (BlockState) Blocks.STONE.getDefaultState(),
+            (BlockState) Blocks.DIRT.getDefaultState(),
+            (BlockState) Blocks.GRASS.getDefaultState(),
+            (BlockState) Blocks.PLANKS.getDefaultState(),
+            (BlockState) Blocks.GLASS.getDefaultState(),
+        };
+        final ArrayMutableBlockBuffer blocks = new ArrayMutableBlockBuffer(Vector3i.ZERO, new Vector3i(this.size, this.size, this.size));
+        for (int y = 0; y < this.size; y++) {
+            for (int z = 0; z < this.size; z++) {
+                for (int x = 0; x < this.size; x++) {
+                    final int selector = (x * 31 + y * 17 + z * 7) % (states.length + 1);
+                    if (selector < states.length) {
+                        blocks.setBlock(x, y, z, states[selector]);
+                    }
+                }
+            }
+        }
+        this.schematic = new SpongeSchematicBuilder()
+            .blocks(blocks)
+            .blockPalette(blocks.getPalette())
+            .metaValue("Name", "benchmark")
+            .build();
+        this.bytes = serialize(new ByteArrayOutputStream());
+    }
+
+    @Benchmark
+    public Schematic read() throws IOException {
+        final NBTTagCompound compound = CompressedStreamTools.read(new DataInputStream(new ByteArrayInputStream(this.bytes)));
+        return SchematicTranslator.get().translate(NbtTranslator.getInstance().translateFrom(compound));
+    }
+
+    @Benchmark
+    public byte[] write() throws IOException {
+        return serialize(new ByteArrayOutputStream(this.bytes.length));
+    }
+
+    private byte[] serialize(final ByteArrayOutputStream buffer) throws IOException {
+        final NBTTagCompound compound = NbtTranslator.getInstance().translate(SchematicTranslator.get().translate(this.schematic));
+        CompressedStreamTools.write(compound, new DataOutputStream(buffer));
+        return buffer.toByteArray();
+    }
+
+}
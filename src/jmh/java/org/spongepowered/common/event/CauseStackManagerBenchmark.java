@@ -0,0 +1,103 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.event.CauseStackManager;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.event.cause.EventContextKeys;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.common.SpongeImpl;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures frame handling and cause creation of the
+ * {@link SpongeCauseStackManager}, with a number of causes already on the
+ * stack like during nested phases.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CauseStackManagerBenchmark {
+
+    @Param({"1", "8", "32"})
+    public int depth;
+
+    private SpongeCauseStackManager causeStackManager;
+    private PluginContainer plugin;
+    private CauseStackManager.StackFrame baseFrame;
+
+    @Setup
+    public void setup() {
+        this.causeStackManager = SpongeImpl.getCauseStackManager();
+        this.plugin = SpongeImpl.getSpongePlugin();
+        this.baseFrame = this.causeStackManager.pushCauseFrame();
+        for (int i = 0; i < this.depth; i++) {
+            this.causeStackManager.pushCause(i);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.causeStackManager.popCauseFrame(this.baseFrame);
+    }
+
+    @Benchmark
+    public Cause pushPopFrame() {
+        try (CauseStackManager.StackFrame frame = this.causeStackManager.pushCauseFrame()) {
+            frame.pushCause(this);
+            frame.addContext(EventContextKeys.PLUGIN, this.plugin);
+            return this.causeStackManager.getCurrentCause();
+        }
+    }
+
+    @Benchmark
+    public Cause getCurrentCause() {
+        // Unchanged stack, served from the cached cause
+        return this.causeStackManager.getCurrentCause();
+    }
+
+    @Benchmark
+    public Cause pushPopCause() {
+        this.causeStackManager.pushCause(this);
+        final Cause cause = this.causeStackManager.getCurrentCause();
+        this.causeStackManager.popCause();
+        return cause;
+    }
+
+}
@@ -0,0 +1,156 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import org.apache.logging.log4j.LogManager;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.event.Cancellable;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.event.cause.EventContext;
+import org.spongepowered.api.event.filter.cause.First;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.api.plugin.PluginManager;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link SpongeEventManager#post(Event)} throughput for plain
+ * listeners and for annotated listeners with generated cause filters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SpongeEventManagerBenchmark {
+
+    @Param({"0", "1", "50"})
+    public int listeners;
+
+    private SpongeEventManager eventManager;
+    private BenchmarkEvent plainEvent;
+    private FilteredEvent filteredEvent;
+
+    @Setup
+    public void setup() {
+        final PluginManager pluginManager = Mockito.mock(PluginManager.class);
+        final PluginContainer container = Mockito.mock(PluginContainer.class);
+        Mockito.when(container.getId()).thenReturn("benchmark");
+        final Object plugin = new Object();
+        Mockito.when(pluginManager.fromInstance(Mockito.any())).thenReturn(Optional.of(container));
+        this.eventManager = new SpongeEventManager(LogManager.getLogger("benchmark"), pluginManager);
+
+        for (int i = 0; i < this.listeners; i++) {
+            this.eventManager.registerListener(plugin, BenchmarkEvent.class, event -> event.handled++);
+            this.eventManager.registerListeners(plugin, new FilteredListener());
+        }
+
+        final Cause cause = Cause.of(EventContext.empty(), "benchmark");
+        this.plainEvent = new BenchmarkEvent(cause);
+        this.filteredEvent = new FilteredEvent(cause);
+    }
+
+    @Benchmark
+    public boolean post() {
+        return this.eventManager.post(this.plainEvent);
+    }
+
+    @Benchmark
+    public boolean postFiltered() {
+        return this.eventManager.post(this.filteredEvent);
+    }
+
+    public static class BenchmarkEvent implements Event, Cancellable {
+
+        private final Cause cause;
+        private boolean cancelled;
+        int handled;
+
+        public BenchmarkEvent(Cause cause) {
+            this.cause = cause;
+        }
+
+        @Override
+        public Cause getCause() {
+            return this.cause;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return this.cancelled;
+        }
+
+        @Override
+        public void setCancelled(boolean cancel) {
+            this.cancelled = cancel;
+        }
+
+    }
+
+    public static class FilteredEvent implements Event {
+
+        private final Cause cause;
+
+        public FilteredEvent(Cause cause) {
+            this.cause = cause;
+        }
+
+        @Override
+        public Cause getCause() {
+            return this.cause;
+        }
+
+    }
+
+    public static class FilteredListener {
+
+        public int handled;
+
+        @Listener
+        public void onEvent(FilteredEvent event, @First String source) {
+            this.handled++;
+        }
+
+        @Listener
+        public void onEventNoMatch(FilteredEvent event, @First Integer source) {
+            this.handled--;
+        }
+
+    }
+
+}
@@ -0,0 +1,109 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking.context;
+
+import com.flowpowered.math.vector.Vector3i;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.spongepowered.common.block.SpongeBlockSnapshot;
+import org.spongepowered.common.block.SpongeBlockSnapshotBuilder;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Captures 10k block changes into a {@link MultiBlockCaptureSupplier} and
+ * flushes them, like a large explosion or piston machine would
+ * within a single phase. The supplier is reused between invocations the
+ * same way it is reused between phases.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MultiBlockCaptureSupplierBenchmark {
+
+    private static final int CHANGES = 10_000;
+
+    /**
+     * Every n-th position is changed a second time, 0 for none.
+     */
+    @Param({"0", "4"})
+    public int duplicateEvery;
+
+    private final MultiBlockCaptureSupplier supplier = new MultiBlockCaptureSupplier();
+    private SpongeBlockSnapshot[] snapshots;
+    private IBlockState newState;
+
+    @Setup
+    public void setup() {
+        final UUID worldId = UUID.randomUUID();
+        final IBlockState stone = Blocks.STONE.getDefaultState();
+        this.newState = Blocks.AIR.getDefaultState();
+        final int duplicates = this.duplicateEvery == 0 ? 0 : CHANGES / this.duplicateEvery;
+        this.snapshots = new SpongeBlockSnapshot[CHANGES + duplicates];
+        int index = 0;
+        for (int i = 0; i < CHANGES; i++) {
+            final Vector3i position = new Vector3i(i & 31, 64 + (i >> 10), (i >> 5) & 31);
+            this.snapshots[index++] = SpongeBlockSnapshotBuilder.unpooled()
+                .worldId(worldId)
+                .position(position)
+                .blockState(stone)
+                .build();
+            if (this.duplicateEvery != 0 && i % this.duplicateEvery == 0) {
+                this.snapshots[index++] = SpongeBlockSnapshotBuilder.unpooled()
+                    .worldId(worldId)
+                    .position(position)
+                    .blockState(this.newState)
+                    .build();
+            }
+        }
+    }
+
+    @Benchmark
+    public void captureAndFlush(Blackhole blackhole) {
+        for (final SpongeBlockSnapshot snapshot : this.snapshots) {
+            this.supplier.put(snapshot, this.newState);
+        }
+        // Read the originals and clear them, the way TrackingUtil#processBlockCaptures flushes them
+        for (final SpongeBlockSnapshot snapshot : this.supplier.get()) {
+            blackhole.consume(snapshot);
+        }
+        this.supplier.clear();
+    }
+
+}
@@ -0,0 +1,183 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.plugin.entityactivation;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares one tick of {@link EntityActivationIndex} against the per-player
+ * scan of {@link EntityActivationRange#activateEntities}, using synthetic
+ * bounding boxes instead of a loaded world. Players are spread over a square
+ * area, entities are bucketed by chunk the way a chunk holds them, and both
+ * engines return the number of activated entities.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class EntityActivationIndexBenchmark {
+
+    private static final int MAX_RANGE = 64;
+    private static final int[] RANGES = {32, 16, 16, 32, 16};
+
+    @Param({"10", "100"})
+    public int players;
+
+    @Param({"5000"})
+    public int entities;
+
+    /**
+     * The side of the square area everything is placed in, in blocks.
+     */
+    @Param({"256", "1024"})
+    public int area;
+
+    private final EntityActivationIndex index = new EntityActivationIndex();
+    private final Long2ObjectMap<List<SyntheticEntity>> entitiesByChunk = new Long2ObjectOpenHashMap<>();
+    private AxisAlignedBB[] playerBoxes;
+    private long tick;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(0);
+        this.playerBoxes = new AxisAlignedBB[this.players];
+        for (int i = 0; i < this.players; i++) {
+            final double x = random.nextDouble() * this.area;
+            final double z = random.nextDouble() * this.area;
+            this.playerBoxes[i] = new AxisAlignedBB(x - 0.3, 64, z - 0.3, x + 0.3, 65.8, z + 0.3);
+        }
+        this.entitiesByChunk.clear();
+        for (int i = 0; i < this.entities; i++) {
+            final double x = random.nextDouble() * this.area;
+            final double z = random.nextDouble() * this.area;
+            final double y = 40 + random.nextDouble() * 48;
+            final AxisAlignedBB bb = new AxisAlignedBB(x - 0.3, y, z - 0.3, x + 0.3, y + 1.8, z + 0.3);
+            final int chunkX = MathHelper.floor(x) >> 4;
+            final int chunkZ = MathHelper.floor(z) >> 4;
+            this.entitiesByChunk.computeIfAbsent(ChunkPos.asLong(chunkX, chunkZ), key -> new ArrayList<>())
+                    .add(new SyntheticEntity(bb, RANGES[i % RANGES.length], chunkX, chunkZ));
+        }
+    }
+
+    @Benchmark
+    public int perPlayerScan() {
+        final long currentTick = ++this.tick;
+        int activated = 0;
+        for (final AxisAlignedBB player : this.playerBoxes) {
+            final int minChunkX = MathHelper.floor((player.minX - MAX_RANGE) / 16.0D);
+            final int maxChunkX = MathHelper.floor((player.maxX + MAX_RANGE) / 16.0D);
+            final int minChunkZ = MathHelper.floor((player.minZ - MAX_RANGE) / 16.0D);
+            final int maxChunkZ = MathHelper.floor((player.maxZ + MAX_RANGE) / 16.0D);
+            for (int x = minChunkX; x <= maxChunkX; ++x) {
+                for (int z = minChunkZ; z <= maxChunkZ; ++z) {
+                    final List<SyntheticEntity> chunk = this.entitiesByChunk.get(ChunkPos.asLong(x, z));
+                    if (chunk == null) {
+                        continue;
+                    }
+                    for (final SyntheticEntity entity : chunk) {
+                        if (currentTick <= entity.activatedTick) {
+                            continue;
+                        }
+                        // Same comparison as growBb followed by AxisAlignedBB#intersects
+                        final int range = entity.range;
+                        final AxisAlignedBB bb = entity.bb;
+                        if (player.minX - range < bb.maxX && player.maxX + range > bb.minX
+                                && player.minY - 256 < bb.maxY && player.maxY + 256 > bb.minY
+                                && player.minZ - range < bb.maxZ && player.maxZ + range > bb.minZ) {
+                            entity.activatedTick = currentTick;
+                            activated++;
+                        }
+                    }
+                }
+            }
+        }
+        return activated;
+    }
+
+    @Benchmark
+    public int spatialIndex() {
+        final long currentTick = ++this.tick;
+        this.index.clear();
+        for (final AxisAlignedBB player : this.playerBoxes) {
+            this.index.addPlayer(player, (player.minX + player.maxX) / 2, (player.minZ + player.maxZ) / 2, MAX_RANGE);
+        }
+        int activated = 0;
+        final LongIterator iterator = this.index.getCandidateChunks().iterator();
+        while (iterator.hasNext()) {
+            final List<SyntheticEntity> chunk = this.entitiesByChunk.get(iterator.nextLong());
+            if (chunk == null) {
+                continue;
+            }
+            for (final SyntheticEntity entity : chunk) {
+                if (currentTick <= entity.activatedTick) {
+                    continue;
+                }
+                if (this.index.isInRange(entity.bb, entity.range, entity.chunkX, entity.chunkZ, MAX_RANGE)) {
+                    entity.activatedTick = currentTick;
+                    activated++;
+                }
+            }
+        }
+        return activated;
+    }
+
+    private static final class SyntheticEntity {
+
+        final AxisAlignedBB bb;
+        final int range;
+        final int chunkX;
+        final int chunkZ;
+        long activatedTick;
+
+        SyntheticEntity(final AxisAlignedBB bb, final int range, final int chunkX, final int chunkZ) {
+            this.bb = bb;
+            this.range = range;
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+        }
+    }
+
+}
@@ -0,0 +1,70 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.text.serializer;
+
+import net.minecraft.util.text.TextComponentString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.text.Text;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing of legacy formatted strings, like those found in chat
+ * messages, signs and plugin configurations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class LegacyTextsBenchmark {
+
+    private static final String PLAIN = "Welcome to the server, please read the rules before building anything.";
+    private static final String FORMATTED = "&6[&eServer&6] &r&aWelcome &l&nback&r&a, please read the &c&orules&r&a before building &kanything&r.";
+    private static final String FORMATTED_SECTION = FORMATTED.replace('&', '\u00A7');
+
+    @Benchmark
+    public Text parsePlain() {
+        return LegacyTexts.parse(PLAIN, '&');
+    }
+
+    @Benchmark
+    public Text parseFormatted() {
+        return LegacyTexts.parse(FORMATTED, '&');
+    }
+
+    @Benchmark
+    public TextComponentString parseFormattedComponent() {
+        return LegacyTexts.parseComponent(new TextComponentString(FORMATTED_SECTION), '\u00A7');
+    }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.extent.worker;
+
+import com.flowpowered.math.vector.Vector3i;
+import net.minecraft.init.Blocks;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.common.util.gen.ArrayMutableBlockBuffer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures iterating, mapping and reducing {@link ArrayMutableBlockBuffer}s
+ * through a {@link SpongeBlockVolumeWorker}. The larger size is above the
+ * threshold for splitting the work across threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SpongeBlockVolumeWorkerBenchmark {
+
+    @Param({"16", "64"})
+    public int size;
+
+    private BlockState stone;
+    private BlockState dirt;
+    private ArrayMutableBlockBuffer source;
+    private ArrayMutableBlockBuffer destination;
+    private SpongeBlockVolumeWorker<ArrayMutableBlockBuffer> worker;
+
+    @Setup
+    public void setup() {
+        this.stone = (BlockState) Blocks.STONE.getDefaultState();
+        this.dirt = (BlockState) Blocks.DIRT.getDefaultState();
+        final Vector3i size = new Vector3i(this.size, this.size, this.size);
+        this.source = new ArrayMutableBlockBuffer(Vector3i.ZERO, size);
+        this.destination = new ArrayMutableBlockBuffer(Vector3i.ZERO, size);
+        for (int z = 0; z < this.size; z++) {
+            for (int y = 0; y < this.size; y++) {
+                for (int x = 0; x < this.size; x++) {
+                    if ((x + y + z) % 3 == 0) {
+                        this.source.setBlock(x, y, z, this.stone);
+                    }
+                }
+            }
+        }
+        this.worker = new SpongeBlockVolumeWorker<>(this.source);
+    }
+
+    @Benchmark
+    public void iterate(Blackhole blackhole) {
+        this.worker.iterate((volume, x, y, z) -> blackhole.consume(volume.getBlock(x, y, z)));
+    }
+
+    @Benchmark
+    public ArrayMutableBlockBuffer map() {
+        final BlockState stone = this.stone;
+        final BlockState dirt = this.dirt;
+        this.worker.map((volume, x, y, z) -> volume.getBlock(x, y, z) == stone ? dirt : stone, this.destination);
+        return this.destination;
+    }
+
+    @Benchmark
+    public Integer reduce() {
+        final BlockState stone = this.stone;
+        return this.worker.reduce((volume, x, y, z, count) -> volume.getBlock(x, y, z) == stone ? count + 1 : count, Integer::sum, 0);
+    }
+
+}
@@ -36,6 +36,7 @@
 import org.spongepowered.api.service.user.UserStorageService;
 import org.spongepowered.common.service.user.SpongeUserStorageService;
 import org.spongepowered.common.util.SpongeUsernameCache;
+import org.spongepowered.common.util.metric.SpongeTickMetrics;
 
 import java.util.Iterator;
 import java.util.function.Consumer;
@@ -67,6 +68,7 @@ public void onServerStarting(GameStartingServerEvent event) {
         Sponge.getServiceManager().provide(UserStorageService.class)
                 .filter(x -> x instanceof SpongeUserStorageService)
                 .ifPresent(x -> ((SpongeUserStorageService) x).init());
+        SpongeTickMetrics.refresh();
     }
 
     @Listener
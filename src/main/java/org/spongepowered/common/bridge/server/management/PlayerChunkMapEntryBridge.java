@@ -30,5 +30,13 @@ public interface PlayerChunkMapEntryBridge {
 
     void bridge$markBiomesForUpdate();
 
+    /**
+     * Queues the given chunk sections to be resent to the players watching
+     * this chunk with the next update, as a single packet.
+     *
+     * @param sectionMask The mask of sections, one bit per section y
+     */
+    void bridge$markSectionsForUpdate(int sectionMask);
+
     void bridge$setChunk(Chunk newChunk);
 }
@@ -45,6 +45,8 @@
 import org.spongepowered.common.event.tracking.context.MultiBlockCaptureSupplier;
 import org.spongepowered.common.event.tracking.context.SpongeProxyBlockAccess;
 import org.spongepowered.common.relocate.co.aikar.timings.WorldTimingsHandler;
+import org.spongepowered.common.util.metric.TickMetrics;
+import org.spongepowered.common.world.ExplosionExposureCache;
 import org.spongepowered.common.world.gen.SpongeChunkGenerator;
 import org.spongepowered.common.world.gen.SpongeWorldGenerator;
 
@@ -125,6 +127,10 @@ public interface WorldServerBridge {
 
     WorldTimingsHandler bridge$getTimingsHandler();
 
+    TickMetrics bridge$getTickMetrics();
+
+    ExplosionExposureCache bridge$getExplosionExposureCache();
+
     int bridge$getChunkGCTickInterval();
 
     long bridge$getChunkUnloadDelay();
@@ -153,4 +159,15 @@ public interface WorldServerBridge {
     void bridge$setWeatherStartTime(long start);
 
     void bridge$setProviderGenerator(SpongeChunkGenerator newGenerator);
+
+    /**
+     * Gets whether the spawn area of this world has been prepared. Worlds
+     * preparing their spawn area in the background after the server started
+     * can not be joined by players until it is.
+     *
+     * @return True if players may join this world
+     */
+    boolean bridge$isSpawnPrepared();
+
+    void bridge$setSpawnPrepared(boolean prepared);
 }
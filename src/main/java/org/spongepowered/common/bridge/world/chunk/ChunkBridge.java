@@ -37,13 +37,13 @@
 import org.spongepowered.api.world.BlockChangeFlag;
 import org.spongepowered.api.world.extent.EntityUniverse;
 import org.spongepowered.common.entity.PlayerTracker;
+import org.spongepowered.common.entity.PlayerTrackerTable;
 import org.spongepowered.common.event.tracking.IPhaseState;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.context.BlockTransaction;
 
 import javax.annotation.Nullable;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -51,9 +51,8 @@
 
 public interface ChunkBridge {
 
-    Map<Short, PlayerTracker> bridge$getTrackedShortPlayerPositions();
-
-    Map<Integer, PlayerTracker> bridge$getTrackedIntPlayerPositions();
+    @Nullable
+    PlayerTrackerTable bridge$getTrackedPlayerPositions();
 
     Optional<User> bridge$getBlockOwner(BlockPos pos);
 
@@ -63,6 +62,22 @@ public interface ChunkBridge {
 
     Optional<UUID> bridge$getBlockNotifierUUID(BlockPos pos);
 
+    /*
+     * Allocation free variants of the getters above, for hot paths.
+     */
+
+    @Nullable
+    User bridge$getTrackedOwner(BlockPos pos);
+
+    @Nullable
+    UUID bridge$getTrackedOwnerUUID(BlockPos pos);
+
+    @Nullable
+    User bridge$getTrackedNotifier(BlockPos pos);
+
+    @Nullable
+    UUID bridge$getTrackedNotifierUUID(BlockPos pos);
+
     @Nullable
     IBlockState bridge$setBlockState(BlockPos pos, IBlockState newState, IBlockState currentState, BlockChangeFlag flag);
 
@@ -72,9 +87,7 @@ public interface ChunkBridge {
 
     void bridge$addTrackedBlockPosition(Block block, BlockPos pos, User user, PlayerTracker.Type trackerType);
 
-    void bridge$setTrackedIntPlayerPositions(Map<Integer, PlayerTracker> trackedPlayerPositions);
-
-    void bridge$setTrackedShortPlayerPositions(Map<Short, PlayerTracker> trackedPlayerPositions);
+    void bridge$setTrackedPlayerPositions(PlayerTrackerTable trackedPlayerPositions);
 
     void bridge$setNeighbor(Direction direction, Chunk neighbor);
 
@@ -24,11 +24,12 @@
  */
 package org.spongepowered.common.bridge.world.chunk;
 
-import net.minecraft.world.EnumSkyBlock;
+import org.spongepowered.common.world.lighting.LightSectionQueue;
 
-import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import javax.annotation.Nullable;
+
 public interface ChunkBridge_AsyncLighting extends ChunkBridge {
 
     AtomicInteger asyncLightingBridge$getPendingLightUpdates();
@@ -37,5 +38,15 @@ public interface ChunkBridge_AsyncLighting extends ChunkBridge {
 
     void asyncLightingBridge$setLightUpdateTime(long time);
 
-    Set<Short> asyncLightingBridge$getQueuedLightingUpdates(EnumSkyBlock type);
+    /**
+     * Gets the queue of positions waiting for a light check in the
+     * chunk section, creating it when requested.
+     *
+     * @param sectionY The section index
+     * @param create Whether to create the queue if absent, only allowed
+     *     from the main thread
+     * @return The section queue, or null if absent and not created
+     */
+    @Nullable
+    LightSectionQueue asyncLightingBridge$getLightSectionQueue(int sectionY, boolean create);
 }
@@ -33,7 +33,10 @@
 import net.minecraft.world.chunk.storage.IChunkLoader;
 import net.minecraft.world.gen.ChunkProviderServer;
 import net.minecraft.world.gen.IChunkGenerator;
+import org.spongepowered.api.world.storage.ChunkDataStream;
+import org.spongepowered.common.world.ChunkUnloadQueue;
 import org.spongepowered.common.world.gen.SpongeChunkGenerator;
+import org.spongepowered.common.world.storage.ParallelChunkDataStream;
 
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -48,6 +51,17 @@ public interface ChunkProviderServerBridge {
 
     CompletableFuture<Boolean> bridge$doesChunkExistSync(Vector3i chunkCoords);
 
+    /**
+     * Gets a stream of the generated chunks of this world, like
+     * {@link org.spongepowered.api.world.storage.WorldStorage#getGeneratedChunks()}.
+     * A filter always uses the {@link ParallelChunkDataStream}, as only that
+     * one can skip chunks by their region header.
+     *
+     * @param filter The filter deciding which chunks are read, or null for all
+     * @return The chunk data stream
+     */
+    ChunkDataStream bridge$getGeneratedChunks(@Nullable ParallelChunkDataStream.ChunkFilter filter);
+
     boolean bridge$getForceChunkRequests();
 
     void bridge$setDenyChunkRequests(boolean flag);
@@ -58,6 +72,10 @@ public interface ChunkProviderServerBridge {
 
     long bridge$getChunkUnloadDelay();
 
+    void bridge$setChunkUnloadTimeBudget(long budgetMillis);
+
+    ChunkUnloadQueue bridge$getChunkUnloadQueue();
+
     /**
      * Used strictly for implementation, because this method
      * is used in various other places, SpongeForge needs to
@@ -25,13 +25,26 @@
 package org.spongepowered.common.bridge.world.chunk.storage;
 
 import net.minecraft.world.World;
+import org.spongepowered.common.world.startup.SpawnChunkPrefetcher;
 
 import java.nio.file.Path;
 
+import javax.annotation.Nullable;
+
 public interface AnvilChunkLoaderBridge {
 
     // Forge method
     boolean bridge$chunkExists(World world, int x, int z);
 
     Path bridge$getWorldDir();
+
+    int bridge$getSaveQueueDepth();
+
+    long bridge$getChunksWritten();
+
+    long bridge$getCoalescedChunkSaves();
+
+    long bridge$getChunkBytesWritten();
+
+    void bridge$setSpawnChunkPrefetcher(@Nullable SpawnChunkPrefetcher prefetcher);
 }
@@ -54,6 +54,7 @@
 import net.minecraft.util.math.RayTraceResult;
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.IChunkLoader;
 import ninja.leaping.configurate.commented.CommentedConfigurationNode;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.block.BlockState;
@@ -94,9 +95,12 @@
 import org.spongepowered.common.bridge.server.MinecraftServerBridge;
 import org.spongepowered.common.bridge.world.DimensionTypeBridge;
 import org.spongepowered.common.bridge.world.WorldServerBridge;
+import org.spongepowered.common.bridge.world.WorldServerBridge_AsyncLighting;
 import org.spongepowered.common.bridge.world.WorldBridge;
 import org.spongepowered.common.bridge.world.WorldInfoBridge;
 import org.spongepowered.common.bridge.world.chunk.ChunkBridge;
+import org.spongepowered.common.bridge.world.chunk.ChunkProviderServerBridge;
+import org.spongepowered.common.bridge.world.chunk.storage.AnvilChunkLoaderBridge;
 import org.spongepowered.common.config.SpongeConfig;
 import org.spongepowered.common.config.category.MetricsCategory;
 import org.spongepowered.common.config.type.ConfigBase;
@@ -105,13 +109,23 @@
 import org.spongepowered.common.config.type.TrackerConfig;
 import org.spongepowered.common.config.type.WorldConfig;
 import org.spongepowered.common.entity.EntityUtil;
+import org.spongepowered.common.entity.PlayerTrackerCache;
 import org.spongepowered.common.event.SpongeEventManager;
 import org.spongepowered.common.mixin.core.world.WorldAccessor;
+import org.spongepowered.common.mixin.core.world.chunk.ChunkProviderServerAccessor;
 import org.spongepowered.common.util.SpongeHooks;
+import org.spongepowered.common.util.metric.LatencyHistogram;
+import org.spongepowered.common.util.metric.SpongeTickMetrics;
+import org.spongepowered.common.util.metric.TickMetrics;
+import org.spongepowered.common.util.metric.TickPhase;
+import org.spongepowered.common.world.ChunkUnloadQueue;
+import org.spongepowered.common.world.lighting.AsyncLightingMetrics;
 
 import java.io.File;
+import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.file.Path;
 import java.text.DecimalFormat;
 import java.time.Instant;
 import java.time.LocalDateTime;
@@ -125,6 +139,7 @@
 import java.util.Optional;
 import java.util.TreeSet;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -224,6 +239,7 @@ public static CommandSpec createSpongeCommand() {
         nonFlagChildren.register(createSpongeTimingsCommand(), "timings");
         nonFlagChildren.register(createSpongeWhichCommand(), "which");
         nonFlagChildren.register(createSpongeMetricsCommand(), "metrics");
+        nonFlagChildren.register(createSpongeTickMetricsCommand(), "tickmetrics");
         flagChildren.register(createSpongeChunksCommand(), "chunks");
         flagChildren.register(createSpongeTPSCommand(), "tps");
         trackerFlagChildren.register(createSpongeConfigCommand(), "config");
@@ -246,6 +262,7 @@ INDENT, title("plugins"), LONG_INDENT, "List currently installed plugins\n",
                 INDENT, title("which"), LONG_INDENT, "List plugins that own a specific command\n",
                 INDENT, title("tps"), LONG_INDENT, "Provides TPS (ticks per second) data for loaded worlds\n",
                 INDENT, title("metrics"), LONG_INDENT, "Gets or sets permission for metric plugins to operate\n",
+                INDENT, title("tickmetrics"), LONG_INDENT, "Prints, resets or exports the tick phase latency histograms\n",
                 SpongeImplHooks.getAdditionalCommandDescriptions()))
             .arguments(firstParsing(nonFlagChildren,
                 flags().flag("-global", "g")
@@ -410,7 +427,59 @@ protected Text getChunksInfo(final WorldServer worldserver) {
                         key("Entities: "), value(worldserver.loadedEntityList.size()), NEWLINE_TEXT,
                         key("Tile Entities: "), value(worldserver.loadedTileEntityList.size()), NEWLINE_TEXT,
                         key("Removed Entities:"), value(((WorldAccessor) worldserver).accessor$getUnloadedEntityList().size()), NEWLINE_TEXT,
-                        key("Removed Tile Entities: "), value(((WorldAccessor) worldserver).accessor$getTileEntitiesToBeRemoved()), NEWLINE_TEXT
+                        key("Removed Tile Entities: "), value(((WorldAccessor) worldserver).accessor$getTileEntitiesToBeRemoved()), NEWLINE_TEXT,
+                        getChunkUnloadInfo(worldserver),
+                        getChunkSaveInfo(worldserver),
+                        getLightingInfo(worldserver),
+                        getPlayerTrackerInfo(worldserver)
+                    );
+                }
+
+                protected Text getPlayerTrackerInfo(final WorldServer worldserver) {
+                    final PlayerTrackerCache cache = ((WorldInfoBridge) worldserver.getWorldInfo()).bridge$getPlayerTrackerCache();
+                    return Text.of(
+                        key("Block tracker lookups: "), value(cache.getLookups()), NEWLINE_TEXT,
+                        key("Block tracker cache hits: "), value(cache.getCacheHits()), NEWLINE_TEXT,
+                        key("Block tracker resolution time: "), value(TimeUnit.NANOSECONDS.toMillis(cache.getResolutionNanos()) + "ms"), NEWLINE_TEXT
+                    );
+                }
+
+                protected Text getChunkUnloadInfo(final WorldServer worldserver) {
+                    final ChunkUnloadQueue queue = ((ChunkProviderServerBridge) worldserver.getChunkProvider()).bridge$getChunkUnloadQueue();
+                    return Text.of(
+                        key("Chunk unload queue: "), value(queue.size()), NEWLINE_TEXT,
+                        key("Chunks unloaded: "), value(queue.getChunksUnloaded()), NEWLINE_TEXT,
+                        key("Average unload latency: "), value(queue.getAverageLatency(TimeUnit.MILLISECONDS) + "ms"), NEWLINE_TEXT,
+                        key("Max unload latency: "), value(queue.getMaxLatency(TimeUnit.MILLISECONDS) + "ms"), NEWLINE_TEXT
+                    );
+                }
+
+                protected Text getLightingInfo(final WorldServer worldserver) {
+                    if (!(worldserver instanceof WorldServerBridge_AsyncLighting)) {
+                        return Text.EMPTY;
+                    }
+                    final AsyncLightingMetrics metrics = ((WorldServerBridge_AsyncLighting) worldserver).asyncLightingBridge$getLightingMetrics();
+                    return Text.of(
+                        key("Queued light updates: "), value(metrics.getQueuedUpdates()), NEWLINE_TEXT,
+                        key("Pending light batches: "), value(metrics.getPendingBatches()), NEWLINE_TEXT,
+                        key("Merged light updates: "), value(metrics.getMergedUpdates()), NEWLINE_TEXT,
+                        key("Light batches processed: "), value(metrics.getBatchesProcessed()), NEWLINE_TEXT,
+                        key("Average light batch latency: "), value(metrics.getAverageBatchLatency(TimeUnit.MILLISECONDS) + "ms"), NEWLINE_TEXT,
+                        key("Max light batch latency: "), value(metrics.getMaxBatchLatency(TimeUnit.MILLISECONDS) + "ms"), NEWLINE_TEXT
+                    );
+                }
+
+                protected Text getChunkSaveInfo(final WorldServer worldserver) {
+                    final IChunkLoader chunkLoader = ((ChunkProviderServerAccessor) worldserver.getChunkProvider()).accessor$getChunkLoader();
+                    if (!(chunkLoader instanceof AnvilChunkLoaderBridge)) {
+                        return Text.EMPTY;
+                    }
+                    final AnvilChunkLoaderBridge loader = (AnvilChunkLoaderBridge) chunkLoader;
+                    return Text.of(
+                        key("Chunk save queue: "), value(loader.bridge$getSaveQueueDepth()), NEWLINE_TEXT,
+                        key("Chunks saved: "), value(loader.bridge$getChunksWritten()), NEWLINE_TEXT,
+                        key("Coalesced chunk saves: "), value(loader.bridge$getCoalescedChunkSaves()), NEWLINE_TEXT,
+                        key("Chunk bytes written: "), value(loader.bridge$getChunkBytesWritten()), NEWLINE_TEXT
                     );
                 }
             })
@@ -856,6 +925,50 @@ private static CommandSpec createSpongeTPSCommand() {
             .build();
     }
 
+    private static CommandSpec createSpongeTickMetricsCommand() {
+        return CommandSpec.builder()
+            .permission("sponge.command.tickmetrics")
+            .description(Text.of("Prints, resets or exports the tick phase latency histograms."))
+            .arguments(optional(firstParsing(literal(Text.of("reset"), "reset"), literal(Text.of("export"), "export"))))
+            .executor((src, args) -> {
+                if (args.hasAny("reset")) {
+                    SpongeTickMetrics.reset();
+                    src.sendMessage(Text.of("Tick metrics have been reset."));
+                    return CommandResult.success();
+                }
+                if (args.hasAny("export")) {
+                    final Path directory = SpongeImpl.getGameDir().resolve(SpongeImpl.getGlobalConfigAdapter().getConfig()
+                        .getMetricsCategory().getTickMetrics().getExportDirectory());
+                    try {
+                        SpongeTickMetrics.export(directory);
+                    } catch (IOException e) {
+                        throw new CommandException(Text.of("Could not export tick metrics to ", directory), e);
+                    }
+                    src.sendMessage(Text.of("Exported tick metrics to: ", directory));
+                    return CommandResult.success();
+                }
+                for (final TickMetrics metrics : SpongeTickMetrics.getAll()) {
+                    src.sendMessage(Text.of("Scope [", TextColors.DARK_GREEN, metrics.getName(), TextColors.RESET, "]"));
+                    for (final TickPhase phase : TickPhase.values()) {
+                        final LatencyHistogram.Snapshot snapshot = metrics.getHistogram(phase).snapshot();
+                        if (snapshot.getCount() == 0) {
+                            continue;
+                        }
+                        src.sendMessage(Text.of(INDENT, title(phase.getId()), ": ", snapshot.getCount(), " samples, Mean: ",
+                            TextColors.RED, THREE_DECIMAL_DIGITS_FORMATTER.format(snapshot.getMean(TimeUnit.NANOSECONDS) * 1.0e-6d),
+                            "ms", TextColors.RESET, ", p50: ",
+                            TextColors.RED, THREE_DECIMAL_DIGITS_FORMATTER.format(snapshot.getValueAtPercentile(50, TimeUnit.NANOSECONDS) * 1.0e-6d),
+                            "ms", TextColors.RESET, ", p99: ",
+                            TextColors.RED, THREE_DECIMAL_DIGITS_FORMATTER.format(snapshot.getValueAtPercentile(99, TimeUnit.NANOSECONDS) * 1.0e-6d),
+                            "ms", TextColors.RESET, ", Max: ",
+                            TextColors.RED, THREE_DECIMAL_DIGITS_FORMATTER.format(snapshot.getMax(TimeUnit.NANOSECONDS) * 1.0e-6d), "ms"));
+                    }
+                }
+                return CommandResult.success();
+            })
+            .build();
+    }
+
     private static void printWorldTickTime(final CommandSource src, final World world) {
         final long[] worldTickTimes = ((MinecraftServerBridge) SpongeImpl.getServer()).bridge$getWorldTickTimes(((WorldServerBridge) world).bridge$getDimensionId());
         final double worldMeanTickTime = mean(worldTickTimes) * 1.0e-6d;
@@ -0,0 +1,61 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+
+@ConfigSerializable
+public class BulkPasteCategory extends ConfigCategory {
+
+    @Setting(value = "enabled", comment = ""
+            + "If 'true', applying a schematic or archetype volume with a change flag that neither updates\n"
+            + "neighbors nor performs physics writes the blocks straight into the chunk sections. Block\n"
+            + "changes are then not captured individually, heightmaps are updated once per column and\n"
+            + "each changed chunk is resent to players in a single packet.")
+    private boolean enabled = false;
+
+    @Setting(value = "fire-events", comment = ""
+            + "If 'true', a single ChangeBlockEvent.Pre covering the whole pasted area is fired before\n"
+            + "a bulk paste, and cancelling it aborts the paste. Set to 'false' to skip the event.")
+    private boolean fireEvents = true;
+
+    @Setting(value = "tick-budget", comment = ""
+            + "The amount of milliseconds per tick a bulk paste that is spread across ticks may spend\n"
+            + "writing chunks. (Default: 10)")
+    private int tickBudget = 10;
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    public boolean isFireEvents() {
+        return this.fireEvents;
+    }
+
+    public int getTickBudget() {
+        return this.tickBudget;
+    }
+}
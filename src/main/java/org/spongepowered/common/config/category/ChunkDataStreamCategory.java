@@ -0,0 +1,59 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+
+@ConfigSerializable
+public class ChunkDataStreamCategory extends ConfigCategory {
+
+    @Setting(value = "parallel", comment = ""
+            + "If 'true', streams of generated chunks read region files in parallel. Chunks are then\n"
+            + "returned in no particular order.")
+    private boolean parallel = false;
+
+    @Setting(value = "threads", comment = ""
+            + "The amount of threads used to read and decompress chunks of a single stream. If set to 0,\n"
+            + "the number of available processors is used.")
+    private int threads = 0;
+
+    @Setting(value = "buffer-size", comment = ""
+            + "The maximum amount of read chunks waiting to be consumed. Reading pauses when the buffer\n"
+            + "is full. (Default: 256)")
+    private int bufferSize = 256;
+
+    public boolean isParallel() {
+        return this.parallel;
+    }
+
+    public int getThreads() {
+        return this.threads;
+    }
+
+    public int getBufferSize() {
+        return this.bufferSize;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+
+@ConfigSerializable
+public class ChunkPreGenerationCategory extends ConfigCategory {
+
+    @Setting(value = "region-partitioned", comment = ""
+            + "If 'true', chunk pre-generation walks the target area one region file at a time instead of\n"
+            + "spiralling out from the center. Region headers are read in bulk by background threads to skip\n"
+            + "existing chunks, so only missing chunks cost main thread time.")
+    private boolean regionPartitioned = false;
+
+    @Setting(value = "io-threads", comment = "The amount of threads used to read region headers ahead of generation. (Default: 2)")
+    private int ioThreads = 2;
+
+    @Setting(value = "region-lookahead", comment = "The amount of regions whose headers are read ahead of the region being generated. (Default: 4)")
+    private int regionLookahead = 4;
+
+    public boolean isRegionPartitioned() {
+        return this.regionPartitioned;
+    }
+
+    public int getIoThreads() {
+        return this.ioThreads;
+    }
+
+    public int getRegionLookahead() {
+        return this.regionLookahead;
+    }
+}
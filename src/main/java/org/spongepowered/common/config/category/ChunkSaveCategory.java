@@ -0,0 +1,58 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+
+@ConfigSerializable
+public class ChunkSaveCategory extends ConfigCategory {
+
+    @Setting(value = "batched", comment = ""
+            + "If 'true', queued chunk saves are written in batches. Repeated saves of the same chunk are\n"
+            + "coalesced, chunk data is compressed by a pool of worker threads and each region file is\n"
+            + "written in a single pass ordered by sector.")
+    private boolean batched = false;
+
+    @Setting(value = "compression-threads", comment = ""
+            + "The amount of threads used to compress chunk data before it is written. If set to 0, chunks\n"
+            + "are compressed on the file IO thread. (Default: 2)")
+    private int compressionThreads = 2;
+
+    @Setting(value = "max-batch-size", comment = "The maximum amount of chunks written per batch. (Default: 256)")
+    private int maxBatchSize = 256;
+
+    public boolean isBatched() {
+        return this.batched;
+    }
+
+    public int getCompressionThreads() {
+        return this.compressionThreads;
+    }
+
+    public int getMaxBatchSize() {
+        return this.maxBatchSize;
+    }
+}
@@ -37,6 +37,11 @@ public class EntityActivationRangeCategory extends ConfigCategory {
             comment = "If 'true', newly discovered entities will be added to this config with a default value.")
     private boolean autoPopulate = false;
 
+    @Setting(value = "spatial-index",
+            comment = "If 'true', entity activation is computed against a per-tick index of player positions, checking\n" +
+                    "every entity once instead of once per nearby player. Recommended when many players are grouped together.")
+    private boolean spatialIndex = false;
+
     @Setting(value = "defaults", comment = "Default activation ranges used for all entities unless overridden.")
     private Map<String, Integer> defaultRanges = new HashMap<>();
 
@@ -55,6 +60,10 @@ public boolean autoPopulateData() {
         return this.autoPopulate;
     }
 
+    public boolean useSpatialIndex() {
+        return this.spatialIndex;
+    }
+
     public Map<String, Integer> getDefaultRanges() {
         return this.defaultRanges;
     }
@@ -46,6 +46,9 @@ public class MetricsCategory {
             comment = "Plugin-specific collection states that override the global collection state.")
     private final Map<String, Tristate> pluginStates = new HashMap<>();
 
+    @Setting(value = "tick", comment = "Always-on instrumentation of the time spent in the phases of each server tick.")
+    private TickMetricsCategory tickMetrics = new TickMetricsCategory();
+
     public Tristate getGlobalCollectionState() {
         return this.globalState;
     }
@@ -58,4 +61,8 @@ public Map<String, Tristate> getCollectionStates() {
         return Collections.unmodifiableMap(this.pluginStates);
     }
 
+    public TickMetricsCategory getTickMetrics() {
+        return this.tickMetrics;
+    }
+
 }
@@ -57,6 +57,21 @@ public class OptimizationCategory extends ConfigCategory {
     @Setting(value = "async-lighting", comment = "Runs lighting updates asynchronously.")
     private AsyncLightingCategory asyncLightingCategory = new AsyncLightingCategory();
 
+    @Setting(value = "chunk-pregeneration", comment = "Controls how chunk pre-generation tasks walk and skip chunks.")
+    private ChunkPreGenerationCategory chunkPreGenerationCategory = new ChunkPreGenerationCategory();
+
+    @Setting(value = "chunk-save", comment = "Controls how queued chunk saves are written to region files.")
+    private ChunkSaveCategory chunkSaveCategory = new ChunkSaveCategory();
+
+    @Setting(value = "chunk-data-stream", comment = "Controls how streams of generated chunks read region files.")
+    private ChunkDataStreamCategory chunkDataStreamCategory = new ChunkDataStreamCategory();
+
+    @Setting(value = "bulk-paste", comment = "Controls how schematics and other block volumes are pasted into worlds.")
+    private BulkPasteCategory bulkPasteCategory = new BulkPasteCategory();
+
+    @Setting(value = "world-startup", comment = "Controls how worlds prepare their spawn areas when the server starts.")
+    private WorldStartupCategory worldStartupCategory = new WorldStartupCategory();
+
     @Setting(value = "eigen-redstone",
             comment = "Uses theosib's redstone algorithms to completely overhaul the way redstone works.")
     private EigenRedstoneCategory eigenRedstonCategory = new EigenRedstoneCategory();
@@ -100,13 +115,21 @@ public class OptimizationCategory extends ConfigCategory {
             + "Based on Aikar's optimizations of Hoppers, setting this to 'true'\n"
             + "will allow for hoppers to save performing server -> client updates when transferring items.\n"
             + "Because hoppers can transfer items multiple times per tick, these updates can get costly on the server,\n"
-            + "with little to no benefit to the client. Because of the nature of the change,\n"
+            + "with little to no benefit to the client. Hoppers will also remember the block inventories they\n"
+            + "transfer from and to until a neighboring block changes. Because of the nature of the change,\n"
             + "the default will be 'false' due to the inability to pre-emptively\n"
             + "foretell whether mod compatibility will fail with these changes or not.\n"
             + "Refer to: https://github.com/PaperMC/Paper/blob/8175ec916f31dcd130fe0884fe46bdc187d829aa/Spigot-Server-Patches/0269-Optimize-Hoppers.patch\n"
             + "for more details.")
     private boolean optimizeHoppers = false;
 
+    @Setting(value = "batch-hopper-transfer-events", comment = ""
+            + "If 'true', the ChangeInventoryEvent.Transfer.Post events of hoppers are collected during the tile entity\n"
+            + "tick and thrown once per source and destination inventory after all tile entities ticked,\n"
+            + "instead of once per transferred item. Cancelling such an event only restores the inventories\n"
+            + "if none of the transferred items were moved again during the same tick.")
+    private boolean batchHopperTransferEvents = false;
+
     @Setting(value = "use-active-chunks-for-collisions", comment = ""
             + "Vanilla performs a lot of \"is area loaded\" checks during entity collision calculations with blocks,\n"
             + "and because these calculations require fetching the chunks to see if they are loaded,\n"
@@ -136,6 +159,20 @@ public class OptimizationCategory extends ConfigCategory {
     )
     private boolean disableRayTracingChunkLoads = false;
 
+    @Setting(value = "cache-explosion-exposure", comment = ""
+            + "If 'true', the exposure of an entity to an explosion is shared between the explosions\n"
+            + "set off at the same position during the same tick, such as the many TNT explosions of\n"
+            + "a TNT cannon. The exposure will not take the blocks destroyed by the earlier explosions\n"
+            + "of the same tick into account.")
+    private boolean cacheExplosionExposure = false;
+
+    @Setting(value = "parallel-block-workers", comment = ""
+            + "If 'true', block volume workers mapping, merging or reducing large detached volumes, such\n"
+            + "as schematics, process the blocks on multiple threads. The mappers, mergers and reducers\n"
+            + "supplied by plugins are then called concurrently, only enable this if all of them are\n"
+            + "thread-safe.")
+    private boolean parallelBlockWorkers = false;
+
     public OptimizationCategory() {
         try {
             // Enabled by default on SpongeVanilla, disabled by default on SpongeForge.
@@ -186,6 +223,26 @@ public boolean useAsyncLighting() {
         return this.asyncLightingCategory.isEnabled();
     }
 
+    public ChunkPreGenerationCategory getChunkPreGenerationCategory() {
+        return this.chunkPreGenerationCategory;
+    }
+
+    public ChunkSaveCategory getChunkSaveCategory() {
+        return this.chunkSaveCategory;
+    }
+
+    public ChunkDataStreamCategory getChunkDataStreamCategory() {
+        return this.chunkDataStreamCategory;
+    }
+
+    public BulkPasteCategory getBulkPasteCategory() {
+        return this.bulkPasteCategory;
+    }
+
+    public WorldStartupCategory getWorldStartupCategory() {
+        return this.worldStartupCategory;
+    }
+
     public EigenRedstoneCategory getEigenRedstoneCategory() {
         return this.eigenRedstonCategory;
     }
@@ -214,6 +271,10 @@ public boolean isOptimizeHoppers() {
         return this.optimizeHoppers;
     }
 
+    public boolean isBatchHopperTransferEvents() {
+        return this.batchHopperTransferEvents;
+    }
+
     public boolean isUseActiveChunkForCollisions() {
         return this.useActiveChunkForCollisions;
     }
@@ -230,4 +291,12 @@ public boolean isDisableRayTracingChunkLoads() {
         return this.disableRayTracingChunkLoads;
     }
 
+    public boolean isCacheExplosionExposure() {
+        return this.cacheExplosionExposure;
+    }
+
+    public boolean isParallelBlockWorkers() {
+        return this.parallelBlockWorkers;
+    }
+
 }
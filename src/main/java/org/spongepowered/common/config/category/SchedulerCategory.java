@@ -0,0 +1,71 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+
+@ConfigSerializable
+public class SchedulerCategory extends ConfigCategory {
+
+    @Setting(value = "async-threads", comment = ""
+            + "The maximum number of threads used to run asynchronous tasks. Sponge's own\n"
+            + "asynchronous work, like profile lookups and world saving, shares these threads\n"
+            + "with plugins. If set to 0, a new thread is started whenever all threads are busy.")
+    private int asyncThreads = 0;
+
+    @Setting(value = "virtual-threads", comment = ""
+            + "If 'true', asynchronous plugin tasks are run on virtual threads when the\n"
+            + "running JVM supports them. 'async-threads' is ignored in that case and only\n"
+            + "the per-plugin limits below bound the amount of concurrently running tasks.")
+    private boolean virtualThreads = false;
+
+    @Setting(value = "max-concurrent-tasks-per-plugin", comment = ""
+            + "The maximum number of asynchronous tasks a single plugin may run at the same time.\n"
+            + "Tasks above this limit are queued until one of the plugin's running tasks completes.\n"
+            + "If set to 0, there is no limit.")
+    private int maxConcurrentTasksPerPlugin = 0;
+
+    @Setting(value = "max-queued-tasks-per-plugin", comment = ""
+            + "The maximum number of asynchronous tasks of a single plugin that may wait for a free slot.\n"
+            + "Executions above this limit are rejected and logged. If set to 0, there is no limit.")
+    private int maxQueuedTasksPerPlugin = 0;
+
+    public int getAsyncThreads() {
+        return this.asyncThreads;
+    }
+
+    public boolean useVirtualThreads() {
+        return this.virtualThreads;
+    }
+
+    public int getMaxConcurrentTasksPerPlugin() {
+        return this.maxConcurrentTasksPerPlugin;
+    }
+
+    public int getMaxQueuedTasksPerPlugin() {
+        return this.maxQueuedTasksPerPlugin;
+    }
+}
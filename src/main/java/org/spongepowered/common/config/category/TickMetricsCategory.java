@@ -0,0 +1,79 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+import org.spongepowered.common.util.metric.TickPhase;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@ConfigSerializable
+public class TickMetricsCategory extends ConfigCategory {
+
+    @Setting(value = "enabled", comment = ""
+            + "If 'true', the time spent in each tick phase is recorded into latency histograms.\n"
+            + "The overhead is a couple of timestamps per phase and world each tick.\n"
+            + "The histograms can be viewed with '/sponge tickmetrics'.")
+    private boolean enabled = true;
+
+    @Setting(value = "phases", comment = ""
+            + "The tick phases to record. Phases that are missing are recorded.\n"
+            + "'scheduler' and 'event-dispatch' are recorded for the whole server, the other phases per world.\n"
+            + "'lighting' is only recorded while asynchronous lighting is enabled.")
+    private Map<String, Boolean> phases = new LinkedHashMap<>();
+
+    @Setting(value = "export-interval", comment = ""
+            + "The interval in seconds at which the histograms are written to the export directory,\n"
+            + "as 'tick-metrics.prom' in the Prometheus text format and as 'tick-metrics.json'.\n"
+            + "Set to 0 to disable exporting. (Default: 0)")
+    private int exportInterval = 0;
+
+    @Setting(value = "export-directory", comment = "The directory, relative to the server directory, the histograms are exported to.")
+    private String exportDirectory = "metrics";
+
+    public TickMetricsCategory() {
+        for (final TickPhase phase : TickPhase.values()) {
+            this.phases.put(phase.getId(), true);
+        }
+    }
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    public boolean isPhaseEnabled(final TickPhase phase) {
+        return this.phases.getOrDefault(phase.getId(), true);
+    }
+
+    public int getExportInterval() {
+        return this.exportInterval;
+    }
+
+    public String getExportDirectory() {
+        return this.exportDirectory;
+    }
+}
@@ -94,6 +94,13 @@ public class WorldCategory extends ConfigCategory {
             + "and increases the chance for a drop in tps. (Default: 100)")
     private int maxChunkUnloads = 100;
 
+    @Setting(value = "chunk-unload-time-budget", comment = ""
+            + "The maximum number of milliseconds spent unloading and saving queued chunks in a single tick.\n"
+            + "Chunks that are not unloaded within the budget stay queued for the next tick.\n"
+            + "At least one due chunk is always unloaded per tick. Set to 0 to only limit\n"
+            + "unloads by 'max-chunk-unloads-per-tick'. (Default: 10)")
+    private int chunkUnloadTimeBudget = 10;
+
     @Setting(value = "chunk-gc-load-threshold", comment = ""
             + "The number of newly loaded chunks before triggering a forced cleanup.\n"
             + "Note: When triggered, the loaded chunk threshold will reset and start incrementing.\n"
@@ -228,6 +235,10 @@ public int getMaxChunkUnloads() {
         return this.maxChunkUnloads;
     }
 
+    public int getChunkUnloadTimeBudget() {
+        return this.chunkUnloadTimeBudget;
+    }
+
     public double getItemMergeRadius() {
         return this.itemMergeRadius;
     }
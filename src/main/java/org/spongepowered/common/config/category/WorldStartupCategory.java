@@ -0,0 +1,79 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+
+@ConfigSerializable
+public class WorldStartupCategory extends ConfigCategory {
+
+    @Setting(value = "enabled", comment = ""
+            + "If 'true', the spawn areas of the worlds loaded on startup are prepared once every world has\n"
+            + "been created, and the saved chunks of each spawn area are read and decompressed by I/O\n"
+            + "threads before the main thread loads them. The time each world takes to start is logged.")
+    private boolean enabled = false;
+
+    @Setting(value = "io-threads", comment = ""
+            + "The amount of threads reading spawn area chunks from disk. (Default: 4)")
+    private int ioThreads = 4;
+
+    @Setting(value = "prefetch-lookahead", comment = ""
+            + "The amount of worlds, after the one currently preparing its spawn area, whose spawn area\n"
+            + "chunks are already being read. Every world read ahead keeps up to 625 chunks in memory.\n"
+            + "(Default: 2)")
+    private int prefetchLookahead = 2;
+
+    @Setting(value = "background-spawn-preparation", comment = ""
+            + "If 'true', worlds other than the default world prepare their spawn areas while the server\n"
+            + "is already running. Players can not join or teleport into such a world until its spawn area\n"
+            + "is ready, players logging into it are moved to the default world instead.")
+    private boolean backgroundSpawnPreparation = false;
+
+    @Setting(value = "tick-budget", comment = ""
+            + "The amount of milliseconds per tick the background spawn preparation may spend loading\n"
+            + "chunks. (Default: 10)")
+    private int tickBudget = 10;
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    public int getIoThreads() {
+        return this.ioThreads;
+    }
+
+    public int getPrefetchLookahead() {
+        return this.prefetchLookahead;
+    }
+
+    public boolean isBackgroundSpawnPreparation() {
+        return this.backgroundSpawnPreparation;
+    }
+
+    public int getTickBudget() {
+        return this.tickBudget;
+    }
+}
@@ -57,6 +57,19 @@
 
     boolean supports(EntityType entityType);
 
+    /**
+     * Resolves whether holders of the given class can be supported without
+     * inspecting a particular instance. Processors whose
+     * {@link #supports(DataHolder)} depends on instance state must return
+     * {@link SupportResolution#PER_INSTANCE}, which is the default.
+     *
+     * @param holderClass The class of the data holder
+     * @return The support resolution for the holder class
+     */
+    default SupportResolution resolveSupport(Class<?> holderClass) {
+        return SupportResolution.PER_INSTANCE;
+    }
+
     /**
      * Attempts to get the given {@link DataManipulator} of type {@code T} if
      * and only if the manipulator's required data exists from the
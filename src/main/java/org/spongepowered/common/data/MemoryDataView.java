@@ -48,6 +48,7 @@
 import org.spongepowered.api.data.persistence.DataTranslator;
 import org.spongepowered.api.data.value.BaseValue;
 import org.spongepowered.api.util.Coerce;
+import org.spongepowered.common.data.util.DataQueryCache;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -67,14 +68,26 @@
  */
 public class MemoryDataView implements DataView {
 
-    protected final Map<String, Object> map = Maps.newLinkedHashMap();
+    protected final Map<String, Object> map;
     private final DataContainer container;
     private final DataView parent;
     private final DataQuery path;
     private final DataView.SafetyMode safety;
 
     MemoryDataView(DataView.SafetyMode safety) {
+        this(safety, Maps.newLinkedHashMap());
+    }
+
+    /**
+     * Creates a root view that stores its values in the given map, used by
+     * views that translate their values lazily.
+     *
+     * @param safety The safety mode to use
+     * @param map The backing map
+     */
+    protected MemoryDataView(DataView.SafetyMode safety, Map<String, Object> map) {
         checkState(this instanceof DataContainer, "Cannot construct a root MemoryDataView without a container!");
+        this.map = checkNotNull(map, "map");
         this.path = of();
         this.parent = this;
         this.container = (DataContainer) this;
@@ -82,7 +95,21 @@ public class MemoryDataView implements DataView {
     }
 
     private MemoryDataView(DataView parent, DataQuery path, DataView.SafetyMode safety) {
+        this(parent, path, safety, Maps.newLinkedHashMap());
+    }
+
+    /**
+     * Creates a child view that stores its values in the given map, used by
+     * views that translate their values lazily.
+     *
+     * @param parent The parent view
+     * @param path The path of the view, relative to the parent
+     * @param safety The safety mode to use
+     * @param map The backing map
+     */
+    protected MemoryDataView(DataView parent, DataQuery path, DataView.SafetyMode safety, Map<String, Object> map) {
         checkArgument(path.getParts().size() >= 1, "Path must have at least one part");
+        this.map = checkNotNull(map, "map");
         this.parent = parent;
         this.container = parent.getContainer();
         this.path = parent.getCurrentPath().then(path);
@@ -115,13 +142,14 @@ public Set<DataQuery> getKeys(boolean deep) {
         ImmutableSet.Builder<DataQuery> builder = ImmutableSet.builder();
 
         for (Map.Entry<String, Object> entry : this.map.entrySet()) {
-            builder.add(of(entry.getKey()));
+            builder.add(DataQueryCache.of(entry.getKey()));
         }
         if (deep) {
             for (Map.Entry<String, Object> entry : this.map.entrySet()) {
                 if (entry.getValue() instanceof DataView) {
+                    final DataQuery key = DataQueryCache.of(entry.getKey());
                     for (DataQuery query : ((DataView) entry.getValue()).getKeys(true)) {
-                        builder.add(of(entry.getKey()).then(query));
+                        builder.add(key.then(query));
                     }
                 }
             }
@@ -137,7 +165,7 @@ public Map<DataQuery, Object> getValues(boolean deep) {
             if (value instanceof DataView) {
                 builder.put(query, ((DataView) value).getValues(deep));
             } else {
-                builder.put(query, get(query).get());
+                builder.put(query, value);
             }
         }
         return builder.build();
@@ -147,13 +175,10 @@ public Map<DataQuery, Object> getValues(boolean deep) {
     public final boolean contains(DataQuery path) {
         checkNotNull(path, "path");
         List<String> queryParts = path.getParts();
+        checkArgument(!queryParts.isEmpty(), "The path is empty");
 
-        String key = queryParts.get(0);
-        if (queryParts.size() == 1) {
-            return this.map.containsKey(key);
-        }
-        Optional<DataView> subViewOptional = this.getUnsafeView(key);
-        return subViewOptional.isPresent() && subViewOptional.get().contains(path.popFirst());
+        MemoryDataView view = this.getHolder(queryParts);
+        return view != null && view.map.containsKey(queryParts.get(queryParts.size() - 1));
     }
 
     @Override
@@ -187,94 +212,136 @@ public Optional<Object> get(DataQuery path) {
             return Optional.<Object>of(this);
         }
 
-        String key = queryParts.get(0);
-        if (sz == 1) {
-            final Object object = this.map.get(key);
-            if (object == null) {
-                return Optional.empty();
+        MemoryDataView view = this.getHolder(queryParts);
+        return view == null ? Optional.empty() : Optional.ofNullable(view.getLocal(queryParts.get(sz - 1)));
+    }
+
+    /**
+     * Gets the view holding the last part of the given path, walking the
+     * nested views directly instead of resolving a sub query per level.
+     *
+     * @param queryParts The parts of the path
+     * @return The view holding the last part, or null if there is none
+     */
+    @Nullable
+    private MemoryDataView getHolder(List<String> queryParts) {
+        MemoryDataView view = this;
+        for (int i = 0, last = queryParts.size() - 1; i < last; i++) {
+            final Object object = view.map.get(queryParts.get(i));
+            if (!(object instanceof MemoryDataView)) {
+                return null;
             }
-            if (this.safety == SafetyMode.ALL_DATA_CLONED) {
-                if (object.getClass().isArray()) {
-                    if (object instanceof byte[]) {
-                        return Optional.<Object>of(ArrayUtils.clone((byte[]) object));
-                    } else if (object instanceof short[]) {
-                        return Optional.<Object>of(ArrayUtils.clone((short[]) object));
-                    } else if (object instanceof int[]) {
-                        return Optional.<Object>of(ArrayUtils.clone((int[]) object));
-                    } else if (object instanceof long[]) {
-                        return Optional.<Object>of(ArrayUtils.clone((long[]) object));
-                    } else if (object instanceof float[]) {
-                        return Optional.<Object>of(ArrayUtils.clone((float[]) object));
-                    } else if (object instanceof double[]) {
-                        return Optional.<Object>of(ArrayUtils.clone((double[]) object));
-                    } else if (object instanceof boolean[]) {
-                        return Optional.<Object>of(ArrayUtils.clone((boolean[]) object));
-                    } else {
-                        return Optional.<Object>of(ArrayUtils.clone((Object[]) object));
-                    }
-                }
-            }
-            return Optional.of(object);
+            view = (MemoryDataView) object;
         }
-        Optional<DataView> subViewOptional = this.getUnsafeView(key);
-        if (!subViewOptional.isPresent()) {
-            return Optional.empty();
+        return view;
+    }
+
+    /**
+     * Gets the value of the given path without cloning it, for the getters
+     * that only read the value.
+     *
+     * @param path The path
+     * @return The value, or null if there is none
+     */
+    @Nullable
+    private Object getUncloned(DataQuery path) {
+        checkNotNull(path, "path");
+        List<String> queryParts = path.getParts();
+        if (queryParts.isEmpty()) {
+            return this;
         }
-        DataView subView = subViewOptional.get();
-        return subView.get(path.popFirst());
+        MemoryDataView view = this.getHolder(queryParts);
+        return view == null ? null : view.map.get(queryParts.get(queryParts.size() - 1));
+    }
 
+    @Nullable
+    private Object getLocal(String key) {
+        final Object object = this.map.get(key);
+        if (object == null || this.safety != SafetyMode.ALL_DATA_CLONED || !object.getClass().isArray()) {
+            return object;
+        }
+        if (object instanceof byte[]) {
+            return ArrayUtils.clone((byte[]) object);
+        } else if (object instanceof short[]) {
+            return ArrayUtils.clone((short[]) object);
+        } else if (object instanceof int[]) {
+            return ArrayUtils.clone((int[]) object);
+        } else if (object instanceof long[]) {
+            return ArrayUtils.clone((long[]) object);
+        } else if (object instanceof float[]) {
+            return ArrayUtils.clone((float[]) object);
+        } else if (object instanceof double[]) {
+            return ArrayUtils.clone((double[]) object);
+        } else if (object instanceof boolean[]) {
+            return ArrayUtils.clone((boolean[]) object);
+        } else {
+            return ArrayUtils.clone((Object[]) object);
+        }
     }
 
     @Override
-    @SuppressWarnings({"rawtypes", "unchecked"})
     public DataView set(DataQuery path, Object value) {
         checkNotNull(path, "path");
         checkNotNull(value, "value");
         checkState(this.container != null);
         checkState(!path.getParts().isEmpty(), "The path is empty");
 
-        @Nullable DataManager manager;
-
-        // TODO: this call to getDataManager each set can be cleaned up
-        try {
-            manager = Sponge.getDataManager();
-        } catch (Exception e) {
-            manager = null;
-        }
-
         List<String> parts = path.getParts();
-        String key = parts.get(0);
-        if (parts.size() > 1) {
-            DataQuery subQuery = of(key);
-            Optional<DataView> subViewOptional = this.getUnsafeView(subQuery);
-            DataView subView;
-            if (!subViewOptional.isPresent()) {
-                this.createView(subQuery);
-                subView = (DataView) this.map.get(key);
+        MemoryDataView view = this;
+        for (int i = 0, last = parts.size() - 1; i < last; i++) {
+            String key = parts.get(i);
+            Object object = view.map.get(key);
+            if (object instanceof MemoryDataView) {
+                view = (MemoryDataView) object;
             } else {
-                subView = subViewOptional.get();
+                MemoryDataView subView = new MemoryDataView(view, DataQueryCache.of(key), view.safety);
+                view.map.put(key, subView);
+                view = subView;
             }
-            subView.set(path.popFirst(), value);
-            return this;
+        }
+        view.setLocal(parts.get(parts.size() - 1), value);
+        return this;
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private void setLocal(String key, Object value) {
+        if (value instanceof String || value instanceof Integer || value instanceof Long || value instanceof Double
+            || value instanceof Boolean || value instanceof Byte || value instanceof Short || value instanceof Float) {
+            // The most common values never need to be translated or copied
+            this.map.put(key, value);
+            return;
         }
         if (value instanceof DataView) {
             checkArgument(value != this, "Cannot set a DataView to itself.");
             // always have to copy a data view to avoid overwriting existing
             // views and to set the interior path correctly.
-            copyDataView(path, (DataView) value);
+            copyDataView(DataQueryCache.of(key), (DataView) value);
+            return;
         } else if (value instanceof DataSerializable) {
             DataContainer valueContainer = ((DataSerializable) value).toContainer();
             checkArgument(!(valueContainer).equals(this), "Cannot insert self-referencing DataSerializable");
             // see above for why this is copied
-            copyDataView(path, valueContainer);
+            copyDataView(DataQueryCache.of(key), valueContainer);
+            return;
         } else if (value instanceof CatalogType) {
-            return set(path, ((CatalogType) value).getId());
-        } else if (manager != null && manager.getTranslator(value.getClass()).isPresent()) {
+            this.map.put(key, ((CatalogType) value).getId());
+            return;
+        }
+
+        @Nullable DataManager manager;
+
+        try {
+            manager = Sponge.getDataManager();
+        } catch (Exception e) {
+            manager = null;
+        }
+
+        if (manager != null && manager.getTranslator(value.getClass()).isPresent()) {
             DataTranslator serializer = manager.getTranslator(value.getClass()).get();
             final DataContainer container = serializer.translate(value);
             checkArgument(!container.equals(this), "Cannot insert self-referencing Objects!");
             // see above for why this is copied
-            copyDataView(path, container);
+            copyDataView(DataQueryCache.of(key), container);
         } else if (value instanceof Collection) {
             setCollection(key, (Collection) value);
         } else if (value instanceof Map) {
@@ -304,7 +371,6 @@ public DataView set(DataQuery path, Object value) {
         } else {
             this.map.put(key, value);
         }
-        return this;
     }
 
     @Override
@@ -397,7 +463,7 @@ private ImmutableList<Object> ensureSerialization(Collection<?> collection) {
     }
 
     private void setMap(String key, Map<?, ?> value) {
-        DataView view = createView(of(key));
+        DataView view = createView(DataQueryCache.of(key));
         for (Map.Entry<?, ?> entry : value.entrySet()) {
             view.set(of(entry.getKey().toString()), entry.getValue());
         }
@@ -414,17 +480,10 @@ private void copyDataView(DataQuery path, DataView value) {
     public DataView remove(DataQuery path) {
         checkNotNull(path, "path");
         List<String> parts = path.getParts();
-        if (parts.size() > 1) {
-            String subKey = parts.get(0);
-            DataQuery subQuery = of(subKey);
-            Optional<DataView> subViewOptional = this.getUnsafeView(subQuery);
-            if (!subViewOptional.isPresent()) {
-                return this;
-            }
-            DataView subView = subViewOptional.get();
-            subView.remove(path.popFirst());
-        } else {
-            this.map.remove(parts.get(0));
+        checkArgument(!parts.isEmpty(), "The path is empty");
+        MemoryDataView view = this.getHolder(parts);
+        if (view != null) {
+            view.map.remove(parts.get(parts.size() - 1));
         }
         return this;
     }
@@ -439,7 +498,7 @@ public DataView createView(DataQuery path) {
         checkArgument(sz != 0, "The size of the query must be at least 1");
 
         String key = queryParts.get(0);
-        DataQuery keyQuery = of(key);
+        DataQuery keyQuery = DataQueryCache.of(key);
 
         if (sz == 1) {
             DataView result = new MemoryDataView(this, keyQuery, this.safety);
@@ -521,53 +580,77 @@ private Optional<DataView> getUnsafeView(DataQuery path) {
         return get(path).filter(obj -> obj instanceof DataView).map(obj -> (DataView) obj);
     }
 
-    private Optional<DataView> getUnsafeView(String path) {
-        final Object object = this.map.get(path);
-        if (!(object instanceof DataView)) {
-            return Optional.empty();
-        }
-        return Optional.of((DataView) object);
-    }
-
 
     @Override
     public Optional<Boolean> getBoolean(DataQuery path) {
-        return get(path).flatMap(Coerce::asBoolean);
+        Object value = getUncloned(path);
+        if (value instanceof Boolean) {
+            return Optional.of((Boolean) value);
+        }
+        return value == null ? Optional.empty() : Coerce.asBoolean(value);
     }
 
     @Override
     public Optional<Byte> getByte(DataQuery path) {
-        return get(path).flatMap(Coerce::asByte);
+        Object value = getUncloned(path);
+        if (value instanceof Byte) {
+            return Optional.of((Byte) value);
+        }
+        return value == null ? Optional.empty() : Coerce.asByte(value);
     }
 
     @Override
     public Optional<Short> getShort(DataQuery path) {
-        return get(path).flatMap(Coerce::asShort);
+        Object value = getUncloned(path);
+        if (value instanceof Short) {
+            return Optional.of((Short) value);
+        }
+        return value == null ? Optional.empty() : Coerce.asShort(value);
     }
 
     @Override
     public Optional<Integer> getInt(DataQuery path) {
-        return get(path).flatMap(Coerce::asInteger);
+        Object value = getUncloned(path);
+        if (value instanceof Integer) {
+            return Optional.of((Integer) value);
+        }
+        return value == null ? Optional.empty() : Coerce.asInteger(value);
     }
 
     @Override
     public Optional<Long> getLong(DataQuery path) {
-        return get(path).flatMap(Coerce::asLong);
+        Object value = getUncloned(path);
+        if (value instanceof Long) {
+            return Optional.of((Long) value);
+        }
+        return value == null ? Optional.empty() : Coerce.asLong(value);
     }
 
     @Override
     public Optional<Float> getFloat(DataQuery path) {
-        return get(path).flatMap(Coerce::asFloat);
+        Object value = getUncloned(path);
+        if (value instanceof Float) {
+            return Optional.of((Float) value);
+        }
+        return value == null ? Optional.empty() : Coerce.asFloat(value);
     }
 
     @Override
     public Optional<Double> getDouble(DataQuery path) {
-        return get(path).flatMap(Coerce::asDouble);
+        Object value = getUncloned(path);
+        if (value instanceof Double) {
+            return Optional.of((Double) value);
+        }
+        return value == null ? Optional.empty() : Coerce.asDouble(value);
     }
 
     @Override
     public Optional<String> getString(DataQuery path) {
-        return get(path).flatMap(Coerce::asString);
+        Object value = getUncloned(path);
+        if (value instanceof String) {
+            return Optional.of((String) value);
+        }
+        return value == null ? Optional.empty() : Coerce.asString(value);
     }
 
     @Override
@@ -802,24 +885,24 @@ public <T> Optional<List<T>> getObjectList(DataQuery path, Class<T> objectClass)
     @Override
     public DataContainer copy() {
         final DataContainer container = new MemoryDataContainer(this.safety);
-        getKeys(false)
-            .forEach(query ->
-                get(query).ifPresent(obj ->
-                        container.set(query, obj)
-                )
-        );
+        for (String key : this.map.keySet()) {
+            final Object value = getLocal(key);
+            if (value != null) {
+                container.set(DataQueryCache.of(key), value);
+            }
+        }
         return container;
     }
 
     @Override
     public DataContainer copy(SafetyMode safety) {
         final DataContainer container = new MemoryDataContainer(safety);
-        getKeys(false)
-            .forEach(query ->
-                get(query).ifPresent(obj ->
-                        container.set(query, obj)
-                )
-        );
+        for (String key : this.map.keySet()) {
+            final Object value = getLocal(key);
+            if (value != null) {
+                container.set(DataQueryCache.of(key), value);
+            }
+        }
         return container;
     }
 
@@ -843,7 +926,8 @@ public boolean equals(@Nullable Object obj) {
         if (this == obj) {
             return true;
         }
-        if (obj == null || getClass() != obj.getClass()) {
+        // Lazily translated views are equal to their in memory counterparts
+        if (!(obj instanceof MemoryDataView) || (this instanceof DataContainer) != (obj instanceof DataContainer)) {
             return false;
         }
         final MemoryDataView other = (MemoryDataView) obj;
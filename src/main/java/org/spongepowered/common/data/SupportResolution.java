@@ -0,0 +1,91 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data;
+
+import org.spongepowered.api.data.DataHolder;
+import org.spongepowered.api.data.value.ValueContainer;
+import org.spongepowered.api.entity.EntityType;
+
+import java.lang.reflect.Method;
+
+/**
+ * Describes how far a {@link DataProcessor} or {@link ValueProcessor} can
+ * answer {@code supports} from a holder's class alone. The processor
+ * delegates cache this per holder class so that repeated lookups can skip
+ * the processors that can never apply, and skip the {@code supports} check
+ * entirely for those that always do.
+ */
+public enum SupportResolution {
+
+    /**
+     * No instance of the holder class is supported.
+     */
+    NEVER,
+    /**
+     * Every instance of the holder class is supported.
+     */
+    ALWAYS,
+    /**
+     * Support depends on the state of the instance, {@code supports} must
+     * be consulted on every call.
+     */
+    PER_INSTANCE;
+
+    /**
+     * Resolves the support of a processor whose {@code supports} is the
+     * {@code targetClass.isInstance(holder) && supports((Target) holder)}
+     * pattern declared by {@code baseClass}. Any subclass redefining either
+     * half of that check opts out into {@link #PER_INSTANCE}.
+     *
+     * @param processor The processor
+     * @param baseClass The class declaring the support pattern
+     * @param targetClass The class of holders the processor targets
+     * @param holderClass The holder class being resolved
+     * @return The resolved support
+     */
+    public static SupportResolution forTargetClass(final Object processor, final Class<?> baseClass, final Class<?> targetClass,
+        final Class<?> holderClass) {
+        boolean refinesTarget = false;
+        for (Class<?> clazz = processor.getClass(); clazz != baseClass && clazz != null; clazz = clazz.getSuperclass()) {
+            for (final Method method : clazz.getDeclaredMethods()) {
+                if (!method.getName().equals("supports") || method.getParameterCount() != 1 || method.isBridge() || method.isSynthetic()) {
+                    continue;
+                }
+                final Class<?> parameter = method.getParameterTypes()[0];
+                if (parameter == DataHolder.class || parameter == ValueContainer.class) {
+                    return PER_INSTANCE;
+                }
+                if (parameter != EntityType.class) {
+                    refinesTarget = true;
+                }
+            }
+        }
+        if (!targetClass.isAssignableFrom(holderClass)) {
+            return NEVER;
+        }
+        return refinesTarget ? PER_INSTANCE : ALWAYS;
+    }
+
+}
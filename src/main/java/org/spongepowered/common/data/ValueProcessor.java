@@ -139,6 +139,19 @@
      */
     boolean supports(ValueContainer<?> container);
 
+    /**
+     * Resolves whether containers of the given class can be supported
+     * without inspecting a particular instance. Processors whose
+     * {@link #supports(ValueContainer)} depends on instance state must
+     * return {@link SupportResolution#PER_INSTANCE}, which is the default.
+     *
+     * @param containerClass The class of the value container
+     * @return The support resolution for the container class
+     */
+    default SupportResolution resolveSupport(Class<?> containerClass) {
+        return SupportResolution.PER_INSTANCE;
+    }
+
     /**
      * Offers the provided {@link BaseValue} containing a value of the
      * appropriate value type of this {@link ValueProcessor} to offer
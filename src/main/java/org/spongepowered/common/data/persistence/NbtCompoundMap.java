@@ -0,0 +1,243 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import com.google.common.collect.ImmutableList;
+import net.minecraft.nbt.NBTBase;
+import net.minecraft.nbt.NBTTagByte;
+import net.minecraft.nbt.NBTTagByteArray;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagDouble;
+import net.minecraft.nbt.NBTTagFloat;
+import net.minecraft.nbt.NBTTagInt;
+import net.minecraft.nbt.NBTTagIntArray;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.nbt.NBTTagLong;
+import net.minecraft.nbt.NBTTagShort;
+import net.minecraft.nbt.NBTTagString;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.common.data.util.DataQueryCache;
+import org.spongepowered.common.mixin.core.nbt.NBTTagLongArrayAccessor;
+import org.spongepowered.common.util.Constants;
+
+import java.util.AbstractMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+/**
+ * The backing map of {@link NbtDataView}s, translating the entries of a
+ * compound on first access. The compound itself is never modified, the
+ * first modification of the map translates all remaining entries and
+ * detaches it from the compound.
+ */
+final class NbtCompoundMap extends AbstractMap<String, Object> {
+
+    @Nullable private NBTTagCompound compound;
+    private Map<String, Object> values = new LinkedHashMap<>();
+    private final DataView.SafetyMode safety;
+    @Nullable private DataView owner;
+
+    NbtCompoundMap(final NBTTagCompound compound, final DataView.SafetyMode safety) {
+        this.compound = compound;
+        this.safety = safety;
+    }
+
+    void setOwner(final DataView owner) {
+        this.owner = owner;
+    }
+
+    /**
+     * Gets the compound backing this map if neither this map nor any of the
+     * views translated from it were modified.
+     *
+     * @return The compound, or null if modified
+     */
+    @Nullable
+    NBTTagCompound getUnmodifiedCompound() {
+        if (this.compound == null) {
+            return null;
+        }
+        for (final Object value : this.values.values()) {
+            if (!isUnmodified(value)) {
+                return null;
+            }
+        }
+        return this.compound;
+    }
+
+    private static boolean isUnmodified(final Object value) {
+        if (value instanceof DataView) {
+            return NbtDataView.getUnmodifiedCompound((DataView) value) != null;
+        }
+        if (value instanceof List) {
+            for (final Object element : (List<?>) value) {
+                if (!isUnmodified(element)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    @Nullable
+    public Object get(final Object key) {
+        Object value = this.values.get(key);
+        if (value != null || this.compound == null || !(key instanceof String)) {
+            return value;
+        }
+        final String name = (String) key;
+        NBTBase base = this.compound.getTag(name);
+        if (base != null && !isBooleanKey(name, base)) {
+            value = this.translate(name, base);
+        } else {
+            base = this.compound.getTag(name + NbtTranslator.BOOLEAN_IDENTIFIER);
+            if (base != null && base.getId() == Constants.NBT.TAG_BYTE) {
+                value = ((NBTTagByte) base).getByte() != 0;
+            }
+        }
+        if (value != null) {
+            this.values.put(name, value);
+        }
+        return value;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return this.get(key) != null;
+    }
+
+    @Override
+    public Object put(final String key, final Object value) {
+        this.detach();
+        return this.values.put(key, value);
+    }
+
+    @Override
+    public Object remove(final Object key) {
+        this.detach();
+        return this.values.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        this.compound = null;
+        this.values.clear();
+    }
+
+    @Override
+    public int size() {
+        return this.compound == null ? this.values.size() : this.compound.getSize();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.size() == 0;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        this.translateAll();
+        return this.values.entrySet();
+    }
+
+    private void detach() {
+        this.translateAll();
+        this.compound = null;
+    }
+
+    private void translateAll() {
+        if (this.compound == null || this.values.size() == this.compound.getSize()) {
+            return;
+        }
+        // Keep the order of the compound, reusing already translated values
+        final Map<String, Object> translated = new LinkedHashMap<>();
+        for (final String key : this.compound.getKeySet()) {
+            final NBTBase base = this.compound.getTag(key);
+            if (isBooleanKey(key, base)) {
+                final String name = key.replace(NbtTranslator.BOOLEAN_IDENTIFIER, "");
+                final Object value = this.values.get(name);
+                translated.put(name, value != null ? value : ((NBTTagByte) base).getByte() != 0);
+            } else {
+                final Object value = this.values.get(key);
+                translated.put(key, value != null ? value : this.translate(key, base));
+            }
+        }
+        this.values = translated;
+    }
+
+    private static boolean isBooleanKey(final String key, final NBTBase base) {
+        return base.getId() == Constants.NBT.TAG_BYTE && key.contains(NbtTranslator.BOOLEAN_IDENTIFIER);
+    }
+
+    private Object translate(final String key, final NBTBase base) {
+        if (base.getId() == Constants.NBT.TAG_COMPOUND) {
+            return new NbtDataView(this.owner, DataQueryCache.of(key), (NBTTagCompound) base, this.safety);
+        }
+        return this.translate(base);
+    }
+
+    private Object translate(final NBTBase base) {
+        switch (base.getId()) {
+            case Constants.NBT.TAG_BYTE:
+                return ((NBTTagByte) base).getByte();
+            case Constants.NBT.TAG_SHORT:
+                return ((NBTTagShort) base).getShort();
+            case Constants.NBT.TAG_INT:
+                return ((NBTTagInt) base).getInt();
+            case Constants.NBT.TAG_LONG:
+                return ((NBTTagLong) base).getLong();
+            case Constants.NBT.TAG_FLOAT:
+                return ((NBTTagFloat) base).getFloat();
+            case Constants.NBT.TAG_DOUBLE:
+                return ((NBTTagDouble) base).getDouble();
+            case Constants.NBT.TAG_BYTE_ARRAY:
+                // Arrays are shared with the compound, like the eager translation does
+                return ((NBTTagByteArray) base).getByteArray();
+            case Constants.NBT.TAG_STRING:
+                return ((NBTTagString) base).getString();
+            case Constants.NBT.TAG_LIST:
+                final NBTTagList list = (NBTTagList) base;
+                final ImmutableList.Builder<Object> builder = ImmutableList.builder();
+                for (int i = 0; i < list.tagCount(); i++) {
+                    final NBTBase element = list.get(i);
+                    builder.add(element.getId() == Constants.NBT.TAG_COMPOUND
+                        ? new NbtDataContainer((NBTTagCompound) element, this.safety)
+                        : this.translate(element));
+                }
+                return builder.build();
+            case Constants.NBT.TAG_INT_ARRAY:
+                return ((NBTTagIntArray) base).getIntArray();
+            case Constants.NBT.TAG_LONG_ARRAY:
+                return ((NBTTagLongArrayAccessor) base).accessor$getLongArray();
+            default:
+                throw new IllegalArgumentException("Unknown NBT type " + base.getId());
+        }
+    }
+}
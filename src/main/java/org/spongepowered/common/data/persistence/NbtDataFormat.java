@@ -55,7 +55,7 @@ public DataContainer readFrom(InputStream input) throws InvalidDataFormatExcepti
         }
         try {
             NBTTagCompound tag = CompressedStreamTools.read(dis);
-            return NbtTranslator.getInstance().translateFrom(tag);
+            return NbtTranslator.getInstance().translateLazily(tag);
         } finally {
             dis.close();
         }
@@ -0,0 +1,74 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import net.minecraft.nbt.NBTTagCompound;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.common.data.MemoryDataView;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link DataView} backed by a {@link NBTTagCompound}, translating its
+ * entries only when they are accessed. Modifying the view never modifies
+ * the compound, instead the modified view stops reading from it.
+ *
+ * <p>The compound is shared with the view, it must not be modified while
+ * the view is in use.</p>
+ */
+public class NbtDataView extends MemoryDataView {
+
+    private final NbtCompoundMap nbtMap;
+
+    NbtDataView(final DataView parent, final DataQuery path, final NBTTagCompound compound, final SafetyMode safety) {
+        this(parent, path, new NbtCompoundMap(compound, safety), safety);
+    }
+
+    private NbtDataView(final DataView parent, final DataQuery path, final NbtCompoundMap map, final SafetyMode safety) {
+        super(parent, path, safety, map);
+        this.nbtMap = map;
+        map.setOwner(this);
+    }
+
+    /**
+     * Gets the compound backing the given view if it is a lazily translated
+     * view that was not modified, so it can be copied directly instead of
+     * being translated back.
+     *
+     * @param view The view
+     * @return The compound, or null if the view isn't backed by an unmodified compound
+     */
+    @Nullable
+    public static NBTTagCompound getUnmodifiedCompound(final DataView view) {
+        if (view instanceof NbtDataView) {
+            return ((NbtDataView) view).nbtMap.getUnmodifiedCompound();
+        }
+        if (view instanceof NbtDataContainer) {
+            return ((NbtDataContainer) view).getUnmodifiedCompound();
+        }
+        return null;
+    }
+}
@@ -70,6 +70,11 @@ private NbtTranslator() { } // #NOPE
 
     private static NBTTagCompound containerToCompound(final DataView container) {
         checkNotNull(container);
+        // Views that were never modified can simply copy their compound
+        final NBTTagCompound unmodified = NbtDataView.getUnmodifiedCompound(container);
+        if (unmodified != null) {
+            return unmodified.copy();
+        }
         NBTTagCompound compound = new NBTTagCompound();
         containerToCompound(container, compound);
         return compound;
@@ -80,13 +85,11 @@ private static void containerToCompound(final DataView container, final NBTTagCo
         // from the instance of checks.
         checkNotNull(container);
         checkNotNull(compound);
-        for (Map.Entry<DataQuery, Object> entry : container.getValues(false).entrySet()) {
-            Object value = entry.getValue();
-            String key = entry.getKey().asString('.');
+        for (DataQuery query : container.getKeys(false)) {
+            Object value = container.get(query).get();
+            String key = query.asString('.');
             if (value instanceof DataView) {
-                NBTTagCompound inner = new NBTTagCompound();
-                containerToCompound(container.getView(entry.getKey()).get(), inner);
-                compound.setTag(key, inner);
+                compound.setTag(key, containerToCompound((DataView) value));
             } else if (value instanceof Boolean) {
                 compound.setTag(key + BOOLEAN_IDENTIFIER, new NBTTagByte(((Boolean) value) ? (byte) 1 : 0));
             } else {
@@ -303,6 +306,19 @@ public DataContainer translateFrom(NBTTagCompound node) {
         return NbtTranslator.getViewFromCompound(node);
     }
 
+    /**
+     * Translates the compound into a {@link NbtDataContainer} that reads its
+     * values from the compound on access instead of copying all of them up
+     * front. Only use this for compounds that are not modified afterwards,
+     * like freshly read or immutable snapshot data.
+     *
+     * @param node The compound
+     * @return The lazily translated container
+     */
+    public DataContainer translateLazily(NBTTagCompound node) {
+        return new NbtDataContainer(checkNotNull(node));
+    }
+
     @Override
     public TypeToken<NBTTagCompound> getToken() {
         return TOKEN;
@@ -0,0 +1,106 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.data.persistence.InvalidDataException;
+import org.spongepowered.common.util.gen.ArrayMutableBlockBuffer;
+
+/**
+ * Decodes the block data of Sponge schematics for the
+ * {@link SchematicTranslator}.
+ *
+ * <p>Block data is decoded straight into the packed palette ids of an
+ * {@link ArrayMutableBlockBuffer}, in batches of {@link #CHUNK_SIZE} ids,
+ * without ever holding a {@link BlockState} per position.</p>
+ */
+final class SchematicCodec {
+
+    /** Number of ids decoded per batch. */
+    private static final int CHUNK_SIZE = 4096;
+    /** A varint never takes more than five bytes. */
+    private static final int MAX_VARINT_SIZE = 5;
+
+    private SchematicCodec() {
+    }
+
+    /**
+     * Decodes varint encoded block data into the given buffer, which must
+     * have been created for the palette the ids refer to. Ids are stored in
+     * schematic order, x fastest then z then y.
+     *
+     * @param data The encoded block data
+     * @param buffer The buffer to fill
+     * @throws InvalidDataException If the data is malformed, refers to ids
+     *     outside of the palette or does not match the volume of the buffer
+     */
+    static void decodeBlockData(final byte[] data, final ArrayMutableBlockBuffer buffer) {
+        final Vector3i size = buffer.getBlockSize();
+        final int volume = size.getX() * size.getY() * size.getZ();
+        final int highestId = buffer.getPalette().getHighestId();
+        final int[] ids = new int[CHUNK_SIZE];
+        int count = 0;
+        int index = 0;
+        int value = 0;
+        int shift = 0;
+        for (final byte b : data) {
+            value |= (b & 127) << shift;
+            if (b < 0) {
+                shift += 7;
+                if (shift >= MAX_VARINT_SIZE * 7) {
+                    throw new InvalidDataException("VarInt too big (probably corrupted data)");
+                }
+                continue;
+            }
+            if (index + count == volume) {
+                throw new InvalidDataException("Schematic data holds more entries than its volume of " + volume);
+            }
+            // Checked here so that a corrupt file fails as malformed data rather than
+            // with the IllegalArgumentException of ArrayMutableBlockBuffer#setPaletteIds
+            if (value < 0 || value > highestId) {
+                throw new InvalidDataException(String.format("Block id %d at index %d is not in the palette (highest id %d)",
+                        value, index + count, highestId));
+            }
+            ids[count++] = value;
+            value = 0;
+            shift = 0;
+            if (count == CHUNK_SIZE) {
+                buffer.setPaletteIds(index, ids, count);
+                index += count;
+                count = 0;
+            }
+        }
+        if (shift != 0) {
+            throw new InvalidDataException("Schematic data ends with a truncated VarInt");
+        }
+        buffer.setPaletteIds(index, ids, count);
+        index += count;
+        if (index != volume) {
+            throw new InvalidDataException(String.format("Schematic data holds %d entries but its volume is %d", index, volume));
+        }
+    }
+
+}
@@ -45,7 +45,6 @@
 import org.spongepowered.api.entity.living.player.Player;
 import org.spongepowered.api.world.biome.BiomeType;
 import org.spongepowered.api.world.extent.MutableBiomeVolume;
-import org.spongepowered.api.world.extent.MutableBlockVolume;
 import org.spongepowered.api.world.schematic.Palette;
 import org.spongepowered.api.world.schematic.PaletteTypes;
 import org.spongepowered.api.world.schematic.Schematic;
@@ -115,11 +114,66 @@ public TypeToken<Schematic> getToken() {
         return TYPE_TOKEN;
     }
 
-    @Override
-    public Schematic translate(DataView unprocessed) throws InvalidDataException {
-        if (VANILLA_FIXER == null) {
+    /**
+     * Gets the vanilla {@link DataFixer}, or {@code null} if no server is
+     * available to provide one.
+     */
+    @Nullable
+    static DataFixer getVanillaFixer() {
+        if (VANILLA_FIXER == null && Sponge.isServerAvailable()) {
             VANILLA_FIXER = ((MinecraftServerAccessor) SpongeImpl.getServer()).accessor$getDataFixer();
         }
+        return VANILLA_FIXER;
+    }
+
+    /**
+     * Merges legacy {@code "."} metadata into the root metadata view and warns
+     * once per mod id about required mods which are not loaded.
+     */
+    static void prepareMetadata(final DataView metadata) {
+        final Optional<DataView> dot_data = metadata.getView(DataQuery.of("."));
+        if (dot_data.isPresent()) {
+            final DataView data = dot_data.get();
+            for (final DataQuery key : data.getKeys(false)) {
+                if (!metadata.contains(key)) {
+                    metadata.set(key, data.get(key).get());
+                }
+            }
+        }
+        final String schematicName = metadata.getString(Constants.Sponge.Schematic.NAME).orElse("unknown");
+        metadata.getStringList(Constants.Sponge.Schematic.REQUIRED_MODS).ifPresent(mods -> {
+            for (final String modId : mods) {
+                if (!Sponge.getPluginManager().getPlugin(modId).isPresent()) {
+                    if (MISSING_MOD_IDS.add(modId)) {
+                        SpongeImpl.getLogger().warn("When attempting to load the Schematic: " + schematicName + " there is a missing modid: " + modId + " some blocks/tiles/entities may not load correctly.");
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Adds the namespace of a catalog id to the required mods, unless it
+     * is provided by vanilla.
+     *
+     * @param requiredMods The required mods
+     * @param id The catalog id
+     * @param ownerModId The id of the mod that registered the type, if known
+     */
+    static void addRequiredMod(final Set<String> requiredMods, final String id, @Nullable final String ownerModId) {
+        final String modId = id.split(":")[0];
+        if ("minecraft".equalsIgnoreCase(modId) && ownerModId != null && !"minecraft".equalsIgnoreCase(ownerModId)) {
+            if (!"sponge".equalsIgnoreCase(ownerModId)) {
+                requiredMods.add(modId);
+            }
+        }
+        if (!"minecraft".equalsIgnoreCase(modId) && !modId.isEmpty()) {
+            requiredMods.add(modId);
+        }
+    }
+
+    @Override
+    public Schematic translate(DataView unprocessed) throws InvalidDataException {
         final int version = unprocessed.getInt(Constants.Sponge.Schematic.VERSION).get();
         // TODO version conversions
 
@@ -138,32 +192,13 @@ public Schematic translate(DataView unprocessed) throws InvalidDataException {
         final int dataVersion = unprocessed.getInt(Constants.Sponge.Schematic.DATA_VERSION).get();
         // DataFixer will be able to upgrade entity and tile entity data if and only if we're running a valid server and
         // the data version is outdated.
-        final boolean needsFixers = dataVersion < Constants.MINECRAFT_DATA_VERSION && VANILLA_FIXER != null;
+        final DataFixer fixer = dataVersion < Constants.MINECRAFT_DATA_VERSION ? getVanillaFixer() : null;
+        final boolean needsFixers = fixer != null;
         final DataView updatedView = unprocessed;
 
         final DataView metadata = updatedView.getView(Constants.Sponge.Schematic.METADATA).orElse(null);
         if (metadata != null) {
-            final Optional<DataView> dot_data = metadata.getView(DataQuery.of("."));
-            if (dot_data.isPresent()) {
-                final DataView data = dot_data.get();
-                for (final DataQuery key : data.getKeys(false)) {
-                    if (!metadata.contains(key)) {
-                        metadata.set(key, data.get(key).get());
-                    }
-                }
-            }
-        }
-        if (metadata != null) {
-            final String schematicName = metadata.getString(Constants.Sponge.Schematic.NAME).orElse("unknown");
-            metadata.getStringList(Constants.Sponge.Schematic.REQUIRED_MODS).ifPresent(mods -> {
-                for (final String modId : mods) {
-                    if (!Sponge.getPluginManager().getPlugin(modId).isPresent()) {
-                        if (MISSING_MOD_IDS.add(modId)) {
-                            SpongeImpl.getLogger().warn("When attempting to load the Schematic: " + schematicName + " there is a missing modid: " + modId + " some blocks/tiles/entities may not load correctly.");
-                        }
-                    }
-                }
-            });
+            prepareMetadata(metadata);
         }
 
         // TODO error handling for these optionals
@@ -202,7 +237,7 @@ public Schematic translate(DataView unprocessed) throws InvalidDataException {
         final Optional<DataView> biomePaletteData = updatedView.getView(Constants.Sponge.Schematic.BIOME_PALETTE);
         final int biome_max = updatedView.getInt(Constants.Sponge.Schematic.BIOME_PALETTE_MAX).orElse(0xFFFF);
         if (biomePaletteData.isPresent()) {
-            final BimapPalette<BiomeType> bimap = new BimapPalette<>(PaletteTypes.LOCAL_BIOMES, biome_max != 0xFFF ? palette_max : 64);
+            final BimapPalette<BiomeType> bimap = new BimapPalette<>(PaletteTypes.LOCAL_BIOMES, biome_max != 0xFFFF ? biome_max : 64);
             biomePalette = bimap;
             final DataView biomeMap = biomePaletteData.get();
             final Set<DataQuery> biomeKeys = biomeMap.getKeys(false);
@@ -217,38 +252,11 @@ public Schematic translate(DataView unprocessed) throws InvalidDataException {
         final SpongeSchematicBuilder builder = new SpongeSchematicBuilder();
         builder.blockPalette(palette);
 
-        final MutableBlockVolume buffer =
-                new ArrayMutableBlockBuffer(palette, new Vector3i(-offset[0], -offset[1], -offset[2]), new Vector3i(width, height, length));
+        final ArrayMutableBlockBuffer buffer = ArrayMutableBlockBuffer.forPaletteIds(palette,
+                new Vector3i(-offset[0], -offset[1], -offset[2]), new Vector3i(width, height, length));
 
         final byte[] blockdata = (byte[]) updatedView.get(Constants.Sponge.Schematic.BLOCK_DATA).orElseThrow(() -> new InvalidDataException("Missing BlockData for Schematic"));
-        int index = 0;
-        int i = 0;
-        int value = 0;
-        int varint_length = 0;
-        while (i < blockdata.length) {
-            value = 0;
-            varint_length = 0;
-
-            while (true) {
-                value |= (blockdata[i] & 127) << (varint_length++ * 7);
-                if (varint_length > 5) {
-                    throw new RuntimeException("VarInt too big (probably corrupted data)");
-                }
-                if ((blockdata[i] & 128) != 128) {
-                    i++;
-                    break;
-                }
-                i++;
-            }
-            // index = (y * length + z) * width + x
-            final int y = index / (width * length);
-            final int z = (index % (width * length)) / width;
-            final int x = (index % (width * length)) % width;
-            final BlockState state = palette.get(value).get();
-            buffer.setBlock(x - offset[0], y - offset[1], z - offset[2], state);
-
-            index++;
-        }
+        SchematicCodec.decodeBlockData(blockdata, buffer);
         builder.blocks(buffer);
 
         updatedView.get(Constants.Sponge.Schematic.BIOME_DATA).ifPresent(biomesObj -> {
@@ -297,7 +305,7 @@ public Schematic translate(DataView unprocessed) throws InvalidDataException {
                                 final DataView upgraded;
                                 if (needsFixers) {
                                     NBTTagCompound tileNbt = NbtTranslator.getInstance().translate(tile);
-                                    tileNbt = VANILLA_FIXER.process(FixTypes.BLOCK_ENTITY, tileNbt, version);
+                                    tileNbt = fixer.process(FixTypes.BLOCK_ENTITY, tileNbt, dataVersion);
                                     upgraded = NbtTranslator.getInstance().translate(tileNbt);
                                 } else {
                                     upgraded = tile;
@@ -331,7 +339,7 @@ public Schematic translate(DataView unprocessed) throws InvalidDataException {
                         final DataView upgraded;
                         if (needsFixers) {
                             NBTTagCompound entityNbt = NbtTranslator.getInstance().translate(view);
-                            entityNbt = VANILLA_FIXER.process(FixTypes.ENTITY, entityNbt, version);
+                            entityNbt = fixer.process(FixTypes.ENTITY, entityNbt, dataVersion);
                             upgraded = NbtTranslator.getInstance().translate(entityNbt);
                         } else {
                             upgraded = view;
@@ -422,7 +430,7 @@ public DataView addTo(final Schematic schematic, final DataView data) {
 
                 }
 
-                data.set(Constants.Sponge.Schematic.BLOCK_DATA, buffer.toByteArray());
+                data.set(Constants.Sponge.Schematic.BIOME_DATA, buffer.toByteArray());
             } catch (IOException e) {
                 // Should never reach here.
             }
@@ -434,10 +442,7 @@ public DataView addTo(final Schematic schematic, final DataView data) {
             for (final BlockState state : palette.getEntries()) {
                 // getOrAssign to skip the optional, it will never assign
                 data.set(paletteQuery.then(state.getId()), palette.getOrAssign(state));
-                final String modId = state.getType().getId().split(":")[0];
-                if (!"minecraft".equals(modId) && modId != null && !modId.isEmpty()) {
-                    requiredMods.add(modId);
-                }
+                addRequiredMod(requiredMods, state.getType().getId(), null);
             }
             data.set(Constants.Sponge.Schematic.PALETTE_MAX, palette.getHighestId());
         }
@@ -445,10 +450,7 @@ public DataView addTo(final Schematic schematic, final DataView data) {
             final DataQuery paletteQuery = Constants.Sponge.Schematic.BIOME_PALETTE;
             for (final BiomeType biomeType : biomePalette.getEntries()) {
                 data.set(paletteQuery.then(biomeType.getId()), biomePalette.getOrAssign(biomeType));
-                final String modId = biomeType.getId().split(":")[0];
-                if (!"minecraft".equals(modId) && modId != null && !modId.isEmpty()) {
-                    requiredMods.add(modId);
-                }
+                addRequiredMod(requiredMods, biomeType.getId(), null);
             }
             data.set(Constants.Sponge.Schematic.BIOME_PALETTE_MAX, biomePalette.getHighestId());
         }
@@ -460,16 +462,7 @@ public DataView addTo(final Schematic schematic, final DataView data) {
             final int[] apos = new int[] {pos.getX() - xMin, pos.getY() - yMin, pos.getZ() - zMin};
             tiledata.set(Constants.Sponge.Schematic.BLOCKENTITY_POS, apos);
             final SpongeTileEntityType tileEntityType = (SpongeTileEntityType) entry.getValue().getTileEntityType();
-
-            final String modId = tileEntityType.getId().split(":")[0];
-            if ("minecraft".equalsIgnoreCase(modId) && !"minecraft".equalsIgnoreCase(tileEntityType.getModId())) {
-                if (!"sponge".equalsIgnoreCase(tileEntityType.getModId())) {
-                    requiredMods.add(modId);
-                }
-            }
-            if (!"minecraft".equalsIgnoreCase(modId) && modId != null && !modId.isEmpty()) {
-                requiredMods.add(modId);
-            }
+            addRequiredMod(requiredMods, tileEntityType.getId(), tileEntityType.getModId());
             tileEntities.add(tiledata);
         }
         data.set(Constants.Sponge.Schematic.BLOCKENTITY_DATA, tileEntities);
@@ -479,15 +472,7 @@ public DataView addTo(final Schematic schematic, final DataView data) {
             final DataContainer entityData = entityArchetype.getEntityData();
             entities.add(entityData);
             final SpongeEntityType type = (SpongeEntityType) entityArchetype.getType();
-            final String modId = type.getId().split(":")[0];
-            if ("minecraft".equalsIgnoreCase(modId) && !"minecraft".equalsIgnoreCase(type.getModId())) {
-                if (!"sponge".equalsIgnoreCase(type.getModId())) {
-                    requiredMods.add(modId);
-                }
-            }
-            if (!"minecraft".equals(modId) && modId != null && !modId.isEmpty()) {
-                requiredMods.add(modId);
-            }
+            addRequiredMod(requiredMods, type.getId(), type.getModId());
         }
         data.set(Constants.Sponge.Schematic.ENTITIES, entities);
 
@@ -30,6 +30,7 @@
 import org.spongepowered.api.data.DataHolder;
 import org.spongepowered.api.data.manipulator.DataManipulator;
 import org.spongepowered.api.data.manipulator.ImmutableDataManipulator;
+import org.spongepowered.common.data.SupportResolution;
 
 import java.util.function.Predicate;
 
@@ -49,4 +50,10 @@ public final boolean supports(DataHolder dataHolder) {
         return dataHolder instanceof ItemStack && this.predicate.test((ItemStack) dataHolder);
     }
 
+    @Override
+    public final SupportResolution resolveSupport(Class<?> holderClass) {
+        // The predicate inspects the item type, so only the class check can be cached
+        return ItemStack.class.isAssignableFrom(holderClass) ? SupportResolution.PER_INSTANCE : SupportResolution.NEVER;
+    }
+
 }
@@ -35,6 +35,7 @@
 import org.spongepowered.api.data.value.BaseValue;
 import org.spongepowered.api.data.value.immutable.ImmutableValue;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.data.SupportResolution;
 
 import java.util.IdentityHashMap;
 import java.util.Map;
@@ -59,6 +60,11 @@ protected boolean supports(Holder dataHolder) {
         return true;
     }
 
+    @Override
+    public SupportResolution resolveSupport(Class<?> holderClass) {
+        return SupportResolution.forTargetClass(this, AbstractMultiDataSingleTargetProcessor.class, this.holderClass, holderClass);
+    }
+
     protected abstract boolean doesDataExist(Holder dataHolder);
 
     protected abstract boolean set(Holder dataHolder, Map<Key<?>, Object> keyValues);
@@ -39,6 +39,7 @@
 import org.spongepowered.api.data.value.mutable.Value;
 import org.spongepowered.api.entity.EntityType;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.data.SupportResolution;
 import org.spongepowered.common.data.ValueProcessor;
 import org.spongepowered.common.data.util.DataUtil;
 
@@ -75,6 +76,11 @@ public boolean supports(EntityType entityType) {
         return this.holderClass.isAssignableFrom(entityType.getEntityClass());
     }
 
+    @Override
+    public SupportResolution resolveSupport(Class<?> holderClass) {
+        return SupportResolution.forTargetClass(this, AbstractSingleDataSingleTargetProcessor.class, this.holderClass, holderClass);
+    }
+
     @SuppressWarnings({"unchecked", "rawtypes"})
     @Override
     public DataTransactionResult set(DataHolder dataHolder, M manipulator, MergeFunction function) {
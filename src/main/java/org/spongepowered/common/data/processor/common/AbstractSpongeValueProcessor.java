@@ -33,6 +33,7 @@
 import org.spongepowered.api.data.value.immutable.ImmutableValue;
 import org.spongepowered.api.data.value.mutable.Value;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.data.SupportResolution;
 import org.spongepowered.common.data.ValueProcessor;
 
 import java.util.Optional;
@@ -72,6 +73,11 @@ public boolean supports(ValueContainer<?> container) {
         return this.containerClass.isInstance(container) && supports((C) container);
     }
 
+    @Override
+    public SupportResolution resolveSupport(Class<?> containerClass) {
+        return SupportResolution.forTargetClass(this, AbstractSpongeValueProcessor.class, this.containerClass, containerClass);
+    }
+
 
     @Override
     public final Key<? extends BaseValue<E>> getKey() {
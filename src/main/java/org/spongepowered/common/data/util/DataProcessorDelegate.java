@@ -36,21 +36,30 @@
 import org.spongepowered.api.data.merge.MergeFunction;
 import org.spongepowered.api.data.value.BaseValue;
 import org.spongepowered.api.entity.EntityType;
-import org.spongepowered.api.util.Tuple;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.data.DataProcessor;
+import org.spongepowered.common.data.SupportResolution;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
 
 public final class DataProcessorDelegate<M extends DataManipulator<M, I>, I extends ImmutableDataManipulator<I, M>> implements DataProcessor<M, I> {
 
-    private final ImmutableList<Tuple<DataProcessor<M, I>, Timing>> processors;
+    private final ImmutableList<TimedProcessor<M, I>> processors;
+    // The processors that may support a holder class, in priority order
+    private final Map<Class<?>, TimedProcessor<M, I>[]> resolutionCache = new ConcurrentHashMap<>();
 
     public DataProcessorDelegate(final ImmutableList<DataProcessor<M, I>> processors) {
-        final ImmutableList.Builder<Tuple<DataProcessor<M, I>, Timing>> builder = ImmutableList.builder();
+        final ImmutableList.Builder<TimedProcessor<M, I>> builder = ImmutableList.builder();
         for (final DataProcessor<M, I> processor : processors) {
-            builder.add(new Tuple<>(processor, SpongeTimingsFactory.ofSafe(SpongeImpl.getPlugin(), processor.getClass().getCanonicalName())));
+            builder.add(new TimedProcessor<>(processor, SpongeTimingsFactory.ofSafe(SpongeImpl.getPlugin(), processor.getClass().getCanonicalName()),
+                false));
         }
         this.processors = builder.build();
     }
@@ -60,23 +69,39 @@ public int getPriority() {
         return Integer.MAX_VALUE;
     }
 
-    @Override
-    public boolean supports(final DataHolder dataHolder) {
-        final boolean callingFromMinecraftThread = SpongeImplHooks.isMainThread();
+    /**
+     * Gets the processors that may support the given holder, resolving
+     * them by the holder's class on first use. Processors that support
+     * every instance of the class are flagged so that their
+     * {@link DataProcessor#supports(DataHolder)} check can be skipped.
+     *
+     * @param dataHolder The data holder
+     * @return The candidate processors
+     */
+    private TimedProcessor<M, I>[] resolve(final DataHolder dataHolder) {
+        return this.resolutionCache.computeIfAbsent(dataHolder.getClass(), this::resolve);
+    }
 
-        for (final Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
-            if (callingFromMinecraftThread) {
-                tuple.getSecond().startTiming();
+    @SuppressWarnings("unchecked")
+    private TimedProcessor<M, I>[] resolve(final Class<?> holderClass) {
+        final List<TimedProcessor<M, I>> candidates = new ArrayList<>();
+        for (final TimedProcessor<M, I> timed : this.processors) {
+            final SupportResolution resolution = timed.processor.resolveSupport(holderClass);
+            if (resolution == SupportResolution.ALWAYS) {
+                candidates.add(new TimedProcessor<>(timed.processor, timed.timing, true));
+            } else if (resolution == SupportResolution.PER_INSTANCE) {
+                candidates.add(timed);
             }
-            if (tuple.getFirst().supports(dataHolder)) {
-                if (callingFromMinecraftThread) {
-                    tuple.getSecond().stopTiming();
-                }
+        }
+        return candidates.toArray(new TimedProcessor[0]);
+    }
+
+    @Override
+    public boolean supports(final DataHolder dataHolder) {
+        for (final TimedProcessor<M, I> timed : resolve(dataHolder)) {
+            if (timed.supports(dataHolder)) {
                 return true;
             }
-            if (callingFromMinecraftThread) {
-                tuple.getSecond().stopTiming();
-            }
         }
         return false;
     }
@@ -85,12 +110,12 @@ public boolean supports(final DataHolder dataHolder) {
     @Override
     public boolean supports(final EntityType entityType) {
         final boolean callingFromMinecraftThread = SpongeImplHooks.isMainThread();
-        for (final Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
-            try (final Timing timing = callingFromMinecraftThread ? tuple.getSecond() : null) {
+        for (final TimedProcessor<M, I> timed : this.processors) {
+            try (final Timing timing = callingFromMinecraftThread ? timed.timing : null) {
                 if (timing != null) {
                     timing.startTiming();
                 }
-                if (tuple.getFirst().supports(entityType)) {
+                if (timed.processor.supports(entityType)) {
                     return true;
                 }
             }
@@ -102,23 +127,15 @@ public boolean supports(final EntityType entityType) {
     public Optional<M> from(final DataHolder dataHolder) {
         final boolean callingFromMinecraftThread = SpongeImplHooks.isMainThread();
 
-        for (final Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
-            if (callingFromMinecraftThread) {
-                tuple.getSecond().startTiming();
-            }
-            if (tuple.getFirst().supports(dataHolder)) {
-                final Optional<M> optional = tuple.getFirst().from(dataHolder);
-                if (callingFromMinecraftThread) {
-                    tuple.getSecond().stopTiming();
-                }
+        for (final TimedProcessor<M, I> timed : resolve(dataHolder)) {
+            if (timed.supports(dataHolder)) {
+                final Timing timing = timed.start(callingFromMinecraftThread);
+                final Optional<M> optional = timed.processor.from(dataHolder);
+                TimedProcessor.stop(timing);
                 if (optional.isPresent()) {
                     return optional;
                 }
             }
-
-            if (callingFromMinecraftThread) {
-                tuple.getSecond().stopTiming();
-            }
         }
         return Optional.empty();
     }
@@ -127,23 +144,15 @@ public Optional<M> from(final DataHolder dataHolder) {
     public Optional<M> fill(final DataHolder dataHolder, final M manipulator, final MergeFunction overlap) {
         final boolean callingFromMinecraftThread = SpongeImplHooks.isMainThread();
 
-        for (final Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
-            if (callingFromMinecraftThread) {
-                tuple.getSecond().startTiming();
-            }
-            if (tuple.getFirst().supports(dataHolder)) {
-                final Optional<M> optional = tuple.getFirst().fill(dataHolder, manipulator, overlap);
-                if (callingFromMinecraftThread) {
-                    tuple.getSecond().stopTiming();
-                }
+        for (final TimedProcessor<M, I> timed : resolve(dataHolder)) {
+            if (timed.supports(dataHolder)) {
+                final Timing timing = timed.start(callingFromMinecraftThread);
+                final Optional<M> optional = timed.processor.fill(dataHolder, manipulator, overlap);
+                TimedProcessor.stop(timing);
                 if (optional.isPresent()) {
                     return optional;
                 }
             }
-            if (callingFromMinecraftThread) {
-                tuple.getSecond().stopTiming();
-            }
-
         }
         return Optional.empty();
     }
@@ -152,14 +161,10 @@ public Optional<M> fill(final DataHolder dataHolder, final M manipulator, final
     public Optional<M> fill(final DataContainer container, final M m) {
         final boolean callingFromMinecraftThread = SpongeImplHooks.isMainThread();
 
-        for (final Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
-            if (callingFromMinecraftThread) {
-                tuple.getSecond().startTiming();
-            }
-            final Optional<M> optional = tuple.getFirst().fill(container, m);
-            if (callingFromMinecraftThread) {
-                tuple.getSecond().stopTiming();
-            }
+        for (final TimedProcessor<M, I> timed : this.processors) {
+            final Timing timing = timed.start(callingFromMinecraftThread);
+            final Optional<M> optional = timed.processor.fill(container, m);
+            TimedProcessor.stop(timing);
             if (optional.isPresent()) {
                 return optional;
             }
@@ -171,22 +176,15 @@ public Optional<M> fill(final DataContainer container, final M m) {
     public DataTransactionResult set(final DataHolder dataHolder, final M manipulator, final MergeFunction function) {
         final boolean callingFromMinecraftThread = SpongeImplHooks.isMainThread();
 
-        for (final Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
-            if (callingFromMinecraftThread) {
-                tuple.getSecond().startTiming();
-            }
-            if (tuple.getFirst().supports(dataHolder)) {
-                final DataTransactionResult result = tuple.getFirst().set(dataHolder, manipulator, function);
+        for (final TimedProcessor<M, I> timed : resolve(dataHolder)) {
+            if (timed.supports(dataHolder)) {
+                final Timing timing = timed.start(callingFromMinecraftThread);
+                final DataTransactionResult result = timed.processor.set(dataHolder, manipulator, function);
+                TimedProcessor.stop(timing);
                 if (!result.getType().equals(DataTransactionResult.Type.FAILURE)) {
-                    if (callingFromMinecraftThread) {
-                        tuple.getSecond().stopTiming();
-                    }
                     return result;
                 }
             }
-            if (callingFromMinecraftThread) {
-                tuple.getSecond().stopTiming();
-            }
         }
         return DataTransactionResult.failResult(manipulator.asImmutable().getValues());
     }
@@ -195,17 +193,12 @@ public DataTransactionResult set(final DataHolder dataHolder, final M manipulato
     public Optional<I> with(final Key<? extends BaseValue<?>> key, final Object value, final I immutable) {
         final boolean callingFromMinecraftThread = SpongeImplHooks.isMainThread();
 
-        for (final Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
-            if (callingFromMinecraftThread) {
-                tuple.getSecond().startTiming();
-            }
-            final Optional<I> optional = tuple.getFirst().with(key, value, immutable);
-            if (callingFromMinecraftThread) {
-                tuple.getSecond().stopTiming();
-            }
+        for (final TimedProcessor<M, I> timed : this.processors) {
+            final Timing timing = timed.start(callingFromMinecraftThread);
+            final Optional<I> optional = timed.processor.with(key, value, immutable);
+            TimedProcessor.stop(timing);
             if (optional.isPresent()) {
                 return optional;
-
             }
         }
         return Optional.empty();
@@ -215,23 +208,15 @@ public Optional<I> with(final Key<? extends BaseValue<?>> key, final Object valu
     public DataTransactionResult remove(final DataHolder dataHolder) {
         final boolean callingFromMinecraftThread = SpongeImplHooks.isMainThread();
 
-        for (final Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
-            if (callingFromMinecraftThread) {
-                tuple.getSecond().startTiming();
-            }
-            if (tuple.getFirst().supports(dataHolder)) {
-                final DataTransactionResult result = tuple.getFirst().remove(dataHolder);
-                if (callingFromMinecraftThread) {
-                    tuple.getSecond().stopTiming();
-                }
+        for (final TimedProcessor<M, I> timed : resolve(dataHolder)) {
+            if (timed.supports(dataHolder)) {
+                final Timing timing = timed.start(callingFromMinecraftThread);
+                final DataTransactionResult result = timed.processor.remove(dataHolder);
+                TimedProcessor.stop(timing);
                 if (!result.getType().equals(DataTransactionResult.Type.FAILURE)) {
                     return result;
                 }
             }
-            if (callingFromMinecraftThread) {
-                tuple.getSecond().stopTiming();
-            }
-
         }
         return DataTransactionResult.failNoData();
     }
@@ -240,24 +225,49 @@ public DataTransactionResult remove(final DataHolder dataHolder) {
     public Optional<M> createFrom(final DataHolder dataHolder) {
         final boolean callingFromMinecraftThread = SpongeImplHooks.isMainThread();
 
-        for (final Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
-            if (callingFromMinecraftThread) {
-                tuple.getSecond().startTiming();
-            }
-            if (tuple.getFirst().supports(dataHolder)) {
-                final Optional<M> optional = tuple.getFirst().createFrom(dataHolder);
-                if (callingFromMinecraftThread) {
-                    tuple.getSecond().stopTiming();
-                }
+        for (final TimedProcessor<M, I> timed : resolve(dataHolder)) {
+            if (timed.supports(dataHolder)) {
+                final Timing timing = timed.start(callingFromMinecraftThread);
+                final Optional<M> optional = timed.processor.createFrom(dataHolder);
+                TimedProcessor.stop(timing);
                 if (optional.isPresent()) {
                     return optional;
                 }
             }
-            if (callingFromMinecraftThread) {
-                tuple.getSecond().stopTiming();
-            }
         }
         return Optional.empty();
     }
 
+    private static final class TimedProcessor<M extends DataManipulator<M, I>, I extends ImmutableDataManipulator<I, M>> {
+
+        final DataProcessor<M, I> processor;
+        final Timing timing;
+        final boolean supportsAll;
+
+        TimedProcessor(final DataProcessor<M, I> processor, final Timing timing, final boolean supportsAll) {
+            this.processor = processor;
+            this.timing = timing;
+            this.supportsAll = supportsAll;
+        }
+
+        boolean supports(final DataHolder dataHolder) {
+            return this.supportsAll || this.processor.supports(dataHolder);
+        }
+
+        @Nullable
+        Timing start(final boolean callingFromMinecraftThread) {
+            if (!callingFromMinecraftThread) {
+                return null;
+            }
+            this.timing.startTiming();
+            return this.timing;
+        }
+
+        static void stop(@Nullable final Timing timing) {
+            if (timing != null) {
+                timing.stopTiming();
+            }
+        }
+    }
+
 }
@@ -0,0 +1,67 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.util;
+
+import org.spongepowered.api.data.DataQuery;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interns the single part {@link DataQuery}s created for the keys of data
+ * views. Views are mostly made of the same few tag names, so sharing their
+ * queries avoids creating a new query and part list for every key that is
+ * listed, copied or translated.
+ *
+ * <p>The cache is bounded, keys beyond its capacity get a new query.</p>
+ */
+public final class DataQueryCache {
+
+    private static final int MAX_SIZE = 4096;
+    private static final Map<String, DataQuery> queries = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the single part query of the given key.
+     *
+     * @param key The key
+     * @return The query
+     */
+    public static DataQuery of(final String key) {
+        final DataQuery query = queries.get(key);
+        if (query != null) {
+            return query;
+        }
+        final DataQuery created = DataQuery.of(key);
+        if (queries.size() < MAX_SIZE) {
+            final DataQuery existing = queries.putIfAbsent(key, created);
+            return existing == null ? created : existing;
+        }
+        return created;
+    }
+
+    private DataQueryCache() {
+    }
+
+}
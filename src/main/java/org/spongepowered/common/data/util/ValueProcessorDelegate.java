@@ -31,9 +31,14 @@
 import org.spongepowered.api.data.value.ValueContainer;
 import org.spongepowered.api.data.value.immutable.ImmutableValue;
 import org.spongepowered.api.data.value.mutable.Value;
+import org.spongepowered.common.data.SupportResolution;
 import org.spongepowered.common.data.ValueProcessor;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This is really just a lazy class to handle processing on multiple
@@ -46,12 +51,30 @@
 
     private final Key<V> key;
     private final ImmutableList<ValueProcessor<E, V>> processors;
+    // The processors that may support a container class, in priority order
+    private final Map<Class<?>, ResolvedProcessor<E, V>[]> resolutionCache = new ConcurrentHashMap<>();
 
     public ValueProcessorDelegate(Key<V> key, ImmutableList<ValueProcessor<E, V>> processors) {
         this.key = key;
         this.processors = processors;
     }
 
+    private ResolvedProcessor<E, V>[] resolve(ValueContainer<?> container) {
+        return this.resolutionCache.computeIfAbsent(container.getClass(), this::resolve);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ResolvedProcessor<E, V>[] resolve(Class<?> containerClass) {
+        final List<ResolvedProcessor<E, V>> candidates = new ArrayList<>();
+        for (ValueProcessor<E, V> processor : this.processors) {
+            final SupportResolution resolution = processor.resolveSupport(containerClass);
+            if (resolution != SupportResolution.NEVER) {
+                candidates.add(new ResolvedProcessor<>(processor, resolution == SupportResolution.ALWAYS));
+            }
+        }
+        return candidates.toArray(new ResolvedProcessor[0]);
+    }
+
     @Override
     public Key<? extends BaseValue<E>> getKey() {
         return this.key;
@@ -64,8 +87,9 @@ public int getPriority() {
 
     @Override
     public Optional<E> getValueFromContainer(ValueContainer<?> container) {
-        for (ValueProcessor<E, V> processor : this.processors) {
-            if (processor.supports(container)) {
+        for (ResolvedProcessor<E, V> resolved : resolve(container)) {
+            if (resolved.supports(container)) {
+                final ValueProcessor<E, V> processor = resolved.processor;
                 final Optional<E> optional = processor.getValueFromContainer(container);
                 if (optional.isPresent()) {
                     return optional;
@@ -77,8 +101,9 @@ public Optional<E> getValueFromContainer(ValueContainer<?> container) {
 
     @Override
     public Optional<V> getApiValueFromContainer(ValueContainer<?> container) {
-        for (ValueProcessor<E, V> processor : this.processors) {
-            if (processor.supports(container)) {
+        for (ResolvedProcessor<E, V> resolved : resolve(container)) {
+            if (resolved.supports(container)) {
+                final ValueProcessor<E, V> processor = resolved.processor;
                 final Optional<V> optional = processor.getApiValueFromContainer(container);
                 if (optional.isPresent()) {
                     return optional;
@@ -90,8 +115,8 @@ public Optional<V> getApiValueFromContainer(ValueContainer<?> container) {
 
     @Override
     public boolean supports(ValueContainer<?> container) {
-        for (ValueProcessor<E, V> processor : this.processors) {
-            if (processor.supports(container)) {
+        for (ResolvedProcessor<E, V> resolved : resolve(container)) {
+            if (resolved.supports(container)) {
                 return true;
             }
         }
@@ -101,16 +126,18 @@ public boolean supports(ValueContainer<?> container) {
     @SuppressWarnings("unchecked")
     @Override
     public DataTransactionResult offerToStore(ValueContainer<?> container, E value) {
-        for (ValueProcessor<E, V> processor : this.processors) {
-            if (processor.supports(container)) {
+        for (ResolvedProcessor<E, V> resolved : resolve(container)) {
+            if (resolved.supports(container)) {
+                final ValueProcessor<E, V> processor = resolved.processor;
                 final DataTransactionResult result = processor.offerToStore(container, value);
                 if (!result.getType().equals(DataTransactionResult.Type.FAILURE)) {
                     return result;
                 }
             }
         }
-        for (ValueProcessor<E, V> processor : this.processors) {
-            if (processor.supports(container)) {
+        for (ResolvedProcessor<E, V> resolved : resolve(container)) {
+            if (resolved.supports(container)) {
+                final ValueProcessor<E, V> processor = resolved.processor;
                 final Optional<V> currentValueOptional = processor.getApiValueFromContainer(container);
                 if (currentValueOptional.isPresent()) {
                     V currentValue = currentValueOptional.get();
@@ -132,8 +159,9 @@ public DataTransactionResult offerToStore(ValueContainer<?> container, E value)
 
     @Override
     public DataTransactionResult removeFrom(ValueContainer<?> container) {
-        for (ValueProcessor<E, V> processor : this.processors) {
-            if (processor.supports(container)) {
+        for (ResolvedProcessor<E, V> resolved : resolve(container)) {
+            if (resolved.supports(container)) {
+                final ValueProcessor<E, V> processor = resolved.processor;
                 final DataTransactionResult result = processor.removeFrom(container);
                 if (!result.getType().equals(DataTransactionResult.Type.FAILURE)) {
                     return result;
@@ -142,4 +170,19 @@ public DataTransactionResult removeFrom(ValueContainer<?> container) {
         }
         return DataTransactionResult.failNoData();
     }
+
+    private static final class ResolvedProcessor<E, V extends BaseValue<E>> {
+
+        final ValueProcessor<E, V> processor;
+        final boolean supportsAll;
+
+        ResolvedProcessor(ValueProcessor<E, V> processor, boolean supportsAll) {
+            this.processor = processor;
+            this.supportsAll = supportsAll;
+        }
+
+        boolean supports(ValueContainer<?> container) {
+            return this.supportsAll || this.processor.supports(container);
+        }
+    }
 }
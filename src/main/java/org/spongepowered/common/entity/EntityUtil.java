@@ -316,6 +316,12 @@ public static EntityPlayerMP transferPlayerToWorld(final EntityPlayerMP player,
             return null;
         }
 
+        // Sponge - Players can not enter worlds that are still preparing their spawn area in the background
+        final WorldServer targetWorld = event != null ? (WorldServer) event.getToTransform().getExtent() : toWorld;
+        if (targetWorld != null && !((WorldServerBridge) targetWorld).bridge$isSpawnPrepared()) {
+            return null;
+        }
+
         final PlayerList playerList = SpongeImpl.getServer().getPlayerList();
         final Player sPlayer = (Player) player;
         final Transform<World> fromTransform = sPlayer.getTransform();
@@ -0,0 +1,230 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.entity;
+
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.world.World;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.entity.living.player.User;
+import org.spongepowered.api.profile.GameProfile;
+import org.spongepowered.api.service.user.UserStorageService;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.bridge.world.WorldInfoBridge;
+import org.spongepowered.common.profile.SpongeProfileManager;
+import org.spongepowered.common.util.SpongeUsernameCache;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+import javax.annotation.Nullable;
+
+/**
+ * Resolves the player indices stored in {@link PlayerTrackerTable}s of a
+ * world to unique ids and users. Results are memoized for the duration of a
+ * world tick, so the many lookups of a single tick (redstone propagating its
+ * notifier, tile entities being added) only resolve each index once.
+ *
+ * <p>Only accessed from the main thread.</p>
+ */
+public final class PlayerTrackerCache {
+
+    /**
+     * Returned by {@link #getUniqueId} for indices whose unique id is listed
+     * as an invalid lookup id in the global config.
+     */
+    public static final UUID INVALID_UNIQUE_ID = new UUID(0L, 0L);
+
+    private final WorldInfoBridge worldInfo;
+    @Nullable private UserStorageService userStorageService;
+    // Indexed by player index, the stamps hold the world time + 1 of the tick
+    // the entry was resolved in, 0 for never.
+    private UUID[] uniqueIds = new UUID[0];
+    private long[] uniqueIdStamps = new long[0];
+    private User[] users = new User[0];
+    private long[] userStamps = new long[0];
+
+    private long lookups;
+    private long cacheHits;
+    private long resolutionNanos;
+
+    public PlayerTrackerCache(final WorldInfoBridge worldInfo) {
+        this.worldInfo = worldInfo;
+    }
+
+    /**
+     * Gets the unique id for the given index.
+     *
+     * @param world The world the index belongs to
+     * @param index The player index, negative for none
+     * @return The unique id, {@link #INVALID_UNIQUE_ID} if the id is invalid, or null
+     */
+    @Nullable
+    public UUID getUniqueId(final World world, final int index) {
+        if (index < 0) {
+            return null;
+        }
+        this.lookups++;
+        final long stamp = world.getTotalWorldTime() + 1;
+        this.ensureCapacity(index);
+        if (this.uniqueIdStamps[index] == stamp) {
+            this.cacheHits++;
+            return this.uniqueIds[index];
+        }
+        return this.resolveUniqueId(index, stamp);
+    }
+
+    @Nullable
+    private UUID resolveUniqueId(final int index, final long stamp) {
+        final long start = System.nanoTime();
+        UUID uuid = this.worldInfo.bridge$getUniqueIdForIndex(index).orElse(null);
+        // Verify id is valid and not invalid
+        if (uuid != null && SpongeImpl.getGlobalConfigAdapter().getConfig().getWorld().getInvalidLookupUuids().contains(uuid)) {
+            uuid = INVALID_UNIQUE_ID;
+        }
+        // Unknown indices may still be assigned during this tick
+        if (uuid != null) {
+            this.uniqueIds[index] = uuid;
+            this.uniqueIdStamps[index] = stamp;
+        }
+        this.resolutionNanos += System.nanoTime() - start;
+        return uuid;
+    }
+
+    /**
+     * Gets the user for the given index. Online players are returned as
+     * their entity, offline users are fetched from the user storage.
+     *
+     * <p>Counts as a single lookup, which is only a cache hit if a user
+     * resolved earlier this tick is returned.</p>
+     *
+     * @param world The world the index belongs to
+     * @param index The player index, negative for none
+     * @return The user, or null if unknown or invalid
+     */
+    @Nullable
+    public User getUser(final World world, final int index) {
+        if (index < 0) {
+            return null;
+        }
+        this.lookups++;
+        final long stamp = world.getTotalWorldTime() + 1;
+        this.ensureCapacity(index);
+        if (this.userStamps[index] == stamp && this.users[index] != null) {
+            this.cacheHits++;
+            return this.users[index];
+        }
+        final UUID uuid = this.uniqueIdStamps[index] == stamp ? this.uniqueIds[index] : this.resolveUniqueId(index, stamp);
+        if (uuid == null || uuid == INVALID_UNIQUE_ID) {
+            return null;
+        }
+        if (this.userStamps[index] == stamp) {
+            // Resolved to no user earlier this tick
+            return null;
+        }
+        final long start = System.nanoTime();
+        // get player if online
+        final EntityPlayer player = world.getPlayerEntityByUUID(uuid);
+        final User user = player != null ? (User) player : this.getUserFromId(uuid);
+        this.users[index] = user;
+        this.userStamps[index] = stamp;
+        this.resolutionNanos += System.nanoTime() - start;
+        return user;
+    }
+
+    /**
+     * Gets whether the given index was resolved to
+     * {@link #INVALID_UNIQUE_ID} during the current tick, without counting
+     * as a lookup.
+     *
+     * @param world The world the index belongs to
+     * @param index The player index
+     * @return True if the index is known to be invalid
+     */
+    public boolean isInvalid(final World world, final int index) {
+        return index >= 0 && index < this.uniqueIds.length && this.uniqueIdStamps[index] == world.getTotalWorldTime() + 1
+                && this.uniqueIds[index] == INVALID_UNIQUE_ID;
+    }
+
+    @Nullable
+    private User getUserFromId(final UUID uuid) {
+        if (this.userStorageService == null) {
+            this.userStorageService = Sponge.getServiceManager().provide(UserStorageService.class).orElse(null);
+        }
+        // check username cache
+        final String username = SpongeUsernameCache.getLastKnownUsername(uuid);
+        if (username != null && this.userStorageService != null) {
+            return this.userStorageService.get(GameProfile.of(uuid, username)).orElse(null);
+        }
+
+        // check mojang cache
+        final GameProfile profile = Sponge.getServer().getGameProfileManager().getCache().getById(uuid).orElse(null);
+        if (profile != null && this.userStorageService != null) {
+            return this.userStorageService.get(profile).orElse(null);
+        }
+
+        // If we reach this point, queue UUID for async lookup and return empty
+        ((SpongeProfileManager) Sponge.getServer().getGameProfileManager()).lookupUserAsync(uuid);
+        return null;
+    }
+
+    private void ensureCapacity(final int index) {
+        if (index < this.uniqueIds.length) {
+            return;
+        }
+        final int length = Math.max(index + 1, this.uniqueIds.length * 2);
+        this.uniqueIds = Arrays.copyOf(this.uniqueIds, length);
+        this.uniqueIdStamps = Arrays.copyOf(this.uniqueIdStamps, length);
+        this.users = Arrays.copyOf(this.users, length);
+        this.userStamps = Arrays.copyOf(this.userStamps, length);
+    }
+
+    /**
+     * Gets the amount of index lookups since the world was loaded.
+     *
+     * @return The amount of lookups
+     */
+    public long getLookups() {
+        return this.lookups;
+    }
+
+    /**
+     * Gets the amount of index lookups answered from this tick's cache.
+     *
+     * @return The amount of cache hits
+     */
+    public long getCacheHits() {
+        return this.cacheHits;
+    }
+
+    /**
+     * Gets the total time spent resolving unique ids and users that were
+     * not cached, in nanoseconds.
+     *
+     * @return The resolution time
+     */
+    public long getResolutionNanos() {
+        return this.resolutionNanos;
+    }
+}
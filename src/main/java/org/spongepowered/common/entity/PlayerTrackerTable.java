@@ -0,0 +1,253 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.entity;
+
+import it.unimi.dsi.fastutil.ints.Int2IntMap;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.shorts.Short2IntMap;
+import it.unimi.dsi.fastutil.shorts.Short2IntOpenHashMap;
+import net.minecraft.util.math.BlockPos;
+import org.spongepowered.common.util.Constants;
+
+import java.util.Arrays;
+
+/**
+ * Stores the owner and notifier indices of the tracked blocks of a single
+ * chunk. Positions are keyed by their packed short (y &lt;= 255) or int
+ * form as produced by {@link Constants.Sponge#blockPosToShort(BlockPos)} and
+ * {@link Constants.Sponge#blockPosToInt(BlockPos)}, and map to a slot in two
+ * parallel int arrays, so no key boxing or {@link PlayerTracker} allocation
+ * happens per tracked block.
+ *
+ * <p>An index of <code>-1</code> means no owner or notifier is known.</p>
+ */
+public final class PlayerTrackerTable {
+
+    private static final int NO_SLOT = -1;
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final Short2IntMap shortSlots = new Short2IntOpenHashMap();
+    private final Int2IntMap intSlots = new Int2IntOpenHashMap();
+    private final IntArrayList freeSlots = new IntArrayList();
+    private int[] owners = new int[INITIAL_CAPACITY];
+    private int[] notifiers = new int[INITIAL_CAPACITY];
+    private int slotCount;
+
+    public PlayerTrackerTable() {
+        this.shortSlots.defaultReturnValue(NO_SLOT);
+        this.intSlots.defaultReturnValue(NO_SLOT);
+    }
+
+    public boolean isEmpty() {
+        return this.shortSlots.isEmpty() && this.intSlots.isEmpty();
+    }
+
+    public int size() {
+        return this.shortSlots.size() + this.intSlots.size();
+    }
+
+    public boolean contains(final BlockPos pos) {
+        return this.getSlot(pos) != NO_SLOT;
+    }
+
+    public int getOwner(final BlockPos pos) {
+        final int slot = this.getSlot(pos);
+        return slot == NO_SLOT ? -1 : this.owners[slot];
+    }
+
+    public int getNotifier(final BlockPos pos) {
+        final int slot = this.getSlot(pos);
+        return slot == NO_SLOT ? -1 : this.notifiers[slot];
+    }
+
+    /**
+     * Records a user as the owner or notifier of a position the way block
+     * tracking does: a new owner also becomes the notifier of an already
+     * tracked position.
+     *
+     * @param pos The position
+     * @param index The unique id index of the user
+     * @param type The kind of tracking
+     */
+    public void track(final BlockPos pos, final int index, final PlayerTracker.Type type) {
+        int slot = this.getSlot(pos);
+        if (slot == NO_SLOT) {
+            slot = this.createSlot(pos);
+            this.owners[slot] = type == PlayerTracker.Type.OWNER ? index : -1;
+            this.notifiers[slot] = type == PlayerTracker.Type.NOTIFIER ? index : -1;
+        } else if (type == PlayerTracker.Type.OWNER) {
+            this.owners[slot] = index;
+            this.notifiers[slot] = index;
+        } else {
+            this.notifiers[slot] = index;
+        }
+    }
+
+    /**
+     * Sets only the owner or only the notifier of a position, leaving the
+     * other untouched.
+     *
+     * @param pos The position
+     * @param index The unique id index of the user, or -1
+     * @param type The kind of tracking to set
+     */
+    public void set(final BlockPos pos, final int index, final PlayerTracker.Type type) {
+        int slot = this.getSlot(pos);
+        if (slot == NO_SLOT) {
+            slot = this.createSlot(pos);
+            this.owners[slot] = -1;
+            this.notifiers[slot] = -1;
+        }
+        if (type == PlayerTracker.Type.OWNER) {
+            this.owners[slot] = index;
+        } else {
+            this.notifiers[slot] = index;
+        }
+    }
+
+    public void remove(final BlockPos pos) {
+        final int slot = pos.getY() <= 255
+                         ? this.shortSlots.remove(Constants.Sponge.blockPosToShort(pos))
+                         : this.intSlots.remove(Constants.Sponge.blockPosToInt(pos));
+        if (slot != NO_SLOT) {
+            this.freeSlots.add(slot);
+        }
+    }
+
+    /**
+     * Packs the positions tracked by their short key as consecutive
+     * <code>key, owner, notifier</code> triples.
+     *
+     * @return The packed short keyed entries
+     */
+    public int[] toPackedShortEntries() {
+        final int[] packed = new int[this.shortSlots.size() * 3];
+        int i = 0;
+        for (final Short2IntMap.Entry entry : this.shortSlots.short2IntEntrySet()) {
+            packed[i++] = entry.getShortKey();
+            packed[i++] = this.owners[entry.getIntValue()];
+            packed[i++] = this.notifiers[entry.getIntValue()];
+        }
+        return packed;
+    }
+
+    /**
+     * Packs the positions tracked by their int key as consecutive
+     * <code>key, owner, notifier</code> triples.
+     *
+     * @return The packed int keyed entries
+     */
+    public int[] toPackedIntEntries() {
+        final int[] packed = new int[this.intSlots.size() * 3];
+        int i = 0;
+        for (final Int2IntMap.Entry entry : this.intSlots.int2IntEntrySet()) {
+            packed[i++] = entry.getIntKey();
+            packed[i++] = this.owners[entry.getIntValue()];
+            packed[i++] = this.notifiers[entry.getIntValue()];
+        }
+        return packed;
+    }
+
+    /**
+     * Reads entries written by {@link #toPackedShortEntries()} and
+     * {@link #toPackedIntEntries()}. Entries without owner and notifier are
+     * dropped.
+     *
+     * @param shortEntries The packed short keyed entries
+     * @param intEntries The packed int keyed entries
+     * @return The table
+     */
+    public static PlayerTrackerTable fromPackedEntries(final int[] shortEntries, final int[] intEntries) {
+        final PlayerTrackerTable table = new PlayerTrackerTable();
+        table.ensureCapacity((shortEntries.length + intEntries.length) / 3);
+        for (int i = 0; i + 2 < shortEntries.length; i += 3) {
+            table.putShort((short) shortEntries[i], shortEntries[i + 1], shortEntries[i + 2]);
+        }
+        for (int i = 0; i + 2 < intEntries.length; i += 3) {
+            table.putInt(intEntries[i], intEntries[i + 1], intEntries[i + 2]);
+        }
+        return table;
+    }
+
+    public void putShort(final short key, final int owner, final int notifier) {
+        if (owner == -1 && notifier == -1) {
+            return;
+        }
+        int slot = this.shortSlots.get(key);
+        if (slot == NO_SLOT) {
+            slot = this.nextSlot();
+            this.shortSlots.put(key, slot);
+        }
+        this.owners[slot] = owner;
+        this.notifiers[slot] = notifier;
+    }
+
+    public void putInt(final int key, final int owner, final int notifier) {
+        if (owner == -1 && notifier == -1) {
+            return;
+        }
+        int slot = this.intSlots.get(key);
+        if (slot == NO_SLOT) {
+            slot = this.nextSlot();
+            this.intSlots.put(key, slot);
+        }
+        this.owners[slot] = owner;
+        this.notifiers[slot] = notifier;
+    }
+
+    private int getSlot(final BlockPos pos) {
+        return pos.getY() <= 255
+               ? this.shortSlots.get(Constants.Sponge.blockPosToShort(pos))
+               : this.intSlots.get(Constants.Sponge.blockPosToInt(pos));
+    }
+
+    private int createSlot(final BlockPos pos) {
+        final int slot = this.nextSlot();
+        if (pos.getY() <= 255) {
+            this.shortSlots.put(Constants.Sponge.blockPosToShort(pos), slot);
+        } else {
+            this.intSlots.put(Constants.Sponge.blockPosToInt(pos), slot);
+        }
+        return slot;
+    }
+
+    private int nextSlot() {
+        if (!this.freeSlots.isEmpty()) {
+            return this.freeSlots.removeInt(this.freeSlots.size() - 1);
+        }
+        this.ensureCapacity(this.slotCount + 1);
+        return this.slotCount++;
+    }
+
+    private void ensureCapacity(final int capacity) {
+        if (capacity > this.owners.length) {
+            final int newCapacity = Math.max(capacity, this.owners.length << 1);
+            this.owners = Arrays.copyOf(this.owners, newCapacity);
+            this.notifiers = Arrays.copyOf(this.notifiers, newCapacity);
+        }
+    }
+
+}
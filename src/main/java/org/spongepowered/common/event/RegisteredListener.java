@@ -105,10 +105,12 @@ public int compareTo(RegisteredListener<?> handler) {
     public static final class Cache {
 
         private final List<RegisteredListener<?>> listeners;
+        private final RegisteredListener<?>[] listenerArray;
         private final EnumMap<Order, List<RegisteredListener<?>>> listenersByOrder;
 
         Cache(List<RegisteredListener<?>> listeners) {
             this.listeners = listeners;
+            this.listenerArray = listeners.toArray(new RegisteredListener<?>[0]);
 
             this.listenersByOrder = new EnumMap<>(Order.class);
             for (RegisteredListener<?> handler : listeners) {
@@ -121,6 +123,17 @@ public List<RegisteredListener<?>> getListeners() {
             return this.listeners;
         }
 
+        /**
+         * Gets the listeners in posting order as an array, which can be
+         * iterated without allocating an iterator. The array must not be
+         * modified.
+         *
+         * @return The listeners
+         */
+        public RegisteredListener<?>[] getListenerArray() {
+            return this.listenerArray;
+        }
+
         public List<RegisteredListener<?>> getListenersByOrder(Order order) {
             final List<RegisteredListener<?>> list = this.listenersByOrder.get(checkNotNull(order, "order"));
             if (list == null) {
@@ -94,6 +94,8 @@ public class ShouldFire {
 
     public static boolean CHANGE_INVENTORY_EVENT_TRANSFER_PRE = false;
     public static boolean CHANGE_INVENTORY_EVENT_TRANSFER_POST = false;
+    public static boolean CHANGE_INVENTORY_EVENT_PICKUP = false;
+    public static boolean CHANGE_INVENTORY_EVENT_PICKUP_PRE = false;
 
     public static boolean UPDATE_ANVIL_EVENT = false;
 
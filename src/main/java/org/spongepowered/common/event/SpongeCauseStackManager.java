@@ -40,8 +40,6 @@
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.event.tracking.PhaseContext;
-import org.spongepowered.common.mixin.core.server.MinecraftServerAccessor;
-import org.spongepowered.common.util.ThreadUtil;
 
 import java.util.ArrayDeque;
 import java.util.Arrays;
@@ -93,11 +91,11 @@ public final class SpongeCauseStackManager implements CauseStackManager {
     private final Deque<CauseStackFrameImpl> frames = Queues.newArrayDeque();
 
     // Frames not currently in use
-    private final Deque<CauseStackFrameImpl> framePool = new ArrayDeque<>(MAX_POOL_SIZE);
+    private final Deque<CauseStackFrameImpl> framePool;
 
     private Map<EventContextKey<?>, Object> ctx = Maps.newHashMap();
     private int min_depth = 0;
-    private int[] duplicateCauses = new int[100];
+    private int[] duplicateCauses;
     @Nullable private Cause cached_cause;
     @Nullable private EventContext cached_ctx;
     private AtomicBoolean pendingProviders = new AtomicBoolean(false);
@@ -108,23 +106,51 @@ public final class SpongeCauseStackManager implements CauseStackManager {
      */
     private Deque<PhaseContext<?>> phaseContextProviders = new ArrayDeque<>();
 
+    // Only populated on the main instance, thread confined stacks never hand out further stacks
+    @Nullable private final ThreadLocal<SpongeCauseStackManager> threadConfinedStacks;
+    private final boolean threadConfined;
+
     @Inject
     private SpongeCauseStackManager() {
-        for (int i = 0; i < INITIAL_POOL_SIZE; i++) {
-            this.framePool.push(new CauseStackFrameImpl());
+        this(false);
+    }
+
+    private SpongeCauseStackManager(final boolean threadConfined) {
+        this.threadConfined = threadConfined;
+        this.threadConfinedStacks = threadConfined ? null : ThreadLocal.withInitial(() -> new SpongeCauseStackManager(true));
+        if (threadConfined) {
+            // Most off-thread callers only ever push a frame or two, so their pool fills
+            // lazily as frames are popped and the duplicate counts grow on demand.
+            this.framePool = new ArrayDeque<>();
+            this.duplicateCauses = new int[8];
+        } else {
+            this.framePool = new ArrayDeque<>(MAX_POOL_SIZE);
+            this.duplicateCauses = new int[100];
+            for (int i = 0; i < INITIAL_POOL_SIZE; i++) {
+                this.framePool.push(new CauseStackFrameImpl());
+            }
         }
     }
 
-    private void enforceMainThread() {
-        // On clients, this may not be available immediately, we can't bomb out that early.
+    /**
+     * Gets the cause stack that the calling thread should operate on. The
+     * server thread, and every thread before a server is available, shares
+     * this instance. Any other thread is handed its own thread confined
+     * stack so that events can be posted off the main thread without
+     * corrupting the main stack or the phase tracker's frames.
+     *
+     * @return The cause stack for the current thread
+     */
+    private SpongeCauseStackManager forCurrentThread() {
+        if (this.threadConfined) {
+            return this;
+        }
+        // On clients, the server may not be available immediately, so every thread shares this stack until then.
         if (Sponge.isServerAvailable() && !isPermittedThread()) {
-            throw new IllegalStateException(String.format(
-                    "CauseStackManager called from off main thread (current='%s', expected='%s')!",
-                    ThreadUtil.getDescription(Thread.currentThread()),
-                    ThreadUtil.getDescription(((MinecraftServerAccessor) SpongeImpl.getServer()).accessor$getServerThread())
-            ));
+            return this.threadConfinedStacks.get();
         }
         checkProviders();
+        return this;
     }
 
     private static boolean isPermittedThread() {
@@ -133,7 +159,10 @@ private static boolean isPermittedThread() {
 
     @Override
     public Cause getCurrentCause() {
-        enforceMainThread();
+        final SpongeCauseStackManager stack = forCurrentThread();
+        if (stack != this) {
+            return stack.getCurrentCause();
+        }
         if (this.cached_cause == null || this.cached_ctx == null) {
             if (this.cause.isEmpty()) {
                 this.cached_cause = Cause.of(getCurrentContext(), SpongeImpl.getGame());
@@ -168,7 +197,10 @@ private void checkProviders() {
 
     @Override
     public EventContext getCurrentContext() {
-        enforceMainThread();
+        final SpongeCauseStackManager stack = forCurrentThread();
+        if (stack != this) {
+            return stack.getCurrentContext();
+        }
         if (this.cached_ctx == null) {
             this.cached_ctx = EventContext.of(this.ctx);
         }
@@ -177,7 +209,10 @@ public EventContext getCurrentContext() {
 
     @Override
     public CauseStackManager pushCause(final Object obj) {
-        enforceMainThread();
+        final SpongeCauseStackManager stack = forCurrentThread();
+        if (stack != this) {
+            return stack.pushCause(obj);
+        }
         checkNotNull(obj, "obj");
         this.cached_cause = null;
         if (this.cause.peek() == obj) {
@@ -203,7 +238,10 @@ public CauseStackManager pushCause(final Object obj) {
 
     @Override
     public Object popCause() {
-        enforceMainThread();
+        final SpongeCauseStackManager stack = forCurrentThread();
+        if (stack != this) {
+            return stack.popCause();
+        }
         final int size = this.cause.size();
         // First, check for duplicate causes. If there are duplicates,
         // we can artificially "pop" by just peeking.
@@ -223,7 +261,11 @@ public Object popCause() {
 
     @Override
     public void popCauses(final int n) {
-        enforceMainThread();
+        final SpongeCauseStackManager stack = forCurrentThread();
+        if (stack != this) {
+            stack.popCauses(n);
+            return;
+        }
         for (int i = 0; i < n; i++) {
             popCause();
         }
@@ -231,13 +273,19 @@ public void popCauses(final int n) {
 
     @Override
     public Object peekCause() {
-        enforceMainThread();
+        final SpongeCauseStackManager stack = forCurrentThread();
+        if (stack != this) {
+            return stack.peekCause();
+        }
         return this.cause.peek();
     }
 
     @Override
     public StackFrame pushCauseFrame() {
-        enforceMainThread();
+        final SpongeCauseStackManager stack = forCurrentThread();
+        if (stack != this) {
+            return stack.pushCauseFrame();
+        }
         // Ensure duplicate causes will be correctly sized.
         final int size = this.cause.size();
         if (this.duplicateCauses.length <= size) {
@@ -270,7 +318,11 @@ public StackFrame pushCauseFrame() {
 
     @Override
     public void popCauseFrame(final StackFrame oldFrame) {
-        enforceMainThread();
+        final SpongeCauseStackManager stack = forCurrentThread();
+        if (stack != this) {
+            stack.popCauseFrame(oldFrame);
+            return;
+        }
         checkNotNull(oldFrame, "oldFrame");
         final CauseStackFrameImpl frame = this.frames.peek();
         if (frame != oldFrame) {
@@ -375,7 +427,10 @@ public void popCauseFrame(final StackFrame oldFrame) {
 
     @Override
     public <T> CauseStackManager addContext(final EventContextKey<T> key, final T value) {
-        enforceMainThread();
+        final SpongeCauseStackManager stack = forCurrentThread();
+        if (stack != this) {
+            return stack.addContext(key, value);
+        }
         checkNotNull(key, "key");
         checkNotNull(value, "value");
         this.cached_ctx = null;
@@ -389,7 +444,10 @@ public <T> CauseStackManager addContext(final EventContextKey<T> key, final T va
     @Override
     @SuppressWarnings("unchecked")
     public <T> Optional<T> getContext(final EventContextKey<T> key) {
-        enforceMainThread();
+        final SpongeCauseStackManager stack = forCurrentThread();
+        if (stack != this) {
+            return stack.getContext(key);
+        }
         checkNotNull(key, "key");
         return Optional.ofNullable((T) this.ctx.get(key));
     }
@@ -397,7 +455,10 @@ public <T> Optional<T> getContext(final EventContextKey<T> key) {
     @Override
     @SuppressWarnings("unchecked")
     public <T> Optional<T> removeContext(final EventContextKey<T> key) {
-        enforceMainThread();
+        final SpongeCauseStackManager stack = forCurrentThread();
+        if (stack != this) {
+            return stack.removeContext(key);
+        }
         checkNotNull(key, "key");
         this.cached_ctx = null;
         Object existing = this.ctx.remove(key);
@@ -161,6 +161,7 @@
 import org.spongepowered.common.bridge.world.chunk.ChunkProviderBridge;
 import org.spongepowered.common.entity.EntityUtil;
 import org.spongepowered.common.entity.PlayerTracker;
+import org.spongepowered.common.event.inventory.TransferPostBatch;
 import org.spongepowered.common.event.inventory.UpdateAnvilEventCost;
 import org.spongepowered.common.event.tracking.IPhaseState;
 import org.spongepowered.common.event.tracking.PhaseContext;
@@ -410,6 +411,9 @@ private static boolean callPlayerChangeInventoryPickupEvent(final EntityPlayer p
     }
 
     public static ItemStack callInventoryPickupEvent(final IInventory inventory, final EntityItem item, final ItemStack stack) {
+        if (!ShouldFire.CHANGE_INVENTORY_EVENT_PICKUP_PRE && !ShouldFire.CHANGE_INVENTORY_EVENT_PICKUP) {
+            return TileEntityHopper.putStackInInventoryAllSlots(null, inventory, stack, null);
+        }
         try (final CauseStackManager.StackFrame frame = Sponge.getCauseStackManager().pushCauseFrame()) {
             frame.pushCause(inventory);
 
@@ -1447,6 +1451,26 @@ public static boolean callTransferPost(@Nullable final TrackedInventoryBridge ca
         return event.isCancelled();
     }
 
+    /**
+     * Throws the {@link ChangeInventoryEvent.Transfer.Post} for the captured
+     * transactions, or adds them to the {@link TransferPostBatch} of this
+     * tick if transfer events are batched.
+     *
+     * @param captureSource The inventory the transactions were captured in
+     * @param source The source inventory
+     * @param destination The destination inventory
+     * @return Whether the event was cancelled, always false when batched
+     */
+    public static boolean callOrBatchTransferPost(@Nullable final TrackedInventoryBridge captureSource, @Nullable final Inventory source,
+        @Nullable final Inventory destination) {
+        if (captureSource != null && source != null && destination != null
+            && SpongeImpl.getGlobalConfigAdapter().getConfig().getOptimizations().isBatchHopperTransferEvents()) {
+            TransferPostBatch.add(captureSource, source, destination);
+            return false;
+        }
+        return callTransferPost(captureSource, source, destination);
+    }
+
     public static void setSlots(final List<SlotTransaction> transactions, final Function<SlotTransaction, ItemStackSnapshot> func) {
         transactions.forEach(t -> t.getSlot().set(func.apply(t).createStack()));
     }
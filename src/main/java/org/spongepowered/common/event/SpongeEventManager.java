@@ -31,9 +31,8 @@
 import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import org.spongepowered.common.event.tracking.phase.plugin.EventListenerPhaseContext;
 import org.spongepowered.common.relocate.co.aikar.timings.TimingsManager;
-import com.github.benmanes.caffeine.cache.Caffeine;
-import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Multimap;
@@ -64,8 +63,10 @@
 import org.spongepowered.common.item.inventory.custom.CustomInventory;
 import org.spongepowered.common.item.inventory.custom.CustomInventoryListener;
 import org.spongepowered.common.util.TypeTokenHelper;
+import org.spongepowered.common.util.metric.SpongeTickMetrics;
+import org.spongepowered.common.util.metric.TickMetrics;
+import org.spongepowered.common.util.metric.TickPhase;
 
-import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.TypeVariable;
@@ -73,6 +74,7 @@
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -81,7 +83,6 @@
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 import javax.inject.Inject;
@@ -96,6 +97,16 @@ public class SpongeEventManager implements EventManager {
     protected final Logger logger;
     private final PluginManager pluginManager;
     private final Multimap<Class<?>, RegisteredListener<?>> handlersByEvent = HashMultimap.create();
+    /**
+     * An immutable copy of {@link #handlersByEvent} that is replaced whenever
+     * handlers are added or removed, so handlers can be baked without locking.
+     */
+    private volatile ImmutableMultimap<Class<?>, RegisteredListener<?>> handlersByEventSnapshot = ImmutableMultimap.of();
+    /**
+     * Incremented every time {@link #handlersByEventSnapshot} is replaced, so
+     * a handler cache baked from an outdated snapshot can be detected.
+     */
+    private volatile int handlersVersion;
     private final Map<ClassLoader, AnnotatedEventListener.Factory> classLoaders = new IdentityHashMap<>();
     private final Set<Object> registeredListeners = new ReferenceOpenHashSet<>();
 
@@ -103,62 +114,38 @@ public class SpongeEventManager implements EventManager {
 
     /**
      * A cache of all the handlers for an event type for quick event posting.
-     * <p>The cache is currently entirely invalidated if handlers are added or
-     * removed.</p>
+     * <p>Lookups never lock. When handlers are added or removed, only the
+     * event types that are subtypes of the changed handlers' event types are
+     * invalidated and baked again on their next post.</p>
      */
-    protected final LoadingCache<EventType<?>, RegisteredListener.Cache> handlersCache =
-            Caffeine.newBuilder().initialCapacity(150).build(this::bakeHandlers);
+    protected final ConcurrentHashMap<EventType<?>, RegisteredListener.Cache> handlersCache = new ConcurrentHashMap<>(150, 0.75f, 1);
 
     @Inject
     public SpongeEventManager(Logger logger, PluginManager pluginManager) {
         this.logger = logger;
         this.pluginManager = checkNotNull(pluginManager, "pluginManager");
-
-        // Caffeine offers no control over the concurrency level of the
-        // ConcurrentHashMap which backs the cache. By default this concurrency
-        // level is 16. We replace the backing map before any use can occur
-        // a new ConcurrentHashMap with a concurrency level of 1
-        try {
-            // Cache impl class is UnboundedLocalLoadingCache which extends
-            // UnboundedLocalManualCache
-
-            // UnboundedLocalManualCache has a field 'cache' with an
-            // UnboundedLocalCache which contains the actual backing map
-            Field innerCache = this.handlersCache.getClass().getSuperclass().getDeclaredField("cache");
-            innerCache.setAccessible(true);
-            Object innerCacheValue = innerCache.get(this.handlersCache);
-            Class<?> innerCacheClass = innerCacheValue.getClass(); // UnboundedLocalCache
-            Field cacheData = innerCacheClass.getDeclaredField("data");
-            cacheData.setAccessible(true);
-            ConcurrentHashMap<Class<? extends Event>, RegisteredListener.Cache> newBackingData = new ConcurrentHashMap<>(150, 0.75f, 1);
-            cacheData.set(innerCacheValue, newBackingData);
-        } catch (NoSuchFieldException | SecurityException | IllegalArgumentException | IllegalAccessException e) {
-            this.logger.warn("Failed to set event cache backing array, type was " + this.handlersCache.getClass().getName());
-            this.logger.warn("  Caused by: " + e.getClass().getName() + ": " + e.getMessage());
-        }
     }
 
     <T extends Event> RegisteredListener.Cache bakeHandlers(EventType<T> eventType) {
         final List<RegisteredListener<?>> handlers = new ArrayList<>();
         final Set<Class<? super T>> types = TypeToken.of(eventType.getType()).getTypes().rawTypes();
-
-        synchronized (this.lock) {
-            for (Class<? super T> type : types) {
-                if (Event.class.isAssignableFrom(type)) {
-                    final Collection<RegisteredListener<?>> listeners = this.handlersByEvent.get(type);
-                    if (GenericEvent.class.isAssignableFrom(type)) {
-                        final TypeToken<?> genericType = eventType.getGenericType();
-                        checkNotNull(genericType);
-                        for (RegisteredListener<?> listener : listeners) {
-                            final TypeToken<?> genericType1 = listener.getEventType().getGenericType();
-                            checkNotNull(genericType1);
-                            if (TypeTokenHelper.isAssignable(genericType, genericType1)) {
-                                handlers.add(listener);
-                            }
+        final ImmutableMultimap<Class<?>, RegisteredListener<?>> handlersByEvent = this.handlersByEventSnapshot;
+
+        for (Class<? super T> type : types) {
+            if (Event.class.isAssignableFrom(type)) {
+                final Collection<RegisteredListener<?>> listeners = handlersByEvent.get(type);
+                if (GenericEvent.class.isAssignableFrom(type)) {
+                    final TypeToken<?> genericType = eventType.getGenericType();
+                    checkNotNull(genericType);
+                    for (RegisteredListener<?> listener : listeners) {
+                        final TypeToken<?> genericType1 = listener.getEventType().getGenericType();
+                        checkNotNull(genericType1);
+                        if (TypeTokenHelper.isAssignable(genericType, genericType1)) {
+                            handlers.add(listener);
                         }
-                    } else {
-                        handlers.addAll(listeners);
                     }
+                } else {
+                    handlers.addAll(listeners);
                 }
             }
         }
@@ -167,6 +154,41 @@ <T extends Event> RegisteredListener.Cache bakeHandlers(EventType<T> eventType)
         return new RegisteredListener.Cache(handlers);
     }
 
+    private RegisteredListener.Cache getOrBakeHandlers(EventType<?> eventType) {
+        final RegisteredListener.Cache cache = this.handlersCache.get(eventType);
+        if (cache != null) {
+            return cache;
+        }
+        final int version = this.handlersVersion;
+        final RegisteredListener.Cache baked = bakeHandlers(eventType);
+        final RegisteredListener.Cache existing = this.handlersCache.putIfAbsent(eventType, baked);
+        if (this.handlersVersion != version) {
+            // Handlers changed while baking, the next post has to bake again
+            this.handlersCache.remove(eventType, baked);
+        }
+        return existing == null ? baked : existing;
+    }
+
+    /**
+     * Publishes the current handlers for baking and invalidates the cached
+     * handlers of every event type that is a subtype of one of the changed
+     * event types. Must be called while holding {@link #lock}.
+     *
+     * @param changedTypes The raw event types of the added or removed handlers
+     */
+    private void publishHandlers(Set<Class<?>> changedTypes) {
+        this.handlersByEventSnapshot = ImmutableMultimap.copyOf(this.handlersByEvent);
+        this.handlersVersion++;
+        this.handlersCache.keySet().removeIf(eventType -> {
+            for (Class<?> changedType : changedTypes) {
+                if (changedType.isAssignableFrom(eventType.getType())) {
+                    return true;
+                }
+            }
+            return false;
+        });
+    }
+
     @Nullable
     private static String getHandlerErrorOrNull(Method method) {
         int modifiers = method.getModifiers();
@@ -202,20 +224,19 @@ private void register(RegisteredListener<? extends Event> handler) {
     }
 
     private void register(List<RegisteredListener<? extends Event>> handlers) {
-        boolean changed = false;
-
         synchronized (this.lock) {
+            final Set<Class<?>> changedTypes = new HashSet<>();
             for (RegisteredListener<?> handler : handlers) {
                 final Class<?> raw = handler.getEventType().getType();
                 if (this.handlersByEvent.put(raw, handler)) {
-                    changed = true;
+                    changedTypes.add(raw);
                     this.checker.registerListenerFor(raw);
                 }
             }
-        }
 
-        if (changed) {
-            this.handlersCache.invalidateAll();
+            if (!changedTypes.isEmpty()) {
+                publishHandlers(changedTypes);
+            }
         }
     }
 
@@ -348,24 +369,23 @@ public <T extends Event> void registerListener(Object plugin, TypeToken<T> event
     }
 
     private void unregister(Predicate<RegisteredListener<?>> unregister) {
-        boolean changed = false;
-
         synchronized (this.lock) {
+            final Set<Class<?>> changedTypes = new HashSet<>();
             Iterator<RegisteredListener<?>> itr = this.handlersByEvent.values().iterator();
             while (itr.hasNext()) {
                 RegisteredListener<?> handler = itr.next();
                 if (unregister.test(handler)) {
                     itr.remove();
-                    changed = true;
+                    changedTypes.add(handler.getEventType().getType());
                     // TODO: This doesn't seem right, even as it was before
                     this.checker.unregisterListenerFor(handler.getEventType().getType());
                     this.registeredListeners.remove(handler.getHandle());
                 }
             }
-        }
 
-        if (changed) {
-            this.handlersCache.invalidateAll();
+            if (!changedTypes.isEmpty()) {
+                publishHandlers(changedTypes);
+            }
         }
     }
 
@@ -396,16 +416,22 @@ protected RegisteredListener.Cache getHandlerCache(Event event) {
         } else {
             eventType = new EventType(eventClass, null);
         }
-        return this.handlersCache.get(eventType);
+        return getOrBakeHandlers(eventType);
     }
 
     @SuppressWarnings("unchecked")
-    private boolean post(Event event, List<RegisteredListener<?>> handlers) {
+    private boolean post(Event event, RegisteredListener<?>[] handlers) {
+        if (handlers.length == 0) {
+            return event instanceof Cancellable && ((Cancellable) event).isCancelled();
+        }
         if (!Sponge.getServer().isMainThread()) {
             // If this event is being posted asynchronously then we don't want
-            // to do any timing or cause stack changes
-            for (@SuppressWarnings("rawtypes") RegisteredListener handler : handlers) {
-                try {
+            // to do any timing or phase tracking, the cause stack used here is
+            // confined to the posting thread so the main stack is untouched
+            for (int i = 0; i < handlers.length; i++) {
+                @SuppressWarnings("rawtypes") final RegisteredListener handler = handlers[i];
+                try (CauseStackManager.StackFrame frame = Sponge.getCauseStackManager().pushCauseFrame()) {
+                    frame.pushCause(handler.getPlugin());
                     if (event instanceof AbstractEvent) {
                         ((AbstractEvent) event).currentOrder = handler.getOrder();
                     }
@@ -420,7 +446,10 @@ private boolean post(Event event, List<RegisteredListener<?>> handlers) {
             return event instanceof Cancellable && ((Cancellable) event).isCancelled();
         }
         TimingsManager.PLUGIN_EVENT_HANDLER.startTimingIfSync();
-        for (@SuppressWarnings("rawtypes") RegisteredListener handler : handlers) {
+        final TickMetrics metrics = SpongeTickMetrics.getServerMetrics();
+        metrics.start(TickPhase.EVENT_DISPATCH);
+        for (int i = 0; i < handlers.length; i++) {
+            @SuppressWarnings("rawtypes") final RegisteredListener handler = handlers[i];
             try (CauseStackManager.StackFrame frame = Sponge.getCauseStackManager().pushCauseFrame();
                  final PhaseContext<?> context = createPluginContext(handler);
                  final Timing timings = handler.getTimingsHandler()) {
@@ -440,6 +469,7 @@ private boolean post(Event event, List<RegisteredListener<?>> handlers) {
                 this.logger.error("Could not pass {} to {}", event.getClass().getSimpleName(), handler.getPlugin(), e);
             }
         }
+        metrics.stop(TickPhase.EVENT_DISPATCH);
         if (event instanceof AbstractEvent) {
             ((AbstractEvent) event).currentOrder = null;
         }
@@ -477,12 +507,12 @@ public boolean postServer(Event event) {
     }
 
     public boolean post(Event event, boolean allowClientThread) {
-        return post(event, getHandlerCache(event).getListeners());
+        return post(event, getHandlerCache(event).getListenerArray());
     }
 
     public boolean post(Event event, PluginContainer plugin) {
         return post(event, getHandlerCache(event).getListeners().stream()
                 .filter(l -> l.getPlugin().equals(plugin))
-                .collect(Collectors.toList()));
+                .toArray(RegisteredListener<?>[]::new));
     }
 }
@@ -0,0 +1,155 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.inventory;
+
+import net.minecraft.item.ItemStack;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.event.CauseStackManager;
+import org.spongepowered.api.event.SpongeEventFactory;
+import org.spongepowered.api.event.item.inventory.ChangeInventoryEvent;
+import org.spongepowered.api.item.inventory.Inventory;
+import org.spongepowered.api.item.inventory.Slot;
+import org.spongepowered.api.item.inventory.transaction.SlotTransaction;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.bridge.inventory.TrackedInventoryBridge;
+import org.spongepowered.common.event.SpongeCommonEventFactory;
+import org.spongepowered.common.item.inventory.util.ItemStackUtil;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Collects the slot transactions of item transfers between inventories and
+ * throws a single {@link ChangeInventoryEvent.Transfer.Post} per source and
+ * destination once {@link #flush()} is called, instead of one event per
+ * transferred item.
+ *
+ * <p>Only accessed from the main thread.</p>
+ */
+public final class TransferPostBatch {
+
+    private static final Map<Key, List<SlotTransaction>> batches = new LinkedHashMap<>();
+
+    /**
+     * Moves the transactions captured in the given inventory into the batch
+     * of the source and destination pair.
+     *
+     * @param captureSource The inventory the transactions were captured in
+     * @param source The source inventory
+     * @param destination The destination inventory
+     */
+    public static void add(final TrackedInventoryBridge captureSource, final Inventory source, final Inventory destination) {
+        final List<SlotTransaction> captured = captureSource.bridge$getCapturedSlotTransactions();
+        if (captured.isEmpty()) {
+            return;
+        }
+        batches.computeIfAbsent(new Key(source, destination), key -> new ArrayList<>()).addAll(captured);
+        captured.clear();
+    }
+
+    /**
+     * Throws the events for all collected transfers.
+     */
+    public static void flush() {
+        if (batches.isEmpty()) {
+            return;
+        }
+        final List<Map.Entry<Key, List<SlotTransaction>>> entries = new ArrayList<>(batches.entrySet());
+        batches.clear();
+        for (final Map.Entry<Key, List<SlotTransaction>> entry : entries) {
+            final Key key = entry.getKey();
+            try (final CauseStackManager.StackFrame frame = Sponge.getCauseStackManager().pushCauseFrame()) {
+                frame.pushCause(key.source);
+                final ChangeInventoryEvent.Transfer.Post event = SpongeEventFactory.createChangeInventoryEventTransferPost(
+                    frame.getCurrentCause(), key.source, key.destination, entry.getValue());
+                SpongeImpl.postEvent(event);
+                if (!event.isCancelled()) {
+                    // handle custom inventory transaction result
+                    event.getTransactions().stream().filter(t -> !t.isValid() || t.getCustom().isPresent())
+                        .forEach(t -> t.getSlot().set(t.getFinal().createStack()));
+                } else if (isUnchanged(event.getTransactions())) {
+                    // restore inventories, latest transaction first
+                    final List<SlotTransaction> transactions = new ArrayList<>(event.getTransactions());
+                    Collections.reverse(transactions);
+                    SpongeCommonEventFactory.setSlots(transactions, SlotTransaction::getOriginal);
+                } else {
+                    SpongeImpl.getLogger().debug("Not restoring cancelled transfer from {} to {}, the items were moved again",
+                        key.source, key.destination);
+                }
+            }
+        }
+    }
+
+    private static boolean isUnchanged(final List<SlotTransaction> transactions) {
+        final Set<Slot> checked = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = transactions.size() - 1; i >= 0; i--) {
+            final SlotTransaction transaction = transactions.get(i);
+            if (!checked.add(transaction.getSlot())) {
+                continue;
+            }
+            final ItemStack current = ItemStackUtil.toNative(transaction.getSlot().peek().orElse(null));
+            if (!ItemStack.areItemStacksEqual(current, ItemStackUtil.fromSnapshotToNative(transaction.getFinal()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private TransferPostBatch() {
+    }
+
+    private static final class Key {
+
+        final Inventory source;
+        final Inventory destination;
+
+        Key(final Inventory source, final Inventory destination) {
+            this.source = source;
+            this.destination = destination;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key key = (Key) o;
+            return this.source == key.source && this.destination == key.destination;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(this.source) + System.identityHashCode(this.destination);
+        }
+    }
+}
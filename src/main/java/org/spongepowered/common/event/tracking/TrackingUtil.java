@@ -365,12 +365,12 @@ private TrackingUtil() {
     @Nullable
     public static User getNotifierOrOwnerFromBlock(final WorldServer world, final BlockPos blockPos) {
         final ChunkBridge mixinChunk = (ChunkBridge) world.getChunk(blockPos);
-        final User notifier = mixinChunk.bridge$getBlockNotifier(blockPos).orElse(null);
+        final User notifier = mixinChunk.bridge$getTrackedNotifier(blockPos);
         if (notifier != null) {
             return notifier;
         }
 
-        return mixinChunk.bridge$getBlockOwner(blockPos).orElse(null);
+        return mixinChunk.bridge$getTrackedOwner(blockPos);
     }
 
     public static Supplier<IllegalStateException> throwWithContext(final String s, final PhaseContext<?> phaseContext) {
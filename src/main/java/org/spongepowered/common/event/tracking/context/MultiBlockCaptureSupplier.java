@@ -31,7 +31,8 @@
 import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Multimap;
-import com.google.common.collect.Multimaps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockEventData;
 import net.minecraft.block.state.IBlockState;
@@ -57,17 +58,15 @@
 import org.spongepowered.common.world.BlockChange;
 import org.spongepowered.common.world.SpongeBlockChangeFlag;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
-import java.util.function.BiConsumer;
 
 import javax.annotation.Nullable;
 
@@ -75,12 +74,17 @@
 public final class MultiBlockCaptureSupplier implements ICaptureSupplier {
 
     public static final boolean PRINT_TRANSACTIONS = Boolean.parseBoolean(System.getProperty("sponge.debugBlockTransactions", "false"));
+    private static final int MAX_POOLED_POSITION_LISTS = 1024;
 
-    @Nullable private LinkedListMultimap<BlockPos, SpongeBlockSnapshot> multimap;
+    // Captured changes keyed by BlockPos#toLong, populated once a position is changed more than once.
+    // The collections are cleared rather than discarded so that pooled phase contexts reuse them.
+    @Nullable private Long2ObjectLinkedOpenHashMap<List<SpongeBlockSnapshot>> multimap;
+    private final ArrayDeque<ArrayList<SpongeBlockSnapshot>> positionListPool = new ArrayDeque<>();
+    private boolean hasMultiplePerPosition;
     @Nullable private ListMultimap<BlockPos, BlockEventData> scheduledEvents;
     @Nullable private List<SpongeBlockSnapshot> snapshots;
     @Nullable private LinkedHashMap<WorldServer, SpongeProxyBlockAccess.Proxy> processingWorlds;
-    @Nullable private Set<BlockPos> usedBlocks;
+    @Nullable private LongOpenHashSet usedBlocks;
     private int transactionIndex = -1; // These are used to keep track of which snapshot is being referred to as "most recent change"
     private int snapshotIndex = -1;    // so that we can appropriately cancel or discard or apply specific event transactions
     // We made BlockTransaction a Node and this is a pseudo LinkedList due to the nature of needing
@@ -117,18 +121,12 @@ public boolean put(final BlockSnapshot snapshot, final IBlockState newState) {
         final SpongeBlockSnapshot backingSnapshot = getBackingSnapshot(snapshot);
         // Get the key of the block position, we know this is a pure block pos and not a mutable one too.
         final BlockPos blockPos = backingSnapshot.getBlockPos();
-        if (this.usedBlocks == null) { // Means we have a first usage. All three fields are null
-            // At this point, we know we have not captured anything and
-            // can just populate the normal list.
-            this.usedBlocks = new HashSet<>();
-
-            this.usedBlocks.add(blockPos);
-            this.addSnapshot(backingSnapshot);
-            return true;
+        final long packedPos = blockPos.toLong();
+        if (this.usedBlocks == null) { // Means we have a first usage.
+            this.usedBlocks = new LongOpenHashSet();
         }
-        // This isn't our first rodeo...
-        final boolean added = this.usedBlocks.add(blockPos); // add it to the set of positions already used and use the boolean
-        if (this.multimap != null) {
+        final boolean added = this.usedBlocks.add(packedPos); // add it to the set of positions already used and use the boolean
+        if (this.hasMultiplePerPosition) {
             // Means we've already got multiple changes per position once before.
             // Likewise, the used blocks, snapshots and multimap will NOT be null.
             // more fasts, we know we have multiple block positions.
@@ -139,12 +137,12 @@ public boolean put(final BlockSnapshot snapshot, final IBlockState newState) {
                 this.addSnapshot(backingSnapshot);
             }
             // we don't have to
-            this.multimap.put(blockPos, backingSnapshot);
+            putMulti(packedPos, backingSnapshot);
 
             // If the position is duplicated, we need to update the original snapshot of the now incoming block change
             // in relation to the original state (so if a block was set to air, then afterwards set to piston head, it should go from break to modify)
             if (!added) {
-                associateBlockChangeForPosition(newState, blockPos);
+                associateBlockChangeForPosition(newState, packedPos);
             }
             return added;
         }
@@ -152,17 +150,20 @@ public boolean put(final BlockSnapshot snapshot, final IBlockState newState) {
         if (!added) {
             // Ok, means we have a multi change on a same position, now to use the multimap
             // for the first time.
-            this.multimap = LinkedListMultimap.create(); // LinkedListMultimap is insertion order respective, so the backed lists per
+            this.hasMultiplePerPosition = true;
+            if (this.multimap == null) {
+                this.multimap = new Long2ObjectLinkedOpenHashMap<>(); // Linked to stay insertion order respective, like the list of snapshots
+            }
             // Now to populate it from the previously used list of snapshots...
             for (final SpongeBlockSnapshot existing : this.snapshots) { // Ignore snapshots potentially being null, it will never be null at this point.
-                this.multimap.put(existing.getBlockPos(), existing);
+                putMulti(existing.getBlockPos().toLong(), existing);
             }
             // And place the snapshot into the multimap.
-            this.multimap.put(blockPos, backingSnapshot);
+            putMulti(packedPos, backingSnapshot);
             // Now we can re-evaluate the modified block position
             // If the position is duplicated, we need to update the original snapshot of the now incoming block change
             // in relation to the original state (so if a block was set to air, then afterwards set to piston head, it should go from break to modify)
-            associateBlockChangeForPosition(newState, blockPos);
+            associateBlockChangeForPosition(newState, packedPos);
             return false;
         }
         // At this point, we haven't captured the block position yet.
@@ -172,6 +173,30 @@ public boolean put(final BlockSnapshot snapshot, final IBlockState newState) {
         return true;
     }
 
+    private void putMulti(final long packedPos, final SpongeBlockSnapshot snapshot) {
+        List<SpongeBlockSnapshot> list = this.multimap.get(packedPos);
+        if (list == null) {
+            final ArrayList<SpongeBlockSnapshot> pooled = this.positionListPool.poll();
+            list = pooled == null ? new ArrayList<>(2) : pooled;
+            this.multimap.put(packedPos, list);
+        }
+        list.add(snapshot);
+    }
+
+    private void recycle(final List<SpongeBlockSnapshot> list) {
+        if (this.positionListPool.size() < MAX_POOLED_POSITION_LISTS) {
+            list.clear();
+            this.positionListPool.push((ArrayList<SpongeBlockSnapshot>) list);
+        }
+    }
+
+    private void clearMulti(final Long2ObjectLinkedOpenHashMap<List<SpongeBlockSnapshot>> multimap) {
+        for (final List<SpongeBlockSnapshot> list : multimap.values()) {
+            recycle(list);
+        }
+        multimap.clear();
+    }
+
     private void addSnapshot(final SpongeBlockSnapshot backingSnapshot) {
         if (this.snapshots == null) {
             this.snapshots = new ArrayList<>();
@@ -189,11 +214,11 @@ private void addSnapshot(final SpongeBlockSnapshot backingSnapshot) {
      * {@code null}, otherwise it will cause an NPE.</p>
      *
      * @param newState The incoming block change to compare to change
-     * @param blockPos The block position to get the backing list from the multimap
+     * @param packedPos The packed block position to get the backing list from the multimap
      */
     @SuppressWarnings("unchecked")
-    private void associateBlockChangeForPosition(final IBlockState newState, final BlockPos blockPos) {
-        final List<SpongeBlockSnapshot> list = this.multimap.get(blockPos);
+    private void associateBlockChangeForPosition(final IBlockState newState, final long packedPos) {
+        final List<SpongeBlockSnapshot> list = this.multimap.get(packedPos);
         if (list != null && !list.isEmpty()) {
             final SpongeBlockSnapshot originalSnapshot = list.get(0);
             final PhaseContext<?> peek = PhaseTracker.getInstance().getCurrentContext();
@@ -245,7 +270,7 @@ public final void prune(final BlockSnapshot snapshot) {
         // Get the key of the block position, we know this is a pure block pos and not a mutable one too.
         final BlockPos blockPos = backingSnapshot.getBlockPos();
         // Check if we have a multi-pos
-        if (this.multimap != null) {
+        if (this.hasMultiplePerPosition) {
             pruneFromMulti(backingSnapshot, blockPos);
             return;
         }
@@ -264,12 +289,13 @@ private void pruneSingle(final SpongeBlockSnapshot backingSnapshot, final BlockP
             // also means we didn't capture.... wtf is going on at this point?
             throw new IllegalStateException("Expected to remove a single block change that was supposed to be captured....");
         }
-        this.usedBlocks.remove(blockPos);
+        this.usedBlocks.remove(blockPos.toLong());
         this.snapshots.remove(backingSnapshot); // Should be the same snapshot used
     }
 
     private void pruneFromMulti(final SpongeBlockSnapshot backingSnapshot, final BlockPos blockPos) {
-        final List<SpongeBlockSnapshot> snapshots = this.multimap.get(blockPos);
+        final long packedPos = blockPos.toLong();
+        final List<SpongeBlockSnapshot> snapshots = this.multimap.get(packedPos);
         if (snapshots != null) {
             for (final Iterator<SpongeBlockSnapshot> iterator = snapshots.iterator(); iterator.hasNext(); ) {
                 final SpongeBlockSnapshot next = iterator.next();
@@ -280,19 +306,20 @@ private void pruneFromMulti(final SpongeBlockSnapshot backingSnapshot, final Blo
             }
             // If the list view is now empty, we need to prune the position from the multimap
             if (snapshots.isEmpty()) {
-                this.multimap.removeAll(blockPos);
+                recycle(this.multimap.remove(packedPos));
                 // And then prune the snapshot from the list of firsts
                 for (final Iterator<SpongeBlockSnapshot> firsts = this.snapshots.iterator(); firsts.hasNext(); ) {
                     final SpongeBlockSnapshot next = firsts.next();
                     if (next.equals(backingSnapshot)) {
                         firsts.remove();
                         // And if it's been found, remove the position from the used blocks as well.
-                        this.usedBlocks.remove(blockPos);
+                        this.usedBlocks.remove(packedPos);
                         break;
                     }
                 }
                 if (this.snapshots.isEmpty()) {
-                    this.multimap = null;
+                    clearMulti(this.multimap);
+                    this.hasMultiplePerPosition = false;
                 }
             }
         }
@@ -319,38 +346,6 @@ public final boolean isEmpty() {
         return (this.snapshots == null || this.snapshots.isEmpty()) && this.head == null;
     }
 
-    /**
-     * If not empty, activates the {@link BiConsumer} then clears all captures.
-     * The catch with this is that as the underlying list is guaranteed
-     * to be the first {@link BlockSnapshot} change, multiple changes can exist
-     * for an individual {@link BlockPos}, such that the multi-map needs to
-     * provide said information to the consumer.
-     *
-     * <p>The first {@link List} parameter is identical to having been
-     * built from the first elements of each list from the second parameter
-     * of {@link Map} where {@link Map#values()} returns the insertion order
-     * preserved {@link List} of {@link BlockSnapshot}s for the backed
-     * {@link BlockPos}. In simpler terms, the {@link List} is built from
-     * the first elements of each list from the {@link Map}s values.</p>
-     *
-     * @param consumer The consumer to activate
-     */
-    @SuppressWarnings("UnstableApiUsage") // Guava marks Multimaps.asMap as Beta features
-    public final void acceptAndClearIfNotEmpty(final BiConsumer<List<? extends BlockSnapshot>, Map<BlockPos, List<BlockSnapshot>>> consumer) {
-        if (this.multimap != null) {
-            final List<? extends BlockSnapshot> blockSnapshots = get();
-            // Since multimaps provide a view when asMap is called, we need to recreate the collection
-            // of the map to pass into the consumer
-            final Map<BlockPos, List<SpongeBlockSnapshot>> view = Multimaps.asMap(this.multimap);
-            final Map<BlockPos, List<BlockSnapshot>> map = new LinkedHashMap<>(view.size());
-            for (final Map.Entry<BlockPos, List<SpongeBlockSnapshot>> entryView : view.entrySet()) {
-                map.put(entryView.getKey(), new ArrayList<>(entryView.getValue()));
-            }
-            this.multimap.clear(); // Clean captured lists before they get potentially contaminated by processing.
-            consumer.accept(blockSnapshots, map); // Accept the list and map
-        }
-    }
-
     /*
     Begin the more enhanced block tracking. This is only used by states that absolutely need to be able to track certain changes
     that involve more "physics" related transactions, such as neighbor notification tracking, tile entity tracking, and
@@ -546,12 +541,11 @@ public void cancelTransaction(final BlockSnapshot original) {
 
     public void clear() {
         if (this.multimap != null) {
-            this.multimap.clear();
-            this.multimap = null;
+            clearMulti(this.multimap);
         }
+        this.hasMultiplePerPosition = false;
         if (this.snapshots != null) {
             this.snapshots.clear();
-            this.snapshots = null;
         }
         if (this.usedBlocks != null) {
             this.usedBlocks.clear();
@@ -588,34 +582,22 @@ public Optional<Transaction<BlockSnapshot>> createTransaction(final SpongeBlockS
         final BlockSnapshot newSnapshot =
             ((WorldServerBridge) worldServer).bridge$createSnapshot(newState, newActualState, blockPos, BlockChangeFlags.NONE);
         // Up until this point, we can create a default Transaction
-        if (this.multimap != null) { // But we need to check if there's any intermediary block changes...
+        if (this.hasMultiplePerPosition) { // But we need to check if there's any intermediary block changes...
             // And because multi is true, we can be sure the multimap is populated at least somewhere.
-            final List<SpongeBlockSnapshot> intermediary = this.multimap.get(blockPos);
-            if (!intermediary.isEmpty() && intermediary.size() > 1) {
-                // We need to make a carbon copy of the list since it's technically a key view list
-                // within the multimap, so, if the multimap is cleared, at the very least, the list will
-                // not be cleared. Likewise, we also need to skip over the first element since the snapshots
+            final List<SpongeBlockSnapshot> intermediary = this.multimap.get(blockPos.toLong());
+            if (intermediary != null && intermediary.size() > 1) {
+                // We need to make a carbon copy of the list since the pooled list is recycled when
+                // the captures are cleared. Likewise, we also need to skip over the first element since the snapshots
                 // list will have that element anyways (we don't want to be providing duplicate snapshots
                 // for plugins to witness and come to expect that they are intermediary states, when they're still the original positions
-                final ImmutableList.Builder<SpongeBlockSnapshot> builder = ImmutableList.builder();
-                boolean movedPastFirst = false;
-                for (final Iterator<SpongeBlockSnapshot> iterator = intermediary.iterator(); iterator.hasNext(); ) {
-                    if (!movedPastFirst) {
-                        iterator.next();
-                        movedPastFirst = true;
-                        continue;
-                    }
-                    builder.add(iterator.next());
-
-                }
-                return Optional.of(new Transaction<>(snapshot, newSnapshot, builder.build()));
+                return Optional.of(new Transaction<>(snapshot, newSnapshot, ImmutableList.copyOf(intermediary.subList(1, intermediary.size()))));
             }
         }
         return Optional.of(new Transaction<>(snapshot, newSnapshot));
     }
 
     public boolean trackEvent(final BlockPos pos, final BlockEventData blockEventData) {
-        if (this.usedBlocks != null && this.usedBlocks.contains(pos)) {
+        if (this.usedBlocks != null && this.usedBlocks.contains(pos.toLong())) {
             if (this.scheduledEvents == null) {
                 this.scheduledEvents = LinkedListMultimap.create();
             }
@@ -816,18 +798,20 @@ public boolean hasBlocksCaptured() {
     }
 
     public void reset() {
+        // The collections are kept for the next phase using this context
         if (this.multimap != null) {
             // shouldn't but whatever, it's the end of a phase.
-            this.multimap = null;
+            clearMulti(this.multimap);
         }
+        this.hasMultiplePerPosition = false;
         if (this.scheduledEvents != null) {
             this.scheduledEvents = null;
         }
         if (this.snapshots != null) {
-            this.snapshots = null;
+            this.snapshots.clear();
         }
         if (this.usedBlocks != null) {
-            this.usedBlocks = null;
+            this.usedBlocks.clear();
         }
         this.clearProxies();
         this.transactionIndex = -1;
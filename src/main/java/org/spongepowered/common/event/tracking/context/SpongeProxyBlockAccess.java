@@ -27,6 +27,10 @@
 import com.google.common.collect.LinkedListMultimap;
 import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Queues;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
@@ -52,7 +56,6 @@
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 
 import javax.annotation.Nullable;
@@ -60,7 +63,8 @@
 public final class SpongeProxyBlockAccess implements IBlockAccess, AutoCloseable {
     private static final boolean DEBUG_PROXY = Boolean.valueOf(System.getProperty("sponge.debugProxyChanges", "false"));
 
-    private final LinkedHashMap<BlockPos, IBlockState> processed = new LinkedHashMap<>();
+    // Keyed by BlockPos#toLong to avoid hashing positions for every proxied state lookup
+    private final Long2ObjectLinkedOpenHashMap<IBlockState> processed = new Long2ObjectLinkedOpenHashMap<>();
     private final LinkedHashMap<BlockPos, TileEntity> affectedTileEntities = new LinkedHashMap<>();
     private final ListMultimap<BlockPos, TileEntity> queuedTiles = LinkedListMultimap.create();
     private final ListMultimap<BlockPos, TileEntity> queuedRemovals = LinkedListMultimap.create();
@@ -88,7 +92,7 @@ SpongeProxyBlockAccess proceed(final BlockPos pos, final IBlockState state, fina
         if (this.proxies.isEmpty()) {
             throw new IllegalStateException("Cannot push a new block change without having proxies!");
         }
-        final IBlockState existing = this.processed.put(pos, state);
+        final IBlockState existing = this.processed.put(pos.toLong(), state);
 
         if (!this.proxies.isEmpty()) {
             final Proxy proxy = this.proxies.peek();
@@ -160,18 +164,20 @@ private void popProxy(final Proxy oldProxy) {
         }
         this.proxies.pop();
         if (proxy.hasNew()) {
-            for (final BlockPos pos : proxy.newBlocks) {
-                this.processed.remove(pos);
+            final LongIterator iterator = proxy.newBlocks.iterator();
+            while (iterator.hasNext()) {
+                this.processed.remove(iterator.nextLong());
             }
         }
         if (proxy.hasStored()) {
             if (!this.proxies.isEmpty()) {
-                for (final Map.Entry<BlockPos, IBlockState> entry : proxy.processed.entrySet()) {
-                    this.processed.put(entry.getKey(), entry.getValue());
+                for (final Long2ObjectMap.Entry<IBlockState> entry : proxy.processed.long2ObjectEntrySet()) {
+                    this.processed.put(entry.getLongKey(), entry.getValue());
                 }
             } else {
-                for (final BlockPos blockPos : proxy.processed.keySet()) {
-                    this.processed.remove(blockPos);
+                final LongIterator iterator = proxy.processed.keySet().iterator();
+                while (iterator.hasNext()) {
+                    this.processed.remove(iterator.nextLong());
                 }
             }
         }
@@ -186,7 +192,7 @@ private void popProxy(final Proxy oldProxy) {
                 pretty = new PrettyPrinter(60)
                     .add("%s : %s", "Remaining", this.processed.size());
                 final PrettyPrinter printer = pretty;
-                this.processed.forEach(((pos, state) -> printer.add("- %s : %s", "Pos", pos).addWrapped(60, "  %s : %s", "State", state)));
+                this.processed.forEach(((pos, state) -> printer.add("- %s : %s", "Pos", BlockPos.fromLong(pos)).addWrapped(60, "  %s : %s", "State", state)));
                 this.processed.clear();
             }
             if (!this.markedRemoved.isEmpty()) {
@@ -264,7 +270,7 @@ public boolean isTileEntityRemoved(final BlockPos pos) {
 
     @Override
     public IBlockState getBlockState(final BlockPos pos) {
-        return this.processed.get(pos);
+        return this.processed.get(pos.toLong());
     }
 
     @Override
@@ -480,7 +486,7 @@ public WorldServerBridge getWorld() {
 
     public void addToPrinter(final PrettyPrinter printer) {
         printer.add(" BlockStates");
-        this.processed.forEach((pos, state) -> printer.add("  %s : %s", pos, state));
+        this.processed.forEach((pos, state) -> printer.add("  %s : %s", BlockPos.fromLong(pos), state));
         printer.add()
             .add(" MarkedRemoved");
         this.markedRemoved.forEach(pos -> printer.add("  - %s", pos));
@@ -576,8 +582,8 @@ public static final class Proxy implements AutoCloseable {
 
         private final SpongeProxyBlockAccess proxyAccess;
         @Nullable Exception stack_debug;
-        @Nullable private LinkedHashMap<BlockPos, IBlockState> processed;
-        @Nullable private Set<BlockPos> newBlocks;
+        @Nullable private Long2ObjectLinkedOpenHashMap<IBlockState> processed;
+        @Nullable private LongOpenHashSet newBlocks;
         @Nullable private Set<BlockPos> markedRemovedTiles;
         @Nullable private LinkedHashMap<BlockPos, TileEntity> removedTiles;
 
@@ -601,25 +607,25 @@ boolean hasStored() {
 
         void markNew(final BlockPos pos) {
             if (this.newBlocks == null) {
-                this.newBlocks = new HashSet<>();
+                this.newBlocks = new LongOpenHashSet();
             }
-            this.newBlocks.add(pos);
+            this.newBlocks.add(pos.toLong());
         }
 
         boolean isNew(final BlockPos pos) {
-            return this.newBlocks != null && this.newBlocks.contains(pos);
+            return this.newBlocks != null && this.newBlocks.contains(pos.toLong());
         }
 
         boolean isStored(final BlockPos pos) {
-            return this.processed != null && this.processed.containsKey(pos);
+            return this.processed != null && this.processed.containsKey(pos.toLong());
         }
 
 
         void store(final BlockPos pos, final IBlockState state) {
             if (this.processed == null) {
-                this.processed = new LinkedHashMap<>();
+                this.processed = new Long2ObjectLinkedOpenHashMap<>();
             }
-            this.processed.put(pos, state);
+            this.processed.put(pos.toLong(), state);
         }
 
         boolean isMarkedForRemoval(final BlockPos pos) {
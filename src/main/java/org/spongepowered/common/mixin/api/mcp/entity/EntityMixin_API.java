@@ -214,6 +214,12 @@ public boolean setLocation(Location<World> location) {
             return false;
         }
 
+        // Sponge - Players can not enter a world that is still preparing its spawn area in the background
+        if ((Entity) (Object) this instanceof EntityPlayerMP && location.getExtent() != this.world
+            && !((WorldServerBridge) location.getExtent()).bridge$isSpawnPrepared()) {
+            return false;
+        }
+
         try (final BasicPluginContext context = PluginPhase.State.TELEPORT.createPhaseContext()) {
             context.buildAndSwitch();
 
@@ -250,8 +256,11 @@ public boolean setLocation(Location<World> location) {
                             ((Player) entityPlayerMP).closeInventory(); // Call API method to make sure we capture it
                         }
 
-                        EntityUtil.transferPlayerToWorld(entityPlayerMP, event, (WorldServer) location.getExtent(),
-                            (TeleporterBridge) ((WorldServer) location.getExtent()).getDefaultTeleporter());
+                        // The event may have redirected the player into a world that is not ready yet
+                        if (EntityUtil.transferPlayerToWorld(entityPlayerMP, event, (WorldServer) location.getExtent(),
+                            (TeleporterBridge) ((WorldServer) location.getExtent()).getDefaultTeleporter()) == null) {
+                            return false;
+                        }
                     } else {
                         EntityUtil.transferEntityToWorld((Entity) (Object) this, event, (WorldServer) location.getExtent(),
                             (TeleporterBridge) ((WorldServer) location.getExtent()).getDefaultTeleporter(), false);
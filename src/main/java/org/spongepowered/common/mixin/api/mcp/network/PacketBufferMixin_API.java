@@ -507,7 +507,7 @@ public UUID getUniqueId(int index) {
 
     public DataView cbuf$readDataView() {
         try {
-            return NbtTranslator.getInstance().translateFrom(this.readCompoundTag());
+            return NbtTranslator.getInstance().translateLazily(this.readCompoundTag());
         } catch (IOException e) {
             throw new DecoderException(e);
         }
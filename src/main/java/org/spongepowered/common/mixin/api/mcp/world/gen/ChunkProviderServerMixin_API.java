@@ -36,8 +36,7 @@
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
-import org.spongepowered.common.bridge.world.chunk.storage.AnvilChunkLoaderBridge;
-import org.spongepowered.common.world.storage.SpongeChunkDataStream;
+import org.spongepowered.common.bridge.world.chunk.ChunkProviderServerBridge;
 import org.spongepowered.common.world.storage.WorldStorageUtil;
 
 import java.util.Optional;
@@ -53,10 +52,7 @@ public abstract class ChunkProviderServerMixin_API implements WorldStorage {
 
     @Override
     public ChunkDataStream getGeneratedChunks() {
-        if (!(this.chunkLoader instanceof AnvilChunkLoaderBridge)) {
-            throw new UnsupportedOperationException("unknown chunkLoader");
-        }
-        return new SpongeChunkDataStream(((AnvilChunkLoaderBridge) this.chunkLoader).bridge$getWorldDir());
+        return ((ChunkProviderServerBridge) this).bridge$getGeneratedChunks(null);
     }
 
     @Override
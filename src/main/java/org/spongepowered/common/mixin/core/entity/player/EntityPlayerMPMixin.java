@@ -129,6 +129,7 @@
 import org.spongepowered.common.bridge.permissions.SubjectBridge;
 import org.spongepowered.common.bridge.scoreboard.ScorePlayerTeamBridge;
 import org.spongepowered.common.bridge.scoreboard.ServerScoreboardBridge;
+import org.spongepowered.common.bridge.world.WorldServerBridge;
 import org.spongepowered.common.data.type.SpongeSkinPart;
 import org.spongepowered.common.entity.living.human.EntityHuman;
 import org.spongepowered.common.event.ShouldFire;
@@ -939,6 +940,18 @@ private boolean onCheckForcedGameMode(final MinecraftServer minecraftServer) {
         return new TextComponentString(SpongeTexts.toLegacy(this.impl$displayName));
     }
 
+    /**
+     * Portal travel into a world that is still preparing its spawn area is
+     * refused, returning null so callers can tell the player stayed put.
+     */
+    @Inject(method = "changeDimension", at = @At("HEAD"), cancellable = true)
+    private void impl$refuseUnpreparedWorld(final int dimensionIn, final CallbackInfoReturnable<Entity> cir) {
+        final WorldServer toWorld = this.server.getWorld(dimensionIn);
+        if (toWorld != null && !((WorldServerBridge) toWorld).bridge$isSpawnPrepared()) {
+            cir.setReturnValue(null);
+        }
+    }
+
     @SuppressWarnings("BoundedWildcard")
     @Inject(method = "canAttackPlayer", at = @At("HEAD"), cancellable = true)
     private void impl$useWorldBasedAttackRules(final EntityPlayer other, final CallbackInfoReturnable<Boolean> cir) {
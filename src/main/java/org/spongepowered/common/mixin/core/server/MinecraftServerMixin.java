@@ -93,6 +93,7 @@
 import org.spongepowered.common.relocate.co.aikar.timings.TimingsManager;
 import org.spongepowered.common.resourcepack.SpongeResourcePack;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.common.util.metric.SpongeTickMetrics;
 import org.spongepowered.common.world.WorldManager;
 
 import java.net.URISyntaxException;
@@ -317,6 +318,7 @@ private void onServerTickStart(final CallbackInfo ci) {
     private void impl$completePhaseTracker(final CallbackInfo ci) {
         PhaseTracker.getInstance().ensureEmpty();
         TimingsManager.FULL_SERVER_TICK.stopTiming();
+        SpongeTickMetrics.getServerMetrics().endTick();
     }
 
     @Nullable private Integer dimensionId;
@@ -400,6 +400,9 @@ public void transferEntityToWorld(final Entity entityIn, final int lastDimension
     @Overwrite
     public void changePlayerDimension(final EntityPlayerMP player, final int dimension) {
         final WorldServer toWorld = this.server.getWorld(dimension);
+        if (!((WorldServerBridge) toWorld).bridge$isSpawnPrepared()) {
+            return;
+        }
 
         EntityUtil.transferPlayerToWorld(player, null, toWorld, (ForgeITeleporterBridge) toWorld.getDefaultTeleporter());
     }
@@ -53,8 +53,10 @@ public abstract class PlayerChunkMapEntryMixin implements PlayerChunkMapEntryBri
     @Shadow @Nullable private Chunk chunk;
 
     @Shadow public abstract void sendPacket(Packet<?> packetIn);
+    @Shadow public abstract boolean isSentToPlayers();
 
     private boolean impl$updateBiomes;
+    private int impl$pendingSectionMask;
 
     @Inject(method = "update", at = @At("HEAD"), cancellable = true)
     private void impl$updateBiomes(final CallbackInfo ci) {
@@ -65,7 +67,21 @@ public abstract class PlayerChunkMapEntryMixin implements PlayerChunkMapEntryBri
             this.changes = 0;
             this.changedSectionFilter = 0;
             this.impl$updateBiomes = false;
+            this.impl$pendingSectionMask = 0;
             ci.cancel();
+            return;
+        }
+        if (this.impl$pendingSectionMask != 0) {
+            if (this.isSentToPlayers() && this.chunk != null) {
+                // A mask of 65535 would be a full chunk packet, which makes the client drop its entities
+                if (this.impl$pendingSectionMask == 65535) {
+                    this.sendPacket(new SPacketChunkData(this.chunk, 65534));
+                    this.sendPacket(new SPacketChunkData(this.chunk, 1));
+                } else {
+                    this.sendPacket(new SPacketChunkData(this.chunk, this.impl$pendingSectionMask));
+                }
+            }
+            this.impl$pendingSectionMask = 0;
         }
     }
 
@@ -75,6 +91,11 @@ public abstract class PlayerChunkMapEntryMixin implements PlayerChunkMapEntryBri
         this.playerChunkMap.entryChanged((PlayerChunkMapEntry) (Object) this);
     }
 
+    @Override
+    public void bridge$markSectionsForUpdate(final int sectionMask) {
+        this.impl$pendingSectionMask |= sectionMask;
+        this.playerChunkMap.entryChanged((PlayerChunkMapEntry) (Object) this);
+    }
 
     @Override
     public void bridge$setChunk(Chunk newChunk) {
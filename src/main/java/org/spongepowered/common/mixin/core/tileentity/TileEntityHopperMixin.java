@@ -154,11 +154,11 @@ public abstract class TileEntityHopperMixin extends TileEntityLockableLootMixin
     )
     private static ItemStack impl$throwEventsForInsertion(final IInventory source, final IInventory destination, final ItemStack stack,
         final int index, final EnumFacing direction) {
-        // capture Transaction
-        if (!((source instanceof TrackedInventoryBridge || destination instanceof TrackedInventoryBridge) && destination instanceof InventoryAdapter)) {
+        if (!ShouldFire.CHANGE_INVENTORY_EVENT_TRANSFER_POST) {
             return insertStack(source, destination, stack, index, direction);
         }
-        if (!ShouldFire.CHANGE_INVENTORY_EVENT_TRANSFER_POST) {
+        // capture Transaction
+        if (!((source instanceof TrackedInventoryBridge || destination instanceof TrackedInventoryBridge) && destination instanceof InventoryAdapter)) {
             return insertStack(source, destination, stack, index, direction);
         }
         TrackedInventoryBridge captureIn = impl$forCapture(source);
@@ -186,7 +186,7 @@ public abstract class TileEntityHopperMixin extends TileEntityLockableLootMixin
             final TrackedInventoryBridge capture = impl$forCapture(this);
             SpongeCommonEventFactory.captureTransaction(capture, (Inventory) this, i, itemStack);
             // Call event
-            if (SpongeCommonEventFactory.callTransferPost(capture, (Inventory) this, InventoryUtil.toInventory(iInventory))) {
+            if (SpongeCommonEventFactory.callOrBatchTransferPost(capture, (Inventory) this, InventoryUtil.toInventory(iInventory))) {
                 // Set remainder when cancelled
                 // TODO - figure out what was intended to happen here....
                 itemStack1 = itemStack;
@@ -211,7 +211,7 @@ public abstract class TileEntityHopperMixin extends TileEntityLockableLootMixin
             final TrackedInventoryBridge capture = impl$forCapture(hopper);
             SpongeCommonEventFactory.captureTransaction(capture, InventoryUtil.toInventory(iInventory), index, itemStack1);
             // Call event
-            if (SpongeCommonEventFactory.callTransferPost(capture, InventoryUtil.toInventory(iInventory), InventoryUtil.toInventory(hopper))) {
+            if (SpongeCommonEventFactory.callOrBatchTransferPost(capture, InventoryUtil.toInventory(iInventory), InventoryUtil.toInventory(hopper))) {
                 // Set remainder when cancelled
                 // TODO - figure out what was intended to happen here....
                 itemStack1 = itemStack;
@@ -25,7 +25,13 @@
 package org.spongepowered.common.mixin.core.world;
 
 import com.google.common.base.MoreObjects;
-import com.google.common.collect.Sets;
+import it.unimi.dsi.fastutil.longs.Long2FloatMap;
+import it.unimi.dsi.fastutil.longs.Long2FloatOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.minecraft.block.Block;
 import net.minecraft.block.material.Material;
 import net.minecraft.block.state.IBlockState;
@@ -61,18 +67,21 @@
 import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.bridge.world.ExplosionBridge;
 import org.spongepowered.common.bridge.world.WorldBridge;
+import org.spongepowered.common.bridge.world.WorldServerBridge;
 import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.context.CaptureBlockPos;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.common.world.BlockPosLocationList;
+import org.spongepowered.common.world.ExplosionEntityList;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
-import java.util.Set;
 
 import javax.annotation.Nullable;
 
@@ -86,6 +95,10 @@ public abstract class ExplosionMixin implements ExplosionBridge {
     private float impl$randomness;
     private double impl$knockback;
 
+    private static final Comparator<BlockPos> impl$SECTION_ORDER = Comparator.<BlockPos>comparingInt(pos -> pos.getX() >> 4)
+        .thenComparingInt(pos -> pos.getZ() >> 4)
+        .thenComparingInt(pos -> pos.getY() >> 4);
+
     @Shadow @Final private List<BlockPos> affectedBlockPositions;
     @Shadow @Final private Map<EntityPlayer, Vec3d> playerKnockbackMap;
     @Shadow @Final private Random random;
@@ -120,7 +133,11 @@ private void onConstructed(final net.minecraft.world.World world, final Entity e
     public void doExplosionA() {
         // Sponge Start - If the explosion should not break blocks, don't bother calculating it
         if (this.impl$shouldBreakBlocks) {
-            final Set<BlockPos> set = Sets.<BlockPos>newHashSet();
+            final LongSet set = new LongOpenHashSet();
+            // The rays cross the same blocks many times, so the state and resistance of each block is only looked up once
+            final Long2ObjectMap<IBlockState> states = new Long2ObjectOpenHashMap<>();
+            final Long2FloatMap resistances = new Long2FloatOpenHashMap();
+            final BlockPos.MutableBlockPos blockpos = new BlockPos.MutableBlockPos();
 
             for (int j = 0; j < impl$resolution; ++j) {
                 for (int k = 0; k < impl$resolution; ++k) {
@@ -141,21 +158,30 @@ public void doExplosionA() {
                             double d8 = this.z;
 
                             for (final float f1 = 0.3F; f > 0.0F; f -= 0.22500001F) {
-                                final BlockPos blockpos = new BlockPos(d4, d6, d8);
-                                final IBlockState iblockstate = this.world.getBlockState(blockpos);
-
-                                if (iblockstate.getMaterial() != Material.AIR) {
-                                    final float f2 = this.exploder != null
-                                               ? this.exploder.getExplosionResistance((net.minecraft.world.Explosion) (Object) this
-                                            , this.world, blockpos, iblockstate)
-                                               : iblockstate.getBlock().getExplosionResistance((Entity) null);
-                                    f -= (f2 + 0.3F) * 0.3F;
+                                // Sponge Start - Reuse the position and look up cached blocks
+                                blockpos.setPos(d4, d6, d8);
+                                final long key = blockpos.toLong();
+                                IBlockState iblockstate = states.get(key);
+
+                                if (iblockstate == null) {
+                                    iblockstate = this.world.getBlockState(blockpos);
+                                    states.put(key, iblockstate);
+                                    if (iblockstate.getMaterial() != Material.AIR) {
+                                        final float f2 = this.exploder != null
+                                                   ? this.exploder.getExplosionResistance((net.minecraft.world.Explosion) (Object) this
+                                                , this.world, blockpos, iblockstate)
+                                                   : iblockstate.getBlock().getExplosionResistance((Entity) null);
+                                        resistances.put(key, (f2 + 0.3F) * 0.3F);
+                                    }
                                 }
+                                // Air has no resistance
+                                f -= resistances.get(key);
 
                                 if (f > 0.0F && (this.exploder == null || this.exploder
                                         .canExplosionDestroyBlock((net.minecraft.world.Explosion) (Object) this, this.world, blockpos, iblockstate, f))) {
-                                    set.add(blockpos);
+                                    set.add(key);
                                 }
+                                // Sponge End
 
                                 d4 += d0 * 0.30000001192092896D;
                                 d6 += d1 * 0.30000001192092896D;
@@ -166,7 +192,13 @@ public void doExplosionA() {
                 }
             }
 
-            this.affectedBlockPositions.addAll(set);
+            // Sponge Start - Order the positions by chunk section, so the blocks are removed one section at a time
+            final LongIterator iterator = set.iterator();
+            while (iterator.hasNext()) {
+                this.affectedBlockPositions.add(BlockPos.fromLong(iterator.nextLong()));
+            }
+            this.affectedBlockPositions.sort(impl$SECTION_ORDER);
+            // Sponge End
         } // Sponge - Finish if statement
         final float f3 = this.size * 2.0F;
         final int k1 = MathHelper.floor(this.x - (double) f3 - 1.0D);
@@ -182,39 +214,44 @@ public void doExplosionA() {
                             : Collections.emptyList();
         // Now we can throw our Detonate Event
         if (ShouldFire.EXPLOSION_EVENT_DETONATE) {
-            final List<Location<World>> blockPositions = new ArrayList<>(this.affectedBlockPositions.size());
-            final List<org.spongepowered.api.entity.Entity> entities = new ArrayList<>(list.size());
-            for (final BlockPos pos : this.affectedBlockPositions) {
-                blockPositions.add(new Location<>((World) this.world, pos.getX(), pos.getY(), pos.getZ()));
-            }
-            for (final Entity entity : list) {
-                // Make sure to check the entity is immune first.
-                if (!entity.isImmuneToExplosions()) {
-                    entities.add((org.spongepowered.api.entity.Entity) entity);
-                }
-            }
+            // The event works on the affected positions directly, the locations are only created when a listener reads them
+            final List<BlockPos> positions = this.affectedBlockPositions;
+            final BlockPosLocationList blockPositions = new BlockPosLocationList((World) this.world, positions);
+            // Immune entities are only filtered out when a listener reads the entities
+            final ExplosionEntityList entities = new ExplosionEntityList(list);
             final Cause cause = Sponge.getCauseStackManager().getCurrentCause();
             final ExplosionEvent.Detonate detonate =
                 SpongeEventFactory.createExplosionEventDetonate(cause, blockPositions, entities, (Explosion) this, (World) this.world);
             SpongeImpl.postEvent(detonate);
-            // Clear the positions so that they can be pulled from the event
-            this.affectedBlockPositions.clear();
             if (detonate.isCancelled()) {
+                positions.clear();
                 return;
             }
-            if (this.impl$shouldBreakBlocks) {
-                for (final Location<World> worldLocation : detonate.getAffectedLocations()) {
-                    this.affectedBlockPositions.add(VecHelper.toBlockPos(worldLocation));
+            if (!this.impl$shouldBreakBlocks) {
+                positions.clear();
+            } else {
+                final List<Location<World>> locations = detonate.getAffectedLocations();
+                if (!(locations instanceof BlockPosLocationList) || ((BlockPosLocationList) locations).getPositions() != positions) {
+                    // Pull the positions from the event, reading them before clearing in case the locations are a view of them
+                    final List<BlockPos> affected = new ArrayList<>(locations.size());
+                    for (final Location<World> worldLocation : locations) {
+                        affected.add(VecHelper.toBlockPos(worldLocation));
+                    }
+                    positions.clear();
+                    positions.addAll(affected);
                 }
             }
-            // Clear the list of entities so they can be pulled from the event.
-            list.clear();
-            if (this.impl$shouldDamageEntities) {
-                for (final org.spongepowered.api.entity.Entity entity : detonate.getEntities()) {
-                    try {
-                        list.add((Entity) entity);
-                    } catch (final Exception e) {
-                        // Do nothing, a plugin tried to use the wrong entity somehow.
+            // Untouched entities are left as they are, immune entities are skipped below anyway
+            if (entities.isAccessed() || detonate.getEntities() != entities) {
+                // Clear the list of entities so they can be pulled from the event.
+                list.clear();
+                if (this.impl$shouldDamageEntities) {
+                    for (final org.spongepowered.api.entity.Entity entity : detonate.getEntities()) {
+                        try {
+                            list.add((Entity) entity);
+                        } catch (final Exception e) {
+                            // Do nothing, a plugin tried to use the wrong entity somehow.
+                        }
                     }
                 }
             }
@@ -222,6 +259,8 @@ public void doExplosionA() {
         // Sponge End
 
         final Vec3d vec3d = new Vec3d(this.x, this.y, this.z);
+        final boolean cacheExposure = this.world instanceof WorldServerBridge
+            && SpongeImpl.getGlobalConfigAdapter().getConfig().getOptimizations().isCacheExplosionExposure();
 
         for (int k2 = 0; k2 < list.size(); ++k2) {
             final Entity entity = list.get(k2);
@@ -239,7 +278,8 @@ public void doExplosionA() {
                         d5 = d5 / d13;
                         d7 = d7 / d13;
                         d9 = d9 / d13;
-                        final double d14 = (double) this.world.getBlockDensity(vec3d, entity.getEntityBoundingBox());
+                        // Sponge - Share the exposure between the explosions of a tick if enabled
+                        final double d14 = (double) this.impl$getExposure(vec3d, entity, cacheExposure);
                         final double d10 = (1.0D - d12) * d14;
                         entity.attackEntityFrom(
                                 DamageSource.causeExplosionDamage((net.minecraft.world.Explosion) (Object) this), (float) ((int) ((d10 * d10 + d10) / 2.0D * 7.0D * (double) f3 + 1.0D)));
@@ -268,6 +308,13 @@ public void doExplosionA() {
         }
     }
 
+    private float impl$getExposure(final Vec3d origin, final Entity entity, final boolean cacheExposure) {
+        if (cacheExposure) {
+            return ((WorldServerBridge) this.world).bridge$getExplosionExposureCache().getExposure(this.world, origin, entity.getEntityBoundingBox());
+        }
+        return this.world.getBlockDensity(origin, entity.getEntityBoundingBox());
+    }
+
     /**
      * @author gabizou - March 26th, 2017
      * @reason Since forge will attempt to call the normalized method for modded blocks,
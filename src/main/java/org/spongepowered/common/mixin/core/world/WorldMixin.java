@@ -1071,6 +1071,15 @@ public boolean collidesWithAnyBlock(final AxisAlignedBB bbox) {
         // this.processingLoadedTiles = true;
     }
 
+    @Inject(method = "updateEntities",
+        at = @At(value = "INVOKE_STRING",
+            target = "Lnet/minecraft/profiler/Profiler;endStartSection(Ljava/lang/String;)V",
+            args = "ldc=blockEntities"))
+    void impl$startTileEntityPhase(final CallbackInfo ci) {
+        // Sponge -- inject here
+        // this.profiler.endStartSection("blockEntities");
+    }
+
     @Inject(method = "updateEntities", at = @At(value = "INVOKE", target = "Ljava/util/Iterator;next()Ljava/lang/Object;"),
         slice = @Slice(
             // Again, just like above, forge moves the removal of invalid tiles,
@@ -157,6 +157,7 @@
 import org.spongepowered.common.config.type.WorldConfig;
 import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
+import org.spongepowered.common.event.inventory.TransferPostBatch;
 import org.spongepowered.common.event.tracking.IPhaseState;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.PhaseTracker;
@@ -179,6 +180,10 @@
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.common.util.metric.SpongeTickMetrics;
+import org.spongepowered.common.util.metric.TickMetrics;
+import org.spongepowered.common.util.metric.TickPhase;
+import org.spongepowered.common.world.ExplosionExposureCache;
 import org.spongepowered.common.world.SpongeLocatableBlockBuilder;
 import org.spongepowered.common.world.WorldManager;
 import org.spongepowered.common.world.border.PlayerBorderListener;
@@ -206,8 +211,11 @@ public abstract class WorldServerMixin extends WorldMixin implements WorldServer
     private final Map<net.minecraft.entity.Entity, Vector3d> impl$rotationUpdates = new HashMap<>();
     @Nullable private SpongeChunkGenerator impl$spongegen;
     private long impl$weatherStartTime;
+    private boolean impl$spawnPrepared = true;
     private Weather prevWeather = Weathers.CLEAR;
     private WorldTimingsHandler impl$timings;
+    @Nullable private TickMetrics impl$tickMetrics;
+    private final ExplosionExposureCache impl$explosionExposureCache = new ExplosionExposureCache();
     private int impl$chunkGCTickCount = 0;
     private int impl$chunkGCLoadThreshold = 0;
     private int impl$chunkGCTickInterval = Constants.World.CHUNK_GC_TICK_INTERVAL;
@@ -378,6 +386,7 @@ private void onSetWorld(final WorldProvider worldProvider, final World worldIn)
             final int maxChunkUnloads = worldCategory.getMaxChunkUnloads();
             ((ChunkProviderBridge) this.getChunkProvider()).bridge$setMaxChunkUnloads(maxChunkUnloads < 1 ? 1 : maxChunkUnloads);
             ((ChunkProviderServerBridge) this.getChunkProvider()).bridge$setDenyChunkRequests(worldCategory.getDenyChunkRequests());
+            ((ChunkProviderServerBridge) this.getChunkProvider()).bridge$setChunkUnloadTimeBudget(worldCategory.getChunkUnloadTimeBudget());
             for (final net.minecraft.entity.Entity entity : this.loadedEntityList) {
                 if (entity instanceof ActivationCapability) {
                     ((ActivationCapability) entity).activation$requiresActivationCacheRefresh(true);
@@ -2274,6 +2283,7 @@ public void markChunkDirty(final BlockPos pos, final TileEntity unusedTileEntity
 
     @Override
     void impl$startEntityGlobalTimings(final CallbackInfo ci) {
+        this.bridge$getTickMetrics().start(TickPhase.ENTITIES);
         this.impl$timings.entityTick.startTiming();
         TimingHistory.entityTicks += this.loadedEntityList.size();
     }
@@ -2315,6 +2325,13 @@ public void markChunkDirty(final BlockPos pos, final TileEntity unusedTileEntity
         this.impl$timings.entityRemoval.startTiming();
     }
 
+    @Override
+    void impl$startTileEntityPhase(final CallbackInfo ci) {
+        final TickMetrics metrics = this.bridge$getTickMetrics();
+        metrics.stop(TickPhase.ENTITIES);
+        metrics.start(TickPhase.TILE_ENTITIES);
+    }
+
     @Override
     void impl$startTileTickTimer(final CallbackInfo ci) {
         this.impl$timings.tileEntityTick.startTiming();
@@ -2334,6 +2351,7 @@ public void markChunkDirty(final BlockPos pos, final TileEntity unusedTileEntity
 
     @Override
     void impl$stopTileTickAndStartRemoval(final CallbackInfo callbackInfo) {
+        TransferPostBatch.flush();
         this.impl$timings.tileEntityTick.stopTiming();
         this.impl$timings.tileEntityRemoval.startTiming();
     }
@@ -2353,6 +2371,18 @@ public void markChunkDirty(final BlockPos pos, final TileEntity unusedTileEntity
     void impl$endPendingTileEntities(final CallbackInfo ci) {
         this.impl$timings.tileEntityPending.stopTiming();
         TimingHistory.tileEntityTicks += this.loadedTileEntityList.size();
+        this.bridge$getTickMetrics().stop(TickPhase.TILE_ENTITIES);
+    }
+
+    @Inject(method = "tick", at = @At("HEAD"))
+    private void impl$recordTickMetrics(final CallbackInfo ci) {
+        // updateEntities runs after tick, so this records the phases of the previous tick of this world
+        this.bridge$getTickMetrics().endTick();
+    }
+
+    @Inject(method = "tick", at = @At("HEAD"))
+    private void impl$clearExplosionExposures(final CallbackInfo ci) {
+        this.impl$explosionExposureCache.clear();
     }
 
     @Inject(method = "tick",
@@ -2458,6 +2488,19 @@ private void onTickUpdatesTickingEnd(final CallbackInfoReturnable<Boolean> cir)
         return this.impl$timings;
     }
 
+    @Override
+    public TickMetrics bridge$getTickMetrics() {
+        if (this.impl$tickMetrics == null) {
+            this.impl$tickMetrics = SpongeTickMetrics.forWorld(this.worldInfo.getWorldName());
+        }
+        return this.impl$tickMetrics;
+    }
+
+    @Override
+    public ExplosionExposureCache bridge$getExplosionExposureCache() {
+        return this.impl$explosionExposureCache;
+    }
+
     @Inject(method = "updateWeather", at = @At(value = "FIELD", target = "Lnet/minecraft/world/WorldServer;prevRainingStrength:F"), cancellable = true)
     private void onAccessPreviousRain(final CallbackInfo ci) {
         final Weather weather = ((org.spongepowered.api.world.World) this).getWeather();
@@ -2550,4 +2593,14 @@ public String toString() {
     public void bridge$setWeatherStartTime(final long start) {
         this.impl$weatherStartTime = start;
     }
+
+    @Override
+    public boolean bridge$isSpawnPrepared() {
+        return this.impl$spawnPrepared;
+    }
+
+    @Override
+    public void bridge$setSpawnPrepared(final boolean prepared) {
+        this.impl$spawnPrepared = prepared;
+    }
 }
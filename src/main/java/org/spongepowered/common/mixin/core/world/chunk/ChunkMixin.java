@@ -81,6 +81,7 @@
 import org.spongepowered.common.bridge.world.chunk.ChunkBridge;
 import org.spongepowered.common.bridge.world.chunk.ChunkProviderBridge;
 import org.spongepowered.common.entity.PlayerTracker;
+import org.spongepowered.common.entity.PlayerTrackerTable;
 import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
 import org.spongepowered.common.event.tracking.IPhaseState;
@@ -97,7 +98,6 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -201,8 +201,8 @@ public abstract class ChunkMixin implements ChunkBridge, CacheKeyBridge {
         ((ActiveChunkReferantBridge) tileEntityIn).bridge$setActiveChunk(this);
         // Make sure to set owner/notifier for TE if any chunk data exists
         // Failure to do this during chunk load will cause TE's to not have proper user tracking
-        ((OwnershipTrackedBridge) tileEntityIn).tracked$setTrackedUUID(PlayerTracker.Type.NOTIFIER, this.bridge$getBlockNotifierUUID(pos).orElse(null));
-        ((OwnershipTrackedBridge) tileEntityIn).tracked$setTrackedUUID(PlayerTracker.Type.OWNER, this.bridge$getBlockOwnerUUID(pos).orElse(null));
+        ((OwnershipTrackedBridge) tileEntityIn).tracked$setTrackedUUID(PlayerTracker.Type.NOTIFIER, this.bridge$getTrackedNotifierUUID(pos));
+        ((OwnershipTrackedBridge) tileEntityIn).tracked$setTrackedUUID(PlayerTracker.Type.OWNER, this.bridge$getTrackedOwnerUUID(pos));
     }
 
     @Inject(method = "removeEntityAtIndex", at = @At("RETURN"))
@@ -643,10 +643,14 @@ private SpongeBlockSnapshot createSpongeBlockSnapshot(
             .extendedState(extended)
             .worldId(((org.spongepowered.api.world.World) this.world).getUniqueId())
             .position(VecHelper.toVector3i(pos));
-        final Optional<UUID> creator = bridge$getBlockOwnerUUID(pos);
-        final Optional<UUID> notifier = bridge$getBlockNotifierUUID(pos);
-        creator.ifPresent(builder::creator);
-        notifier.ifPresent(builder::notifier);
+        final UUID creator = bridge$getTrackedOwnerUUID(pos);
+        if (creator != null) {
+            builder.creator(creator);
+        }
+        final UUID notifier = bridge$getTrackedNotifierUUID(pos);
+        if (notifier != null) {
+            builder.notifier(notifier);
+        }
         if (existing != null) {
             TrackingUtil.addTileEntityToBuilder(existing, builder);
         }
@@ -659,11 +663,9 @@ private SpongeBlockSnapshot createSpongeBlockSnapshot(
     @Override
     public void bridge$addTrackedBlockPosition(final Block block, final BlockPos pos, final User user, final PlayerTracker.Type trackerType) { }
 
+    @Nullable
     @Override
-    public Map<Integer, PlayerTracker> bridge$getTrackedIntPlayerPositions() { return Collections.emptyMap(); }
-
-    @Override
-    public Map<Short, PlayerTracker> bridge$getTrackedShortPlayerPositions() { return Collections.emptyMap(); }
+    public PlayerTrackerTable bridge$getTrackedPlayerPositions() { return null; }
 
     @Override
     public Optional<User> bridge$getBlockOwner(final BlockPos pos) { return Optional.empty(); }
@@ -677,17 +679,30 @@ private SpongeBlockSnapshot createSpongeBlockSnapshot(
     @Override
     public Optional<UUID> bridge$getBlockNotifierUUID(final BlockPos pos) { return Optional.empty(); }
 
+    @Nullable
     @Override
-    public void bridge$setBlockNotifier(final BlockPos pos, @Nullable final UUID uuid) { }
+    public User bridge$getTrackedOwner(final BlockPos pos) { return null; }
 
+    @Nullable
     @Override
-    public void bridge$setBlockCreator(final BlockPos pos, @Nullable final UUID uuid) { }
+    public UUID bridge$getTrackedOwnerUUID(final BlockPos pos) { return null; }
 
+    @Nullable
     @Override
-    public void bridge$setTrackedIntPlayerPositions(final Map<Integer, PlayerTracker> trackedPositions) { }
+    public User bridge$getTrackedNotifier(final BlockPos pos) { return null; }
+
+    @Nullable
+    @Override
+    public UUID bridge$getTrackedNotifierUUID(final BlockPos pos) { return null; }
+
+    @Override
+    public void bridge$setBlockNotifier(final BlockPos pos, @Nullable final UUID uuid) { }
+
+    @Override
+    public void bridge$setBlockCreator(final BlockPos pos, @Nullable final UUID uuid) { }
 
     @Override
-    public void bridge$setTrackedShortPlayerPositions(final Map<Short, PlayerTracker> trackedPositions) { }
+    public void bridge$setTrackedPlayerPositions(final PlayerTrackerTable trackedPositions) { }
 
     // Continuing the rest of the implementation
 
@@ -31,6 +31,8 @@
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.datafix.DataFixer;
+import net.minecraft.util.datafix.FixTypes;
 import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.Chunk;
@@ -63,69 +65,64 @@
 import org.spongepowered.common.bridge.world.WorldBridge;
 import org.spongepowered.common.bridge.world.chunk.ChunkBridge;
 import org.spongepowered.common.bridge.world.chunk.storage.AnvilChunkLoaderBridge;
-import org.spongepowered.common.entity.PlayerTracker;
+import org.spongepowered.common.config.category.ChunkSaveCategory;
+import org.spongepowered.common.entity.PlayerTrackerTable;
 import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.registry.type.entity.EntityTypeRegistryModule;
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.QueuedChunk;
 import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.common.util.WorldChunkPos;
+import org.spongepowered.common.world.startup.SpawnChunkPrefetcher;
+import org.spongepowered.common.world.storage.RegionBatchedChunkWriter;
+import org.spongepowered.common.world.storage.RegionFileLocks;
 
 import java.io.File;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+
+import javax.annotation.Nullable;
 
 @Mixin(AnvilChunkLoader.class)
 public abstract class AnvilChunkLoaderMixin implements AnvilChunkLoaderBridge {
 
     private ConcurrentLinkedQueue<QueuedChunk> impl$queue = new ConcurrentLinkedQueue<>();
     private final Object impl$lock = new Object();
+    private final AtomicInteger impl$queueDepth = new AtomicInteger();
+    private final LongAdder impl$chunksWritten = new LongAdder();
+    private final LongAdder impl$coalescedSaves = new LongAdder();
+    // Only counted for batched saves, vanilla streams chunks into the region file
+    private final LongAdder impl$bytesWritten = new LongAdder();
+    @Nullable private volatile SpawnChunkPrefetcher impl$spawnPrefetcher;
 
     @Shadow @Final private static Logger LOGGER;
     @Shadow @Final private Map<ChunkPos, NBTTagCompound> chunksToSave;
     @Shadow @Final private File chunkSaveLocation;
     @Shadow private boolean flushing;
+    @Shadow @Final private DataFixer fixer;
 
     @Shadow private void writeChunkData(final ChunkPos pos, final NBTTagCompound compound) { } // Shadow
 
     @Inject(method = "writeChunkToNBT", at = @At(value = "RETURN"))
     private void impl$writeSpongeOwnerNotifierPosTable(final net.minecraft.world.chunk.Chunk chunkIn, final World worldIn,
         final NBTTagCompound compound, final CallbackInfo ci) {
-        final ChunkBridge chunk = (ChunkBridge) chunkIn;
+        final PlayerTrackerTable trackedPositions = ((ChunkBridge) chunkIn).bridge$getTrackedPlayerPositions();
 
-        // Add tracked block positions
-        if (chunk.bridge$getTrackedShortPlayerPositions().size() > 0 || chunk.bridge$getTrackedIntPlayerPositions().size() > 0) {
+        // Add tracked block positions as packed key, owner, notifier triples
+        if (trackedPositions != null && !trackedPositions.isEmpty()) {
             final NBTTagCompound trackedNbt = new NBTTagCompound();
-            final NBTTagList positions = new NBTTagList();
-            trackedNbt.setTag(Constants.Sponge.SPONGE_BLOCK_POS_TABLE, positions);
+            trackedNbt.setIntArray(Constants.Sponge.SPONGE_SHORT_POS_TRACKERS, trackedPositions.toPackedShortEntries());
+            trackedNbt.setIntArray(Constants.Sponge.SPONGE_INT_POS_TRACKERS, trackedPositions.toPackedIntEntries());
             compound.setTag(Constants.Sponge.SPONGE_DATA, trackedNbt);
-
-            for (final Map.Entry<Short, PlayerTracker> mapEntry : chunk.bridge$getTrackedShortPlayerPositions().entrySet()) {
-                final Short pos = mapEntry.getKey();
-                final int ownerUniqueIdIndex = mapEntry.getValue().ownerIndex;
-                final int notifierUniqueIdIndex = mapEntry.getValue().notifierIndex;
-                final NBTTagCompound valueNbt = new NBTTagCompound();
-                valueNbt.setInteger("owner", ownerUniqueIdIndex);
-                valueNbt.setInteger("notifier", notifierUniqueIdIndex);
-                valueNbt.setShort("pos", pos);
-                positions.appendTag(valueNbt);
-            }
-
-            for (final Map.Entry<Integer, PlayerTracker> mapEntry : chunk.bridge$getTrackedIntPlayerPositions().entrySet()) {
-                final Integer pos = mapEntry.getKey();
-                final int ownerUniqueIdIndex = mapEntry.getValue().ownerIndex;
-                final int notifierUniqueIdIndex = mapEntry.getValue().notifierIndex;
-                final NBTTagCompound valueNbt = new NBTTagCompound();
-                valueNbt.setInteger("owner", ownerUniqueIdIndex);
-                valueNbt.setInteger("notifier", notifierUniqueIdIndex);
-                valueNbt.setInteger("ipos", pos);
-                positions.appendTag(valueNbt);
-            }
         }
     }
 
@@ -133,33 +130,38 @@ public abstract class AnvilChunkLoaderMixin implements AnvilChunkLoaderBridge {
     private void onReadChunkFromNBT(final World worldIn, final NBTTagCompound compound, final CallbackInfoReturnable<net.minecraft.world.chunk.Chunk> ci, final int chunkX,
       final int chunkZ, final net.minecraft.world.chunk.Chunk chunkIn) {
         if (compound.hasKey(Constants.Sponge.SPONGE_DATA)) {
-            final Map<Integer, PlayerTracker> trackedIntPlayerPositions = new HashMap<>();
-            final Map<Short, PlayerTracker> trackedShortPlayerPositions = new HashMap<>();
-            final NBTTagList positions = compound.getCompoundTag(Constants.Sponge.SPONGE_DATA).getTagList(Constants.Sponge.SPONGE_BLOCK_POS_TABLE, 10);
+            final NBTTagCompound spongeData = compound.getCompoundTag(Constants.Sponge.SPONGE_DATA);
             final ChunkBridge chunk = (ChunkBridge) chunkIn;
+            if (spongeData.hasKey(Constants.Sponge.SPONGE_SHORT_POS_TRACKERS, Constants.NBT.TAG_INT_ARRAY)) {
+                chunk.bridge$setTrackedPlayerPositions(PlayerTrackerTable.fromPackedEntries(
+                        spongeData.getIntArray(Constants.Sponge.SPONGE_SHORT_POS_TRACKERS),
+                        spongeData.getIntArray(Constants.Sponge.SPONGE_INT_POS_TRACKERS)));
+                return;
+            }
+
+            // Migrate the old compound list format, remove in future
+            final PlayerTrackerTable trackedPositions = new PlayerTrackerTable();
+            final NBTTagList positions = spongeData.getTagList(Constants.Sponge.SPONGE_BLOCK_POS_TABLE, 10);
             for (int i = 0; i < positions.tagCount(); i++) {
                 final NBTTagCompound valueNbt = positions.getCompoundTagAt(i);
-                final boolean isShortPos = valueNbt.hasKey("pos");
-                final PlayerTracker tracker = new PlayerTracker();
+                int ownerIndex = -1;
+                int notifierIndex = -1;
                 if (valueNbt.hasKey("owner")) {
-                    tracker.ownerIndex = valueNbt.getInteger("owner");
+                    ownerIndex = valueNbt.getInteger("owner");
                 } else if (valueNbt.hasKey("uuid")) { // Migrate old data, remove in future
-                    tracker.ownerIndex = valueNbt.getInteger("uuid");
+                    ownerIndex = valueNbt.getInteger("uuid");
                 }
                 if (valueNbt.hasKey("notifier")) {
-                    tracker.notifierIndex = valueNbt.getInteger("notifier");
+                    notifierIndex = valueNbt.getInteger("notifier");
                 }
 
-                if (tracker.notifierIndex != -1 || tracker.ownerIndex != -1) {
-                    if (isShortPos) {
-                        trackedShortPlayerPositions.put(valueNbt.getShort("pos"), tracker);
-                    } else {
-                        trackedIntPlayerPositions.put(valueNbt.getInteger("ipos"), tracker);
-                    }
+                if (valueNbt.hasKey("pos")) {
+                    trackedPositions.putShort(valueNbt.getShort("pos"), ownerIndex, notifierIndex);
+                } else {
+                    trackedPositions.putInt(valueNbt.getInteger("ipos"), ownerIndex, notifierIndex);
                 }
             }
-            chunk.bridge$setTrackedIntPlayerPositions(trackedIntPlayerPositions);
-            chunk.bridge$setTrackedShortPlayerPositions(trackedShortPlayerPositions);
+            chunk.bridge$setTrackedPlayerPositions(trackedPositions);
         }
     }
 
@@ -238,7 +240,13 @@ protected void addChunkToPending(final ChunkPos pos, final NBTTagCompound compou
         synchronized (this.impl$lock) {
             this.chunksToSave.put(pos, compound);
         }
+        final SpawnChunkPrefetcher prefetcher = this.impl$spawnPrefetcher;
+        if (prefetcher != null) {
+            // Whatever was read ahead of time is outdated now
+            prefetcher.discard(pos.x, pos.z);
+        }
         this.impl$queue.add(new QueuedChunk(pos, compound));
+        this.impl$queueDepth.incrementAndGet();
 
         ThreadedFileIOBase.getThreadedIOInstance().queueIO((AnvilChunkLoader) (Object) this);
     }
@@ -250,7 +258,11 @@ protected void addChunkToPending(final ChunkPos pos, final NBTTagCompound compou
      */
     @Overwrite
     public boolean writeNextIO() {
-        final QueuedChunk chunk = this.impl$queue.poll();
+        final ChunkSaveCategory saveCategory = SpongeImpl.getGlobalConfigAdapter().getConfig().getOptimizations().getChunkSaveCategory();
+        if (saveCategory.isBatched()) {
+            return this.impl$writeNextBatch(saveCategory);
+        }
+        final QueuedChunk chunk = this.impl$pollQueuedChunk();
         if (chunk == null) {
             if (this.flushing) {
                 LOGGER.info("ThreadedAnvilChunkStorage ({}): All chunks are saved", new Object[] {this.chunkSaveLocation.getName()});
@@ -268,7 +280,10 @@ public boolean writeNextIO() {
                 if (nbttagcompound != null) {
                     int attempts = 0;
                     Exception laste = null;
+                    // Sponge - Region files are not written to while a world snapshot copies them
+                    final Lock regionLock = RegionFileLocks.forWriting(this.chunkSaveLocation, chunkpos.x, chunkpos.z);
                     while (attempts++ < 5) {
+                        regionLock.lock();
                         try {
                             this.writeChunkData(chunkpos, nbttagcompound);
                             laste = null;
@@ -277,6 +292,8 @@ public boolean writeNextIO() {
                             // LOGGER.error((String)"Failed to save chunk",
                             // (Throwable)exception);
                             laste = exception;
+                        } finally {
+                            regionLock.unlock();
                         }
                         try {
                             Thread.sleep(10);
@@ -286,16 +303,12 @@ public boolean writeNextIO() {
                     }
                     if (laste != null) {
                         laste.printStackTrace();
+                    } else {
+                        this.impl$chunksWritten.increment();
                     }
                 }
 
-                synchronized (this.impl$lock) {
-                    if (this.chunksToSave.get(chunkpos) == nbttagcompound) {
-                        this.chunksToSave.remove(chunkpos);
-                    }
-                }
-                // Sponge - This will not equal if a newer version is still
-                // pending
+                this.impl$removeSavedChunk(chunk);
                 lvt_3_1_ = true;
             } finally {
                 // this.field_193415_c.remove(chunkpos);
@@ -305,11 +318,121 @@ public boolean writeNextIO() {
         }
     }
 
+    /**
+     * Polls the next queued chunk, skipping chunks that have been queued
+     * again since. Only the most recent compound of a chunk is written.
+     */
+    @Nullable
+    private QueuedChunk impl$pollQueuedChunk() {
+        QueuedChunk chunk;
+        while ((chunk = this.impl$queue.poll()) != null) {
+            this.impl$queueDepth.decrementAndGet();
+            final NBTTagCompound pending;
+            synchronized (this.impl$lock) {
+                pending = this.chunksToSave.get(chunk.coords);
+            }
+            if (pending == null || pending == chunk.compound) {
+                return chunk;
+            }
+            // A newer version is still queued
+            this.impl$coalescedSaves.increment();
+        }
+        return null;
+    }
+
+    private void impl$removeSavedChunk(final QueuedChunk chunk) {
+        synchronized (this.impl$lock) {
+            // Sponge - This will not equal if a newer version is still pending
+            if (this.chunksToSave.get(chunk.coords) == chunk.compound) {
+                this.chunksToSave.remove(chunk.coords);
+            }
+        }
+    }
+
+    private boolean impl$writeNextBatch(final ChunkSaveCategory saveCategory) {
+        final int maxBatchSize = Math.max(1, saveCategory.getMaxBatchSize());
+        final List<QueuedChunk> batch = new ArrayList<>(Math.min(maxBatchSize, this.impl$queueDepth.get() + 1));
+        QueuedChunk chunk;
+        while (batch.size() < maxBatchSize && (chunk = this.impl$pollQueuedChunk()) != null) {
+            if (chunk.compound != null) {
+                batch.add(chunk);
+            }
+        }
+        if (batch.isEmpty()) {
+            if (this.flushing) {
+                LOGGER.info("ThreadedAnvilChunkStorage ({}): All chunks are saved", new Object[] {this.chunkSaveLocation.getName()});
+            }
+            return false;
+        }
+        final long bytes = RegionBatchedChunkWriter.write(this.chunkSaveLocation, batch, saveCategory.getCompressionThreads(), written -> {
+            this.impl$chunksWritten.increment();
+            this.impl$postSaveChunkEvent(written.coords);
+        });
+        this.impl$bytesWritten.add(bytes);
+        // Chunks that failed to compress are dropped like failed writes
+        for (final QueuedChunk saved : batch) {
+            this.impl$removeSavedChunk(saved);
+        }
+        return true;
+    }
+
+    @Override
+    public int bridge$getSaveQueueDepth() {
+        return this.impl$queueDepth.get();
+    }
+
+    @Override
+    public long bridge$getChunksWritten() {
+        return this.impl$chunksWritten.sum();
+    }
+
+    @Override
+    public long bridge$getCoalescedChunkSaves() {
+        return this.impl$coalescedSaves.sum();
+    }
+
+    @Override
+    public long bridge$getChunkBytesWritten() {
+        return this.impl$bytesWritten.sum();
+    }
+
     @Override
     public Path bridge$getWorldDir() {
         return this.chunkSaveLocation.toPath();
     }
 
+    @Override
+    public void bridge$setSpawnChunkPrefetcher(@Nullable final SpawnChunkPrefetcher prefetcher) {
+        this.impl$spawnPrefetcher = prefetcher;
+    }
+
+    /**
+     * Loads chunks of a spawn area being prepared from the compounds that
+     * were read ahead of time. Those still have to go through the data
+     * fixer, like the compounds read from the region file right after.
+     */
+    @Redirect(method = "loadChunk", at = @At(value = "INVOKE", target = "Ljava/util/Map;get(Ljava/lang/Object;)Ljava/lang/Object;", remap = false),
+        require = 0, expect = 0)
+    private Object impl$getPendingOrPrefetchedChunk(final Map<ChunkPos, NBTTagCompound> chunksToSave, final Object pos) {
+        final NBTTagCompound pending = chunksToSave.get(pos);
+        final SpawnChunkPrefetcher prefetcher = this.impl$spawnPrefetcher;
+        if (pending != null || prefetcher == null) {
+            return pending;
+        }
+        final NBTTagCompound prefetched = prefetcher.take(((ChunkPos) pos).x, ((ChunkPos) pos).z);
+        return prefetched == null ? null : this.fixer.process(FixTypes.CHUNK, prefetched);
+    }
+
+    /**
+     * Forge moves the actual reading of the chunk into this method, so the
+     * redirect above will not apply in SpongeForge.
+     */
+    @Redirect(method = "loadChunk__Async", at = @At(value = "INVOKE", target = "Ljava/util/Map;get(Ljava/lang/Object;)Ljava/lang/Object;"),
+        remap = false, require = 0, expect = 0)
+    private Object impl$getPendingOrPrefetchedChunkAsync(final Map<ChunkPos, NBTTagCompound> chunksToSave, final Object pos) {
+        return this.impl$getPendingOrPrefetchedChunk(chunksToSave, pos);
+    }
+
     @Redirect(method = "saveChunk", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/chunk/storage/AnvilChunkLoader;addChunkToPending"
             + "(Lnet/minecraft/util/math/ChunkPos;Lnet/minecraft/nbt/NBTTagCompound;)V"))
     private void impl$useWorldChunkPosWhenQueuing(final AnvilChunkLoader anvilChunkLoader, final ChunkPos pos, final NBTTagCompound compound,
@@ -319,6 +442,10 @@ public boolean writeNextIO() {
 
     @Inject(method = "writeChunkData", at = @At("RETURN"))
     private void impl$callSaveChunkEventPost(final ChunkPos pos, final NBTTagCompound compound, final CallbackInfo ci) {
+        this.impl$postSaveChunkEvent(pos);
+    }
+
+    private void impl$postSaveChunkEvent(final ChunkPos pos) {
         if (ShouldFire.SAVE_CHUNK_EVENT_POST) {
             final Cause cause = Cause.of(EventContext.empty(), Collections.singleton(SpongeImpl.getServer()));
             final Optional<UUID> worldUUID;
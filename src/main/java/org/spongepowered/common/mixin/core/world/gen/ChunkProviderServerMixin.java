@@ -34,9 +34,11 @@
 import net.minecraft.world.chunk.storage.IChunkLoader;
 import net.minecraft.world.gen.ChunkProviderServer;
 import net.minecraft.world.gen.IChunkGenerator;
+import org.objectweb.asm.Opcodes;
 import org.spongepowered.api.event.SpongeEventFactory;
 import org.spongepowered.api.world.SerializationBehavior;
 import org.spongepowered.api.world.SerializationBehaviors;
+import org.spongepowered.api.world.storage.ChunkDataStream;
 import org.spongepowered.api.world.storage.WorldProperties;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
@@ -57,6 +59,8 @@
 import org.spongepowered.common.bridge.world.chunk.ChunkBridge;
 import org.spongepowered.common.bridge.world.chunk.ChunkProviderBridge;
 import org.spongepowered.common.bridge.world.chunk.ChunkProviderServerBridge;
+import org.spongepowered.common.bridge.world.chunk.storage.AnvilChunkLoaderBridge;
+import org.spongepowered.common.config.category.ChunkDataStreamCategory;
 import org.spongepowered.common.config.category.WorldCategory;
 import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.tracking.IPhaseState;
@@ -65,14 +69,19 @@
 import org.spongepowered.common.event.tracking.phase.generation.GenerationPhase;
 import org.spongepowered.common.util.CachedLong2ObjectMap;
 import org.spongepowered.common.util.Constants;
+import org.spongepowered.common.util.metric.TickPhase;
+import org.spongepowered.common.world.ChunkUnloadQueue;
 import org.spongepowered.common.world.SpongeEmptyChunk;
+import org.spongepowered.common.world.storage.ParallelChunkDataStream;
+import org.spongepowered.common.world.storage.SpongeChunkDataStream;
 import org.spongepowered.common.world.storage.WorldStorageUtil;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
-import java.util.Iterator;
+import java.nio.file.Path;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Nullable;
 
@@ -83,6 +92,8 @@ public abstract class ChunkProviderServerMixin implements ChunkProviderServerBri
     private boolean impl$forceChunkRequests = false;
     private long impl$chunkUnloadDelay = Constants.World.DEFAULT_CHUNK_UNLOAD_DELAY;
     private int impl$maxChunkUnloads = Constants.World.MAX_CHUNK_UNLOADS;
+    private long impl$chunkUnloadTimeBudget = TimeUnit.MILLISECONDS.toNanos(Constants.World.CHUNK_UNLOAD_TIME_BUDGET);
+    private final ChunkUnloadQueue impl$unloadQueue = new ChunkUnloadQueue();
 
     @Shadow @Final private WorldServer world;
     @Shadow @Final private IChunkLoader chunkLoader;
@@ -108,6 +119,7 @@ public abstract class ChunkProviderServerMixin implements ChunkProviderServerBri
         this.impl$denyChunkRequests = worldCategory.getDenyChunkRequests();
         this.impl$chunkUnloadDelay = worldCategory.getChunkUnloadDelay() * 1000;
         this.impl$maxChunkUnloads = worldCategory.getMaxChunkUnloads();
+        this.impl$chunkUnloadTimeBudget = TimeUnit.MILLISECONDS.toNanos(worldCategory.getChunkUnloadTimeBudget());
     }
 
     @Override
@@ -115,9 +127,23 @@ public abstract class ChunkProviderServerMixin implements ChunkProviderServerBri
         return WorldStorageUtil.doesChunkExistSync(this.world, this.chunkLoader, chunkCoords);
     }
 
+    @Override
+    public ChunkDataStream bridge$getGeneratedChunks(@Nullable final ParallelChunkDataStream.ChunkFilter filter) {
+        if (!(this.chunkLoader instanceof AnvilChunkLoaderBridge)) {
+            throw new UnsupportedOperationException("unknown chunkLoader");
+        }
+        final Path worldDir = ((AnvilChunkLoaderBridge) this.chunkLoader).bridge$getWorldDir();
+        final ChunkDataStreamCategory category = SpongeImpl.getGlobalConfigAdapter().getConfig().getOptimizations().getChunkDataStreamCategory();
+        if (category.isParallel() || filter != null) {
+            return new ParallelChunkDataStream(worldDir, category.getThreads(), category.getBufferSize(), filter);
+        }
+        return new SpongeChunkDataStream(worldDir);
+    }
+
     /**
      * @author blood - October 25th, 2016
-     * @reason Removes usage of droppedChunksSet in favor of unloaded flag.
+     * @reason Removes usage of droppedChunksSet in favor of unloaded flag
+     * and a deadline ordered unload queue.
      *
      * @param chunkIn The chunk to queue
      */
@@ -126,13 +152,26 @@ public void queueUnload(final Chunk chunkIn)
     {
         if (!((ChunkBridge) chunkIn).bridge$isPersistedChunk() && this.world.provider.canDropChunk(chunkIn.x, chunkIn.z))
         {
-            // Sponge - we avoid using the queue and simply check the unloaded flag during unloads
+            // Sponge - we avoid using the dropped set and queue the chunk by its unload deadline instead
             //this.droppedChunksSet.add(Long.valueOf(ChunkPos.asLong(chunkIn.x, chunkIn.z)));
+            if (!((WorldBridge) this.world).bridge$isFake()) {
+                this.impl$unloadQueue.add(chunkIn, System.currentTimeMillis(), this.impl$chunkUnloadDelay);
+            }
             chunkIn.unloadQueued = true;
         }
     }
 
-
+    @Redirect(method = "getLoadedChunk",
+        at = @At(
+            value = "FIELD",
+            target = "Lnet/minecraft/world/chunk/Chunk;unloadQueued:Z",
+            opcode = Opcodes.PUTFIELD))
+    private void impl$removeFromUnloadQueue(final Chunk chunk, final boolean unloadQueued) {
+        if (chunk.unloadQueued && !unloadQueued) {
+            this.impl$unloadQueue.remove(chunk);
+        }
+        chunk.unloadQueued = unloadQueued;
+    }
 
     @Redirect(method = "provideChunk",
         at = @At(
@@ -244,11 +283,21 @@ public void queueUnload(final Chunk chunkIn)
         return this.impl$chunkUnloadDelay;
     }
 
+    @Override
+    public void bridge$setChunkUnloadTimeBudget(final long budgetMillis) {
+        this.impl$chunkUnloadTimeBudget = TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+    }
+
+    @Override
+    public ChunkUnloadQueue bridge$getChunkUnloadQueue() {
+        return this.impl$unloadQueue;
+    }
+
     /**
      * @author blood - October 20th, 2016
      * @reason Refactors entire method to not use the droppedChunksSet by
-     * simply looping through all loaded chunks and determining whether it
-     * can unload or not.
+     * only unloading the chunks of the unload queue that are due, within
+     * the configured time budget.
      *
      * @return true if unload queue was processed
      */
@@ -265,27 +314,29 @@ public boolean tick()
         if (this.shadow$canSave() && !((WorldBridge) this.world).bridge$isFake())
         {
             ((WorldServerBridge) this.world).bridge$getTimingsHandler().doChunkUnload.startTiming();
-            final Iterator<Chunk> iterator = this.loadedChunks.values().iterator();
-            int chunksUnloaded = 0;
+            final long start = System.nanoTime();
             final long now = System.currentTimeMillis();
-            while (chunksUnloaded < this.impl$maxChunkUnloads && iterator.hasNext()) {
-                final Chunk chunk = iterator.next();
+            int chunksUnloaded = 0;
+            Chunk chunk;
+            while (chunksUnloaded < this.impl$maxChunkUnloads && (chunk = this.impl$unloadQueue.poll(now, this.impl$chunkUnloadDelay)) != null) {
                 final ChunkBridge spongeChunk = (ChunkBridge) chunk;
-                if (chunk != null && chunk.unloadQueued && !spongeChunk.bridge$isPersistedChunk()) {
-                    if (this.bridge$getChunkUnloadDelay() > 0) {
-                        if ((now - spongeChunk.bridge$getScheduledForUnload()) < this.impl$chunkUnloadDelay) {
-                            continue;
-                        }
-                        spongeChunk.bridge$setScheduledForUnload(-1);
-                    }
-                    chunk.onUnload();
-                    this.saveChunkData(chunk);
-                    this.saveChunkExtraData(chunk);
-                    iterator.remove();
-                    chunksUnloaded++;
+                final long index = ChunkPos.asLong(chunk.x, chunk.z);
+                // The chunk may have been unloaded or reactivated without going through the queue
+                if (!chunk.unloadQueued || spongeChunk.bridge$isPersistedChunk() || this.loadedChunks.get(index) != chunk) {
+                    continue;
+                }
+                spongeChunk.bridge$setScheduledForUnload(-1);
+                chunk.onUnload();
+                this.saveChunkData(chunk);
+                this.saveChunkExtraData(chunk);
+                this.loadedChunks.remove(index);
+                chunksUnloaded++;
+                if (this.impl$chunkUnloadTimeBudget > 0 && System.nanoTime() - start >= this.impl$chunkUnloadTimeBudget) {
+                    break;
                 }
             }
             ((WorldServerBridge) this.world).bridge$getTimingsHandler().doChunkUnload.stopTiming();
+            ((WorldServerBridge) this.world).bridge$getTickMetrics().record(TickPhase.CHUNK_UNLOAD, System.nanoTime() - start);
         }
 
         this.chunkLoader.chunkTick();
@@ -335,6 +386,7 @@ public boolean tick()
         }
 
         this.loadedChunks.remove(ChunkPos.asLong(chunk.x, chunk.z));
+        this.impl$unloadQueue.remove(chunk);
         ((ChunkBridge) chunk).bridge$setScheduledForUnload(-1);
     }
 
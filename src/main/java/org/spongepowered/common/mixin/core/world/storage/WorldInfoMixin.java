@@ -60,6 +60,7 @@
 import org.spongepowered.common.config.SpongeConfig;
 import org.spongepowered.common.config.category.WorldCategory;
 import org.spongepowered.common.config.type.WorldConfig;
+import org.spongepowered.common.entity.PlayerTrackerCache;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.registry.type.world.DimensionTypeRegistryModule;
 import org.spongepowered.common.registry.type.world.PortalAgentRegistryModule;
@@ -93,6 +94,7 @@ public abstract class WorldInfoMixin implements WorldInfoBridge {
     private final BiMap<Integer, UUID> impl$playerUniqueIdMap = HashBiMap.create();
     private final List<UUID> impl$pendingUniqueIds = new ArrayList<>();
     private int impl$trackedUniqueIdCount = 0;
+    @Nullable private PlayerTrackerCache impl$playerTrackerCache;
     private boolean impl$hasCustomDifficulty = false;
     private boolean impl$isMod = false;
     private boolean impl$generateBonusChest;
@@ -343,6 +345,14 @@ private void setDoesGenerateBonusChest(final boolean state) {
         return Optional.ofNullable(this.impl$playerUniqueIdMap.get(index));
     }
 
+    @Override
+    public PlayerTrackerCache bridge$getPlayerTrackerCache() {
+        if (this.impl$playerTrackerCache == null) {
+            this.impl$playerTrackerCache = new PlayerTrackerCache(this);
+        }
+        return this.impl$playerTrackerCache;
+    }
+
     @Override
     public NBTTagCompound bridge$getSpongeRootLevelNbt() {
         this.writeSpongeNbt();
@@ -24,16 +24,39 @@
  */
 package org.spongepowered.common.mixin.optimization.tileentity;
 
+import net.minecraft.block.BlockHopper;
 import net.minecraft.inventory.IInventory;
 import net.minecraft.item.ItemStack;
+import net.minecraft.tileentity.IHopper;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.tileentity.TileEntityChest;
 import net.minecraft.tileentity.TileEntityHopper;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.common.bridge.optimization.HopperOptimizationBridge;
+import org.spongepowered.common.bridge.optimization.HopperTransferCacheBridge;
+import org.spongepowered.common.bridge.world.chunk.ChunkBridge;
+import org.spongepowered.common.bridge.world.chunk.ChunkProviderBridge;
+
+import javax.annotation.Nullable;
 
 @Mixin(value = TileEntityHopper.class, priority = 1300)
-public class TileEntityHopperMixin_HopperOptimization extends TileEntityMixin_HopperOptimization {
+public class TileEntityHopperMixin_HopperOptimization extends TileEntityMixin_HopperOptimization implements HopperTransferCacheBridge {
+
+    @Nullable private IInventory hopper$sourceInventory;
+    @Nullable private IInventory hopper$destinationInventory;
+    @Nullable private EnumFacing hopper$destinationFacing;
+
+    @Shadow @Nullable private IInventory getInventoryForHopperTransfer() {
+        throw new AbstractMethodError("Shadow");
+    }
 
     @Redirect(method = "insertStack",
         at = @At(value = "INVOKE", target = "Lnet/minecraft/inventory/IInventory;setInventorySlotContents(ILnet/minecraft/item/ItemStack;)V"))
@@ -47,4 +70,75 @@ public class TileEntityHopperMixin_HopperOptimization extends TileEntityMixin_Ho
         }
     }
 
+    @Redirect(method = "transferItemsOut",
+        at = @At(value = "INVOKE", target = "Lnet/minecraft/tileentity/TileEntityHopper;getInventoryForHopperTransfer()Lnet/minecraft/inventory/IInventory;"))
+    @Nullable
+    private IInventory hopper$UseCachedDestination(final TileEntityHopper hopper) {
+        return this.hopperBridge$getDestinationInventory();
+    }
+
+    @Redirect(method = "pullItems",
+        at = @At(value = "INVOKE", target = "Lnet/minecraft/tileentity/TileEntityHopper;getSourceInventory(Lnet/minecraft/tileentity/IHopper;)Lnet/minecraft/inventory/IInventory;"))
+    @Nullable
+    private static IInventory hopper$UseCachedSource(final IHopper hopper) {
+        if (hopper instanceof HopperTransferCacheBridge) {
+            return ((HopperTransferCacheBridge) hopper).hopperBridge$getSourceInventory();
+        }
+        return TileEntityHopper.getSourceInventory(hopper);
+    }
+
+    @Override
+    @Nullable
+    public IInventory hopperBridge$getSourceInventory() {
+        if (hopper$isCacheValid(this.hopper$sourceInventory)) {
+            return this.hopper$sourceInventory;
+        }
+        final IInventory inventory = TileEntityHopper.getSourceInventory((IHopper) (Object) this);
+        this.hopper$sourceInventory = hopper$canCache(inventory) ? inventory : null;
+        return inventory;
+    }
+
+    @Override
+    @Nullable
+    public IInventory hopperBridge$getDestinationInventory() {
+        final EnumFacing facing = BlockHopper.getFacing(((TileEntityHopper) (Object) this).getBlockMetadata());
+        if (this.hopper$destinationFacing == facing && hopper$isCacheValid(this.hopper$destinationInventory)) {
+            return this.hopper$destinationInventory;
+        }
+        final IInventory inventory = this.getInventoryForHopperTransfer();
+        this.hopper$destinationInventory = hopper$canCache(inventory) ? inventory : null;
+        this.hopper$destinationFacing = facing;
+        return inventory;
+    }
+
+    @Override
+    public void hopperBridge$invalidateTransferCache() {
+        this.hopper$sourceInventory = null;
+        this.hopper$destinationInventory = null;
+        this.hopper$destinationFacing = null;
+    }
+
+    private static boolean hopper$isCacheValid(@Nullable final IInventory inventory) {
+        // Removing or replacing the block invalidates its tile entity
+        if (inventory == null || ((TileEntity) inventory).isInvalid()) {
+            return false;
+        }
+        // Unloading its chunk does not, the chunk is read from disk again with a new tile entity
+        final TileEntity tileEntity = (TileEntity) inventory;
+        final World world = tileEntity.getWorld();
+        if (!(world instanceof WorldServer)) {
+            return false;
+        }
+        final BlockPos pos = tileEntity.getPos();
+        final Chunk chunk = ((ChunkProviderBridge) world.getChunkProvider()).bridge$getLoadedChunkWithoutMarkingActive(pos.getX() >> 4,
+            pos.getZ() >> 4);
+        return chunk != null && !((ChunkBridge) chunk).bridge$isQueuedForUnload() && chunk.getTileEntityMap().get(pos) == tileEntity;
+    }
+
+    private static boolean hopper$canCache(@Nullable final IInventory inventory) {
+        // Only block inventories can be cached, entity inventories move around and
+        // chests may merge with a neighbor the hopper is not notified about.
+        return inventory instanceof TileEntity && !(inventory instanceof TileEntityChest);
+    }
+
 }
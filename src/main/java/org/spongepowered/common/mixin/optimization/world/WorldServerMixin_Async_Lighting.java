@@ -35,17 +35,22 @@
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.SpongeImplHooks;
+import org.spongepowered.common.bridge.world.WorldServerBridge;
 import org.spongepowered.common.bridge.world.WorldServerBridge_AsyncLighting;
 import org.spongepowered.common.bridge.world.chunk.ChunkBridge;
 import org.spongepowered.common.bridge.world.chunk.ChunkBridge_AsyncLighting;
 import org.spongepowered.common.bridge.world.chunk.ChunkProviderBridge;
 import org.spongepowered.common.bridge.util.math.BlockPosBridge;
 import org.spongepowered.common.mixin.core.world.WorldMixin;
-import org.spongepowered.common.util.Constants;
+import org.spongepowered.common.util.metric.TickPhase;
+import org.spongepowered.common.world.lighting.AsyncLightingMetrics;
+import org.spongepowered.common.world.lighting.LightSectionQueue;
 
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.IntConsumer;
 
 import javax.annotation.Nullable;
 
@@ -54,6 +59,7 @@ public abstract class WorldServerMixin_Async_Lighting extends WorldMixin impleme
 
     private ExecutorService asyncLightingImpl$lightExecutorService =
                 Executors.newFixedThreadPool(SpongeImpl.getGlobalConfigAdapter().getConfig().getOptimizations().getAsyncLightingCategory().getNumThreads(), new ThreadFactoryBuilder().setNameFormat("Sponge - Async Light Thread").build());
+    private final AsyncLightingMetrics asyncLightingImpl$metrics = new AsyncLightingMetrics();
 
     @Override
     public boolean checkLightFor(final EnumSkyBlock lightType, final BlockPos pos) {
@@ -67,7 +73,6 @@ public boolean checkLightFor(final EnumSkyBlock lightType, final BlockPos pos) {
         if (false && !this.isAreaLoaded(pos, 17, false)) {
             return false;
         } else {
-            final ChunkBridge_AsyncLighting spongeChunk = (ChunkBridge_AsyncLighting) currentChunk;
             int i = 0;
             int j = 0;
             //this.theProfiler.startSection("getBrightness"); // Sponge - don't use profiler off of main thread
@@ -182,15 +187,6 @@ public boolean checkLightFor(final EnumSkyBlock lightType, final BlockPos pos) {
                 }
             }
 
-            // Sponge start - Asynchronous light updates
-            spongeChunk.asyncLightingBridge$getQueuedLightingUpdates(lightType).remove((Short) this.asyncLightingImpl$blockPosToShort(pos));
-            spongeChunk.asyncLightingBridge$getPendingLightUpdates().decrementAndGet();
-            for (final net.minecraft.world.chunk.Chunk neighborChunk : neighbors) {
-                final ChunkBridge_AsyncLighting neighbor = (ChunkBridge_AsyncLighting) neighborChunk;
-                neighbor.asyncLightingBridge$getPendingLightUpdates().decrementAndGet();
-            }
-
-            // Sponge end
             //this.theProfiler.endSection(); // Sponge - don't use profiler off of main thread
             return true;
         }
@@ -211,16 +207,92 @@ public boolean checkLightFor(final EnumSkyBlock lightType, final BlockPos pos) {
             return false;
         }
 
-        final short shortPos = this.asyncLightingImpl$blockPosToShort(pos);
-        if (spongeChunk.asyncLightingBridge$getQueuedLightingUpdates(lightType).contains(shortPos)) {
+        if (pos.getY() < 0 || pos.getY() > 255) {
+            return false;
+        }
+        final int index = LightSectionQueue.index(pos);
+        final boolean mainThread = SpongeImpl.getServer().isCallingFromMinecraftThread();
+        // Queues are only ever created from the main thread
+        final LightSectionQueue queue = spongeChunk.asyncLightingBridge$getLightSectionQueue(pos.getY() >> 4, mainThread);
+        if (!mainThread) {
+            // Already running on a lighting worker, check immediately unless the position is waiting in a batch
+            if (queue != null && queue.isQueued(lightType, index)) {
+                return false;
+            }
+            this.asyncLightingBridge$checkLightAsync(lightType, pos, currentChunk, this.asyncLightingImpl$getLightNeighbors(spongeChunk));
+            return true;
+        }
+
+        if (!queue.mark(lightType, index)) {
+            this.asyncLightingImpl$metrics.onUpdateMerged();
             return false;
         }
+        this.asyncLightingImpl$metrics.onUpdateQueued();
+        spongeChunk.asyncLightingBridge$setLightUpdateTime(currentChunk.getWorld().getTotalWorldTime());
+        if (queue.schedule()) {
+            this.asyncLightingImpl$scheduleBatch(currentChunk, queue);
+        }
+        return true;
+    }
 
-        final Chunk chunk = currentChunk;
-        spongeChunk.asyncLightingBridge$getQueuedLightingUpdates(lightType).add(shortPos);
+    /**
+     * Submits a batch draining every position queued in the section. The
+     * chunk and its neighbors are kept from unloading until it completes.
+     *
+     * @param chunk The chunk
+     * @param queue The section queue of the chunk
+     */
+    private void asyncLightingImpl$scheduleBatch(final Chunk chunk, final LightSectionQueue queue) {
+        final ChunkBridge_AsyncLighting spongeChunk = (ChunkBridge_AsyncLighting) chunk;
+        final List<Chunk> neighbors = this.asyncLightingImpl$getLightNeighbors(spongeChunk);
+        final long worldTime = chunk.getWorld().getTotalWorldTime();
         spongeChunk.asyncLightingBridge$getPendingLightUpdates().incrementAndGet();
-        spongeChunk.asyncLightingBridge$setLightUpdateTime(chunk.getWorld().getTotalWorldTime());
+        for (final Chunk neighborChunk : neighbors) {
+            final ChunkBridge_AsyncLighting neighbor = (ChunkBridge_AsyncLighting) neighborChunk;
+            neighbor.asyncLightingBridge$getPendingLightUpdates().incrementAndGet();
+            neighbor.asyncLightingBridge$setLightUpdateTime(worldTime);
+        }
+        this.asyncLightingImpl$metrics.onBatchScheduled();
+        try {
+            this.asyncLightingImpl$lightExecutorService.execute(() -> this.asyncLightingImpl$processBatch(chunk, queue, neighbors));
+        } catch (RejectedExecutionException e) {
+            // The world is unloading, there's no point in running any more lighting tasks.
+            this.asyncLightingImpl$completeBatch(spongeChunk, neighbors, queue.drain());
+            if (!this.getMinecraftServer().isServerStopped() && !this.asyncLightingImpl$lightExecutorService.isShutdown()) {
+                throw e;
+            }
+        }
+    }
+
+    private void asyncLightingImpl$processBatch(final Chunk chunk, final LightSectionQueue queue, final List<Chunk> neighbors) {
+        final LightSectionQueue.Batch batch = queue.drain();
+        final long start = System.nanoTime();
+        try {
+            final int baseX = chunk.x << 4;
+            final int baseY = batch.getSectionY() << 4;
+            final int baseZ = chunk.z << 4;
+            final IntConsumer skyCheck = index -> this.asyncLightingBridge$checkLightAsync(EnumSkyBlock.SKY,
+                new BlockPos(baseX | index & 15, baseY | index >> 8, baseZ | index >> 4 & 15), chunk, neighbors);
+            final IntConsumer blockCheck = index -> this.asyncLightingBridge$checkLightAsync(EnumSkyBlock.BLOCK,
+                new BlockPos(baseX | index & 15, baseY | index >> 8, baseZ | index >> 4 & 15), chunk, neighbors);
+            batch.forEach(EnumSkyBlock.SKY, skyCheck);
+            batch.forEach(EnumSkyBlock.BLOCK, blockCheck);
+        } finally {
+            this.asyncLightingImpl$completeBatch((ChunkBridge_AsyncLighting) chunk, neighbors, batch);
+            ((WorldServerBridge) this).bridge$getTickMetrics().record(TickPhase.LIGHTING, System.nanoTime() - start);
+        }
+    }
 
+    private void asyncLightingImpl$completeBatch(final ChunkBridge_AsyncLighting spongeChunk, final List<Chunk> neighbors,
+        final LightSectionQueue.Batch batch) {
+        spongeChunk.asyncLightingBridge$getPendingLightUpdates().decrementAndGet();
+        for (final Chunk neighborChunk : neighbors) {
+            ((ChunkBridge_AsyncLighting) neighborChunk).asyncLightingBridge$getPendingLightUpdates().decrementAndGet();
+        }
+        this.asyncLightingImpl$metrics.onBatchProcessed(batch.size(), System.nanoTime() - batch.getDirtySince());
+    }
+
+    private List<Chunk> asyncLightingImpl$getLightNeighbors(final ChunkBridge_AsyncLighting spongeChunk) {
         final List<Chunk> neighbors = spongeChunk.bridge$getNeighbors();
 
         // add diagonal chunks
@@ -246,23 +318,7 @@ public boolean checkLightFor(final EnumSkyBlock lightType, final BlockPos pos) {
                 neighbors.add(northWestChunk);
             }
         }
-
-        for (final net.minecraft.world.chunk.Chunk neighborChunk : neighbors) {
-            final ChunkBridge_AsyncLighting neighbor = (ChunkBridge_AsyncLighting) neighborChunk;
-            neighbor.asyncLightingBridge$getPendingLightUpdates().incrementAndGet();
-            neighbor.asyncLightingBridge$setLightUpdateTime(chunk.getWorld().getTotalWorldTime());
-        }
-
-        //System.out.println("size = " + ((ThreadPoolExecutor) this.asyncLightingImpl$lightExecutorService).getQueue().size());
-        if (SpongeImpl.getServer().isCallingFromMinecraftThread()) {
-            this.asyncLightingImpl$lightExecutorService.execute(() -> {
-                this.asyncLightingBridge$checkLightAsync(lightType, pos, chunk, neighbors);
-            });
-        } else {
-            this.asyncLightingBridge$checkLightAsync(lightType, pos, chunk, neighbors);
-        }
-
-        return true;
+        return neighbors;
     }
 
     @Override
@@ -270,6 +326,11 @@ public boolean checkLightFor(final EnumSkyBlock lightType, final BlockPos pos) {
         return this.asyncLightingImpl$lightExecutorService;
     }
 
+    @Override
+    public AsyncLightingMetrics asyncLightingBridge$getLightingMetrics() {
+        return this.asyncLightingImpl$metrics;
+    }
+
     // Thread safe methods to retrieve a chunk during async light updates
     // Each method avoids calling getLoadedChunk and instead accesses the passed neighbor chunk list to avoid concurrency issues
     private Chunk asyncLightingImpl$getLightChunk(final BlockPos pos, final Chunk currentChunk, final List<Chunk> neighbors) {
@@ -366,24 +427,4 @@ public boolean checkLightFor(final EnumSkyBlock lightType, final BlockPos pos) {
             }
         }
     }
-
-    private short asyncLightingImpl$blockPosToShort(final BlockPos pos) {
-        short serialized = (short) asyncLightingImpl$setNibble(0, pos.getX() & Constants.Chunk.XZ_MASK, 0, Constants.Chunk.NUM_XZ_BITS);
-        serialized = (short) asyncLightingImpl$setNibble(serialized, pos.getY() & Constants.Chunk.Y_SHORT_MASK, 1, Constants.Chunk.NUM_SHORT_Y_BITS);
-        serialized = (short) asyncLightingImpl$setNibble(serialized, pos.getZ() & Constants.Chunk.XZ_MASK, 3, Constants.Chunk.NUM_XZ_BITS);
-        return serialized;
-    }
-
-    /**
-     * Modifies bits in an integer.
-     *
-     * @param num Integer to modify
-     * @param data Bits of data to add
-     * @param which Index of nibble to start at
-     * @param bitsToReplace The number of bits to replace starting from nibble index
-     * @return The modified integer
-     */
-    private int asyncLightingImpl$setNibble(final int num, final int data, final int which, final int bitsToReplace) {
-        return (num & ~(bitsToReplace << (which * 4)) | (data << (which * 4)));
-    }
 }
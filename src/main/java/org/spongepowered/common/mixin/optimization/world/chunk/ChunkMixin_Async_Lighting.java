@@ -47,11 +47,10 @@
 import org.spongepowered.common.bridge.world.chunk.ChunkBridge_AsyncLighting;
 import org.spongepowered.common.bridge.world.chunk.ChunkProviderBridge;
 import org.spongepowered.common.util.Constants;
+import org.spongepowered.common.world.lighting.LightSectionQueue;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
@@ -62,10 +61,8 @@
 @Mixin(value = Chunk.class, priority = 1002)
 public abstract class ChunkMixin_Async_Lighting implements ChunkBridge_AsyncLighting {
 
-    // Keeps track of block positions in this chunk currently queued for sky light update
-    private Set<Short> asyncLighting$queuedSkyLightingUpdates = ConcurrentHashMap.newKeySet();
-    // Keeps track of block positions in this chunk currently queued for block light update
-    private Set<Short> asyncLighting$queuedBlockLightingUpdates = ConcurrentHashMap.newKeySet();
+    // Keeps track of block positions in this chunk currently queued for light updates, per section
+    private final LightSectionQueue[] asyncLighting$lightSectionQueues = new LightSectionQueue[16];
     private AtomicInteger asyncLighting$pendingLightUpdates = new AtomicInteger();
     private long asyncLighting$lightUpdateTime;
     private ExecutorService asyncLighting$lightExecutorService;
@@ -701,17 +698,14 @@ else if (flag && k == 0 && !this.asyncLighting$checkWorldLight(blockpos$mutableb
         return flag;
     }
 
-    /**
-     * Gets the list of block positions currently queued for lighting updates.
-     *
-     * @param type The light type
-     * @return The list of queued block positions, empty if none
-     */
+    @Nullable
     @Override
-    public Set<Short> asyncLightingBridge$getQueuedLightingUpdates(final EnumSkyBlock type) {
-        if (type == EnumSkyBlock.SKY) {
-            return this.asyncLighting$queuedSkyLightingUpdates;
+    public LightSectionQueue asyncLightingBridge$getLightSectionQueue(final int sectionY, final boolean create) {
+        LightSectionQueue queue = this.asyncLighting$lightSectionQueues[sectionY];
+        if (queue == null && create) {
+            queue = new LightSectionQueue(sectionY);
+            this.asyncLighting$lightSectionQueues[sectionY] = queue;
         }
-        return this.asyncLighting$queuedBlockLightingUpdates;
+        return queue;
     }
 }
@@ -0,0 +1,227 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.plugin.entityactivation;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.bridge.world.chunk.ChunkProviderBridge;
+import org.spongepowered.common.mixin.plugin.entityactivation.interfaces.ActivationCapability;
+
+import java.util.Arrays;
+
+/**
+ * An activation engine that indexes player bounding boxes by chunk once per
+ * tick, then visits every entity near a player exactly once and compares it
+ * only against the players bucketed in the chunks its activation range can
+ * reach. The results match {@link EntityActivationRange#activateEntities}
+ * without scaling with the number of players sharing the same area.
+ *
+ * <p>Instances are reused between ticks and worlds and are only ever
+ * accessed from the main thread.</p>
+ */
+final class EntityActivationIndex {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Long2ObjectMap<IntArrayList> playersByChunk = new Long2ObjectOpenHashMap<>();
+    private final LongOpenHashSet candidateChunks = new LongOpenHashSet();
+    private double[] minX = new double[INITIAL_CAPACITY];
+    private double[] minY = new double[INITIAL_CAPACITY];
+    private double[] minZ = new double[INITIAL_CAPACITY];
+    private double[] maxX = new double[INITIAL_CAPACITY];
+    private double[] maxY = new double[INITIAL_CAPACITY];
+    private double[] maxZ = new double[INITIAL_CAPACITY];
+    // The chunks visited for each player, as the per-player engine would
+    private int[] minChunkX = new int[INITIAL_CAPACITY];
+    private int[] maxChunkX = new int[INITIAL_CAPACITY];
+    private int[] minChunkZ = new int[INITIAL_CAPACITY];
+    private int[] maxChunkZ = new int[INITIAL_CAPACITY];
+    private int playerCount;
+    private double maxPlayerExtent;
+
+    void activateEntities(final WorldServer world, final int maxRange) {
+        final long currentTick = SpongeImpl.getServer().getTickCounter();
+        this.index(world, maxRange, currentTick);
+        if (this.playerCount == 0) {
+            return;
+        }
+
+        final ChunkProviderBridge chunkProvider = (ChunkProviderBridge) world.getChunkProvider();
+        final LongIterator iterator = this.candidateChunks.iterator();
+        while (iterator.hasNext()) {
+            final long chunkKey = iterator.nextLong();
+            final int chunkX = (int) chunkKey;
+            final int chunkZ = (int) (chunkKey >> 32);
+            final Chunk chunk = chunkProvider.bridge$getLoadedChunkWithoutMarkingActive(chunkX, chunkZ);
+            if (chunk == null) {
+                continue;
+            }
+            for (int i = 0; i < chunk.getEntityLists().length; ++i) {
+                for (final Entity entity : chunk.getEntityLists()[i]) {
+                    if (!EntityActivationRange.requiresRangeCheck(entity, currentTick)) {
+                        continue;
+                    }
+                    final int range = ((ActivationCapability) entity).activation$getActivationRange();
+                    if (this.isInRange(entity.getEntityBoundingBox(), range, chunkX, chunkZ, maxRange)) {
+                        ((ActivationCapability) entity).activation$setActivatedTick(currentTick);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Rebuilds the index for the given world, bucketing every player by the
+     * chunk they are in and collecting the loaded chunks within the maximum
+     * activation range of at least one player.
+     */
+    private void index(final WorldServer world, final int maxRange, final long currentTick) {
+        this.clear();
+        for (final EntityPlayer player : world.playerEntities) {
+            ((ActivationCapability) player).activation$setActivatedTick(currentTick);
+            this.addPlayer(player.getEntityBoundingBox(), player.posX, player.posZ, maxRange);
+        }
+    }
+
+    void clear() {
+        this.playersByChunk.clear();
+        this.candidateChunks.clear();
+        this.playerCount = 0;
+        this.maxPlayerExtent = 0;
+    }
+
+    /**
+     * Adds a player to the index, bucketing it by the chunk of its position
+     * and marking the chunks within the maximum range as candidates.
+     */
+    void addPlayer(final AxisAlignedBB bb, final double posX, final double posZ, final int maxRange) {
+        final int id = this.storePlayer(bb, maxRange);
+        final long chunkKey = ChunkPos.asLong(MathHelper.floor(posX) >> 4, MathHelper.floor(posZ) >> 4);
+        IntArrayList bucket = this.playersByChunk.get(chunkKey);
+        if (bucket == null) {
+            bucket = new IntArrayList(4);
+            this.playersByChunk.put(chunkKey, bucket);
+        }
+        bucket.add(id);
+
+        for (int x = this.minChunkX[id]; x <= this.maxChunkX[id]; ++x) {
+            for (int z = this.minChunkZ[id]; z <= this.maxChunkZ[id]; ++z) {
+                this.candidateChunks.add(ChunkPos.asLong(x, z));
+            }
+        }
+    }
+
+    /**
+     * Gets the chunks within the maximum range of at least one player, keyed
+     * like {@link ChunkPos#asLong(int, int)}.
+     */
+    LongSet getCandidateChunks() {
+        return this.candidateChunks;
+    }
+
+    private int storePlayer(final AxisAlignedBB bb, final int maxRange) {
+        final int id = this.playerCount++;
+        if (id == this.minX.length) {
+            final int capacity = id << 1;
+            this.minChunkX = Arrays.copyOf(this.minChunkX, capacity);
+            this.maxChunkX = Arrays.copyOf(this.maxChunkX, capacity);
+            this.minChunkZ = Arrays.copyOf(this.minChunkZ, capacity);
+            this.maxChunkZ = Arrays.copyOf(this.maxChunkZ, capacity);
+            this.minX = Arrays.copyOf(this.minX, capacity);
+            this.minY = Arrays.copyOf(this.minY, capacity);
+            this.minZ = Arrays.copyOf(this.minZ, capacity);
+            this.maxX = Arrays.copyOf(this.maxX, capacity);
+            this.maxY = Arrays.copyOf(this.maxY, capacity);
+            this.maxZ = Arrays.copyOf(this.maxZ, capacity);
+        }
+        this.minX[id] = bb.minX;
+        this.minY[id] = bb.minY;
+        this.minZ[id] = bb.minZ;
+        this.maxX[id] = bb.maxX;
+        this.maxY[id] = bb.maxY;
+        this.maxZ[id] = bb.maxZ;
+        this.minChunkX[id] = MathHelper.floor((bb.minX - maxRange) / 16.0D);
+        this.maxChunkX[id] = MathHelper.floor((bb.maxX + maxRange) / 16.0D);
+        this.minChunkZ[id] = MathHelper.floor((bb.minZ - maxRange) / 16.0D);
+        this.maxChunkZ[id] = MathHelper.floor((bb.maxZ + maxRange) / 16.0D);
+        this.maxPlayerExtent = Math.max(this.maxPlayerExtent, Math.max(bb.maxX - bb.minX, bb.maxZ - bb.minZ));
+        return id;
+    }
+
+    /**
+     * Checks whether the given bounding box intersects the bounding box of any
+     * indexed player grown by the given range, the same way
+     * {@link EntityActivationRange#growBb} and {@link AxisAlignedBB#intersects}
+     * are used by the per-player engine.
+     *
+     * <p>Like the per-player engine, the range of the entity is not limited
+     * by the maximum range. The maximum range only decides which chunks are
+     * visited for a player, so a player is only considered if the chunk of
+     * the entity is within the maximum range of that player.</p>
+     */
+    boolean isInRange(final AxisAlignedBB bb, final int range, final int chunkX, final int chunkZ, final int maxRange) {
+        // Players are bucketed by their position, so their bounding box may reach into neighbouring chunks.
+        // Players considered for this chunk are at most a chunk past their maximum range from it, one more chunk
+        // covers entities that moved out of the chunk they are stored in.
+        final double reach = Math.min(range, maxRange + 32) + this.maxPlayerExtent;
+        final int minChunkX = MathHelper.floor((bb.minX - reach) / 16.0D);
+        final int maxChunkX = MathHelper.floor((bb.maxX + reach) / 16.0D);
+        final int minChunkZ = MathHelper.floor((bb.minZ - reach) / 16.0D);
+        final int maxChunkZ = MathHelper.floor((bb.maxZ + reach) / 16.0D);
+        for (int x = minChunkX; x <= maxChunkX; ++x) {
+            for (int z = minChunkZ; z <= maxChunkZ; ++z) {
+                final IntArrayList bucket = this.playersByChunk.get(ChunkPos.asLong(x, z));
+                if (bucket == null) {
+                    continue;
+                }
+                for (int i = 0; i < bucket.size(); i++) {
+                    final int id = bucket.getInt(i);
+                    if (chunkX < this.minChunkX[id] || chunkX > this.maxChunkX[id] || chunkZ < this.minChunkZ[id] || chunkZ > this.maxChunkZ[id]) {
+                        continue;
+                    }
+                    if (this.minX[id] - range < bb.maxX && this.maxX[id] + range > bb.minX
+                            && this.minY[id] - 256 < bb.maxY && this.maxY[id] + 256 > bb.minY
+                            && this.minZ[id] - range < bb.maxZ && this.maxZ[id] + range > bb.minZ) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+}
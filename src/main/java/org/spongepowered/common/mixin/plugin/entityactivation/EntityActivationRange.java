@@ -98,6 +98,7 @@ public class EntityActivationRange {
     static AxisAlignedBB ambientBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
     static AxisAlignedBB tileEntityBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
     static Map<Byte, Integer> maxActivationRanges = Maps.newHashMap();
+    private static final EntityActivationIndex spatialIndex = new EntityActivationIndex();
 
     /**
      * Initializes an entities type on construction to specify what group this
@@ -225,16 +226,22 @@ public static void activateEntities(final World world) {
             return;
         }
 
-        for (final EntityPlayer player : world.playerEntities) {
-
-            int maxRange = 0;
-            for (final Integer range : maxActivationRanges.values()) {
-                if (range > maxRange) {
-                    maxRange = range;
-                }
+        int maxRange = 0;
+        for (final Integer range : maxActivationRanges.values()) {
+            if (range > maxRange) {
+                maxRange = range;
             }
+        }
+        maxRange = Math.min((((org.spongepowered.api.world.World) world).getViewDistance() << 4) - 8, maxRange);
+
+        final EntityActivationRangeCategory config =
+            ((WorldInfoBridge) world.getWorldInfo()).bridge$getConfigAdapter().getConfig().getEntityActivationRange();
+        if (config.useSpatialIndex()) {
+            spatialIndex.activateEntities((WorldServer) world, maxRange);
+            return;
+        }
 
-            maxRange = Math.min((((org.spongepowered.api.world.World) world).getViewDistance() << 4) - 8, maxRange);
+        for (final EntityPlayer player : world.playerEntities) {
             ((ActivationCapability) player).activation$setActivatedTick(SpongeImpl.getServer().getTickCounter());
             growBb(maxBB, player.getEntityBoundingBox(), maxRange, 256, maxRange);
 
@@ -255,6 +262,39 @@ public static void activateEntities(final World world) {
         }
     }
 
+    /**
+     * Performs the checks shared by every activation engine before an entity
+     * is compared against player ranges. Entities that are always active or
+     * have already been activated this tick are handled here.
+     *
+     * @param entity The entity to check
+     * @param currentTick The current server tick
+     * @return Whether the entity still needs a range check
+     */
+    static boolean requiresRangeCheck(final Entity entity, final long currentTick) {
+        final ActivationCapability spongeEntity = (ActivationCapability) entity;
+        if (!((EntityBridge) entity).bridge$shouldTick()) {
+            return false;
+        }
+        if (((org.spongepowered.api.entity.Entity) entity).getType() == EntityTypes.UNKNOWN) {
+            spongeEntity.activation$setActivatedTick(currentTick);
+            return false;
+        }
+        if (currentTick <= spongeEntity.activation$getActivatedTick()) {
+            return false;
+        }
+        // check if activation cache needs to be updated
+        if (spongeEntity.activation$requiresActivationCacheRefresh()) {
+            EntityActivationRange.initializeEntityActivationState(entity);
+            spongeEntity.activation$requiresActivationCacheRefresh(false);
+        }
+        if (spongeEntity.activation$getDefaultActivationState()) {
+            spongeEntity.activation$setActivatedTick(currentTick);
+            return false;
+        }
+        return true;
+    }
+
     /**
      * Checks for the activation state of all entities in this chunk.
      *
@@ -265,71 +305,54 @@ private static void activateChunkEntities(final EntityPlayer player, final Chunk
 
             for (final Object o : chunk.getEntityLists()[i]) {
                 final Entity entity = (Entity) o;
-                final EntityType type = ((org.spongepowered.api.entity.Entity) entity).getType();
                 final ActivationCapability spongeEntity = (ActivationCapability) entity;
                 final long currentTick = SpongeImpl.getServer().getTickCounter();
-                if (!((EntityBridge) entity).bridge$shouldTick()) {
+                if (!requiresRangeCheck(entity, currentTick)) {
                     continue;
                 }
-                if (type == EntityTypes.UNKNOWN) {
-                    spongeEntity.activation$setActivatedTick(currentTick);
-                    continue;
-                }
-
-                if (currentTick > spongeEntity.activation$getActivatedTick()) {
-                    // check if activation cache needs to be updated
-                    if (spongeEntity.activation$requiresActivationCacheRefresh()) {
-                        EntityActivationRange.initializeEntityActivationState(entity);
-                        spongeEntity.activation$requiresActivationCacheRefresh(false);
-                    }
 
-                    if (spongeEntity.activation$getDefaultActivationState()) {
-                        spongeEntity.activation$setActivatedTick(currentTick);
-                        continue;
-                    }
-                    // check for entity type overrides
-                    final byte activationType = spongeEntity.activation$getActivationType();
-                    final int bbActivationRange = spongeEntity.activation$getActivationRange();
-
-                    if (activationType == 5) {
-                        growBb(miscBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    } else if (activationType == 4) {
-                        growBb(ambientBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    } else if (activationType == 3) {
-                        growBb(aquaticBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    } else if (activationType == 2) {
-                        growBb(creatureBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    } else {
-                        growBb(monsterBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    }
+                // check for entity type overrides
+                final byte activationType = spongeEntity.activation$getActivationType();
+                final int bbActivationRange = spongeEntity.activation$getActivationRange();
+
+                if (activationType == 5) {
+                    growBb(miscBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
+                } else if (activationType == 4) {
+                    growBb(ambientBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
+                } else if (activationType == 3) {
+                    growBb(aquaticBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
+                } else if (activationType == 2) {
+                    growBb(creatureBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
+                } else {
+                    growBb(monsterBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
+                }
 
-                    switch (spongeEntity.activation$getActivationType()) {
-                        case 1:
-                            if (monsterBB.intersects(entity.getEntityBoundingBox())) {
-                                spongeEntity.activation$setActivatedTick(currentTick);
-                            }
-                            break;
-                        case 2:
-                            if (creatureBB.intersects(entity.getEntityBoundingBox())) {
-                                spongeEntity.activation$setActivatedTick(currentTick);
-                            }
-                            break;
-                        case 3:
-                            if (aquaticBB.intersects(entity.getEntityBoundingBox())) {
-                                spongeEntity.activation$setActivatedTick(currentTick);
-                            }
-                            break;
-                        case 4:
-                            if (ambientBB.intersects(entity.getEntityBoundingBox())) {
-                                spongeEntity.activation$setActivatedTick(currentTick);
-                            }
-                            break;
-                        case 5:
-                        default:
-                            if (miscBB.intersects(entity.getEntityBoundingBox())) {
-                                spongeEntity.activation$setActivatedTick(currentTick);
-                            }
-                    }
+                switch (spongeEntity.activation$getActivationType()) {
+                    case 1:
+                        if (monsterBB.intersects(entity.getEntityBoundingBox())) {
+                            spongeEntity.activation$setActivatedTick(currentTick);
+                        }
+                        break;
+                    case 2:
+                        if (creatureBB.intersects(entity.getEntityBoundingBox())) {
+                            spongeEntity.activation$setActivatedTick(currentTick);
+                        }
+                        break;
+                    case 3:
+                        if (aquaticBB.intersects(entity.getEntityBoundingBox())) {
+                            spongeEntity.activation$setActivatedTick(currentTick);
+                        }
+                        break;
+                    case 4:
+                        if (ambientBB.intersects(entity.getEntityBoundingBox())) {
+                            spongeEntity.activation$setActivatedTick(currentTick);
+                        }
+                        break;
+                    case 5:
+                    default:
+                        if (miscBB.intersects(entity.getEntityBoundingBox())) {
+                            spongeEntity.activation$setActivatedTick(currentTick);
+                        }
                 }
             }
         }
@@ -26,17 +26,13 @@
 
 import net.minecraft.block.Block;
 import net.minecraft.block.ITileEntityProvider;
-import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import org.apache.logging.log4j.Level;
-import org.spongepowered.api.Sponge;
 import org.spongepowered.api.block.BlockType;
 import org.spongepowered.api.entity.living.player.User;
-import org.spongepowered.api.profile.GameProfile;
-import org.spongepowered.api.service.user.UserStorageService;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
@@ -53,14 +49,12 @@
 import org.spongepowered.common.config.SpongeConfig;
 import org.spongepowered.common.config.type.WorldConfig;
 import org.spongepowered.common.entity.PlayerTracker;
+import org.spongepowered.common.entity.PlayerTrackerCache;
+import org.spongepowered.common.entity.PlayerTrackerTable;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.phase.generation.GenerationPhase;
-import org.spongepowered.common.profile.SpongeProfileManager;
-import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.SpongeHooks;
-import org.spongepowered.common.util.SpongeUsernameCache;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
@@ -77,17 +71,7 @@ public abstract class ChunkMixin_Tracker implements ChunkBridge {
     @Shadow @Final private Map<BlockPos, TileEntity> tileEntities;
 
 
-    @Nullable private UserStorageService trackerImpl$userStorageService;
-    private Map<Integer, PlayerTracker> trackerImpl$trackedIntBlockPositions = new HashMap<>();
-    private Map<Short, PlayerTracker> trackerImpl$trackedShortBlockPositions = new HashMap<>();
-
-    @Inject(method = "<init>(Lnet/minecraft/world/World;II)V", at = @At("RETURN"))
-    private void tracker$setUpUserService(@Nullable final World worldIn, final int x, final int z, final CallbackInfo ci) {
-        this.trackerImpl$userStorageService = worldIn != null && ((WorldBridge) worldIn).bridge$isFake()
-                                  ? null
-                                  : SpongeImpl.getGame().getServiceManager().provideUnchecked(UserStorageService.class);
-
-    }
+    private PlayerTrackerTable trackerImpl$trackedBlockPositions = new PlayerTrackerTable();
 
     @Override
     public void bridge$addTrackedBlockPosition(final Block block, final BlockPos pos, final User user, final PlayerTracker.Type trackerType) {
@@ -135,174 +119,94 @@ public abstract class ChunkMixin_Tracker implements ChunkBridge {
 
         final WorldInfoBridge worldInfo = (WorldInfoBridge) this.world.getWorldInfo();
         final int indexForUniqueId = worldInfo.bridge$getIndexForUniqueId(user.getUniqueId());
-        if (pos.getY() <= 255) {
-            final short blockPos = Constants.Sponge.blockPosToShort(pos);
-            final PlayerTracker playerTracker = this.trackerImpl$trackedShortBlockPositions.get(blockPos);
-            if (playerTracker != null) {
-                if (trackerType == PlayerTracker.Type.OWNER) {
-                    playerTracker.ownerIndex = indexForUniqueId;
-                    playerTracker.notifierIndex = indexForUniqueId;
-                } else {
-                    playerTracker.notifierIndex = indexForUniqueId;
-                }
-            } else {
-                this.trackerImpl$trackedShortBlockPositions.put(blockPos, new PlayerTracker(indexForUniqueId, trackerType));
-            }
-        } else {
-            final int blockPos = Constants.Sponge.blockPosToInt(pos);
-            final PlayerTracker playerTracker = this.trackerImpl$trackedIntBlockPositions.get(blockPos);
-            if (playerTracker != null) {
-                if (trackerType == PlayerTracker.Type.OWNER) {
-                    playerTracker.ownerIndex = indexForUniqueId;
-                    playerTracker.notifierIndex = indexForUniqueId;
-                } else {
-                    playerTracker.notifierIndex = indexForUniqueId;
-                }
-            } else {
-                this.trackerImpl$trackedIntBlockPositions.put(blockPos, new PlayerTracker(indexForUniqueId, trackerType));
-            }
-        }
+        this.trackerImpl$trackedBlockPositions.track(pos, indexForUniqueId, trackerType);
     }
 
     @Override
-    public Map<Integer, PlayerTracker> bridge$getTrackedIntPlayerPositions() {
-        return this.trackerImpl$trackedIntBlockPositions;
+    public PlayerTrackerTable bridge$getTrackedPlayerPositions() {
+        return this.trackerImpl$trackedBlockPositions;
     }
 
     @Override
-    public Map<Short, PlayerTracker> bridge$getTrackedShortPlayerPositions() {
-        return this.trackerImpl$trackedShortBlockPositions;
+    public Optional<User> bridge$getBlockOwner(final BlockPos pos) {
+        return Optional.ofNullable(this.bridge$getTrackedOwner(pos));
     }
 
     @Override
-    public Optional<User> bridge$getBlockOwner(final BlockPos pos) {
-        if (((WorldBridge) this.world).bridge$isFake()) {
-            return Optional.empty();
-        }
-        final int intKey = Constants.Sponge.blockPosToInt(pos);
-        final PlayerTracker intTracker = this.trackerImpl$trackedIntBlockPositions.get(intKey);
-        if (intTracker != null) {
-            final int notifierIndex = intTracker.ownerIndex;
-            return this.tracker$getValidatedUser(intKey, notifierIndex);
-        } else {
-            final short shortKey = Constants.Sponge.blockPosToShort(pos);
-            final PlayerTracker shortTracker = this.trackerImpl$trackedShortBlockPositions.get(shortKey);
-            if (shortTracker != null) {
-                final int notifierIndex = shortTracker.ownerIndex;
-                return this.tracker$getValidatedUser(shortKey, notifierIndex);
-            }
-        }
+    public Optional<UUID> bridge$getBlockOwnerUUID(final BlockPos pos) {
+        return Optional.ofNullable(this.bridge$getTrackedOwnerUUID(pos));
+    }
+
+    @Override
+    public Optional<User> bridge$getBlockNotifier(final BlockPos pos) {
+        return Optional.ofNullable(this.bridge$getTrackedNotifier(pos));
+    }
 
-        return Optional.empty();
+    @Override
+    public Optional<UUID> bridge$getBlockNotifierUUID(final BlockPos pos) {
+        return Optional.ofNullable(this.bridge$getTrackedNotifierUUID(pos));
     }
 
+    @Nullable
     @Override
-    public Optional<UUID> bridge$getBlockOwnerUUID(final BlockPos pos) {
+    public User bridge$getTrackedOwner(final BlockPos pos) {
         if (((WorldBridge) this.world).bridge$isFake()) {
-            return Optional.empty();
-        }
-        final int key = Constants.Sponge.blockPosToInt(pos);
-        final PlayerTracker intTracker = this.trackerImpl$trackedIntBlockPositions.get(key);
-        if (intTracker != null) {
-            final int ownerIndex = intTracker.ownerIndex;
-            return this.tracker$getValidatedUUID(key, ownerIndex);
-        } else {
-            final short shortKey = Constants.Sponge.blockPosToShort(pos);
-            final PlayerTracker shortTracker = this.trackerImpl$trackedShortBlockPositions.get(shortKey);
-            if (shortTracker != null) {
-                final int ownerIndex = shortTracker.ownerIndex;
-                return this.tracker$getValidatedUUID(shortKey, ownerIndex);
-            }
+            return null;
         }
-
-        return Optional.empty();
+        return this.tracker$getValidatedUser(pos, this.trackerImpl$trackedBlockPositions.getOwner(pos));
     }
 
+    @Nullable
     @Override
-    public Optional<User> bridge$getBlockNotifier(final BlockPos pos) {
+    public UUID bridge$getTrackedOwnerUUID(final BlockPos pos) {
         if (((WorldBridge) this.world).bridge$isFake()) {
-            return Optional.empty();
-        }
-        final int intKey = Constants.Sponge.blockPosToInt(pos);
-        final PlayerTracker intTracker = this.trackerImpl$trackedIntBlockPositions.get(intKey);
-        if (intTracker != null) {
-            return this.tracker$getValidatedUser(intKey, intTracker.notifierIndex);
-        } else {
-            final short shortKey = Constants.Sponge.blockPosToShort(pos);
-            final PlayerTracker shortTracker = this.trackerImpl$trackedShortBlockPositions.get(shortKey);
-            if (shortTracker != null) {
-                return this.tracker$getValidatedUser(shortKey, shortTracker.notifierIndex);
-            }
+            return null;
         }
-
-        return Optional.empty();
+        return this.tracker$getValidatedUUID(pos, this.trackerImpl$trackedBlockPositions.getOwner(pos));
     }
 
+    @Nullable
     @Override
-    public Optional<UUID> bridge$getBlockNotifierUUID(final BlockPos pos) {
+    public User bridge$getTrackedNotifier(final BlockPos pos) {
         if (((WorldBridge) this.world).bridge$isFake()) {
-            return Optional.empty();
-        }
-        final int key = Constants.Sponge.blockPosToInt(pos);
-        final PlayerTracker intTracker = this.trackerImpl$trackedIntBlockPositions.get(key);
-        if (intTracker != null) {
-            return this.tracker$getValidatedUUID(key, intTracker.notifierIndex);
-        } else {
-            final short shortKey = Constants.Sponge.blockPosToShort(pos);
-            final PlayerTracker shortTracker = this.trackerImpl$trackedShortBlockPositions.get(shortKey);
-            if (shortTracker != null) {
-                return this.tracker$getValidatedUUID(shortKey, shortTracker.notifierIndex);
-            }
+            return null;
         }
-
-        return Optional.empty();
+        return this.tracker$getValidatedUser(pos, this.trackerImpl$trackedBlockPositions.getNotifier(pos));
     }
 
-    private Optional<User> tracker$getValidatedUser(final int key, final int ownerIndex) {
-        final Optional<UUID> uuid = this.tracker$getValidatedUUID(key, ownerIndex);
-        if (uuid.isPresent()) {
-            final UUID userUniqueId = uuid.get();
-            // get player if online
-            final EntityPlayer player = this.world.getPlayerEntityByUUID(userUniqueId);
-            if (player != null) {
-                return Optional.of((User) player);
-            }
-            // player is not online, get or create user from storage
-            return this.tracker$getUserFromId(userUniqueId);
+    @Nullable
+    @Override
+    public UUID bridge$getTrackedNotifierUUID(final BlockPos pos) {
+        if (((WorldBridge) this.world).bridge$isFake()) {
+            return null;
         }
-        return Optional.empty();
+        return this.tracker$getValidatedUUID(pos, this.trackerImpl$trackedBlockPositions.getNotifier(pos));
     }
 
-    private Optional<UUID> tracker$getValidatedUUID(final int key, final int ownerIndex) {
-        final UUID uuid = (((WorldInfoBridge) this.world.getWorldInfo()).bridge$getUniqueIdForIndex(ownerIndex)).orElse(null);
-        if (uuid != null) {
-            // Verify id is valid and not invalid
-            if (SpongeImpl.getGlobalConfigAdapter().getConfig().getWorld().getInvalidLookupUuids().contains(uuid)) {
-                this.trackerImpl$trackedIntBlockPositions.remove(key);
-                return Optional.empty();
-            }
-            // player is not online, get or create user from storage
-            return Optional.of(uuid);
+    @Nullable
+    private User tracker$getValidatedUser(final BlockPos pos, final int ownerIndex) {
+        if (ownerIndex < 0) {
+            return null;
+        }
+        final PlayerTrackerCache cache = ((WorldInfoBridge) this.world.getWorldInfo()).bridge$getPlayerTrackerCache();
+        final User user = cache.getUser(this.world, ownerIndex);
+        if (user == null && cache.isInvalid(this.world, ownerIndex)) {
+            this.trackerImpl$trackedBlockPositions.remove(pos);
         }
-        return Optional.empty();
+        return user;
     }
 
-    private Optional<User> tracker$getUserFromId(final UUID uuid) {
-        // check username cache
-        final String username = SpongeUsernameCache.getLastKnownUsername(uuid);
-        if (username != null && this.trackerImpl$userStorageService != null) {
-            return this.trackerImpl$userStorageService.get(GameProfile.of(uuid, username));
+    @Nullable
+    private UUID tracker$getValidatedUUID(final BlockPos pos, final int ownerIndex) {
+        if (ownerIndex < 0) {
+            return null;
         }
-
-        // check mojang cache
-        final GameProfile profile = Sponge.getServer().getGameProfileManager().getCache().getById(uuid).orElse(null);
-        if (profile != null && this.trackerImpl$userStorageService != null) {
-            return this.trackerImpl$userStorageService.get(profile);
+        final UUID uuid = ((WorldInfoBridge) this.world.getWorldInfo()).bridge$getPlayerTrackerCache().getUniqueId(this.world, ownerIndex);
+        if (uuid == PlayerTrackerCache.INVALID_UNIQUE_ID) {
+            this.trackerImpl$trackedBlockPositions.remove(pos);
+            return null;
         }
-
-        // If we reach this point, queue UUID for async lookup and return empty
-        ((SpongeProfileManager) Sponge.getServer().getGameProfileManager()).lookupUserAsync(uuid);
-        return Optional.empty();
+        return uuid;
     }
 
     // Special setter used by API
@@ -311,27 +215,8 @@ public abstract class ChunkMixin_Tracker implements ChunkBridge {
         if (((WorldBridge) this.world).bridge$isFake()) {
             return;
         }
-        if (pos.getY() <= 255) {
-            final short blockPos = Constants.Sponge.blockPosToShort(pos);
-            final PlayerTracker shortTracker = this.trackerImpl$trackedShortBlockPositions.get(blockPos);
-            if (shortTracker != null) {
-                shortTracker.notifierIndex = uuid == null ? -1 : ((WorldInfoBridge) this.world.getWorldInfo()).bridge$getIndexForUniqueId(uuid);
-            } else {
-                this.trackerImpl$trackedShortBlockPositions.put(blockPos,
-                        new PlayerTracker(uuid == null ? -1 : ((WorldInfoBridge) this.world.getWorldInfo()).bridge$getIndexForUniqueId(uuid),
-                                PlayerTracker.Type.NOTIFIER));
-            }
-        } else {
-            final int blockPos = Constants.Sponge.blockPosToInt(pos);
-            final PlayerTracker intTracker = this.trackerImpl$trackedIntBlockPositions.get(blockPos);
-            if (intTracker != null) {
-                intTracker.notifierIndex = uuid == null ? -1 : ((WorldInfoBridge) this.world.getWorldInfo()).bridge$getIndexForUniqueId(uuid);
-            } else {
-                this.trackerImpl$trackedIntBlockPositions.put(blockPos,
-                        new PlayerTracker(uuid == null ? -1 : ((WorldInfoBridge) this.world.getWorldInfo()).bridge$getIndexForUniqueId(uuid),
-                                PlayerTracker.Type.NOTIFIER));
-            }
-        }
+        this.trackerImpl$trackedBlockPositions.set(pos,
+                uuid == null ? -1 : ((WorldInfoBridge) this.world.getWorldInfo()).bridge$getIndexForUniqueId(uuid), PlayerTracker.Type.NOTIFIER);
     }
 
     // Special setter used by API
@@ -340,35 +225,13 @@ public abstract class ChunkMixin_Tracker implements ChunkBridge {
         if (((WorldBridge) this.world).bridge$isFake()) {
             return;
         }
-        if (pos.getY() <= 255) {
-            final short blockPos = Constants.Sponge.blockPosToShort(pos);
-            final PlayerTracker shortTracker = this.trackerImpl$trackedShortBlockPositions.get(blockPos);
-            if (shortTracker != null) {
-                shortTracker.ownerIndex = uuid == null ? -1 : ((WorldInfoBridge) this.world.getWorldInfo()).bridge$getIndexForUniqueId(uuid);
-            } else {
-                this.trackerImpl$trackedShortBlockPositions.put(blockPos, new PlayerTracker(uuid == null ? -1 : ((WorldInfoBridge) this.world.getWorldInfo())
-                        .bridge$getIndexForUniqueId(uuid), PlayerTracker.Type.OWNER));
-            }
-        } else {
-            final int blockPos = Constants.Sponge.blockPosToInt(pos);
-            final PlayerTracker intTracker = this.trackerImpl$trackedIntBlockPositions.get(blockPos);
-            if (intTracker != null) {
-                intTracker.ownerIndex = uuid == null ? -1 : ((WorldInfoBridge) this.world.getWorldInfo()).bridge$getIndexForUniqueId(uuid);
-            } else {
-                this.trackerImpl$trackedIntBlockPositions.put(blockPos, new PlayerTracker(uuid == null ? -1 : ((WorldInfoBridge) this.world.getWorldInfo())
-                        .bridge$getIndexForUniqueId(uuid), PlayerTracker.Type.OWNER));
-            }
-        }
-    }
-
-    @Override
-    public void bridge$setTrackedIntPlayerPositions(final Map<Integer, PlayerTracker> trackedPositions) {
-        this.trackerImpl$trackedIntBlockPositions = trackedPositions;
+        this.trackerImpl$trackedBlockPositions.set(pos,
+                uuid == null ? -1 : ((WorldInfoBridge) this.world.getWorldInfo()).bridge$getIndexForUniqueId(uuid), PlayerTracker.Type.OWNER);
     }
 
     @Override
-    public void bridge$setTrackedShortPlayerPositions(final Map<Short, PlayerTracker> trackedPositions) {
-        this.trackerImpl$trackedShortBlockPositions = trackedPositions;
+    public void bridge$setTrackedPlayerPositions(final PlayerTrackerTable trackedPositions) {
+        this.trackerImpl$trackedBlockPositions = trackedPositions;
     }
 
     @Inject(method = "onLoad", at = @At("HEAD"))
@@ -24,29 +24,40 @@
  */
 package org.spongepowered.common.scheduler;
 
-import org.spongepowered.api.scheduler.Task;
+import com.google.common.collect.Maps;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.SchedulerCategory;
 
-import java.util.Set;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
+import javax.annotation.Nullable;
+
 public class AsyncScheduler extends SchedulerBase {
 
     // Adjustable timeout for pending Tasks
     private long minimumTimeout = Long.MAX_VALUE;
-    private long lastProcessingTimestamp;
     // Locking mechanism
     private final Lock lock = new ReentrantLock();
     private final Condition condition = this.lock.newCondition();
     private final AtomicBoolean stateChanged = new AtomicBoolean(false);
-    // The dynamic thread pooling executor of asynchronous tasks.
-    private final ExecutorService executor = Executors.newCachedThreadPool();
+    // The executor of asynchronous tasks, created on first use as it
+    // depends on the global config.
+    @Nullable private volatile ExecutorService executor;
+    private int maxConcurrentTasksPerPlugin;
+    private int maxQueuedTasksPerPlugin;
+    // Tasks of plugins which reached their concurrency limit
+    private final Map<String, PluginTaskQueue> pluginQueues = Maps.newConcurrentMap();
 
     AsyncScheduler() {
         super(ScheduledTask.TaskSynchronicity.ASYNCHRONOUS);
@@ -58,56 +69,47 @@ public class AsyncScheduler extends SchedulerBase {
     }
 
     ExecutorService getExecutor() {
-        return this.executor;
+        ExecutorService executor = this.executor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = this.executor;
+                if (executor == null) {
+                    executor = this.executor = this.createExecutor();
+                }
+            }
+        }
+        return executor;
     }
 
-    private void mainLoop() {
-        this.lastProcessingTimestamp = System.nanoTime();
-        while (true) {
-            recalibrateMinimumTimeout();
-            this.runTick();
+    private ExecutorService createExecutor() {
+        final SchedulerCategory config = SpongeImpl.getGlobalConfigAdapter().getConfig().getScheduler();
+        this.maxConcurrentTasksPerPlugin = config.getMaxConcurrentTasksPerPlugin();
+        this.maxQueuedTasksPerPlugin = config.getMaxQueuedTasksPerPlugin();
+        if (config.useVirtualThreads()) {
+            try {
+                // Only available on Java 21 and newer
+                return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (ReflectiveOperationException e) {
+                SpongeImpl.getLogger().warn("Virtual threads are enabled for the async scheduler, but aren't supported by this JVM. "
+                        + "Falling back to a thread pool.");
+            }
+        }
+        if (config.getAsyncThreads() <= 0) {
+            // Sponge's own async tasks share this executor, so it is only bounded on request
+            return Executors.newCachedThreadPool();
         }
+        final ClassLoader classLoader = AsyncScheduler.class.getClassLoader();
+        return new ForkJoinPool(config.getAsyncThreads(), pool -> {
+            final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("Sponge Async Scheduler Worker #" + thread.getPoolIndex());
+            thread.setContextClassLoader(classLoader);
+            return thread;
+        }, null, true);
     }
 
-    private void recalibrateMinimumTimeout() {
-        this.lock.lock();
-        try {
-            Set<Task> tasks = this.getScheduledTasks();
-            this.minimumTimeout = Long.MAX_VALUE;
-            long now = System.nanoTime();
-            for (Task tmpTask : tasks) {
-                ScheduledTask task = (ScheduledTask) tmpTask;
-                if (task.getState() == ScheduledTask.ScheduledTaskState.EXECUTING) {
-                    // bail out for this task. We'll signal when we complete the task.
-                    continue;
-                }
-                // Recalibrate the wait delay for processing tasks before new
-                // tasks cause the scheduler to process pending tasks.
-                if (task.offset == 0 && task.period == 0) {
-                    this.minimumTimeout = 0;
-                }
-                // The time since the task last executed or was added to the map
-                long timeSinceLast = now - task.getTimestamp();
-
-                if (task.offset > 0 && task.getState() == ScheduledTask.ScheduledTaskState.WAITING) {
-                    // There is an offset and the task hasn't run yet
-                    this.minimumTimeout = Math.min(task.offset - timeSinceLast, this.minimumTimeout);
-                }
-                if (task.period > 0 && task.getState().isActive) {
-                    // The task repeats and has run after the initial delay
-                    this.minimumTimeout = Math.min(task.period - timeSinceLast, this.minimumTimeout);
-                }
-                if (this.minimumTimeout <= 0) {
-                    break;
-                }
-            }
-            if (!tasks.isEmpty()) {
-                long latency = System.nanoTime() - this.lastProcessingTimestamp;
-                this.minimumTimeout -= (latency <= 0) ? 0 : latency;
-                this.minimumTimeout = (this.minimumTimeout < 0) ? 0 : this.minimumTimeout;
-            }
-        } finally {
-            this.lock.unlock();
+    private void mainLoop() {
+        while (true) {
+            this.runTick();
         }
     }
 
@@ -117,7 +119,7 @@ protected void preTick() {
         try {
             // If we have something that has indicated it needs to change,
             // don't await, just continue.
-            if (!this.stateChanged.get()) {
+            if (!this.stateChanged.get() && this.minimumTimeout > 0) {
                 this.condition.await(this.minimumTimeout, TimeUnit.NANOSECONDS);
             }
             // We're processing now. Set to false.
@@ -132,7 +134,9 @@ protected void preTick() {
 
     @Override
     protected void postTick() {
-        this.lastProcessingTimestamp = System.nanoTime();
+        // Only tasks with a deadline need to wake up the scheduler, new and
+        // completed tasks signal the condition themselves.
+        this.minimumTimeout = this.getNanosUntilNextTask();
     }
 
     @Override
@@ -142,7 +146,25 @@ protected void finallyPostTick() {
 
     @Override
     protected void executeTaskRunnable(ScheduledTask task, Runnable runnable) {
-        this.executor.submit(runnable);
+        final ExecutorService executor = this.getExecutor();
+        if (this.maxConcurrentTasksPerPlugin <= 0) {
+            executor.execute(runnable);
+            return;
+        }
+        final PluginTaskQueue queue = this.pluginQueues.computeIfAbsent(task.getOwner().getId(), id -> new PluginTaskQueue());
+        synchronized (queue) {
+            if (queue.running >= this.maxConcurrentTasksPerPlugin) {
+                if (this.maxQueuedTasksPerPlugin <= 0 || queue.waiting.size() < this.maxQueuedTasksPerPlugin) {
+                    queue.waiting.add(runnable);
+                    return;
+                }
+            } else {
+                queue.running++;
+                executor.execute(() -> queue.run(runnable));
+                return;
+            }
+        }
+        this.onTaskRejected(task);
     }
 
     @Override
@@ -170,4 +192,32 @@ protected void onTaskCompletion(ScheduledTask task) {
         }
     }
 
+    /**
+     * The tasks of a single plugin waiting for one of the plugin's running
+     * tasks to complete.
+     */
+    private final class PluginTaskQueue {
+
+        private final Deque<Runnable> waiting = new ArrayDeque<>();
+        private int running;
+
+        void run(Runnable runnable) {
+            try {
+                runnable.run();
+            } finally {
+                final Runnable next;
+                synchronized (this) {
+                    next = this.waiting.poll();
+                    if (next == null) {
+                        this.running--;
+                    }
+                }
+                if (next != null) {
+                    // Hand the slot over to the next waiting task
+                    AsyncScheduler.this.getExecutor().execute(() -> this.run(next));
+                }
+            }
+        }
+    }
+
 }
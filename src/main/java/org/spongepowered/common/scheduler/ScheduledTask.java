@@ -36,6 +36,8 @@
 import java.util.function.Consumer;
 import java.util.concurrent.TimeUnit;
 
+import javax.annotation.Nullable;
+
 /**
  * An internal representation of a {@link Task} created by a plugin.
  */
@@ -48,6 +50,10 @@ public class ScheduledTask implements Task {
     private final PluginContainer owner;
     private final Consumer<Task> consumer;
     private long timestamp;
+    // The timestamp this task is ordered by while it is queued in its scheduler
+    long deadline;
+    @Nullable SchedulerBase scheduler;
+    private final TaskMetrics metrics = new TaskMetrics();
 
     // As this state is going to be read by multiple threads
     // potentially very quickly, marking this a volatile will
@@ -136,11 +142,15 @@ public long getInterval() {
 
     @Override
     public boolean cancel() {
+        final ScheduledTaskState previousState = getState();
         boolean success = false;
-        if (getState() != ScheduledTask.ScheduledTaskState.RUNNING && getState() != ScheduledTaskState.EXECUTING) {
+        if (previousState != ScheduledTask.ScheduledTaskState.RUNNING && previousState != ScheduledTaskState.EXECUTING) {
             success = true;
         }
         this.setState(ScheduledTask.ScheduledTaskState.CANCELED);
+        if (previousState != ScheduledTaskState.CANCELED && this.scheduler != null) {
+            this.scheduler.onTaskCanceled(this);
+        }
         return success;
     }
 
@@ -182,6 +192,19 @@ long nextExecutionTimestamp() {
         return this.timestamp + this.offset;
     }
 
+    /**
+     * Gets whether the timestamps of this task are currently measured in
+     * ticks rather than in nanoseconds.
+     *
+     * @return True if the current timestamps are tick based
+     */
+    boolean isTickBased() {
+        if (this.state.isActive) {
+            return this.intervalIsTicks;
+        }
+        return this.delayIsTicks;
+    }
+
     void setTimestamp(long timestamp) {
         this.timestamp = timestamp;
     }
@@ -206,6 +229,15 @@ public enum TaskSynchronicity {
         ASYNCHRONOUS
     }
 
+    /**
+     * Gets the execution statistics of this task.
+     *
+     * @return The metrics
+     */
+    public TaskMetrics getMetrics() {
+        return this.metrics;
+    }
+
     public Timing getTimingsHandler() {
         if (this.taskTimer == null) {
             this.taskTimer = SpongeTimings.getPluginSchedulerTimings(this.owner);
@@ -35,17 +35,36 @@
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
 
+import java.util.Comparator;
 import java.util.Map;
 import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.annotation.Nullable;
 
 abstract class SchedulerBase {
 
-    // The simple queue of all pending (and running) ScheduledTasks
+    private static final Comparator<ScheduledTask> DEADLINE_ORDER = Comparator.comparingLong(task -> task.deadline);
+    // Don't bother purging canceled tasks from the deadline queues below this amount
+    private static final int MIN_CANCELED_TASKS_TO_PURGE = 64;
+
+    // All pending (and running) ScheduledTasks by their unique id
     private final Map<UUID, ScheduledTask> taskMap = Maps.newConcurrentMap();
+    // Tasks that were added, or finished an execution and repeat, which still
+    // have to be moved into one of the deadline queues by the ticking thread
+    private final Queue<ScheduledTask> pendingTasks = new ConcurrentLinkedQueue<>();
+    // Tasks ordered by the timestamp of their next execution, only accessed by
+    // the ticking thread. Tick and nanosecond timestamps can't be compared, so
+    // each kind gets its own queue.
+    private final PriorityQueue<ScheduledTask> timeQueue = new PriorityQueue<>(DEADLINE_ORDER);
+    private final PriorityQueue<ScheduledTask> tickQueue = new PriorityQueue<>(DEADLINE_ORDER);
+    private final AtomicInteger canceledTasks = new AtomicInteger();
+    private final Map<String, TaskMetrics> pluginMetrics = Maps.newConcurrentMap();
     private long sequenceNumber = 0L;
     private final String taskNameFmt;
 
@@ -69,9 +88,21 @@ protected String nextName(PluginContainer plugin) {
      * @return Timestamp for the task
      */
     protected long getTimestamp(ScheduledTask task) {
+        if (task.isTickBased()) {
+            return this.getTickTimestamp();
+        }
         return System.nanoTime();
     }
 
+    /**
+     * Gets the current timestamp of tasks which are measured in ticks.
+     *
+     * @return The current tick
+     */
+    protected long getTickTimestamp() {
+        return 0L;
+    }
+
     /**
      * Adds the task to the task map, will attempt to process the task on the
      * next call to {@link #runTick}.
@@ -80,7 +111,9 @@ protected long getTimestamp(ScheduledTask task) {
      */
     protected void addTask(ScheduledTask task) {
         task.setTimestamp(this.getTimestamp(task));
+        task.scheduler = this;
         this.taskMap.put(task.getUniqueId(), task);
+        this.pendingTasks.add(task);
     }
 
     /**
@@ -92,6 +125,17 @@ protected void removeTask(ScheduledTask task) {
         this.taskMap.remove(task.getUniqueId());
     }
 
+    /**
+     * Called when a task owned by this scheduler is canceled. The task is
+     * removed from the deadline queues lazily.
+     *
+     * @param task The canceled task
+     */
+    void onTaskCanceled(ScheduledTask task) {
+        this.removeTask(task);
+        this.canceledTasks.incrementAndGet();
+    }
+
     protected Optional<Task> getTask(UUID id) {
         return Optional.<Task>ofNullable(this.taskMap.get(id));
     }
@@ -103,13 +147,46 @@ protected Set<Task> getScheduledTasks() {
     }
 
     /**
-     * Process all tasks in the map.
+     * Gets the execution statistics of all tasks owned by the given plugin
+     * that were run by this scheduler.
+     *
+     * @param plugin The plugin
+     * @return The metrics
+     */
+    TaskMetrics getMetrics(PluginContainer plugin) {
+        return this.pluginMetrics.computeIfAbsent(plugin.getId(), id -> new TaskMetrics());
+    }
+
+    /**
+     * Gets the amount of nanoseconds until the next nanosecond based task is
+     * due, {@code 0} if there is work waiting to be processed or
+     * {@link Long#MAX_VALUE} if there is nothing to wait for. Must only be
+     * called from the ticking thread.
+     *
+     * @return The nanoseconds until the next task is due
+     */
+    protected long getNanosUntilNextTask() {
+        if (!this.pendingTasks.isEmpty()) {
+            return 0L;
+        }
+        final ScheduledTask next = this.timeQueue.peek();
+        if (next == null) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(0L, next.deadline - System.nanoTime());
+    }
+
+    /**
+     * Process all tasks which are due.
      */
     protected final void runTick() {
         this.preTick();
         TimingsManager.PLUGIN_SCHEDULER_HANDLER.startTimingIfSync();
         try {
-            this.taskMap.values().forEach(this::processTask);
+            this.queuePendingTasks();
+            this.purgeCanceledTasks();
+            this.processDueTasks(this.timeQueue, System.nanoTime());
+            this.processDueTasks(this.tickQueue, this.getTickTimestamp());
             this.postTick();
         } finally {
             this.finallyPostTick();
@@ -117,6 +194,37 @@ protected final void runTick() {
         TimingsManager.PLUGIN_SCHEDULER_HANDLER.stopTimingIfSync();
     }
 
+    private void queuePendingTasks() {
+        ScheduledTask task;
+        while ((task = this.pendingTasks.poll()) != null) {
+            if (task.getState() == ScheduledTask.ScheduledTaskState.CANCELED) {
+                this.removeTask(task);
+                continue;
+            }
+            task.deadline = task.nextExecutionTimestamp();
+            (task.isTickBased() ? this.tickQueue : this.timeQueue).add(task);
+        }
+    }
+
+    private void purgeCanceledTasks() {
+        final int canceled = this.canceledTasks.get();
+        if (canceled < MIN_CANCELED_TASKS_TO_PURGE || canceled < (this.timeQueue.size() + this.tickQueue.size()) / 2) {
+            return;
+        }
+        this.canceledTasks.addAndGet(-canceled);
+        this.timeQueue.removeIf(task -> task.getState() == ScheduledTask.ScheduledTaskState.CANCELED);
+        this.tickQueue.removeIf(task -> task.getState() == ScheduledTask.ScheduledTaskState.CANCELED);
+    }
+
+    private void processDueTasks(PriorityQueue<ScheduledTask> queue, long now) {
+        ScheduledTask task;
+        while ((task = queue.peek()) != null
+                && (task.deadline <= now || task.getState() == ScheduledTask.ScheduledTaskState.CANCELED)) {
+            queue.poll();
+            this.processTask(task);
+        }
+    }
+
     /**
      * Fired when the scheduler begins to tick, before any tasks are processed.
      */
@@ -137,7 +245,7 @@ protected void finallyPostTick() {
     }
 
     /**
-     * Processes the task.
+     * Processes a task whose deadline has passed.
      *
      * @param task The task to process
      */
@@ -148,34 +256,17 @@ protected void processTask(ScheduledTask task) {
             this.removeTask(task);
             return;
         }
-        // If the task is already being processed, we wait for the previous
-        // occurrence to terminate.
-        if (task.getState() == ScheduledTask.ScheduledTaskState.EXECUTING) {
-            return;
-        }
-        long threshold = Long.MAX_VALUE;
-        // Figure out if we start a delayed Task after threshold ticks or, start
-        // it after the interval (period) of the repeating task parameter.
-        if (task.getState() == ScheduledTask.ScheduledTaskState.WAITING) {
-            threshold = task.offset;
-        } else if (task.getState() == ScheduledTask.ScheduledTaskState.RUNNING) {
-            threshold = task.period;
-        }
-        // This moment is 'now'
-        long now = this.getTimestamp(task);
-        // So, if the current time minus the timestamp of the task is greater
-        // than the delay to wait before starting the task, then start the task.
-        // Repeating tasks get a reset-timestamp each time they are set RUNNING
+        // Repeating tasks are only queued again once their previous execution
+        // has completed, so the task can't be executing at this point.
+        // Repeating tasks get a reset-timestamp each time they are started,
+        // the next deadline is this timestamp plus the period.
+        task.setState(ScheduledTask.ScheduledTaskState.SWITCHING);
+        task.setTimestamp(this.getTimestamp(task));
+        startTask(task);
         // If the task has a period of 0 (zero) this task will not repeat, and
         // is removed after we start it.
-        if (threshold <= (now - task.getTimestamp())) {
-            task.setState(ScheduledTask.ScheduledTaskState.SWITCHING);
-            task.setTimestamp(this.getTimestamp(task));
-            startTask(task);
-            // If task is one time shot, remove it from the map.
-            if (task.period == 0L) {
-                this.removeTask(task);
-            }
+        if (task.period == 0L) {
+            this.removeTask(task);
         }
     }
 
@@ -185,7 +276,9 @@ protected void processTask(ScheduledTask task) {
      * @param task The task to start
      */
     protected void startTask(final ScheduledTask task) {
+        final long dispatchTime = System.nanoTime();
         this.executeTaskRunnable(task, () -> {
+            final long startTime = System.nanoTime();
             task.setState(ScheduledTask.ScheduledTaskState.EXECUTING);
             try (final PhaseContext<?> context = createContext(task, task.getOwner());
                  final Timing timings = task.getTimingsHandler()) {
@@ -201,11 +294,48 @@ protected void startTask(final ScheduledTask task) {
                 }
             } finally {
                 task.setState(ScheduledTask.ScheduledTaskState.RUNNING);
+                final long queueLatency = startTime - dispatchTime;
+                final long runTime = System.nanoTime() - startTime;
+                task.getMetrics().recordExecution(queueLatency, runTime);
+                this.getMetrics(task.getOwner()).recordExecution(queueLatency, runTime);
+                this.requeueIfRepeating(task);
                 onTaskCompletion(task);
             }
         });
     }
 
+    /**
+     * Called by an implementation of {@link #executeTaskRunnable} when it
+     * refuses to run a task. One-shot tasks are canceled along with the
+     * future waiting on them, repeating tasks skip this execution.
+     *
+     * @param task The rejected task
+     */
+    protected void onTaskRejected(ScheduledTask task) {
+        task.getMetrics().recordRejection();
+        final long rejections = this.getMetrics(task.getOwner()).recordRejection();
+        if (rejections == 1 || rejections % 1000 == 0) {
+            SpongeImpl.getLogger().warn("The Scheduler rejected the execution of task {} owned by {}, the plugin has too many queued tasks. "
+                    + "({} rejected executions so far)", task.getName(), task.getOwner().getId(), rejections);
+        }
+        if (task.period == 0L) {
+            task.setState(ScheduledTask.ScheduledTaskState.CANCELED);
+            if (task.getConsumer() instanceof FutureTaskBody) {
+                ((FutureTaskBody) task.getConsumer()).future.cancel(false);
+            }
+            return;
+        }
+        task.setState(ScheduledTask.ScheduledTaskState.RUNNING);
+        this.requeueIfRepeating(task);
+        onTaskCompletion(task);
+    }
+
+    private void requeueIfRepeating(ScheduledTask task) {
+        if (task.period > 0L && task.getState() != ScheduledTask.ScheduledTaskState.CANCELED) {
+            this.pendingTasks.add(task);
+        }
+    }
+
     @Nullable
     protected PhaseContext<?> createContext(ScheduledTask task, PluginContainer container) {
         if (task.isAsynchronous() || !Sponge.isServerAvailable()) {
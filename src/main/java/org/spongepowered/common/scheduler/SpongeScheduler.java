@@ -146,6 +146,17 @@ public SpongeExecutorService createAsyncExecutor(Object plugin) {
         return new TaskExecutorService(() -> createTaskBuilder().async(), this.asyncScheduler, checkPluginInstance(plugin));
     }
 
+    /**
+     * Gets the execution statistics of all tasks owned by the given plugin.
+     *
+     * @param plugin The plugin
+     * @param async Whether to get the metrics of asynchronous or synchronous tasks
+     * @return The metrics
+     */
+    public TaskMetrics getTaskMetrics(PluginContainer plugin, boolean async) {
+        return (async ? this.asyncScheduler : this.syncScheduler).getMetrics(plugin);
+    }
+
     /**
      * Check the object is a plugin instance.
      *
@@ -211,7 +222,7 @@ public Future<?> callSync(Runnable runnable) {
 
     public <V> Future<V> callSync(Callable<V> callable) {
         final FutureTask<V> runnable = new FutureTask<>(callable);
-        createTaskBuilder().execute(runnable).submit(SpongeImpl.getPlugin());
+        createTaskBuilder().execute(new FutureTaskBody(runnable)).submit(SpongeImpl.getPlugin());
         return runnable;
     }
 }
@@ -27,6 +27,9 @@
 import org.spongepowered.api.Sponge;
 import org.spongepowered.common.event.tracking.phase.plugin.BasicPluginContext;
 import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
+import org.spongepowered.common.util.metric.SpongeTickMetrics;
+import org.spongepowered.common.util.metric.TickMetrics;
+import org.spongepowered.common.util.metric.TickPhase;
 
 import javax.annotation.Nullable;
 
@@ -44,25 +47,18 @@ public class SyncScheduler extends SchedulerBase {
      */
     void tick() {
         this.counter++;
-        this.runTick();
+        final TickMetrics metrics = SpongeTickMetrics.getServerMetrics();
+        metrics.start(TickPhase.SCHEDULER);
+        try {
+            this.runTick();
+        } finally {
+            metrics.stop(TickPhase.SCHEDULER);
+        }
     }
 
     @Override
-    protected long getTimestamp(ScheduledTask task) {
-        if (task.getState() == ScheduledTask.ScheduledTaskState.WAITING) {
-            // The timestamp is based on the initial offset
-            if (task.delayIsTicks) {
-                return this.counter;
-            }
-            return super.getTimestamp(task);
-        } else if (task.getState().isActive) {
-            // The timestamp is based on the period
-            if (task.intervalIsTicks) {
-                return this.counter;
-            }
-            return super.getTimestamp(task);
-        }
-        return 0L;
+    protected long getTickTimestamp() {
+        return this.counter;
     }
 
     @Override
@@ -36,6 +36,7 @@
 import java.util.concurrent.Delayed;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.FutureTask;
+import java.util.concurrent.RunnableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
@@ -134,7 +135,21 @@ public SpongeFuture<?> scheduleWithFixedDelay(Runnable command, long initialDela
         return this.scheduleAtFixedRate(command, initialDelay, delay, unit);
     }
 
+    /**
+     * Gets the execution statistics of all tasks of the owning plugin which
+     * were run by the scheduler backing this executor.
+     *
+     * @return The metrics
+     */
+    public TaskMetrics getMetrics() {
+        return this.scheduler.getMetrics(this.plugin);
+    }
+
     private Task.Builder createTask(Runnable command) {
+        if (command instanceof RunnableFuture) {
+            // Released by the scheduler if it rejects the task
+            return this.taskBuilderProvider.get().execute(new FutureTaskBody((RunnableFuture<?>) command));
+        }
         return this.taskBuilderProvider.get().execute(command);
     }
 
@@ -0,0 +1,117 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import com.google.common.base.MoreObjects;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Execution statistics of a single {@link ScheduledTask} or of all tasks
+ * owned by a plugin.
+ *
+ * <p>The queue latency is the time between a task being handed to its
+ * executor and the task actually starting to run, the run time is the time
+ * spent inside of the task consumer.</p>
+ */
+public final class TaskMetrics {
+
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+    private final LongAdder totalQueueLatency = new LongAdder();
+    private final LongAdder totalRunTime = new LongAdder();
+    private final AtomicLong maxQueueLatency = new AtomicLong();
+    private final AtomicLong maxRunTime = new AtomicLong();
+
+    void recordExecution(long queueLatencyNanos, long runTimeNanos) {
+        this.executions.increment();
+        this.totalQueueLatency.add(queueLatencyNanos);
+        this.totalRunTime.add(runTimeNanos);
+        this.maxQueueLatency.accumulateAndGet(queueLatencyNanos, Math::max);
+        this.maxRunTime.accumulateAndGet(runTimeNanos, Math::max);
+    }
+
+    long recordRejection() {
+        this.rejections.increment();
+        return this.rejections.sum();
+    }
+
+    /**
+     * Gets the amount of completed executions.
+     *
+     * @return The amount of executions
+     */
+    public long getExecutions() {
+        return this.executions.sum();
+    }
+
+    /**
+     * Gets the amount of executions that were rejected because the owning
+     * plugin exceeded its queue limit.
+     *
+     * @return The amount of rejected executions
+     */
+    public long getRejections() {
+        return this.rejections.sum();
+    }
+
+    public long getAverageQueueLatency(TimeUnit unit) {
+        return unit.convert(average(this.totalQueueLatency.sum(), this.executions.sum()), TimeUnit.NANOSECONDS);
+    }
+
+    public long getMaxQueueLatency(TimeUnit unit) {
+        return unit.convert(this.maxQueueLatency.get(), TimeUnit.NANOSECONDS);
+    }
+
+    public long getAverageRunTime(TimeUnit unit) {
+        return unit.convert(average(this.totalRunTime.sum(), this.executions.sum()), TimeUnit.NANOSECONDS);
+    }
+
+    public long getMaxRunTime(TimeUnit unit) {
+        return unit.convert(this.maxRunTime.get(), TimeUnit.NANOSECONDS);
+    }
+
+    public long getTotalRunTime(TimeUnit unit) {
+        return unit.convert(this.totalRunTime.sum(), TimeUnit.NANOSECONDS);
+    }
+
+    private static long average(long total, long count) {
+        return count == 0 ? 0 : total / count;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("executions", this.getExecutions())
+                .add("rejections", this.getRejections())
+                .add("avgQueueLatencyUs", this.getAverageQueueLatency(TimeUnit.MICROSECONDS))
+                .add("maxQueueLatencyUs", this.getMaxQueueLatency(TimeUnit.MICROSECONDS))
+                .add("avgRunTimeUs", this.getAverageRunTime(TimeUnit.MICROSECONDS))
+                .add("maxRunTimeUs", this.getMaxRunTime(TimeUnit.MICROSECONDS))
+                .toString();
+    }
+}
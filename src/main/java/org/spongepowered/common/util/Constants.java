@@ -159,6 +159,8 @@ public static final class Sponge {
         public static final String SPONGE_ENTITY_CREATOR = "Creator";
         public static final String SPONGE_ENTITY_NOTIFIER = "Notifier";
         public static final String SPONGE_BLOCK_POS_TABLE = "BlockPosTable";
+        public static final String SPONGE_SHORT_POS_TRACKERS = "ShortPosTrackers";
+        public static final String SPONGE_INT_POS_TRACKERS = "IntPosTrackers";
         public static final String SPONGE_PLAYER_UUID_TABLE = "PlayerIdTable";
         public static final String CUSTOM_MANIPULATOR_TAG_LIST = "CustomManipulators";
         public static final DataQuery CUSTOM_MANIPULATOR_LIST = of(CUSTOM_MANIPULATOR_TAG_LIST);
@@ -396,9 +398,12 @@ public static final class World {
         public static final UUID INVALID_WORLD_UUID = java.util.UUID.fromString("00000000-0000-0000-0000-000000000000");
         public static final int DEFAULT_CHUNK_UNLOAD_DELAY = 15000;
         public static final int MAX_CHUNK_UNLOADS = 100;
+        public static final int CHUNK_UNLOAD_TIME_BUDGET = 10;
         public static final String GENERATE_BONUS_CHEST = "GenerateBonusChest";
         public static final int CHUNK_UNLOAD_DELAY = 30000;
         public static final int END_DIMENSION_ID = 1;
+        public static final int REGION_SHIFT = 5;
+        public static final int CHUNKS_PER_REGION = 1024;
 
         public static final class Teleporter {
 
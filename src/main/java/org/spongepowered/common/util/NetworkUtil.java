@@ -165,12 +165,21 @@ public static void initializeConnectionToPlayer(final PlayerList playerList, fin
 
         final NBTTagCompound nbttagcompound = playerList.readPlayerDataFromFile(playerIn);
         WorldServer worldServer = ((PlayerListAccessor) playerList).accessor$getPlayerListServer().getWorld(playerIn.dimension);
+        // Sponge - Worlds still preparing their spawn area in the background can not be joined yet
+        final boolean preparingSpawn = !((WorldServerBridge) worldServer).bridge$isSpawnPrepared();
+        if (preparingSpawn) {
+            SpongeImpl.getLogger().info("Player [{}] has attempted to login to world [{}] which is still preparing its start region. We have "
+                                        + "moved them to the default world's spawn point.", playerIn.getName(), playerIn.dimension);
+            worldServer = ((PlayerListAccessor) playerList).accessor$getPlayerListServer().getWorld(0);
+        }
         final int actualDimensionId = ((WorldServerBridge) worldServer).bridge$getDimensionId();
         final BlockPos spawnPos;
 
         if (actualDimensionId != playerIn.dimension) {
-            SpongeImpl.getLogger().warn("Player [{}] has attempted to login to unloaded world [{}]. This is not safe so we have moved them to "
-                                        + "the default world's spawn point.", playerIn.getName(), playerIn.dimension);
+            if (!preparingSpawn) {
+                SpongeImpl.getLogger().warn("Player [{}] has attempted to login to unloaded world [{}]. This is not safe so we have moved them to "
+                                            + "the default world's spawn point.", playerIn.getName(), playerIn.dimension);
+            }
             final Optional<Instant> firstJoined = SpongePlayerDataHandler.getFirstJoined(playerIn.getUniqueID());
             if (!firstJoined.isPresent()) {
                 spawnPos = SpongeImplHooks.getRandomizedSpawnPoint(worldServer);
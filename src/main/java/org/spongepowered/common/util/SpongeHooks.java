@@ -68,6 +68,7 @@
 import org.spongepowered.common.registry.type.BlockTypeRegistryModule;
 import org.spongepowered.common.registry.type.block.TileEntityTypeRegistryModule;
 import org.spongepowered.common.registry.type.entity.EntityTypeRegistryModule;
+import org.spongepowered.common.util.metric.SpongeTickMetrics;
 import org.spongepowered.common.world.BlockChange;
 import org.spongepowered.common.world.WorldManager;
 import org.spongepowered.common.world.teleport.ConfigTeleportHelperFilter;
@@ -518,6 +519,7 @@ public static void refreshActiveConfigs() {
                 }
             }
         }
+        SpongeTickMetrics.refresh();
         ConfigTeleportHelperFilter.invalidateCache();
     }
 
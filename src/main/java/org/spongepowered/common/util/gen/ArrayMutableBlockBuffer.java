@@ -25,7 +25,6 @@
 package org.spongepowered.common.util.gen;
 
 import com.flowpowered.math.vector.Vector3i;
-import net.minecraft.util.math.MathHelper;
 import org.spongepowered.api.block.BlockState;
 import org.spongepowered.api.block.BlockTypes;
 import org.spongepowered.api.util.DiscreteTransform3;
@@ -90,6 +89,23 @@ public ArrayMutableBlockBuffer(Palette<BlockState> palette, Vector3i start, Vect
         this.data = new CharBackingData(blocks);
     }
 
+    /**
+     * Creates a buffer with packed storage sized for the ids currently known
+     * to the given palette. Unlike the other constructors the storage is not
+     * filled with air, as callers are expected to populate every position
+     * through {@link #setPaletteIds(int, int[], int)}.
+     *
+     * @param palette The palette the ids will refer to
+     * @param start The start block position
+     * @param size The block size
+     * @return The new buffer
+     */
+    public static ArrayMutableBlockBuffer forPaletteIds(Palette<BlockState> palette, Vector3i start, Vector3i size) {
+        return new ArrayMutableBlockBuffer(palette, new PackedBackingData(size.getX() * size.getY() * size.getZ(),
+            // A single bit at minimum, zero width storage has nowhere to put an id
+            Math.max(palette.getHighestId(), 1)), start, size);
+    }
+
     /**
      * Does not clone!
      *
@@ -186,6 +202,46 @@ public ImmutableBlockVolume getImmutableBlockCopy() {
         return new ArrayImmutableBlockBuffer(this.palette, this.data.copyOf(), this.start, this.size);
     }
 
+    /**
+     * Writes raw palette ids into this buffer, bypassing the palette lookup
+     * of {@link #setBlock(int, int, int, BlockState)}. Positions are walked
+     * in schematic order, x fastest then z then y, starting from the
+     * {@code first} index relative to the buffer's minimum.
+     *
+     * @param first The schematic order index of the first id
+     * @param ids The ids to write
+     * @param count The number of ids to write
+     */
+    public void setPaletteIds(int first, int[] ids, int count) {
+        checkIdRange(first, count);
+        final int width = this.size.getX();
+        final int length = this.size.getZ();
+        final int max = this.data.getMax();
+        int x = first % width;
+        int z = first / width % length;
+        int y = first / (width * length);
+        for (int i = 0; i < count; i++) {
+            final int id = ids[i];
+            if (id < 0 || id > max) {
+                throw new IllegalArgumentException("Palette id " + id + " is out of range for this buffer (max " + max + ")");
+            }
+            this.data.set(getIndex(this.start.getX() + x, this.start.getY() + y, this.start.getZ() + z), id);
+            if (++x == width) {
+                x = 0;
+                if (++z == length) {
+                    z = 0;
+                    y++;
+                }
+            }
+        }
+    }
+
+    private void checkIdRange(int first, int count) {
+        if (first < 0 || count < 0 || first + count > area()) {
+            throw new IndexOutOfBoundsException("Ids [" + first + ", " + (first + count) + ") are outside of a volume of " + area());
+        }
+    }
+
     private int area() {
         return this.size.getX() * this.size.getY() * this.size.getZ();
     }
@@ -310,7 +366,7 @@ public PackedBackingData(int size, int highestValue) {
             this.bits = bits;
 
             this.maxValue = (1 << bits) - 1;
-            this.longArray = new long[MathHelper.roundUp(size * bits, Long.SIZE) / Long.SIZE];
+            this.longArray = new long[(int) (((long) size * bits + Long.SIZE - 1) / Long.SIZE)];
         }
 
         private PackedBackingData(int size, int bits, long[] array) {
@@ -322,9 +378,9 @@ private PackedBackingData(int size, int bits, long[] array) {
 
         @Override
         public void set(int index, int value) {
-            int bitIndex = index * this.bits;
-            int longIndex = bitIndex / Long.SIZE;
-            int bitOffset = bitIndex % Long.SIZE;
+            long bitIndex = (long) index * this.bits;
+            int longIndex = (int) (bitIndex / Long.SIZE);
+            int bitOffset = (int) (bitIndex % Long.SIZE);
 
             this.longArray[longIndex] = this.longArray[longIndex] & ~(this.maxValue << bitOffset) | (long) value << bitOffset;
 
@@ -339,10 +395,10 @@ public void set(int index, int value) {
 
         @Override
         public int get(int index) {
-            int bitIndex = index * this.bits;
-            int longIndex = bitIndex / Long.SIZE;
-            int rightLongIndex = (bitIndex + this.bits - 1) / 64;
-            int bitOffset = bitIndex % 64;
+            long bitIndex = (long) index * this.bits;
+            int longIndex = (int) (bitIndex / Long.SIZE);
+            int rightLongIndex = (int) ((bitIndex + this.bits - 1) / 64);
+            int bitOffset = (int) (bitIndex % 64);
 
             if (bitOffset + this.bits > Long.SIZE) {
                 // The entry is split between two longs
@@ -0,0 +1,176 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util.metric;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of nanosecond latencies with a fixed memory
+ * footprint, in the style of HdrHistogram.
+ *
+ * <p>Values are counted in buckets of exponentially growing size, each
+ * power of two is split into {@value #SUB_BUCKET_COUNT} linear sub
+ * buckets. Every recorded value is therefore accurate to within about 6%,
+ * from single nanoseconds up to the full {@code long} range. Recording is
+ * a handful of atomic increments and may happen from any thread.</p>
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_MASK = SUB_BUCKET_COUNT - 1;
+    // Values below SUB_BUCKET_COUNT have their own bucket, every magnitude above that gets SUB_BUCKET_COUNT buckets
+    private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) << SUB_BUCKET_BITS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder total = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    static int indexOf(final long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return value < 0 ? 0 : (int) value;
+        }
+        final int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        final int shift = magnitude - SUB_BUCKET_BITS;
+        return ((shift + 1) << SUB_BUCKET_BITS) | (int) (value >>> shift) & SUB_BUCKET_MASK;
+    }
+
+    static long lowestValueAt(final int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        final int shift = (index >> SUB_BUCKET_BITS) - 1;
+        return (long) (SUB_BUCKET_COUNT | index & SUB_BUCKET_MASK) << shift;
+    }
+
+    static long highestValueAt(final int index) {
+        return index + 1 == BUCKET_COUNT ? Long.MAX_VALUE : lowestValueAt(index + 1) - 1;
+    }
+
+    /**
+     * Records a single latency.
+     *
+     * @param nanos The latency in nanoseconds
+     */
+    public void record(final long nanos) {
+        this.counts.incrementAndGet(indexOf(nanos));
+        this.total.add(nanos);
+        // Only contended while a new maximum is being recorded
+        long currentMax = this.max.get();
+        while (nanos > currentMax && !this.max.compareAndSet(currentMax, nanos)) {
+            currentMax = this.max.get();
+        }
+    }
+
+    /**
+     * Clears all recorded values. Values recorded concurrently may or may not
+     * be cleared.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            this.counts.set(i, 0);
+        }
+        this.total.reset();
+        this.max.set(0);
+    }
+
+    /**
+     * Takes a snapshot of the recorded values, to calculate statistics from.
+     *
+     * @return The snapshot
+     */
+    public Snapshot snapshot() {
+        final long[] counts = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = this.counts.get(i);
+            count += counts[i];
+        }
+        return new Snapshot(counts, count, this.total.sum(), this.max.get());
+    }
+
+    public static final class Snapshot {
+
+        private final long[] counts;
+        private final long count;
+        private final long total;
+        private final long max;
+
+        Snapshot(final long[] counts, final long count, final long total, final long max) {
+            this.counts = counts;
+            this.count = count;
+            this.total = total;
+            this.max = max;
+        }
+
+        public long getCount() {
+            return this.count;
+        }
+
+        public long getTotal(final TimeUnit unit) {
+            return unit.convert(this.total, TimeUnit.NANOSECONDS);
+        }
+
+        public double getMean(final TimeUnit unit) {
+            return this.count == 0 ? 0 : toUnit((double) this.total / this.count, unit);
+        }
+
+        public double getMax(final TimeUnit unit) {
+            return toUnit(this.max, unit);
+        }
+
+        /**
+         * Gets the highest value that the given percentage of all recorded
+         * values are at or below, within the precision of the histogram.
+         *
+         * @param percentile The percentile, from 0 to 100
+         * @param unit The unit to return the value in
+         * @return The value at the percentile, or 0 if nothing was recorded
+         */
+        public double getValueAtPercentile(final double percentile, final TimeUnit unit) {
+            if (this.count == 0) {
+                return 0;
+            }
+            final long target = Math.max(1, (long) Math.ceil(Math.min(percentile, 100.0) / 100.0 * this.count));
+            long seen = 0;
+            for (int i = 0; i < this.counts.length; i++) {
+                seen += this.counts[i];
+                if (seen >= target) {
+                    return toUnit(Math.min(highestValueAt(i), this.max), unit);
+                }
+            }
+            return toUnit(this.max, unit);
+        }
+
+        private static double toUnit(final double nanos, final TimeUnit unit) {
+            return nanos / TimeUnit.NANOSECONDS.convert(1, unit);
+        }
+
+    }
+
+}
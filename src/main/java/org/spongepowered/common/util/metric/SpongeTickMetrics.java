@@ -0,0 +1,243 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util.metric;
+
+import com.google.gson.stream.JsonWriter;
+import org.spongepowered.api.scheduler.Task;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.TickMetricsCategory;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+
+/**
+ * Holds the {@link TickMetrics} of the server and every world, and exports
+ * them in the Prometheus text format and as JSON.
+ */
+public final class SpongeTickMetrics {
+
+    public static final String SERVER_SCOPE = "server";
+    public static final String PROMETHEUS_FILE = "tick-metrics.prom";
+    public static final String JSON_FILE = "tick-metrics.json";
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+    // The Prometheus quantile labels of PERCENTILES, computing them would print 0.9990000000000001
+    private static final String[] QUANTILES = {"0.5", "0.9", "0.99", "0.999"};
+    private static final String[] PERCENTILE_NAMES = {"p50", "p90", "p99", "p999"};
+
+    private static final TickMetrics server = new TickMetrics(SERVER_SCOPE);
+    private static final Map<String, TickMetrics> worlds = new ConcurrentSkipListMap<>();
+    // Replaced as a whole on refresh, nothing is collected until the config is read
+    private static volatile boolean[] collecting = new boolean[TickPhase.values().length];
+    @Nullable private static Task exportTask;
+
+    private SpongeTickMetrics() {
+    }
+
+    static boolean isCollecting(final TickPhase phase) {
+        return collecting[phase.ordinal()];
+    }
+
+    public static TickMetrics getServerMetrics() {
+        return server;
+    }
+
+    /**
+     * Gets the metrics of the world with the given folder name. The metrics
+     * are kept when the world unloads and continue if it is loaded again.
+     *
+     * @param worldName The world folder name
+     * @return The metrics
+     */
+    public static TickMetrics forWorld(final String worldName) {
+        return worlds.computeIfAbsent(worldName, TickMetrics::new);
+    }
+
+    /**
+     * Gets the metrics of the server followed by those of every world,
+     * ordered by name.
+     *
+     * @return The metrics
+     */
+    public static List<TickMetrics> getAll() {
+        final List<TickMetrics> all = new ArrayList<>(worlds.size() + 1);
+        all.add(server);
+        all.addAll(worlds.values());
+        return all;
+    }
+
+    public static void reset() {
+        for (final TickMetrics metrics : getAll()) {
+            metrics.reset();
+        }
+    }
+
+    /**
+     * Reads the phases to collect and the export interval from the global
+     * config, and reschedules the export task.
+     */
+    public static synchronized void refresh() {
+        final TickMetricsCategory category = SpongeImpl.getGlobalConfigAdapter().getConfig().getMetricsCategory().getTickMetrics();
+        final TickPhase[] phases = TickPhase.values();
+        final boolean[] collecting = new boolean[phases.length];
+        for (final TickPhase phase : phases) {
+            collecting[phase.ordinal()] = category.isEnabled() && category.isPhaseEnabled(phase);
+        }
+        SpongeTickMetrics.collecting = collecting;
+
+        if (exportTask != null) {
+            exportTask.cancel();
+            exportTask = null;
+        }
+        if (category.isEnabled() && category.getExportInterval() > 0) {
+            final Path directory = SpongeImpl.getGameDir().resolve(category.getExportDirectory());
+            exportTask = Task.builder()
+                .async()
+                .name("Sponge - Tick metrics export")
+                .interval(category.getExportInterval(), TimeUnit.SECONDS)
+                .execute(() -> {
+                    try {
+                        export(directory);
+                    } catch (IOException e) {
+                        SpongeImpl.getLogger().warn("Could not export tick metrics to {}", directory, e);
+                    }
+                })
+                .submit(SpongeImpl.getPlugin());
+        }
+    }
+
+    /**
+     * Writes the Prometheus and JSON exports into the given directory. The
+     * files are replaced atomically, so they can be picked up by a file
+     * based collector at any time.
+     *
+     * @param directory The directory
+     * @throws IOException If the files could not be written
+     */
+    public static void export(final Path directory) throws IOException {
+        Files.createDirectories(directory);
+        final Path prometheus = directory.resolve(PROMETHEUS_FILE + ".tmp");
+        try (Writer writer = Files.newBufferedWriter(prometheus, StandardCharsets.UTF_8)) {
+            writePrometheus(writer);
+        }
+        Files.move(prometheus, directory.resolve(PROMETHEUS_FILE), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        final Path json = directory.resolve(JSON_FILE + ".tmp");
+        try (Writer writer = Files.newBufferedWriter(json, StandardCharsets.UTF_8)) {
+            writeJson(writer);
+        }
+        Files.move(json, directory.resolve(JSON_FILE), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public static void writePrometheus(final Writer writer) throws IOException {
+        final List<TickMetrics> all = getAll();
+        final TickPhase[] phases = TickPhase.values();
+        // Samples of a metric have to be grouped together, so snapshot everything up front
+        final LatencyHistogram.Snapshot[][] snapshots = new LatencyHistogram.Snapshot[all.size()][phases.length];
+        for (int i = 0; i < all.size(); i++) {
+            for (final TickPhase phase : phases) {
+                snapshots[i][phase.ordinal()] = all.get(i).getHistogram(phase).snapshot();
+            }
+        }
+
+        writer.write("# HELP sponge_tick_phase_seconds Time spent in a phase of the server tick.\n");
+        writer.write("# TYPE sponge_tick_phase_seconds summary\n");
+        for (int i = 0; i < all.size(); i++) {
+            for (final TickPhase phase : phases) {
+                final LatencyHistogram.Snapshot snapshot = snapshots[i][phase.ordinal()];
+                if (snapshot.getCount() == 0) {
+                    continue;
+                }
+                final String labels = labels(all.get(i), phase);
+                for (int p = 0; p < PERCENTILES.length; p++) {
+                    writer.write("sponge_tick_phase_seconds{" + labels + ",quantile=\"" + QUANTILES[p] + "\"} "
+                        + snapshot.getValueAtPercentile(PERCENTILES[p], TimeUnit.SECONDS) + "\n");
+                }
+                writer.write("sponge_tick_phase_seconds_sum{" + labels + "} " + snapshot.getTotal(TimeUnit.NANOSECONDS) / 1e9 + "\n");
+                writer.write("sponge_tick_phase_seconds_count{" + labels + "} " + snapshot.getCount() + "\n");
+            }
+        }
+
+        writer.write("# HELP sponge_tick_phase_max_seconds Longest time spent in a phase of the server tick.\n");
+        writer.write("# TYPE sponge_tick_phase_max_seconds gauge\n");
+        for (int i = 0; i < all.size(); i++) {
+            for (final TickPhase phase : phases) {
+                final LatencyHistogram.Snapshot snapshot = snapshots[i][phase.ordinal()];
+                if (snapshot.getCount() != 0) {
+                    writer.write("sponge_tick_phase_max_seconds{" + labels(all.get(i), phase) + "} " + snapshot.getMax(TimeUnit.SECONDS) + "\n");
+                }
+            }
+        }
+    }
+
+    public static void writeJson(final Writer writer) throws IOException {
+        final JsonWriter json = new JsonWriter(writer);
+        json.setIndent("  ");
+        json.beginObject();
+        json.name("timestamp").value(System.currentTimeMillis());
+        json.name("scopes").beginArray();
+        for (final TickMetrics metrics : getAll()) {
+            json.beginObject();
+            json.name("name").value(metrics.getName());
+            json.name("phases").beginObject();
+            for (final TickPhase phase : TickPhase.values()) {
+                final LatencyHistogram.Snapshot snapshot = metrics.getHistogram(phase).snapshot();
+                if (snapshot.getCount() == 0) {
+                    continue;
+                }
+                json.name(phase.getId()).beginObject();
+                json.name("count").value(snapshot.getCount());
+                json.name("mean_ms").value(snapshot.getMean(TimeUnit.MILLISECONDS));
+                for (int i = 0; i < PERCENTILES.length; i++) {
+                    json.name(PERCENTILE_NAMES[i] + "_ms").value(snapshot.getValueAtPercentile(PERCENTILES[i], TimeUnit.MILLISECONDS));
+                }
+                json.name("max_ms").value(snapshot.getMax(TimeUnit.MILLISECONDS));
+                json.endObject();
+            }
+            json.endObject();
+            json.endObject();
+        }
+        json.endArray();
+        json.endObject();
+        json.flush();
+    }
+
+    private static String labels(final TickMetrics metrics, final TickPhase phase) {
+        // Escape the world name as a label value
+        final String scope = metrics.getName().replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+        return "scope=\"" + scope + "\",phase=\"" + phase.getId() + "\"";
+    }
+
+}
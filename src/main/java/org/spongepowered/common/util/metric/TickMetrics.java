@@ -0,0 +1,126 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util.metric;
+
+/**
+ * The tick phase histograms of a single world, or of the server for the
+ * phases that do not belong to a world.
+ *
+ * <p>Phases that are entered multiple times within a tick are timed with
+ * {@link #start(TickPhase)} and {@link #stop(TickPhase)}, which only
+ * accumulate the time on the main thread until {@link #endTick()} records
+ * the total of the tick. Work done outside of the tick, possibly on other
+ * threads, is recorded directly with {@link #record(TickPhase, long)}.</p>
+ */
+public final class TickMetrics {
+
+    private static final TickPhase[] PHASES = TickPhase.values();
+
+    private final String name;
+    private final LatencyHistogram[] histograms = new LatencyHistogram[PHASES.length];
+    // Main thread only
+    private final long[] startTimes = new long[PHASES.length];
+    private final long[] tickTimes = new long[PHASES.length];
+    private final int[] depths = new int[PHASES.length];
+    private final boolean[] running = new boolean[PHASES.length];
+    private final boolean[] entered = new boolean[PHASES.length];
+
+    TickMetrics(final String name) {
+        this.name = name;
+        for (int i = 0; i < PHASES.length; i++) {
+            this.histograms[i] = new LatencyHistogram();
+        }
+    }
+
+    /**
+     * Gets the name of the world these metrics belong to, or
+     * {@link SpongeTickMetrics#SERVER_SCOPE} for server wide phases.
+     *
+     * @return The name
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    public LatencyHistogram getHistogram(final TickPhase phase) {
+        return this.histograms[phase.ordinal()];
+    }
+
+    /**
+     * Starts timing the given phase. Nested calls are counted so that only
+     * the outermost pair of calls is timed.
+     *
+     * @param phase The phase
+     */
+    public void start(final TickPhase phase) {
+        final int index = phase.ordinal();
+        if (this.depths[index]++ == 0 && SpongeTickMetrics.isCollecting(phase)) {
+            this.startTimes[index] = System.nanoTime();
+            this.running[index] = true;
+            this.entered[index] = true;
+        }
+    }
+
+    public void stop(final TickPhase phase) {
+        final int index = phase.ordinal();
+        if (this.depths[index] > 0 && --this.depths[index] == 0 && this.running[index]) {
+            this.tickTimes[index] += System.nanoTime() - this.startTimes[index];
+            this.running[index] = false;
+        }
+    }
+
+    /**
+     * Records the time accumulated for each phase entered during this tick.
+     */
+    public void endTick() {
+        for (int i = 0; i < PHASES.length; i++) {
+            if (this.entered[i]) {
+                this.histograms[i].record(this.tickTimes[i]);
+                this.tickTimes[i] = 0;
+                this.entered[i] = false;
+            }
+        }
+    }
+
+    /**
+     * Records a single measurement of the given phase. This may be called
+     * from any thread.
+     *
+     * @param phase The phase
+     * @param nanos The time spent in nanoseconds
+     */
+    public void record(final TickPhase phase, final long nanos) {
+        if (SpongeTickMetrics.isCollecting(phase)) {
+            this.histograms[phase.ordinal()].record(nanos);
+        }
+    }
+
+    void reset() {
+        for (final LatencyHistogram histogram : this.histograms) {
+            histogram.reset();
+        }
+    }
+
+}
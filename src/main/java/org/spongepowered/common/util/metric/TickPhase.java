@@ -0,0 +1,61 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util.metric;
+
+/**
+ * The phases of a server tick that are recorded by {@link TickMetrics}.
+ */
+public enum TickPhase {
+
+    ENTITIES("entities"),
+    TILE_ENTITIES("tile-entities"),
+    CHUNK_UNLOAD("chunk-unload"),
+    SCHEDULER("scheduler"),
+    /**
+     * The processing time of asynchronous lighting batches, which run
+     * outside of the tick on the lighting threads.
+     */
+    LIGHTING("lighting"),
+    /**
+     * The time spent in the listeners of a single posted event.
+     */
+    EVENT_DISPATCH("event-dispatch");
+
+    private final String id;
+
+    TickPhase(final String id) {
+        this.id = id;
+    }
+
+    /**
+     * Gets the id used for this phase in the config and exports.
+     *
+     * @return The id
+     */
+    public String getId() {
+        return this.id;
+    }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import net.minecraft.util.math.BlockPos;
+import org.spongepowered.api.world.Location;
+import org.spongepowered.api.world.World;
+import org.spongepowered.common.util.VecHelper;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A mutable view of a list of {@link BlockPos}itions as {@link Location}s
+ * of a world. The locations are only created when they are read, and
+ * changes are written through to the positions.
+ */
+public final class BlockPosLocationList extends AbstractList<Location<World>> implements RandomAccess {
+
+    private final World world;
+    private final List<BlockPos> positions;
+
+    public BlockPosLocationList(final World world, final List<BlockPos> positions) {
+        this.world = checkNotNull(world, "world");
+        this.positions = checkNotNull(positions, "positions");
+    }
+
+    /**
+     * Gets the positions backing this list.
+     *
+     * @return The positions
+     */
+    public List<BlockPos> getPositions() {
+        return this.positions;
+    }
+
+    @Override
+    public Location<World> get(final int index) {
+        final BlockPos pos = this.positions.get(index);
+        return new Location<>(this.world, pos.getX(), pos.getY(), pos.getZ());
+    }
+
+    @Override
+    public Location<World> set(final int index, final Location<World> location) {
+        final BlockPos previous = this.positions.set(index, this.toBlockPos(location));
+        return new Location<>(this.world, previous.getX(), previous.getY(), previous.getZ());
+    }
+
+    @Override
+    public void add(final int index, final Location<World> location) {
+        this.positions.add(index, this.toBlockPos(location));
+    }
+
+    @Override
+    public Location<World> remove(final int index) {
+        final BlockPos previous = this.positions.remove(index);
+        return new Location<>(this.world, previous.getX(), previous.getY(), previous.getZ());
+    }
+
+    @Override
+    public void clear() {
+        this.positions.clear();
+    }
+
+    @Override
+    public int size() {
+        return this.positions.size();
+    }
+
+    private BlockPos toBlockPos(final Location<World> location) {
+        return VecHelper.toBlockPos(checkNotNull(location, "location"));
+    }
+
+}
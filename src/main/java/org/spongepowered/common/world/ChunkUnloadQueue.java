@@ -0,0 +1,204 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.chunk.Chunk;
+import org.spongepowered.common.bridge.world.chunk.ChunkBridge;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+
+/**
+ * Holds the chunks of a world that are queued for unload, ordered by the
+ * time they become eligible to unload. This allows the chunk provider to
+ * only look at chunks that are due instead of walking all loaded chunks
+ * every tick.
+ *
+ * <p>Chunks that become active again are removed eagerly when the provider
+ * notices it, any other stale entries are discarded once they are polled.
+ * Only accessed from the main thread.</p>
+ */
+public final class ChunkUnloadQueue {
+
+    private final PriorityQueue<Entry> queue = new PriorityQueue<>(Comparator.comparingLong(entry -> entry.deadline));
+    private final Long2ObjectOpenHashMap<Entry> entries = new Long2ObjectOpenHashMap<>();
+    private int removedEntries;
+
+    private long chunksUnloaded;
+    private long totalLatency;
+    private long maxLatency;
+
+    /**
+     * Queues the chunk for unload. Chunks that are already queued keep their
+     * original deadline.
+     *
+     * @param chunk The chunk to queue
+     * @param now The current time in milliseconds
+     * @param unloadDelay The configured unload delay in milliseconds
+     */
+    public void add(final Chunk chunk, final long now, final long unloadDelay) {
+        final long key = ChunkPos.asLong(chunk.x, chunk.z);
+        final Entry existing = this.entries.get(key);
+        if (existing != null) {
+            if (existing.chunk == chunk) {
+                return;
+            }
+            // A different chunk instance for the same position, the old one was unloaded elsewhere
+            this.markRemoved(existing);
+        }
+        final Entry entry = new Entry(chunk, now);
+        entry.deadline = getDeadline(chunk, now, unloadDelay);
+        this.entries.put(key, entry);
+        this.queue.add(entry);
+    }
+
+    /**
+     * Removes the chunk from the queue, usually because it became active
+     * again or was unloaded through other means.
+     *
+     * @param chunk The chunk to remove
+     * @return True if the chunk was queued
+     */
+    public boolean remove(final Chunk chunk) {
+        final long key = ChunkPos.asLong(chunk.x, chunk.z);
+        final Entry entry = this.entries.get(key);
+        if (entry == null || entry.chunk != chunk) {
+            return false;
+        }
+        this.entries.remove(key);
+        this.markRemoved(entry);
+        return true;
+    }
+
+    /**
+     * Polls the next chunk that is due to unload. Chunks whose unload delay
+     * was pushed back since they were queued are requeued with their new
+     * deadline.
+     *
+     * @param now The current time in milliseconds
+     * @param unloadDelay The configured unload delay in milliseconds
+     * @return The chunk, or null if no chunk is due
+     */
+    @Nullable
+    public Chunk poll(final long now, final long unloadDelay) {
+        Entry entry;
+        while ((entry = this.queue.peek()) != null && entry.deadline <= now) {
+            this.queue.poll();
+            if (entry.removed) {
+                this.removedEntries--;
+                continue;
+            }
+            final long deadline = getDeadline(entry.chunk, entry.queuedAt, unloadDelay);
+            if (deadline > now) {
+                entry.deadline = deadline;
+                this.queue.add(entry);
+                continue;
+            }
+            this.entries.remove(ChunkPos.asLong(entry.chunk.x, entry.chunk.z));
+            final long latency = now - entry.queuedAt;
+            this.chunksUnloaded++;
+            this.totalLatency += latency;
+            if (latency > this.maxLatency) {
+                this.maxLatency = latency;
+            }
+            return entry.chunk;
+        }
+        return null;
+    }
+
+    private void markRemoved(final Entry entry) {
+        entry.removed = true;
+        // Removing from the middle of the heap is linear, so only purge once
+        // the removed entries make up half of the queue.
+        if (++this.removedEntries > 64 && this.removedEntries > this.queue.size() / 2) {
+            this.queue.removeIf(e -> e.removed);
+            this.removedEntries = 0;
+        }
+    }
+
+    private static long getDeadline(final Chunk chunk, final long queuedAt, final long unloadDelay) {
+        final long scheduled = ((ChunkBridge) chunk).bridge$getScheduledForUnload();
+        if (unloadDelay <= 0 || scheduled == -1) {
+            return queuedAt;
+        }
+        return scheduled + unloadDelay;
+    }
+
+    /**
+     * Gets the amount of chunks currently queued for unload.
+     *
+     * @return The queue size
+     */
+    public int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * Gets the amount of chunks that were polled for unload.
+     *
+     * @return The amount of unloaded chunks
+     */
+    public long getChunksUnloaded() {
+        return this.chunksUnloaded;
+    }
+
+    /**
+     * Gets the average time between a chunk being queued and unloaded.
+     *
+     * @param unit The time unit
+     * @return The average latency
+     */
+    public long getAverageLatency(final TimeUnit unit) {
+        return this.chunksUnloaded == 0 ? 0 : unit.convert(this.totalLatency / this.chunksUnloaded, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Gets the longest time between a chunk being queued and unloaded.
+     *
+     * @param unit The time unit
+     * @return The maximum latency
+     */
+    public long getMaxLatency(final TimeUnit unit) {
+        return unit.convert(this.maxLatency, TimeUnit.MILLISECONDS);
+    }
+
+    private static final class Entry {
+
+        final Chunk chunk;
+        final long queuedAt;
+        long deadline;
+        boolean removed;
+
+        Entry(final Chunk chunk, final long queuedAt) {
+            this.chunk = chunk;
+            this.queuedAt = queuedAt;
+        }
+    }
+}
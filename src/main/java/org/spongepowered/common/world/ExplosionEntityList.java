@@ -0,0 +1,108 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import net.minecraft.entity.Entity;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+import javax.annotation.Nullable;
+
+/**
+ * A mutable view of the entities caught in an explosion, leaving out the
+ * entities that are immune to explosions. The filtered list is only built
+ * when the list is first accessed, until then the entities are left
+ * untouched.
+ */
+public final class ExplosionEntityList extends AbstractList<org.spongepowered.api.entity.Entity> implements RandomAccess {
+
+    private final List<Entity> entities;
+    @Nullable private List<org.spongepowered.api.entity.Entity> filtered;
+
+    public ExplosionEntityList(final List<Entity> entities) {
+        this.entities = checkNotNull(entities, "entities");
+    }
+
+    /**
+     * Gets whether this list has been accessed. If not, it still holds
+     * exactly the entities it was created with that are not immune to
+     * explosions.
+     *
+     * @return True if the list has been accessed
+     */
+    public boolean isAccessed() {
+        return this.filtered != null;
+    }
+
+    private List<org.spongepowered.api.entity.Entity> filtered() {
+        if (this.filtered == null) {
+            final List<org.spongepowered.api.entity.Entity> filtered = new ArrayList<>(this.entities.size());
+            for (final Entity entity : this.entities) {
+                // Make sure to check the entity is immune first.
+                if (!entity.isImmuneToExplosions()) {
+                    filtered.add((org.spongepowered.api.entity.Entity) entity);
+                }
+            }
+            this.filtered = filtered;
+        }
+        return this.filtered;
+    }
+
+    @Override
+    public org.spongepowered.api.entity.Entity get(final int index) {
+        return this.filtered().get(index);
+    }
+
+    @Override
+    public org.spongepowered.api.entity.Entity set(final int index, final org.spongepowered.api.entity.Entity entity) {
+        return this.filtered().set(index, checkNotNull(entity, "entity"));
+    }
+
+    @Override
+    public void add(final int index, final org.spongepowered.api.entity.Entity entity) {
+        this.filtered().add(index, checkNotNull(entity, "entity"));
+    }
+
+    @Override
+    public org.spongepowered.api.entity.Entity remove(final int index) {
+        return this.filtered().remove(index);
+    }
+
+    @Override
+    public void clear() {
+        this.filtered().clear();
+    }
+
+    @Override
+    public int size() {
+        return this.filtered().size();
+    }
+
+}
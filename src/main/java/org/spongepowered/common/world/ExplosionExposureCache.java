@@ -0,0 +1,119 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import it.unimi.dsi.fastutil.objects.Object2FloatMap;
+import it.unimi.dsi.fastutil.objects.Object2FloatOpenHashMap;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.World;
+
+import java.util.Objects;
+
+/**
+ * Shares the exposure of entities to the explosions that are set off at the
+ * same position during a single tick of a world. Calculating the exposure
+ * casts rays through the bounding box of every entity in range, which is
+ * most of the work of the many identical explosions of a TNT cannon.
+ *
+ * <p>The exposures are cleared at the start of every tick of the world, and
+ * whenever the total time of the world changed in between, so this is only
+ * accurate as long as the blocks between the explosion and the entity do
+ * not change during a tick.</p>
+ */
+public final class ExplosionExposureCache {
+
+    private final Object2FloatMap<Key> exposures = new Object2FloatOpenHashMap<>();
+    private long tick = Long.MIN_VALUE;
+
+    public ExplosionExposureCache() {
+        this.exposures.defaultReturnValue(Float.NaN);
+    }
+
+    /**
+     * Drops all exposures, releasing the memory a burst of explosions
+     * accumulated.
+     */
+    public void clear() {
+        if (!this.exposures.isEmpty()) {
+            this.exposures.clear();
+            this.exposures.trim();
+        }
+    }
+
+    /**
+     * Gets the exposure of the given bounding box to an explosion at the
+     * given origin, as calculated by {@link World#getBlockDensity(Vec3d, AxisAlignedBB)}.
+     *
+     * @param world The world of the explosion
+     * @param origin The origin of the explosion
+     * @param boundingBox The bounding box of the entity
+     * @return The exposure, from 0 to 1
+     */
+    public float getExposure(final World world, final Vec3d origin, final AxisAlignedBB boundingBox) {
+        final long time = world.getTotalWorldTime();
+        if (time != this.tick) {
+            this.exposures.clear();
+            this.tick = time;
+        }
+        final Key key = new Key(origin, boundingBox);
+        float exposure = this.exposures.getFloat(key);
+        if (Float.isNaN(exposure)) {
+            exposure = world.getBlockDensity(origin, boundingBox);
+            this.exposures.put(key, exposure);
+        }
+        return exposure;
+    }
+
+    private static final class Key {
+
+        private final Vec3d origin;
+        private final AxisAlignedBB boundingBox;
+
+        Key(final Vec3d origin, final AxisAlignedBB boundingBox) {
+            this.origin = origin;
+            this.boundingBox = boundingBox;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) o;
+            return this.origin.equals(other.origin) && this.boundingBox.equals(other.boundingBox);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.origin, this.boundingBox);
+        }
+
+    }
+
+}
@@ -62,7 +62,6 @@
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.event.SpongeEventFactory;
 import org.spongepowered.api.event.world.UnloadWorldEvent;
-import org.spongepowered.api.util.file.CopyFileVisitor;
 import org.spongepowered.api.util.file.DeleteFileVisitor;
 import org.spongepowered.api.util.file.ForwardingFileVisitor;
 import org.spongepowered.api.world.DimensionTypes;
@@ -80,6 +79,7 @@
 import org.spongepowered.common.bridge.world.WorldSettingsBridge;
 import org.spongepowered.common.bridge.world.chunk.ChunkProviderServerBridge;
 import org.spongepowered.common.config.SpongeConfig;
+import org.spongepowered.common.config.category.WorldStartupCategory;
 import org.spongepowered.common.config.type.GeneralConfigBase;
 import org.spongepowered.common.config.type.GlobalConfig;
 import org.spongepowered.common.data.util.DataUtil;
@@ -90,6 +90,8 @@
 import org.spongepowered.common.mixin.core.server.MinecraftServerAccessor;
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.SpongeHooks;
+import org.spongepowered.common.world.startup.SpawnAreaPreparer;
+import org.spongepowered.common.world.storage.WorldSnapshotFileVisitor;
 
 import java.io.DataInputStream;
 import java.io.File;
@@ -118,6 +120,7 @@
 import java.util.UUID;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Nullable;
 
@@ -687,7 +690,7 @@ private static Optional<WorldServer> loadWorld(final String worldName, @Nullable
         SpongeImpl.getLogger().info("Loading world [{}] ({}/{})", properties.getWorldName(), properties.getDimensionType().getId(), dimensionId);
 
         final WorldServer worldServer = createWorldFromProperties(dimensionId, saveHandler, (WorldInfo) properties, new WorldSettings((WorldInfo)
-                        properties));
+                        properties), null);
 
         // Set the worlds on the Minecraft server
         reorderWorldsVanillaFirst();
@@ -725,6 +728,9 @@ public static void loadAllWorlds(final long defaultSeed, final WorldType default
 
         registerExistingSpongeDimensions(currentSavesDir);
 
+        final WorldStartupCategory startupCategory = SpongeImpl.getGlobalConfigAdapter().getConfig().getOptimizations().getWorldStartupCategory();
+        @Nullable final SpawnAreaPreparer spawnPreparer = startupCategory.isEnabled() ? new SpawnAreaPreparer(server, startupCategory) : null;
+
         for (final Int2ReferenceMap.Entry<DimensionType> entry: sortedDimensionMap().int2ReferenceEntrySet()) {
 
             final int dimensionId = entry.getIntKey();
@@ -740,6 +746,8 @@ public static void loadAllWorlds(final long defaultSeed, final WorldType default
                 continue;
             }
 
+            final long loadStartTime = System.nanoTime();
+
             // Step 1 - Grab the world's data folder
             final Path worldFolder = getWorldFolder(dimensionType, dimensionId);
             if (worldFolder == null) {
@@ -837,14 +845,28 @@ public static void loadAllWorlds(final long defaultSeed, final WorldType default
             }
 
             // Step 7 - Finally, we can create the world and tell it to load
-            final WorldServer worldServer = createWorldFromProperties(dimensionId, saveHandler, worldInfo, worldSettings);
+            final long createStartTime = System.nanoTime();
+            final WorldServer worldServer = createWorldFromProperties(dimensionId, saveHandler, worldInfo, worldSettings, spawnPreparer);
 
-            SpongeImpl.getLogger().info("Loading world [{}] ({}/{})", ((org.spongepowered.api.world.World) worldServer).getName(),
-                apiDimensionType.getId(), dimensionId);
+            if (spawnPreparer == null) {
+                SpongeImpl.getLogger().info("Loading world [{}] ({}/{})", ((org.spongepowered.api.world.World) worldServer).getName(),
+                    apiDimensionType.getId(), dimensionId);
+            } else {
+                final long loadEndTime = System.nanoTime();
+                SpongeImpl.getLogger().info("Loaded world [{}] ({}/{}) in {} ms, {} ms reading its properties and {} ms creating it",
+                    ((org.spongepowered.api.world.World) worldServer).getName(), apiDimensionType.getId(), dimensionId,
+                    TimeUnit.NANOSECONDS.toMillis(loadEndTime - loadStartTime), TimeUnit.NANOSECONDS.toMillis(createStartTime - loadStartTime),
+                    TimeUnit.NANOSECONDS.toMillis(loadEndTime - createStartTime));
+            }
         }
 
         // Set the worlds on the Minecraft server
         reorderWorldsVanillaFirst();
+
+        // Step 8 - Load the spawn areas once all worlds exist, so their chunks can be read ahead of time
+        if (spawnPreparer != null) {
+            spawnPreparer.prepare();
+        }
     }
 
     private static WorldInfo createWorldInfoFromSettings(final Path currentSaveRoot, final org.spongepowered.api.world.DimensionType dimensionType, final int
@@ -868,7 +890,7 @@ private static WorldInfo createWorldInfoFromSettings(final Path currentSaveRoot,
     @SuppressWarnings("ConstantConditions")
     private static WorldServer createWorldFromProperties(
         final int dimensionId, final ISaveHandler saveHandler, final WorldInfo worldInfo, @Nullable final WorldSettings
-        worldSettings) {
+        worldSettings, @Nullable final SpawnAreaPreparer spawnPreparer) {
         final MinecraftServer server = SpongeImpl.getServer();
         final WorldServer worldServer = new WorldServer(server, saveHandler, worldInfo, dimensionId, server.profiler);
 
@@ -899,7 +921,11 @@ private static WorldServer createWorldFromProperties(
             }
 
             if (((DimensionTypeBridge) ((org.spongepowered.api.world.World) worldServer).getDimension().getType()).bridge$shouldLoadSpawn()) {
-                ((MinecraftServerBridge) server).bridge$prepareSpawnArea(worldServer);
+                if (spawnPreparer == null) {
+                    ((MinecraftServerBridge) server).bridge$prepareSpawnArea(worldServer);
+                } else {
+                    spawnPreparer.add(worldServer);
+                }
             }
 
             // While we try to prevnt mods from changing a worlds' WorldInfo, we aren't always
@@ -1137,20 +1163,15 @@ public static CompletableFuture<Optional<WorldProperties>> copyWorld(final World
 
         final WorldServer worldServer = worldByDimensionId.get(((WorldInfoBridge) info).bridge$getDimensionId().intValue());
         if (worldServer != null) {
+            // Flush once, the world keeps saving while its region files are copied one at a time
             try {
                 saveWorld(worldServer, true);
             } catch (MinecraftException e) {
                 throw new RuntimeException(e);
             }
-
-            ((MinecraftServerBridge) SpongeImpl.getServer()).bridge$setSaveEnabled(false);
         }
 
-        final CompletableFuture<Optional<WorldProperties>> future = SpongeImpl.getScheduler().submitAsyncTask(new CopyWorldTask(info, copyName));
-        if (worldServer != null) { // World was loaded
-            future.thenRun(() -> ((MinecraftServerBridge) SpongeImpl.getServer()).bridge$setSaveEnabled(true));
-        }
-        return future;
+        return SpongeImpl.getScheduler().submitAsyncTask(new CopyWorldTask(info, copyName));
     }
 
     public static Optional<WorldProperties> renameWorld(final WorldProperties worldProperties, final String newName) {
@@ -1249,7 +1270,7 @@ public Optional<WorldProperties> call() throws Exception {
                 return Optional.empty();
             }
 
-            FileVisitor<Path> visitor = new CopyFileVisitor(newWorldFolder);
+            FileVisitor<Path> visitor = new WorldSnapshotFileVisitor(newWorldFolder);
             if (((WorldInfoBridge) this.oldInfo).bridge$getDimensionId() == 0) {
                 oldWorldFolder = getCurrentSavesDirectory().get();
                 visitor = new ForwardingFileVisitor<Path>(visitor) {
@@ -1268,7 +1289,7 @@ public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttribut
                 };
             }
 
-            // Copy the world folder
+            // Copy the world folder, region files are locked against saves one at a time
             Files.walkFileTree(oldWorldFolder, visitor);
 
             final WorldInfo info = new WorldInfo(this.oldInfo);
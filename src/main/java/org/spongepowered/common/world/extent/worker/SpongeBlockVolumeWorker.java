@@ -38,16 +38,26 @@
 import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeMerger;
 import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeReducer;
 import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeVisitor;
+import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.event.tracking.phase.plugin.BasicPluginContext;
 import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
+import org.spongepowered.common.util.gen.AbstractBlockBuffer;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiFunction;
 
+import javax.annotation.Nullable;
+
 /**
  *
  */
 public class SpongeBlockVolumeWorker<V extends BlockVolume> implements BlockVolumeWorker<V> {
 
+    // Volumes with fewer blocks aren't worth splitting up
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+
     protected final V volume;
 
     public SpongeBlockVolumeWorker(V volume) {
@@ -77,6 +87,10 @@ public void map(BlockVolumeMapper mapper, MutableBlockVolume destination) {
         try (BasicPluginContext phaseState = PluginPhase.State.BLOCK_WORKER.createPhaseContext()
             .source(this)) {
             phaseState.buildAndSwitch();
+            if (this.canRunParallel(destination)) {
+                applyParallel(unmodifiableVolume, (x, y, z) -> mapper.map(unmodifiableVolume, x, y, z), destination, offset);
+                return;
+            }
             for (int z = zMin; z <= zMax; z++) {
                 for (int y = yMin; y <= yMax; y++) {
                     for (int x = xMin; x <= xMax; x++) {
@@ -110,6 +124,11 @@ public void merge(BlockVolume second, BlockVolumeMerger merger, MutableBlockVolu
         try (BasicPluginContext context = PluginPhase.State.BLOCK_WORKER.createPhaseContext()
             .source(this)) {
             context.buildAndSwitch();
+            if (this.canRunParallel(destination) && isDetached(second) && second != destination) {
+                applyParallel(firstUnmodifiableVolume, (x, y, z) -> merger.merge(firstUnmodifiableVolume, x, y, z,
+                    secondUnmodifiableVolume, x + xOffsetSecond, y + yOffsetSecond, z + zOffsetSecond), destination, offsetDestination);
+                return;
+            }
             for (int z = zMin; z <= zMax; z++) {
                 for (int y = yMin; y <= yMax; y++) {
                     for (int x = xMin; x <= xMax; x++) {
@@ -147,23 +166,143 @@ public void iterate(BlockVolumeVisitor<V> visitor) {
     @Override
     public <T> T reduce(BlockVolumeReducer<T> reducer, BiFunction<T, T, T> merge, T identity) {
         final UnmodifiableBlockVolume unmodifiableVolume = this.volume.getUnmodifiableBlockView();
-        final int xMin = unmodifiableVolume.getBlockMin().getX();
-        final int yMin = unmodifiableVolume.getBlockMin().getY();
-        final int zMin = unmodifiableVolume.getBlockMin().getZ();
-        final int xMax = unmodifiableVolume.getBlockMax().getX();
-        final int yMax = unmodifiableVolume.getBlockMax().getY();
-        final int zMax = unmodifiableVolume.getBlockMax().getZ();
+        if (this.canRunParallel(null)) {
+            // Like Stream#reduce, every chunk aligned sub-volume starts from the identity
+            // and the partial results are combined in order using the merge function
+            return splitChunkAligned(unmodifiableVolume).parallelStream()
+                .map(sub -> reduce(unmodifiableVolume, sub.xMin, sub.yMin, sub.zMin, sub.xMax, sub.yMax, sub.zMax, reducer, identity))
+                .reduce(merge::apply)
+                .orElse(identity);
+        }
+        final Vector3i min = unmodifiableVolume.getBlockMin();
+        final Vector3i max = unmodifiableVolume.getBlockMax();
+        return reduce(unmodifiableVolume, min.getX(), min.getY(), min.getZ(), max.getX(), max.getY(), max.getZ(), reducer, identity);
+    }
+
+    private static <T> T reduce(UnmodifiableBlockVolume volume, int xMin, int yMin, int zMin, int xMax, int yMax, int zMax,
+        BlockVolumeReducer<T> reducer, T identity) {
         T reduction = identity;
         for (int z = zMin; z <= zMax; z++) {
             for (int y = yMin; y <= yMax; y++) {
                 for (int x = xMin; x <= xMax; x++) {
-                    reduction = reducer.reduce(unmodifiableVolume, x, y, z, reduction);
+                    reduction = reducer.reduce(volume, x, y, z, reduction);
                 }
             }
         }
         return reduction;
     }
 
+    /**
+     * Gets whether an operation on the work volume, writing into the given
+     * destination, may compute blocks on multiple threads. This requires the
+     * volumes to be detached buffers, which are safe to read concurrently,
+     * and large enough to be worth splitting. Live worlds and chunks are
+     * always processed sequentially, as is everything unless parallel block
+     * workers are enabled in the config, since plugin callbacks are not
+     * expected to be thread-safe.
+     *
+     * @param destination The destination volume, or null if there is none
+     * @return True if the operation may run in parallel
+     */
+    private boolean canRunParallel(@Nullable BlockVolume destination) {
+        if (!SpongeImpl.getGlobalConfigAdapter().getConfig().getOptimizations().isParallelBlockWorkers()) {
+            return false;
+        }
+        if (!isDetached(this.volume) || (destination != null && (!isDetached(destination) || destination == this.volume))) {
+            return false;
+        }
+        final Vector3i size = this.volume.getBlockSize();
+        return (long) size.getX() * size.getY() * size.getZ() >= PARALLEL_THRESHOLD;
+    }
+
+    private static boolean isDetached(BlockVolume volume) {
+        return volume instanceof AbstractBlockBuffer;
+    }
+
+    /**
+     * Computes the blocks of the given volume in parallel, one chunk aligned
+     * sub-volume per task, and writes them into the destination on the
+     * calling thread. Buffers are not safe for concurrent writes, so the
+     * sub-volumes are processed in waves to bound the amount of blocks held
+     * in memory.
+     */
+    private static void applyParallel(UnmodifiableBlockVolume volume, BlockFunction function, MutableBlockVolume destination,
+        Vector3i offset) {
+        final int xOffset = offset.getX();
+        final int yOffset = offset.getY();
+        final int zOffset = offset.getZ();
+        final List<SubVolume> subVolumes = splitChunkAligned(volume);
+        final int waveSize = Math.max(1, ForkJoinPool.getCommonPoolParallelism() * 4);
+        for (int from = 0; from < subVolumes.size(); from += waveSize) {
+            final List<SubVolume> wave = subVolumes.subList(from, Math.min(subVolumes.size(), from + waveSize));
+            wave.parallelStream().forEach(sub -> sub.compute(function));
+            for (SubVolume sub : wave) {
+                int i = 0;
+                for (int z = sub.zMin; z <= sub.zMax; z++) {
+                    for (int y = sub.yMin; y <= sub.yMax; y++) {
+                        for (int x = sub.xMin; x <= sub.xMax; x++) {
+                            destination.setBlock(x + xOffset, y + yOffset, z + zOffset, sub.blocks[i++]);
+                        }
+                    }
+                }
+                sub.blocks = null;
+            }
+        }
+    }
+
+    private static List<SubVolume> splitChunkAligned(BlockVolume volume) {
+        final Vector3i min = volume.getBlockMin();
+        final Vector3i max = volume.getBlockMax();
+        final List<SubVolume> subVolumes = new ArrayList<>();
+        for (int z = min.getZ(); z <= max.getZ(); z = ((z >> 4) + 1) << 4) {
+            final int zMax = Math.min(max.getZ(), (z | 15));
+            for (int x = min.getX(); x <= max.getX(); x = ((x >> 4) + 1) << 4) {
+                final int xMax = Math.min(max.getX(), (x | 15));
+                subVolumes.add(new SubVolume(x, min.getY(), z, xMax, max.getY(), zMax));
+            }
+        }
+        return subVolumes;
+    }
+
+    @FunctionalInterface
+    private interface BlockFunction {
+
+        BlockState apply(int x, int y, int z);
+    }
+
+    private static final class SubVolume {
+
+        final int xMin;
+        final int yMin;
+        final int zMin;
+        final int xMax;
+        final int yMax;
+        final int zMax;
+        @Nullable BlockState[] blocks;
+
+        SubVolume(int xMin, int yMin, int zMin, int xMax, int yMax, int zMax) {
+            this.xMin = xMin;
+            this.yMin = yMin;
+            this.zMin = zMin;
+            this.xMax = xMax;
+            this.yMax = yMax;
+            this.zMax = zMax;
+        }
+
+        void compute(BlockFunction function) {
+            final BlockState[] blocks = new BlockState[(this.xMax - this.xMin + 1) * (this.yMax - this.yMin + 1) * (this.zMax - this.zMin + 1)];
+            int i = 0;
+            for (int z = this.zMin; z <= this.zMax; z++) {
+                for (int y = this.yMin; y <= this.yMax; y++) {
+                    for (int x = this.xMin; x <= this.xMax; x++) {
+                        blocks[i++] = function.apply(x, y, z);
+                    }
+                }
+            }
+            this.blocks = blocks;
+        }
+    }
+
     private Vector3i align(BlockVolume other) {
         final Vector3i thisSize = this.volume.getBlockSize();
         final Vector3i otherSize = other.getBlockSize();
@@ -0,0 +1,114 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.lighting;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters describing the asynchronous lighting queue of a world. Updated
+ * from the main thread when positions are queued and from lighting workers
+ * when batches complete.
+ */
+public final class AsyncLightingMetrics {
+
+    private final AtomicLong queuedUpdates = new AtomicLong();
+    private final AtomicInteger pendingBatches = new AtomicInteger();
+    private final LongAdder mergedUpdates = new LongAdder();
+    private final LongAdder processedUpdates = new LongAdder();
+    private final LongAdder batchesProcessed = new LongAdder();
+    private final LongAdder totalBatchLatency = new LongAdder();
+    private final AtomicLong maxBatchLatency = new AtomicLong();
+
+    public void onUpdateQueued() {
+        this.queuedUpdates.incrementAndGet();
+    }
+
+    public void onUpdateMerged() {
+        this.mergedUpdates.increment();
+    }
+
+    public void onBatchScheduled() {
+        this.pendingBatches.incrementAndGet();
+    }
+
+    /**
+     * Records a completed batch.
+     *
+     * @param updates The amount of updates in the batch
+     * @param latency The time in nanoseconds between the batch becoming
+     *     dirty and it being processed
+     */
+    public void onBatchProcessed(final int updates, final long latency) {
+        this.pendingBatches.decrementAndGet();
+        this.queuedUpdates.addAndGet(-updates);
+        this.processedUpdates.add(updates);
+        this.batchesProcessed.increment();
+        this.totalBatchLatency.add(latency);
+        this.maxBatchLatency.accumulateAndGet(latency, Math::max);
+    }
+
+    /**
+     * Gets the amount of light updates waiting to be processed.
+     *
+     * @return The queue depth
+     */
+    public long getQueuedUpdates() {
+        return this.queuedUpdates.get();
+    }
+
+    public int getPendingBatches() {
+        return this.pendingBatches.get();
+    }
+
+    /**
+     * Gets the amount of light updates that were merged into an already
+     * queued update for the same position.
+     *
+     * @return The merged updates
+     */
+    public long getMergedUpdates() {
+        return this.mergedUpdates.sum();
+    }
+
+    public long getProcessedUpdates() {
+        return this.processedUpdates.sum();
+    }
+
+    public long getBatchesProcessed() {
+        return this.batchesProcessed.sum();
+    }
+
+    public long getAverageBatchLatency(final TimeUnit unit) {
+        final long batches = this.batchesProcessed.sum();
+        return batches == 0 ? 0 : unit.convert(this.totalBatchLatency.sum() / batches, TimeUnit.NANOSECONDS);
+    }
+
+    public long getMaxBatchLatency(final TimeUnit unit) {
+        return unit.convert(this.maxBatchLatency.get(), TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.lighting;
+
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.EnumSkyBlock;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Accumulates the positions of a single chunk section that are waiting
+ * for an asynchronous light check, one bit per position and light type.
+ * Queueing a position that is already dirty merges with the pending
+ * update, and the whole section is drained as one batch by a lighting
+ * worker.
+ *
+ * <p>Positions are marked from the main thread and drained from lighting
+ * workers, all state is guarded by the queue's monitor.</p>
+ */
+public final class LightSectionQueue {
+
+    private static final int WORDS = 4096 / Long.SIZE;
+
+    private final int sectionY;
+    private long[] skyLight = new long[WORDS];
+    private long[] blockLight = new long[WORDS];
+    private int size;
+    private long dirtySince;
+    private boolean scheduled;
+
+    public LightSectionQueue(final int sectionY) {
+        this.sectionY = sectionY;
+    }
+
+    /**
+     * Gets the index of the position within its section.
+     *
+     * @param pos The block position
+     * @return The index within the section
+     */
+    public static int index(final BlockPos pos) {
+        return (pos.getY() & 15) << 8 | (pos.getZ() & 15) << 4 | pos.getX() & 15;
+    }
+
+    public int getSectionY() {
+        return this.sectionY;
+    }
+
+    /**
+     * Marks the position as dirty for the light type.
+     *
+     * @param type The light type
+     * @param index The index within the section
+     * @return True if the position was not already queued
+     */
+    public synchronized boolean mark(final EnumSkyBlock type, final int index) {
+        final long[] bits = type == EnumSkyBlock.SKY ? this.skyLight : this.blockLight;
+        final long mask = 1L << index;
+        if ((bits[index >>> 6] & mask) != 0) {
+            return false;
+        }
+        bits[index >>> 6] |= mask;
+        if (this.size++ == 0) {
+            this.dirtySince = System.nanoTime();
+        }
+        return true;
+    }
+
+    public synchronized boolean isQueued(final EnumSkyBlock type, final int index) {
+        final long[] bits = type == EnumSkyBlock.SKY ? this.skyLight : this.blockLight;
+        return (bits[index >>> 6] & 1L << index) != 0;
+    }
+
+    /**
+     * Claims the right to submit a batch for this section.
+     *
+     * @return True if the caller should submit a batch, false if one is
+     *     already waiting to drain the section
+     */
+    public synchronized boolean schedule() {
+        if (this.scheduled || this.size == 0) {
+            return false;
+        }
+        this.scheduled = true;
+        return true;
+    }
+
+    /**
+     * Takes every queued position out of this section. Positions marked
+     * afterwards require a new batch to be scheduled.
+     *
+     * @return The drained batch
+     */
+    public synchronized Batch drain() {
+        final Batch batch = new Batch(this.sectionY, this.skyLight, this.blockLight, this.size, this.dirtySince);
+        this.skyLight = new long[WORDS];
+        this.blockLight = new long[WORDS];
+        this.size = 0;
+        this.scheduled = false;
+        return batch;
+    }
+
+    public static final class Batch {
+
+        private final int sectionY;
+        private final long[] skyLight;
+        private final long[] blockLight;
+        private final int size;
+        private final long dirtySince;
+
+        Batch(final int sectionY, final long[] skyLight, final long[] blockLight, final int size, final long dirtySince) {
+            this.sectionY = sectionY;
+            this.skyLight = skyLight;
+            this.blockLight = blockLight;
+            this.size = size;
+            this.dirtySince = dirtySince;
+        }
+
+        public int getSectionY() {
+            return this.sectionY;
+        }
+
+        /**
+         * Gets the amount of position and light type pairs in this batch.
+         *
+         * @return The batch size
+         */
+        public int size() {
+            return this.size;
+        }
+
+        /**
+         * Gets the {@link System#nanoTime()} at which the first position
+         * of this batch was queued.
+         *
+         * @return The time the batch became dirty
+         */
+        public long getDirtySince() {
+            return this.dirtySince;
+        }
+
+        /**
+         * Passes the section index of every queued position for the light
+         * type to the consumer.
+         *
+         * @param type The light type
+         * @param consumer The index consumer
+         */
+        public void forEach(final EnumSkyBlock type, final IntConsumer consumer) {
+            final long[] bits = type == EnumSkyBlock.SKY ? this.skyLight : this.blockLight;
+            for (int i = 0; i < WORDS; i++) {
+                long word = bits[i];
+                while (word != 0) {
+                    consumer.accept(i << 6 | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,404 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.paste;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import com.flowpowered.math.vector.Vector3i;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.server.management.PlayerChunkMapEntry;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.event.SpongeEventFactory;
+import org.spongepowered.api.event.block.ChangeBlockEvent;
+import org.spongepowered.api.scheduler.Task;
+import org.spongepowered.api.world.Location;
+import org.spongepowered.api.world.World;
+import org.spongepowered.api.world.extent.BlockVolume;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.SpongeImplHooks;
+import org.spongepowered.common.bridge.server.management.PlayerChunkMapEntryBridge;
+import org.spongepowered.common.config.category.BulkPasteCategory;
+import org.spongepowered.common.mixin.core.world.chunk.ChunkAccessor;
+import org.spongepowered.common.world.WorldManager;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
+
+/**
+ * Pastes a {@link BlockVolume} into a world by writing straight into the
+ * {@link ExtendedBlockStorage} of each chunk section, instead of going
+ * through {@code setBlock} for every position.
+ *
+ * <p>No block change capture, neighbor notification or block physics
+ * happens. Per chunk, the heightmap is updated once for every changed
+ * column, sky and block light are only rechecked where the light value or
+ * opacity changed, and the changed sections are resent to players in one
+ * packet.
+ * A single {@link ChangeBlockEvent.Pre} covering the whole target area is
+ * fired before anything is written.</p>
+ *
+ * <p>A paste either runs completely within {@link #pasteNow()}, or is
+ * spread across ticks with {@link #submit(Object)}, writing whole chunks
+ * until the tick budget is used up. Both must be called from the main
+ * thread.</p>
+ */
+public final class BulkBlockPaste implements Consumer<Task> {
+
+    private final WorldServer world;
+    private final BlockVolume source;
+    private final Vector3i offset;
+    private final Vector3i min;
+    private final Vector3i max;
+    private final long tickBudget;
+    private final boolean fireEvent;
+    private final long[] chunks;
+    private final CompletableFuture<Integer> result = new CompletableFuture<>();
+    private final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+    private final LongArrayList lightChecks = new LongArrayList();
+    private int chunkIndex;
+    private int changedBlocks;
+    private boolean started;
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private BulkBlockPaste(final Builder builder) {
+        this.world = builder.world;
+        this.source = builder.source;
+        this.offset = builder.origin;
+        this.fireEvent = builder.fireEvent;
+        this.tickBudget = TimeUnit.MILLISECONDS.toNanos(builder.tickBudget);
+        final Vector3i min = this.source.getBlockMin().add(this.offset);
+        final Vector3i max = this.source.getBlockMax().add(this.offset);
+        // Positions outside of the build height are skipped like setBlock would reject them
+        this.min = new Vector3i(min.getX(), Math.max(min.getY(), 0), min.getZ());
+        this.max = new Vector3i(max.getX(), Math.min(max.getY(), this.world.getHeight() - 1), max.getZ());
+        final int minChunkX = this.min.getX() >> 4;
+        final int minChunkZ = this.min.getZ() >> 4;
+        final int chunksX = (this.max.getX() >> 4) - minChunkX + 1;
+        final int chunksZ = (this.max.getZ() >> 4) - minChunkZ + 1;
+        if (this.min.getY() > this.max.getY()) {
+            this.chunks = new long[0];
+        } else {
+            this.chunks = new long[chunksX * chunksZ];
+            int index = 0;
+            for (int x = 0; x < chunksX; x++) {
+                for (int z = 0; z < chunksZ; z++) {
+                    this.chunks[index++] = ChunkPos.asLong(minChunkX + x, minChunkZ + z);
+                }
+            }
+        }
+    }
+
+    /**
+     * Pastes the whole volume before returning.
+     *
+     * @return False if the paste was cancelled by the event
+     */
+    public boolean pasteNow() {
+        if (!start()) {
+            return false;
+        }
+        while (this.chunkIndex < this.chunks.length) {
+            pasteChunk(this.chunks[this.chunkIndex++]);
+        }
+        this.result.complete(this.changedBlocks);
+        return true;
+    }
+
+    /**
+     * Spreads the paste across ticks. The event is fired right away, within
+     * the current cause.
+     *
+     * @param plugin The plugin to schedule the task for
+     * @return A future completed with the amount of changed blocks, or zero
+     *     if the paste was cancelled. It completes exceptionally if the world
+     *     is unloaded before the paste finished.
+     */
+    public CompletableFuture<Integer> submit(final Object plugin) {
+        if (!start()) {
+            this.result.complete(0);
+            return this.result;
+        }
+        Sponge.getScheduler().createTaskBuilder()
+            .intervalTicks(1)
+            .name("Sponge - Bulk Paste - " + this.world.getWorldInfo().getWorldName())
+            .execute(this)
+            .submit(plugin);
+        return this.result;
+    }
+
+    @Override
+    public void accept(final Task task) {
+        if (!WorldManager.isKnownWorld(this.world)) {
+            task.cancel();
+            this.result.completeExceptionally(new IllegalStateException("World " + this.world.getWorldInfo().getWorldName()
+                + " was unloaded before the paste finished"));
+            return;
+        }
+        try {
+            final long deadline = System.nanoTime() + this.tickBudget;
+            while (this.chunkIndex < this.chunks.length) {
+                pasteChunk(this.chunks[this.chunkIndex++]);
+                if (System.nanoTime() >= deadline) {
+                    return;
+                }
+            }
+            task.cancel();
+            this.result.complete(this.changedBlocks);
+        } catch (RuntimeException e) {
+            task.cancel();
+            this.result.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Gets the amount of blocks that were changed so far.
+     *
+     * @return The amount of changed blocks
+     */
+    public int getChangedBlocks() {
+        return this.changedBlocks;
+    }
+
+    /**
+     * Gets the future which is completed with the amount of changed blocks
+     * once the paste is done.
+     *
+     * @return The result
+     */
+    public CompletableFuture<Integer> getResult() {
+        return this.result;
+    }
+
+    private boolean start() {
+        checkState(!this.started, "This paste was already started");
+        checkState(SpongeImpl.getServer().isCallingFromMinecraftThread(), "Bulk pastes must be started from the main thread");
+        this.started = true;
+        if (!this.fireEvent || this.chunks.length == 0) {
+            return true;
+        }
+        final ChangeBlockEvent.Pre event = SpongeEventFactory.createChangeBlockEventPre(Sponge.getCauseStackManager().getCurrentCause(),
+            new TargetLocations());
+        return !SpongeImpl.postEvent(event);
+    }
+
+    private void pasteChunk(final long chunkKey) {
+        final int chunkX = (int) chunkKey;
+        final int chunkZ = (int) (chunkKey >>> 32);
+        final Chunk chunk = this.world.getChunk(chunkX, chunkZ);
+        final ExtendedBlockStorage[] sections = chunk.getBlockStorageArray();
+        final boolean hasSkyLight = this.world.provider.hasSkyLight();
+        final int minX = Math.max(this.min.getX(), chunkX << 4);
+        final int maxX = Math.min(this.max.getX(), (chunkX << 4) + 15);
+        final int minZ = Math.max(this.min.getZ(), chunkZ << 4);
+        final int maxZ = Math.min(this.max.getZ(), (chunkZ << 4) + 15);
+        int sectionMask = 0;
+
+        for (int sectionY = this.min.getY() >> 4; sectionY <= this.max.getY() >> 4; sectionY++) {
+            final int minY = Math.max(this.min.getY(), sectionY << 4);
+            final int maxY = Math.min(this.max.getY(), (sectionY << 4) + 15);
+            ExtendedBlockStorage storage = sections[sectionY];
+            for (int y = minY; y <= maxY; y++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    for (int x = minX; x <= maxX; x++) {
+                        final IBlockState state = (IBlockState) this.source.getBlock(x - this.offset.getX(), y - this.offset.getY(),
+                            z - this.offset.getZ());
+                        if (storage == Chunk.NULL_BLOCK_STORAGE) {
+                            if (state.getBlock() == Blocks.AIR) {
+                                continue;
+                            }
+                            storage = new ExtendedBlockStorage(sectionY << 4, hasSkyLight);
+                            if (hasSkyLight) {
+                                initSkyLight(chunk, storage, sectionY);
+                            }
+                            sections[sectionY] = storage;
+                        }
+                        final IBlockState oldState = storage.get(x & 15, y & 15, z & 15);
+                        if (oldState == state) {
+                            continue;
+                        }
+                        this.pos.setPos(x, y, z);
+                        if (SpongeImplHooks.hasBlockTileEntity(oldState.getBlock(), oldState)) {
+                            final TileEntity tileEntity = chunk.getTileEntity(this.pos, Chunk.EnumCreateEntityType.CHECK);
+                            if (tileEntity != null && SpongeImplHooks.shouldRefresh(tileEntity, this.world, this.pos, oldState, state)) {
+                                this.world.removeTileEntity(this.pos);
+                            }
+                        }
+                        storage.set(x & 15, y & 15, z & 15, state);
+                        if (SpongeImplHooks.hasBlockTileEntity(state.getBlock(), state)) {
+                            chunk.getTileEntity(this.pos.toImmutable(), Chunk.EnumCreateEntityType.IMMEDIATE);
+                        }
+                        if (oldState.getLightOpacity() != state.getLightOpacity() || oldState.getLightValue() != state.getLightValue()) {
+                            this.lightChecks.add(this.pos.toLong());
+                        }
+                        sectionMask |= 1 << sectionY;
+                        this.changedBlocks++;
+                    }
+                }
+            }
+        }
+        if (sectionMask == 0) {
+            return;
+        }
+
+        final int[] precipitationHeightMap = ((ChunkAccessor) chunk).accessor$getPrecipitationHeightMap();
+        for (int z = minZ; z <= maxZ; z++) {
+            for (int x = minX; x <= maxX; x++) {
+                // Once per column, scanning down from above the paste to find the new height. This also
+                // updates the sky light of the column and its neighbors like Chunk#setBlockState does.
+                ((ChunkAccessor) chunk).accessor$relightBlock(x & 15, this.max.getY() + 1, z & 15);
+                precipitationHeightMap[(z & 15) << 4 | x & 15] = -999;
+            }
+        }
+        // Opacity changes below the heightmap and light emitters need both light types rechecked,
+        // which World#setBlockState would do for every changed position as well
+        for (int i = 0; i < this.lightChecks.size(); i++) {
+            this.world.checkLight(BlockPos.fromLong(this.lightChecks.getLong(i)));
+        }
+        this.lightChecks.clear();
+        chunk.markDirty();
+
+        final PlayerChunkMapEntry entry = this.world.getPlayerChunkMap().getEntry(chunkX, chunkZ);
+        if (entry != null) {
+            ((PlayerChunkMapEntryBridge) entry).bridge$markSectionsForUpdate(sectionMask);
+        }
+    }
+
+    /**
+     * Fills the sky light of a new section with full light above the current
+     * height of each column, which is what the missing section stood for.
+     * {@code relightBlock} then darkens it below the new height.
+     */
+    private static void initSkyLight(final Chunk chunk, final ExtendedBlockStorage storage, final int sectionY) {
+        for (int z = 0; z < 16; z++) {
+            for (int x = 0; x < 16; x++) {
+                final int height = chunk.getHeightValue(x, z);
+                for (int y = 0; y < 16; y++) {
+                    if ((sectionY << 4) + y >= height) {
+                        storage.setSkyLight(x, y, z, 15);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * A view of every target position, created on access.
+     */
+    private final class TargetLocations extends AbstractList<Location<World>> {
+
+        private final int width = BulkBlockPaste.this.max.getX() - BulkBlockPaste.this.min.getX() + 1;
+        private final int height = BulkBlockPaste.this.max.getY() - BulkBlockPaste.this.min.getY() + 1;
+        private final int length = BulkBlockPaste.this.max.getZ() - BulkBlockPaste.this.min.getZ() + 1;
+
+        @Override
+        public Location<World> get(final int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+            }
+            final Vector3i min = BulkBlockPaste.this.min;
+            return new Location<>((World) BulkBlockPaste.this.world, min.getX() + index % this.width,
+                min.getY() + index / (this.width * this.length), min.getZ() + index / this.width % this.length);
+        }
+
+        @Override
+        public int size() {
+            return this.width * this.height * this.length;
+        }
+    }
+
+    public static final class Builder {
+
+        @Nullable private WorldServer world;
+        @Nullable private BlockVolume source;
+        private Vector3i origin = Vector3i.ZERO;
+        private boolean fireEvent;
+        private int tickBudget;
+
+        Builder() {
+            final BulkPasteCategory category = SpongeImpl.getGlobalConfigAdapter().getConfig().getOptimizations().getBulkPasteCategory();
+            this.fireEvent = category.isFireEvents();
+            this.tickBudget = category.getTickBudget();
+        }
+
+        public Builder world(final World world) {
+            checkArgument(world instanceof WorldServer, "Bulk pastes need a server world");
+            this.world = (WorldServer) world;
+            return this;
+        }
+
+        public Builder source(final BlockVolume source) {
+            this.source = checkNotNull(source, "source");
+            return this;
+        }
+
+        /**
+         * Sets the world position that source position zero is pasted at.
+         *
+         * @param origin The origin
+         * @return This builder, for chaining
+         */
+        public Builder origin(final Vector3i origin) {
+            this.origin = checkNotNull(origin, "origin");
+            return this;
+        }
+
+        public Builder fireEvent(final boolean fireEvent) {
+            this.fireEvent = fireEvent;
+            return this;
+        }
+
+        public Builder tickBudget(final int milliseconds) {
+            checkArgument(milliseconds > 0, "The tick budget must be positive");
+            this.tickBudget = milliseconds;
+            return this;
+        }
+
+        public BulkBlockPaste build() {
+            checkState(this.world != null, "World must be set");
+            checkState(this.source != null, "Source must be set");
+            final Vector3i size = this.source.getBlockSize();
+            checkArgument((long) size.getX() * size.getY() * size.getZ() <= Integer.MAX_VALUE, "Volume is too large to paste at once");
+            return new BulkBlockPaste(this);
+        }
+    }
+}
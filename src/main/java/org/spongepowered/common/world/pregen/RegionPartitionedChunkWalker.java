@@ -0,0 +1,251 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.pregen;
+
+import com.flowpowered.math.vector.Vector2i;
+import com.flowpowered.math.vector.Vector3i;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.WorldServer;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.bridge.world.chunk.ChunkProviderBridge;
+import org.spongepowered.common.util.Constants;
+import org.spongepowered.common.world.storage.WorldStorageUtil;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+import javax.annotation.Nullable;
+
+/**
+ * Walks a square area of chunks one region file at a time, starting with the
+ * region closest to the center. Every step yields the north-east chunk of a
+ * 2x2 group of chunks so that loading the group populates the south-west
+ * chunk of it, just like the spiral of {@link SpongeChunkPreGenerateTask}.
+ *
+ * <p>Region headers are read on the given executor ahead of the region
+ * currently walked, so checking whether a group already exists never touches
+ * the disk from the main thread.</p>
+ */
+final class RegionPartitionedChunkWalker {
+
+    private static final int REGION_SIZE = 1 << Constants.World.REGION_SHIFT;
+
+    private final WorldServer world;
+    @Nullable private final Path worldDir;
+    private final ExecutorService ioExecutor;
+    private final int lookahead;
+
+    private final int minX;
+    private final int minZ;
+    private final int maxX;
+    private final int maxZ;
+    private final int firstAnchorX;
+    private final int firstAnchorZ;
+    private final int lastAnchorX;
+    private final int lastAnchorZ;
+
+    private final List<Vector2i> regions;
+    private final Long2ObjectMap<CompletableFuture<BitSet>> savedChunks = new Long2ObjectOpenHashMap<>();
+
+    private int regionIndex = -1;
+    private int regionStartX;
+    private int regionEndX;
+    private int regionEndZ;
+    private int anchorX;
+    private int anchorZ;
+
+    RegionPartitionedChunkWalker(final WorldServer world, @Nullable final Path worldDir, final Vector3i center, final int chunkRadius,
+            final ExecutorService ioExecutor, final int lookahead) {
+        this.world = world;
+        this.worldDir = worldDir;
+        this.ioExecutor = ioExecutor;
+        this.lookahead = Math.max(lookahead, 0);
+
+        this.minX = center.getX() - chunkRadius;
+        this.minZ = center.getZ() - chunkRadius;
+        this.maxX = center.getX() + chunkRadius;
+        this.maxZ = center.getZ() + chunkRadius;
+        // Anchors are spaced by two and cover the chunk to their west and north as well
+        this.firstAnchorX = this.minX + 1;
+        this.firstAnchorZ = this.minZ + 1;
+        this.lastAnchorX = this.firstAnchorX + 2 * ((this.maxX - this.minX) / 2);
+        this.lastAnchorZ = this.firstAnchorZ + 2 * ((this.maxZ - this.minZ) / 2);
+
+        final Vector2i centerRegion = new Vector2i(center.getX() >> Constants.World.REGION_SHIFT, center.getZ() >> Constants.World.REGION_SHIFT);
+        this.regions = new ArrayList<>();
+        for (int x = this.firstAnchorX >> Constants.World.REGION_SHIFT; x <= this.lastAnchorX >> Constants.World.REGION_SHIFT; x++) {
+            for (int z = this.firstAnchorZ >> Constants.World.REGION_SHIFT; z <= this.lastAnchorZ >> Constants.World.REGION_SHIFT; z++) {
+                this.regions.add(new Vector2i(x, z));
+            }
+        }
+        this.regions.sort(Comparator.comparingInt(region -> region.distanceSquared(centerRegion)));
+        this.nextRegion();
+    }
+
+    boolean hasNext() {
+        return this.regionIndex < this.regions.size();
+    }
+
+    /**
+     * Gets the next anchor chunk, the chunks at <code>-x</code>,
+     * <code>-z</code> and <code>-x -z</code> of it complete its group.
+     *
+     * @return The next anchor chunk
+     */
+    Vector3i next() {
+        final Vector3i anchor = new Vector3i(this.anchorX, 0, this.anchorZ);
+        this.anchorX += 2;
+        if (this.anchorX > this.regionEndX) {
+            this.anchorX = this.regionStartX;
+            this.anchorZ += 2;
+            if (this.anchorZ > this.regionEndZ) {
+                this.nextRegion();
+            }
+        }
+        return anchor;
+    }
+
+    /**
+     * Gets how many chunks of the group of the given anchor lie within the
+     * target area, which is what the group counts towards the target total.
+     *
+     * @param anchor The anchor chunk
+     * @return The amount of chunks of the group within the area
+     */
+    int getGroupSize(final Vector3i anchor) {
+        final int width = anchor.getX() > this.maxX ? 1 : 2;
+        final int length = anchor.getZ() > this.maxZ ? 1 : 2;
+        return width * length;
+    }
+
+    boolean isGroupGenerated(final Vector3i anchor) {
+        final int x = anchor.getX();
+        final int z = anchor.getZ();
+        return this.isGenerated(x, z) && this.isGenerated(x - 1, z) && this.isGenerated(x, z - 1) && this.isGenerated(x - 1, z - 1);
+    }
+
+    void markGroupGenerated(final Vector3i anchor) {
+        final int x = anchor.getX();
+        final int z = anchor.getZ();
+        this.markGenerated(x, z);
+        this.markGenerated(x - 1, z);
+        this.markGenerated(x, z - 1);
+        this.markGenerated(x - 1, z - 1);
+    }
+
+    int getRemainingRegions() {
+        return Math.max(this.regions.size() - this.regionIndex, 0);
+    }
+
+    /**
+     * Gets the amount of region headers that were requested but are still
+     * being read by the I/O workers.
+     *
+     * @return The amount of pending region header reads
+     */
+    int getPendingRegionReads() {
+        int pending = 0;
+        for (final CompletableFuture<BitSet> future : this.savedChunks.values()) {
+            if (!future.isDone()) {
+                pending++;
+            }
+        }
+        return pending;
+    }
+
+    private void nextRegion() {
+        this.regionIndex++;
+        if (this.regionIndex >= this.regions.size()) {
+            return;
+        }
+        final Vector2i region = this.regions.get(this.regionIndex);
+        final int regionMinX = region.getX() << Constants.World.REGION_SHIFT;
+        final int regionMinZ = region.getY() << Constants.World.REGION_SHIFT;
+        this.regionStartX = align(Math.max(regionMinX, this.firstAnchorX), this.firstAnchorX);
+        this.regionEndX = Math.min(regionMinX + REGION_SIZE - 1, this.lastAnchorX);
+        this.regionEndZ = Math.min(regionMinZ + REGION_SIZE - 1, this.lastAnchorZ);
+        this.anchorX = this.regionStartX;
+        this.anchorZ = align(Math.max(regionMinZ, this.firstAnchorZ), this.firstAnchorZ);
+
+        final int last = Math.min(this.regionIndex + this.lookahead, this.regions.size() - 1);
+        for (int i = this.regionIndex; i <= last; i++) {
+            final Vector2i ahead = this.regions.get(i);
+            this.getSavedChunks(ahead.getX(), ahead.getY());
+        }
+    }
+
+    private static int align(final int coordinate, final int first) {
+        return ((coordinate - first) & 1) == 0 ? coordinate : coordinate + 1;
+    }
+
+    private boolean isGenerated(final int x, final int z) {
+        if (((ChunkProviderBridge) this.world.getChunkProvider()).bridge$getLoadedChunkWithoutMarkingActive(x, z) != null) {
+            return true;
+        }
+        return this.getSavedChunks(x >> Constants.World.REGION_SHIFT, z >> Constants.World.REGION_SHIFT).join().get(getRegionIndex(x, z));
+    }
+
+    private void markGenerated(final int x, final int z) {
+        final BitSet saved = this.getSavedChunks(x >> Constants.World.REGION_SHIFT, z >> Constants.World.REGION_SHIFT).getNow(null);
+        if (saved != null) {
+            saved.set(getRegionIndex(x, z));
+        }
+    }
+
+    private static int getRegionIndex(final int x, final int z) {
+        return (x & (REGION_SIZE - 1)) + (z & (REGION_SIZE - 1)) * REGION_SIZE;
+    }
+
+    private CompletableFuture<BitSet> getSavedChunks(final int regionX, final int regionZ) {
+        final long key = ChunkPos.asLong(regionX, regionZ);
+        CompletableFuture<BitSet> future = this.savedChunks.get(key);
+        if (future == null) {
+            if (this.worldDir == null) {
+                future = CompletableFuture.completedFuture(new BitSet(Constants.World.CHUNKS_PER_REGION));
+            } else {
+                final Path regionFile = WorldStorageUtil.getRegionFilePath(this.worldDir, regionX, regionZ);
+                future = CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return WorldStorageUtil.getSavedChunks(regionFile);
+                    } catch (IOException e) {
+                        SpongeImpl.getLogger().error("Could not read the header of region file {}, assuming it is empty.", regionFile, e);
+                        return new BitSet(Constants.World.CHUNKS_PER_REGION);
+                    }
+                }, this.ioExecutor);
+            }
+            this.savedChunks.put(key, future);
+        }
+        return future;
+    }
+
+}
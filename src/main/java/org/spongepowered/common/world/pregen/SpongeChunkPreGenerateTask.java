@@ -30,6 +30,9 @@
 import com.flowpowered.math.GenericMath;
 import com.flowpowered.math.vector.Vector3d;
 import com.flowpowered.math.vector.Vector3i;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.storage.IChunkLoader;
 import org.apache.commons.lang3.time.DurationFormatUtils;
 import org.slf4j.Logger;
 import org.spongepowered.api.Sponge;
@@ -45,6 +48,9 @@
 import org.spongepowered.api.world.storage.WorldProperties;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.bridge.world.chunk.ChunkProviderServerBridge;
+import org.spongepowered.common.bridge.world.chunk.storage.AnvilChunkLoaderBridge;
+import org.spongepowered.common.config.category.ChunkPreGenerationCategory;
+import org.spongepowered.common.mixin.core.world.chunk.ChunkProviderServerAccessor;
 import org.spongepowered.common.world.storage.SpongeChunkLayout;
 
 import java.time.Duration;
@@ -54,6 +60,8 @@
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
@@ -88,6 +96,10 @@ public class SpongeChunkPreGenerateTask implements ChunkPreGenerate, Consumer<Ta
     // If null, no listeners have been assigned, so they don't need to be registered or unregistered.
     @Nullable private final EventListener<ChunkPreGenerationEvent> eventListener;
 
+    // If null, the task spirals out from the center instead of walking region by region.
+    @Nullable private final RegionPartitionedChunkWalker regionWalker;
+    @Nullable private final ExecutorService regionIoExecutor;
+
     private Vector3i currentPosition;
     private int currentGenCount;
     private int currentLayer;
@@ -96,6 +108,7 @@ public class SpongeChunkPreGenerateTask implements ChunkPreGenerate, Consumer<Ta
 
     private int chunksSkipped = 0;
     private int chunksGenerated = 0;
+    private double lastStepChunksPerSecond = 0;
 
     // Used for wall clock times.
     private long generationStartTime = 0;
@@ -142,6 +155,21 @@ private SpongeChunkPreGenerateTask(Object plugin,
 
         this.totalChunksToGenerate = (int) Math.pow(this.chunkRadius * 2 + 1, 2);
 
+        final ChunkPreGenerationCategory category = SpongeImpl.getGlobalConfigAdapter().getConfig().getOptimizations()
+                .getChunkPreGenerationCategory();
+        if (category.isRegionPartitioned() && world instanceof WorldServer) {
+            this.regionIoExecutor = Executors.newFixedThreadPool(Math.max(category.getIoThreads(), 1),
+                    new ThreadFactoryBuilder().setNameFormat("Sponge - Chunk Pre-Generation I/O Thread - " + world.getName() + " - #%d")
+                            .setDaemon(true).build());
+            final IChunkLoader chunkLoader = ((ChunkProviderServerAccessor) ((WorldServer) world).getChunkProvider()).accessor$getChunkLoader();
+            this.regionWalker = new RegionPartitionedChunkWalker((WorldServer) world,
+                    chunkLoader instanceof AnvilChunkLoaderBridge ? ((AnvilChunkLoaderBridge) chunkLoader).bridge$getWorldDir() : null,
+                    this.currentPosition, this.chunkRadius, this.regionIoExecutor, category.getRegionLookahead());
+        } else {
+            this.regionIoExecutor = null;
+            this.regionWalker = null;
+        }
+
         this.spongeTask = this.scheduler
                 .createTaskBuilder()
                 .intervalTicks(tickInterval)
@@ -180,6 +208,47 @@ public int getTargetTotalChunks() {
         return this.totalChunksToGenerate;
     }
 
+    /**
+     * Gets the throughput of the last completed step, in chunks generated or
+     * skipped per second of step time.
+     *
+     * @return The throughput of the last step
+     */
+    public double getLastStepChunksPerSecond() {
+        return this.lastStepChunksPerSecond;
+    }
+
+    /**
+     * Gets the throughput since the task started, in chunks generated or
+     * skipped per second of wall clock time.
+     *
+     * @return The overall throughput
+     */
+    public double getChunksPerSecond() {
+        final long millis = getTotalTime().toMillis();
+        return millis <= 0 ? 0 : (this.chunksGenerated + this.chunksSkipped) * 1000D / millis;
+    }
+
+    /**
+     * Gets the amount of regions that still have to be walked, if this task
+     * walks region by region.
+     *
+     * @return The amount of remaining regions, or zero
+     */
+    public int getQueuedRegions() {
+        return this.regionWalker == null ? 0 : this.regionWalker.getRemainingRegions();
+    }
+
+    /**
+     * Gets the amount of region headers still being read ahead of
+     * generation, if this task walks region by region.
+     *
+     * @return The amount of pending region reads, or zero
+     */
+    public int getPendingRegionReads() {
+        return this.regionWalker == null ? 0 : this.regionWalker.getPendingRegionReads();
+    }
+
     @Override
     public Duration getTotalTime() {
         return Duration.of((isCancelled() ? this.generationEndTime : System.currentTimeMillis()) - this.generationStartTime, ChronoUnit.MILLIS);
@@ -208,6 +277,7 @@ public void cancel() {
             }
             this.spongeTask.cancel();
             this.isCancelled = true;
+            shutdownRegionIo();
         }
     }
 
@@ -240,34 +310,46 @@ public void accept(Task task) {
         // Count how many chunks are generated during the tick
         int count = 0;
         int skipped = 0;
-        do {
-            final Vector3i position = nextChunkPosition();
-            final Vector3i pos1 = position.sub(Vector3i.UNIT_X);
-            final Vector3i pos2 = position.sub(Vector3i.UNIT_Z);
-            final Vector3i pos3 = pos2.sub(Vector3i.UNIT_X);
-
-            // We can only skip generation if all chunks are loaded.
-            if (!areAllChunksLoaded(position, pos1, pos2, pos3)) {
-
-                // At least one chunk isn't generated, so to populate, we need to load them all.
-                this.world.loadChunk(position, true);
-                this.world.loadChunk(pos1, true);
-                this.world.loadChunk(pos2, true);
-                this.world.loadChunk(pos3, true);
-
-                count += this.currentGenCount;
-            } else {
-
-                // Skipped them, log this.
-                skipped += this.currentGenCount;
-            }
-        } while (hasNextChunkPosition() && checkChunkCount(count) && checkTickTime(System.currentTimeMillis() - stepStartTime));
+        if (this.regionWalker != null) {
+            do {
+                final Vector3i position = this.regionWalker.next();
+                final int groupSize = this.regionWalker.getGroupSize(position);
+                if (!this.regionWalker.isGroupGenerated(position)) {
+                    loadGroup(position);
+                    this.regionWalker.markGroupGenerated(position);
+                    count += groupSize;
+                } else {
+                    skipped += groupSize;
+                }
+            } while (hasNextChunkPosition() && checkChunkCount(count) && checkTickTime(System.currentTimeMillis() - stepStartTime));
+        } else {
+            do {
+                final Vector3i position = nextChunkPosition();
+                final Vector3i pos1 = position.sub(Vector3i.UNIT_X);
+                final Vector3i pos2 = position.sub(Vector3i.UNIT_Z);
+                final Vector3i pos3 = pos2.sub(Vector3i.UNIT_X);
+
+                // We can only skip generation if all chunks are loaded.
+                if (!areAllChunksLoaded(position, pos1, pos2, pos3)) {
+
+                    // At least one chunk isn't generated, so to populate, we need to load them all.
+                    loadGroup(position);
+
+                    count += this.currentGenCount;
+                } else {
+
+                    // Skipped them, log this.
+                    skipped += this.currentGenCount;
+                }
+            } while (hasNextChunkPosition() && checkChunkCount(count) && checkTickTime(System.currentTimeMillis() - stepStartTime));
+        }
 
         this.chunksGenerated += count;
         this.chunksSkipped += skipped;
 
         final long deltaTime = System.currentTimeMillis() - stepStartTime;
         this.generationEndTime = System.currentTimeMillis();
+        this.lastStepChunksPerSecond = deltaTime <= 0 ? 0 : (count + skipped) * 1000D / deltaTime;
 
         // Create and fire event.
         if (Sponge.getEventManager().post(SpongeEventFactory.createChunkPreGenerationEventPost(
@@ -292,10 +374,19 @@ public void accept(Task task) {
 
             this.isCancelled = true;
             unregisterListener();
+            shutdownRegionIo();
             task.cancel();
         }
     }
 
+    private void loadGroup(Vector3i position) {
+        final Vector3i pos2 = position.sub(Vector3i.UNIT_Z);
+        this.world.loadChunk(position, true);
+        this.world.loadChunk(position.sub(Vector3i.UNIT_X), true);
+        this.world.loadChunk(pos2, true);
+        this.world.loadChunk(pos2.sub(Vector3i.UNIT_X), true);
+    }
+
     private boolean areAllChunksLoaded(Vector3i chunk1, Vector3i chunk2, Vector3i chunk3, Vector3i chunk4) {
         return this.doesChunkExistCheck.test(chunk1) && this.doesChunkExistCheck.test(chunk2) &&
                 this.doesChunkExistCheck.test(chunk3) && this.doesChunkExistCheck.test(chunk4);
@@ -316,9 +407,19 @@ private void cancelTask(Task task) {
 
         this.isCancelled = true;
         unregisterListener();
+        shutdownRegionIo();
+    }
+
+    private void shutdownRegionIo() {
+        if (this.regionIoExecutor != null) {
+            this.regionIoExecutor.shutdownNow();
+        }
     }
 
     private boolean hasNextChunkPosition() {
+        if (this.regionWalker != null) {
+            return this.regionWalker.hasNext();
+        }
         return this.currentLayer <= this.chunkRadius;
     }
 
@@ -407,6 +508,12 @@ public ChunkPreGenerate.Builder logger(@Nullable Logger logger) {
                                 100 * (post.getChunkPreGenerate().getTotalGeneratedChunks() + post.getChunkPreGenerate().getTotalSkippedChunks())
                                     / post.getChunkPreGenerate().getTargetTotalChunks())
                         );
+                        if (post.getChunkPreGenerate() instanceof SpongeChunkPreGenerateTask) {
+                            final SpongeChunkPreGenerateTask task = (SpongeChunkPreGenerateTask) post.getChunkPreGenerate();
+                            logger.debug("Throughput: {} chunks/s (overall {} chunks/s), {} regions queued, {} region reads pending",
+                                GenericMath.floor(task.getLastStepChunksPerSecond()), GenericMath.floor(task.getChunksPerSecond()),
+                                task.getQueuedRegions(), task.getPendingRegionReads());
+                        }
                     } else if (event instanceof ChunkPreGenerationEvent.Complete) {
                         logger.info("Done! Generated a total of {} chunks in {}", event.getChunkPreGenerate().getTargetTotalChunks(),
                             DurationFormatUtils.formatDuration(event.getChunkPreGenerate().getTotalTime().toMillis(), TIME_FORMAT, false));
@@ -30,6 +30,7 @@
 import com.google.common.collect.ImmutableListMultimap;
 import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Maps;
+import net.minecraft.world.WorldServer;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.block.BlockState;
 import org.spongepowered.api.block.tileentity.TileEntityArchetype;
@@ -48,9 +49,12 @@
 import org.spongepowered.api.world.extent.UnmodifiableBlockVolume;
 import org.spongepowered.api.world.extent.worker.MutableBlockVolumeWorker;
 import org.spongepowered.api.world.schematic.Palette;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.BulkPasteCategory;
 import org.spongepowered.common.entity.SpongeEntityArchetype;
 import org.spongepowered.common.util.gen.AbstractBlockBuffer;
 import org.spongepowered.common.world.extent.worker.SpongeMutableBlockVolumeWorker;
+import org.spongepowered.common.world.paste.BulkBlockPaste;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -127,9 +131,23 @@ public MutableBlockVolumeWorker<? extends ArchetypeVolume> getBlockWorker() {
 
     @Override
     public void apply(Location<World> location, BlockChangeFlag changeFlag) {
-        this.backing.getBlockWorker().iterate((v, x, y, z) -> {
-            location.getExtent().setBlock(x + location.getBlockX(), y + location.getBlockY(), z + location.getBlockZ(), v.getBlock(x, y, z), changeFlag);
-        });
+        final BulkPasteCategory bulkPaste = SpongeImpl.getGlobalConfigAdapter().getConfig().getOptimizations().getBulkPasteCategory();
+        if (bulkPaste.isEnabled() && location.getExtent() instanceof WorldServer && !changeFlag.updateNeighbors() && !changeFlag.performBlockPhysics()) {
+            // Nothing per block was requested, so the blocks can be written straight into the chunk sections
+            final boolean pasted = BulkBlockPaste.builder()
+                .world(location.getExtent())
+                .source(this.backing)
+                .origin(location.getBlockPosition())
+                .build()
+                .pasteNow();
+            if (!pasted) {
+                return;
+            }
+        } else {
+            this.backing.getBlockWorker().iterate((v, x, y, z) -> {
+                location.getExtent().setBlock(x + location.getBlockX(), y + location.getBlockY(), z + location.getBlockZ(), v.getBlock(x, y, z), changeFlag);
+            });
+        }
         for (Vector3i pos : this.tiles.keySet()) {
             TileEntityArchetype archetype = this.tiles.get(pos);
             archetype.apply(location.add(pos));
@@ -0,0 +1,303 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.startup;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.storage.IChunkLoader;
+import net.minecraft.world.gen.ChunkProviderServer;
+import org.apache.logging.log4j.Logger;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.scheduler.Task;
+import org.spongepowered.api.world.DimensionType;
+import org.spongepowered.api.world.storage.WorldProperties;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.bridge.server.MinecraftServerBridge;
+import org.spongepowered.common.bridge.world.WorldInfoBridge;
+import org.spongepowered.common.bridge.world.WorldServerBridge;
+import org.spongepowered.common.bridge.world.chunk.ChunkProviderServerBridge;
+import org.spongepowered.common.bridge.world.chunk.storage.AnvilChunkLoaderBridge;
+import org.spongepowered.common.config.category.WorldStartupCategory;
+import org.spongepowered.common.event.tracking.phase.generation.GenerationContext;
+import org.spongepowered.common.event.tracking.phase.generation.GenerationPhase;
+import org.spongepowered.common.event.tracking.phase.generation.GenericGenerationContext;
+import org.spongepowered.common.mixin.core.world.chunk.ChunkProviderServerAccessor;
+import org.spongepowered.common.world.WorldManager;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
+
+/**
+ * Prepares the spawn areas of the worlds loaded on startup once all of them
+ * have been created, reading the saved chunks of the next worlds on I/O
+ * threads while the current one is loaded on the main thread.
+ *
+ * <p>The default world is always prepared before the server starts. Other
+ * worlds may prepare theirs in the background with {@link #accept(Task)},
+ * loading chunks until the tick budget is used up. They are marked as not
+ * prepared until then, see {@link WorldServerBridge#bridge$isSpawnPrepared()}.</p>
+ */
+public final class SpawnAreaPreparer implements Consumer<Task> {
+
+    // The 25x25 chunk area vanilla prepares around the spawn point
+    private static final int SPAWN_RADIUS = 12;
+    private static final int SPAWN_DIAMETER = SPAWN_RADIUS * 2 + 1;
+    private static final int SPAWN_CHUNKS = SPAWN_DIAMETER * SPAWN_DIAMETER;
+
+    private final Logger logger = SpongeImpl.getLogger();
+    private final MinecraftServer server;
+    private final WorldStartupCategory category;
+    private final List<PendingWorld> worlds = new ArrayList<>();
+    @Nullable private ExecutorService ioExecutor;
+
+    private long startTime;
+    private int current;
+    private int chunkIndex;
+
+    public SpawnAreaPreparer(final MinecraftServer server, final WorldStartupCategory category) {
+        this.server = server;
+        this.category = category;
+    }
+
+    /**
+     * Adds a newly created world whose spawn area should be loaded.
+     *
+     * @param world The world
+     */
+    public void add(final WorldServer world) {
+        final WorldProperties properties = (WorldProperties) world.getWorldInfo();
+        if (!((WorldInfoBridge) properties).bridge$isValid() || !properties.doesGenerateSpawnOnLoad()) {
+            return;
+        }
+        this.worlds.add(new PendingWorld(world));
+    }
+
+    /**
+     * Prepares the spawn areas of all added worlds that have to be ready
+     * before the server starts, and submits a task preparing the others if
+     * enabled. Must be called from the main thread.
+     */
+    public void prepare() {
+        if (this.worlds.isEmpty()) {
+            return;
+        }
+        this.startTime = System.nanoTime();
+        final List<PendingWorld> deferred = new ArrayList<>();
+        if (this.category.isBackgroundSpawnPreparation()) {
+            final Iterator<PendingWorld> iterator = this.worlds.iterator();
+            while (iterator.hasNext()) {
+                final PendingWorld pending = iterator.next();
+                if (((WorldServerBridge) pending.world).bridge$getDimensionId() != 0) {
+                    ((WorldServerBridge) pending.world).bridge$setSpawnPrepared(false);
+                    deferred.add(pending);
+                    iterator.remove();
+                }
+            }
+        }
+        final int immediate = this.worlds.size();
+        this.worlds.addAll(deferred);
+
+        this.ioExecutor = Executors.newFixedThreadPool(Math.max(this.category.getIoThreads(), 1),
+            new ThreadFactoryBuilder().setNameFormat("Sponge - Spawn Area I/O Thread - #%d").setDaemon(true).build());
+        for (; this.current < immediate; this.current++) {
+            final PendingWorld pending = this.worlds.get(this.current);
+            this.prefetchAhead();
+            pending.startTime = System.nanoTime();
+            ((MinecraftServerBridge) this.server).bridge$prepareSpawnArea(pending.world);
+            this.finish(pending);
+        }
+
+        if (deferred.isEmpty()) {
+            this.complete();
+            return;
+        }
+        this.logger.info("{} worlds will prepare their start region in the background and can not be joined until they are done.",
+            deferred.size());
+        // Start reading the first background worlds while the server starts
+        this.prefetchAhead();
+        Sponge.getScheduler().createTaskBuilder()
+            .intervalTicks(1)
+            .name("Sponge - Spawn Area Preparation")
+            .execute(this)
+            .submit(SpongeImpl.getPlugin());
+    }
+
+    @Override
+    public void accept(final Task task) {
+        if (!this.server.isServerRunning()) {
+            task.cancel();
+            this.shutdown();
+            return;
+        }
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(this.category.getTickBudget(), 1));
+        while (this.current < this.worlds.size()) {
+            final PendingWorld pending = this.worlds.get(this.current);
+            final boolean loaded = WorldManager.getWorldByDimensionId(((WorldServerBridge) pending.world).bridge$getDimensionId())
+                .orElse(null) == pending.world;
+            if (loaded) {
+                if (this.chunkIndex == 0) {
+                    this.prefetchAhead();
+                    pending.startTime = System.nanoTime();
+                    this.logger.info("Preparing start region for world {} ({}/{}) in the background", pending.world.getWorldInfo().getWorldName(),
+                        ((DimensionType) (Object) pending.world.provider.getDimensionType()).getId(),
+                        ((WorldServerBridge) pending.world).bridge$getDimensionId());
+                }
+                if (!this.loadChunks(pending, deadline)) {
+                    return;
+                }
+                this.finish(pending);
+            } else {
+                // Unloaded by a plugin in the meantime
+                pending.detach();
+            }
+            ((WorldServerBridge) pending.world).bridge$setSpawnPrepared(true);
+            this.current++;
+            this.chunkIndex = 0;
+        }
+        task.cancel();
+        this.complete();
+    }
+
+    /**
+     * Loads the chunks of the spawn area of the given world until all of
+     * them are loaded or the deadline is reached.
+     *
+     * @return True if all chunks of the spawn area are loaded
+     */
+    private boolean loadChunks(final PendingWorld pending, final long deadline) {
+        final ChunkProviderServer chunkProvider = pending.world.getChunkProvider();
+        ((ChunkProviderServerBridge) chunkProvider).bridge$setForceChunkRequests(true);
+        try (final GenerationContext<GenericGenerationContext> context = GenerationPhase.State.TERRAIN_GENERATION.createPhaseContext()
+            .source(pending.world)
+            .world(pending.world)) {
+            context.buildAndSwitch();
+            for (; this.chunkIndex < SPAWN_CHUNKS; this.chunkIndex++) {
+                if (System.nanoTime() >= deadline) {
+                    return false;
+                }
+                // Same order as the vanilla loop, x is the outer coordinate
+                chunkProvider.provideChunk(pending.centerX - SPAWN_RADIUS + this.chunkIndex / SPAWN_DIAMETER,
+                    pending.centerZ - SPAWN_RADIUS + this.chunkIndex % SPAWN_DIAMETER);
+            }
+            return true;
+        } finally {
+            ((ChunkProviderServerBridge) chunkProvider).bridge$setForceChunkRequests(false);
+        }
+    }
+
+    /**
+     * Starts reading the spawn areas of the current world and the worlds
+     * within the configured lookahead after it.
+     */
+    private void prefetchAhead() {
+        final ExecutorService ioExecutor = this.ioExecutor;
+        if (ioExecutor == null) {
+            return;
+        }
+        final int last = Math.min(this.current + Math.max(this.category.getPrefetchLookahead(), 0), this.worlds.size() - 1);
+        for (int i = this.current; i <= last; i++) {
+            this.worlds.get(i).prefetch(ioExecutor);
+        }
+    }
+
+    private void finish(final PendingWorld pending) {
+        final int chunksRead = pending.detach();
+        this.logger.info("Prepared start region for world {} ({}/{}) in {} ms, {} of {} chunks were read ahead of time",
+            pending.world.getWorldInfo().getWorldName(), ((DimensionType) (Object) pending.world.provider.getDimensionType()).getId(),
+            ((WorldServerBridge) pending.world).bridge$getDimensionId(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - pending.startTime),
+            chunksRead, SPAWN_CHUNKS);
+    }
+
+    private void complete() {
+        this.shutdown();
+        this.logger.info("Prepared the start regions of {} worlds in {} ms", this.worlds.size(),
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - this.startTime));
+    }
+
+    private void shutdown() {
+        if (this.ioExecutor != null) {
+            this.ioExecutor.shutdown();
+            this.ioExecutor = null;
+        }
+        for (final PendingWorld pending : this.worlds) {
+            pending.detach();
+        }
+    }
+
+    private static final class PendingWorld {
+
+        final WorldServer world;
+        final int centerX;
+        final int centerZ;
+        @Nullable private SpawnChunkPrefetcher prefetcher;
+        long startTime;
+
+        PendingWorld(final WorldServer world) {
+            this.world = world;
+            final BlockPos spawn = world.getSpawnPoint();
+            this.centerX = spawn.getX() >> 4;
+            this.centerZ = spawn.getZ() >> 4;
+        }
+
+        void prefetch(final ExecutorService ioExecutor) {
+            if (this.prefetcher != null) {
+                return;
+            }
+            final IChunkLoader chunkLoader = ((ChunkProviderServerAccessor) this.world.getChunkProvider()).accessor$getChunkLoader();
+            if (!(chunkLoader instanceof AnvilChunkLoaderBridge)) {
+                return;
+            }
+            this.prefetcher = new SpawnChunkPrefetcher(((AnvilChunkLoaderBridge) chunkLoader).bridge$getWorldDir().toFile(),
+                this.centerX, this.centerZ, SPAWN_RADIUS, ioExecutor);
+            ((AnvilChunkLoaderBridge) chunkLoader).bridge$setSpawnChunkPrefetcher(this.prefetcher);
+        }
+
+        /**
+         * Stops handing out chunks read ahead of time to the chunk loader.
+         *
+         * @return The amount of chunks that were read ahead of time
+         */
+        int detach() {
+            final SpawnChunkPrefetcher prefetcher = this.prefetcher;
+            if (prefetcher == null) {
+                return 0;
+            }
+            this.prefetcher = null;
+            final IChunkLoader chunkLoader = ((ChunkProviderServerAccessor) this.world.getChunkProvider()).accessor$getChunkLoader();
+            ((AnvilChunkLoaderBridge) chunkLoader).bridge$setSpawnChunkPrefetcher(null);
+            prefetcher.clear();
+            return prefetcher.getChunksRead();
+        }
+    }
+}
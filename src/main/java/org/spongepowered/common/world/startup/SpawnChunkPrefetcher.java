@@ -0,0 +1,149 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.startup;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.chunk.storage.RegionFileCache;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.util.Constants;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nullable;
+
+/**
+ * Reads the saved chunks of a square area from their region files on I/O
+ * threads, one task per region file, so that the main thread only has to
+ * run the data fixer and build the chunks when it loads them.
+ *
+ * <p>The compounds are handed out as they were read from disk, a chunk
+ * that is queued for saving again before it is taken is discarded so stale
+ * data is never loaded.</p>
+ */
+public final class SpawnChunkPrefetcher {
+
+    // Marks chunks that were saved again after they have been read
+    private static final NBTTagCompound DISCARDED = new NBTTagCompound();
+
+    private final File worldDir;
+    private final int minX;
+    private final int minZ;
+    private final int maxX;
+    private final int maxZ;
+    private final Long2ObjectMap<CompletableFuture<Void>> regionReads = new Long2ObjectOpenHashMap<>();
+    private final ConcurrentMap<Long, NBTTagCompound> chunks = new ConcurrentHashMap<>();
+    private final AtomicInteger chunksRead = new AtomicInteger();
+
+    SpawnChunkPrefetcher(final File worldDir, final int centerX, final int centerZ, final int radius, final ExecutorService ioExecutor) {
+        this.worldDir = worldDir;
+        this.minX = centerX - radius;
+        this.minZ = centerZ - radius;
+        this.maxX = centerX + radius;
+        this.maxZ = centerZ + radius;
+        for (int regionX = this.minX >> Constants.World.REGION_SHIFT; regionX <= this.maxX >> Constants.World.REGION_SHIFT; regionX++) {
+            for (int regionZ = this.minZ >> Constants.World.REGION_SHIFT; regionZ <= this.maxZ >> Constants.World.REGION_SHIFT; regionZ++) {
+                final int x = regionX;
+                final int z = regionZ;
+                this.regionReads.put(ChunkPos.asLong(x, z), CompletableFuture.runAsync(() -> this.readRegion(x, z), ioExecutor));
+            }
+        }
+    }
+
+    /**
+     * Takes the compound of the given chunk, waiting for its region file to
+     * be read if needed.
+     *
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @return The compound as saved on disk, or null if it was not read
+     */
+    @Nullable
+    public NBTTagCompound take(final int x, final int z) {
+        if (!this.contains(x, z)) {
+            return null;
+        }
+        this.regionReads.get(ChunkPos.asLong(x >> Constants.World.REGION_SHIFT, z >> Constants.World.REGION_SHIFT)).join();
+        final NBTTagCompound compound = this.chunks.remove(ChunkPos.asLong(x, z));
+        return compound == DISCARDED ? null : compound;
+    }
+
+    /**
+     * Discards the compound of the given chunk, whether it has been read
+     * yet or not. Called whenever the chunk is queued for saving.
+     *
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     */
+    public void discard(final int x, final int z) {
+        if (this.contains(x, z)) {
+            this.chunks.put(ChunkPos.asLong(x, z), DISCARDED);
+        }
+    }
+
+    int getChunksRead() {
+        return this.chunksRead.get();
+    }
+
+    void clear() {
+        this.chunks.clear();
+    }
+
+    private boolean contains(final int x, final int z) {
+        return x >= this.minX && x <= this.maxX && z >= this.minZ && z <= this.maxZ;
+    }
+
+    private void readRegion(final int regionX, final int regionZ) {
+        final int startX = Math.max(regionX << Constants.World.REGION_SHIFT, this.minX);
+        final int startZ = Math.max(regionZ << Constants.World.REGION_SHIFT, this.minZ);
+        final int endX = Math.min(((regionX + 1) << Constants.World.REGION_SHIFT) - 1, this.maxX);
+        final int endZ = Math.min(((regionZ + 1) << Constants.World.REGION_SHIFT) - 1, this.maxZ);
+        for (int z = startZ; z <= endZ; z++) {
+            for (int x = startX; x <= endX; x++) {
+                try (final DataInputStream stream = RegionFileCache.getChunkInputStream(this.worldDir, x, z)) {
+                    if (stream == null) {
+                        continue;
+                    }
+                    // Only stored if the chunk has not been discarded in the meantime
+                    this.chunks.putIfAbsent(ChunkPos.asLong(x, z), CompressedStreamTools.read(stream));
+                    this.chunksRead.incrementAndGet();
+                } catch (IOException | RuntimeException e) {
+                    // The main thread reads the chunk again and reports the failure itself
+                    SpongeImpl.getLogger().debug("Could not read chunk ({}, {}) of {} ahead of time.", x, z, this.worldDir, e);
+                }
+            }
+        }
+    }
+}
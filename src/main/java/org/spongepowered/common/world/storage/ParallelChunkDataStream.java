@@ -0,0 +1,390 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.world.storage.ChunkDataStream;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.util.Constants;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link ChunkDataStream} that reads the region files of a world in
+ * parallel. Region files are read with positional reads, bypassing the
+ * region file cache, and their chunks are decompressed on a fork-join pool.
+ * Read chunks are handed over through a bounded buffer, reading pauses while
+ * the buffer is full.
+ *
+ * <p>Chunks are returned in no particular order. Unlike
+ * {@link SpongeChunkDataStream}, chunks without level data are skipped
+ * instead of being returned as null.</p>
+ */
+public class ParallelChunkDataStream implements ChunkDataStream {
+
+    /**
+     * Decides from the region header alone whether a chunk is read.
+     */
+    @FunctionalInterface
+    public interface ChunkFilter {
+
+        /**
+         * Tests whether the given chunk should be read.
+         *
+         * @param chunkX The chunk x coordinate
+         * @param chunkZ The chunk z coordinate
+         * @param lastModified The last time the chunk was saved, in seconds since the epoch
+         * @return True to read the chunk
+         */
+        boolean test(int chunkX, int chunkZ, int lastModified);
+    }
+
+    private static final Pattern REGION_FILE_NAME = Pattern.compile("r\\.(-?\\d+)\\.(-?\\d+)\\.mca");
+    private static final int SECTOR_BYTES = 4096;
+    private static final int CHUNKS_PER_TASK = 32;
+    // Give up on a stream whose consumer did not take a chunk for this long
+    private static final long ABANDON_TIMEOUT_SECONDS = 60;
+    private static final Object END = new Object();
+
+    private final Path worldDir;
+    private final int parallelism;
+    private final int bufferSize;
+    @Nullable private final ChunkFilter filter;
+    @Nullable private Scan scan;
+    @Nullable private DataContainer next;
+    private int consumed;
+
+    public ParallelChunkDataStream(final Path worldDir, final int parallelism, final int bufferSize, @Nullable final ChunkFilter filter) {
+        this.worldDir = worldDir;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.bufferSize = Math.max(1, bufferSize);
+        this.filter = filter;
+    }
+
+    @Override
+    public DataContainer next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final DataContainer next = this.next;
+        this.next = null;
+        this.consumed++;
+        return next;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (this.next != null) {
+            return true;
+        }
+        if (this.scan == null) {
+            this.scan = new Scan();
+        }
+        final Object next = this.scan.take();
+        if (next == END) {
+            return false;
+        }
+        this.next = (DataContainer) next;
+        return true;
+    }
+
+    /**
+     * Gets the amount of chunks not yet returned. This is counted from the
+     * region headers, chunks which turn out to lack level data are included.
+     *
+     * @return The amount of remaining chunks
+     */
+    @Override
+    public int available() {
+        int count = 0;
+        for (final Path regionFile : WorldStorageUtil.listRegionFiles(this.worldDir)) {
+            try {
+                count += this.getChunkIndices(regionFile, readHeader(regionFile)).size();
+            } catch (IOException e) {
+                SpongeImpl.getLogger().error("Failed to read region file header {}", regionFile, e);
+            }
+        }
+        return Math.max(0, count - this.consumed);
+    }
+
+    @Override
+    public void reset() {
+        this.close();
+        this.consumed = 0;
+    }
+
+    /**
+     * Stops reading and releases the threads of this stream. The stream
+     * restarts from the beginning when it is used again.
+     */
+    public void close() {
+        if (this.scan != null) {
+            this.scan.close();
+            this.scan = null;
+        }
+        this.next = null;
+    }
+
+    private static ByteBuffer readHeader(final Path regionFile) throws IOException {
+        try (FileChannel channel = FileChannel.open(regionFile, StandardOpenOption.READ)) {
+            return readHeader(channel);
+        }
+    }
+
+    private static ByteBuffer readHeader(final FileChannel channel) throws IOException {
+        // Chunk offsets followed by the chunk timestamps
+        final ByteBuffer header = ByteBuffer.allocate(2 * SECTOR_BYTES);
+        readFully(channel, header, 0);
+        return header;
+    }
+
+    private static void readFully(final FileChannel channel, final ByteBuffer buffer, final long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                break;
+            }
+        }
+        buffer.flip();
+    }
+
+    private List<Integer> getChunkIndices(final Path regionFile, final ByteBuffer header) {
+        final List<Integer> indices = new ArrayList<>();
+        final Matcher matcher = REGION_FILE_NAME.matcher(regionFile.getFileName().toString());
+        if (!matcher.matches() || header.remaining() < 2 * SECTOR_BYTES) {
+            return indices;
+        }
+        final int baseX = Integer.parseInt(matcher.group(1)) << Constants.World.REGION_SHIFT;
+        final int baseZ = Integer.parseInt(matcher.group(2)) << Constants.World.REGION_SHIFT;
+        for (int index = 0; index < Constants.World.CHUNKS_PER_REGION; index++) {
+            if (header.getInt(index * 4) == 0) {
+                continue;
+            }
+            if (this.filter == null
+                    || this.filter.test(baseX + (index & 31), baseZ + (index >>> 5), header.getInt(SECTOR_BYTES + index * 4))) {
+                indices.add(index);
+            }
+        }
+        return indices;
+    }
+
+    @Nullable
+    private static NBTTagCompound readChunk(final FileChannel channel, final int offset) throws IOException {
+        final int sector = offset >>> 8;
+        final int sectorCount = offset & 0xFF;
+        if (sector < 2 || sectorCount == 0) {
+            return null;
+        }
+        final ByteBuffer buffer = ByteBuffer.allocate(sectorCount * SECTOR_BYTES);
+        readFully(channel, buffer, (long) sector * SECTOR_BYTES);
+        if (buffer.remaining() < 5) {
+            return null;
+        }
+        final int length = buffer.getInt();
+        final byte version = buffer.get();
+        if (length <= 1 || length - 1 > buffer.remaining()) {
+            return null;
+        }
+        InputStream in = new ByteArrayInputStream(buffer.array(), buffer.position(), length - 1);
+        if (version == 1) {
+            in = new GZIPInputStream(in);
+        } else if (version == 2) {
+            in = new InflaterInputStream(in);
+        } else {
+            return null;
+        }
+        try (DataInputStream data = new DataInputStream(new BufferedInputStream(in))) {
+            return CompressedStreamTools.read(data);
+        }
+    }
+
+    /**
+     * A single pass over all region files.
+     */
+    private final class Scan {
+
+        private final BlockingQueue<Object> buffer = new ArrayBlockingQueue<>(ParallelChunkDataStream.this.bufferSize);
+        private final ForkJoinPool pool;
+        private final AtomicInteger remainingRegions = new AtomicInteger();
+        private volatile boolean closed;
+        private boolean finished;
+
+        Scan() {
+            final List<Path> regionFiles = new ArrayList<>();
+            WorldStorageUtil.listRegionFiles(ParallelChunkDataStream.this.worldDir).forEach(regionFiles::add);
+            this.pool = new ForkJoinPool(ParallelChunkDataStream.this.parallelism, pool -> {
+                final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                thread.setName("Sponge - Chunk Data Stream Thread #" + thread.getPoolIndex());
+                return thread;
+            }, null, false);
+            this.remainingRegions.set(regionFiles.size());
+            if (regionFiles.isEmpty()) {
+                this.buffer.add(END);
+            }
+            for (final Path regionFile : regionFiles) {
+                this.pool.execute(new RegionTask(regionFile));
+            }
+        }
+
+        Object take() {
+            if (this.finished) {
+                return END;
+            }
+            try {
+                final Object next = this.buffer.take();
+                if (next == END) {
+                    this.finished = true;
+                    this.pool.shutdown();
+                }
+                return next;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                this.close();
+                this.finished = true;
+                return END;
+            }
+        }
+
+        boolean offer(final Object value) {
+            try {
+                for (long waited = 0; waited < ABANDON_TIMEOUT_SECONDS; waited++) {
+                    if (this.closed) {
+                        return false;
+                    }
+                    if (this.buffer.offer(value, 1, TimeUnit.SECONDS)) {
+                        return true;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            // Nobody is consuming this stream anymore
+            this.closed = true;
+            this.pool.shutdownNow();
+            return false;
+        }
+
+        void close() {
+            this.closed = true;
+            this.pool.shutdownNow();
+            this.buffer.clear();
+        }
+
+        private final class RegionTask extends RecursiveAction {
+
+            private static final long serialVersionUID = 1L;
+            private final Path regionFile;
+
+            RegionTask(final Path regionFile) {
+                this.regionFile = regionFile;
+            }
+
+            @Override
+            protected void compute() {
+                try (FileChannel channel = FileChannel.open(this.regionFile, StandardOpenOption.READ)) {
+                    final ByteBuffer header = readHeader(channel);
+                    final List<Integer> indices = ParallelChunkDataStream.this.getChunkIndices(this.regionFile, header);
+                    final List<ChunkTask> tasks = new ArrayList<>();
+                    for (int from = 0; from < indices.size(); from += CHUNKS_PER_TASK) {
+                        final int to = Math.min(indices.size(), from + CHUNKS_PER_TASK);
+                        tasks.add(new ChunkTask(this.regionFile, channel, header, indices.subList(from, to)));
+                    }
+                    ForkJoinTask.invokeAll(tasks);
+                } catch (IOException e) {
+                    if (!Scan.this.closed) {
+                        SpongeImpl.getLogger().error("Failed to read region file {}", this.regionFile, e);
+                    }
+                } finally {
+                    if (Scan.this.remainingRegions.decrementAndGet() == 0) {
+                        Scan.this.offer(END);
+                    }
+                }
+            }
+        }
+
+        private final class ChunkTask extends RecursiveAction {
+
+            private static final long serialVersionUID = 1L;
+            private final Path regionFile;
+            private final FileChannel channel;
+            private final ByteBuffer header;
+            private final List<Integer> indices;
+
+            ChunkTask(final Path regionFile, final FileChannel channel, final ByteBuffer header, final List<Integer> indices) {
+                this.regionFile = regionFile;
+                this.channel = channel;
+                this.header = header;
+                this.indices = indices;
+            }
+
+            @Override
+            protected void compute() {
+                for (final int index : this.indices) {
+                    if (Scan.this.closed) {
+                        return;
+                    }
+                    try {
+                        final NBTTagCompound compound = readChunk(this.channel, this.header.getInt(index * 4));
+                        final DataContainer data = compound == null ? null : WorldStorageUtil.readChunkData(compound);
+                        if (data != null && !Scan.this.offer(data)) {
+                            return;
+                        }
+                    } catch (IOException | RuntimeException e) {
+                        // A corrupt chunk only skips that chunk, not the rest of the task
+                        if (!Scan.this.closed) {
+                            SpongeImpl.getLogger().error("Failed to read chunk {} of region file {}", index, this.regionFile, e);
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
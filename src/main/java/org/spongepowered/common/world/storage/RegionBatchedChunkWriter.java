@@ -0,0 +1,208 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import it.unimi.dsi.fastutil.ints.AbstractIntComparator;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.chunk.storage.RegionFile;
+import net.minecraft.world.chunk.storage.RegionFileCache;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.mixin.core.world.chunk.storage.RegionFileAccessor;
+import org.spongepowered.common.util.Constants;
+import org.spongepowered.common.util.QueuedChunk;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Consumer;
+import java.util.zip.DeflaterOutputStream;
+
+import javax.annotation.Nullable;
+
+/**
+ * Writes a batch of queued chunks to their region files. The chunk data is
+ * compressed up front, optionally on a shared pool of worker threads, after
+ * which every region file is visited once and its chunks are written in the
+ * order of their current sectors.
+ */
+public final class RegionBatchedChunkWriter {
+
+    @Nullable private static volatile ExecutorService compressionExecutor;
+
+    /**
+     * Compresses and writes the given chunks. The chunks are expected to be
+     * located in the given save location.
+     *
+     * @param saveLocation The directory containing the region folder
+     * @param chunks The chunks to write
+     * @param compressionThreads The amount of compression threads, 0 to compress on the calling thread
+     * @param onWritten Called with each chunk that has been written
+     * @return The amount of compressed bytes written
+     */
+    public static long write(final File saveLocation, final List<QueuedChunk> chunks, final int compressionThreads,
+            final Consumer<QueuedChunk> onWritten) {
+        final byte[][] data = compress(chunks, compressionThreads);
+
+        // Group the chunk indices by region, keeping the queue order of the regions
+        final Long2ObjectLinkedOpenHashMap<IntArrayList> regions = new Long2ObjectLinkedOpenHashMap<>();
+        for (int i = 0; i < chunks.size(); i++) {
+            if (data[i] == null) {
+                continue;
+            }
+            final ChunkPos pos = chunks.get(i).coords;
+            final long key = ChunkPos.asLong(pos.x >> Constants.World.REGION_SHIFT, pos.z >> Constants.World.REGION_SHIFT);
+            IntArrayList indices = regions.get(key);
+            if (indices == null) {
+                indices = new IntArrayList();
+                regions.put(key, indices);
+            }
+            indices.add(i);
+        }
+
+        long bytesWritten = 0;
+        for (final IntArrayList indices : regions.values()) {
+            final ChunkPos first = chunks.get(indices.getInt(0)).coords;
+            final Lock lock = RegionFileLocks.forWriting(saveLocation, first.x, first.z);
+            lock.lock();
+            try {
+                bytesWritten += writeRegion(saveLocation, chunks, data, indices, onWritten);
+            } finally {
+                lock.unlock();
+            }
+        }
+        return bytesWritten;
+    }
+
+    private static long writeRegion(final File saveLocation, final List<QueuedChunk> chunks, final byte[][] data, final IntArrayList indices,
+            final Consumer<QueuedChunk> onWritten) {
+        final ChunkPos first = chunks.get(indices.getInt(0)).coords;
+        final RegionFile regionFile = RegionFileCache.createOrLoadRegionFile(saveLocation, first.x, first.z);
+        final int[] offsets = ((RegionFileAccessor) regionFile).accessor$getOffsets();
+        // Chunks without a sector yet are appended to the end of the file,
+        // write them after all chunks that are updated in place.
+        IntArrays.quickSort(indices.elements(), 0, indices.size(), new AbstractIntComparator() {
+            @Override
+            public int compare(final int a, final int b) {
+                return Integer.compareUnsigned(sectorOf(offsets, chunks.get(a).coords) - 1, sectorOf(offsets, chunks.get(b).coords) - 1);
+            }
+        });
+        long bytesWritten = 0;
+        for (int i = 0; i < indices.size(); i++) {
+            final int index = indices.getInt(i);
+            final QueuedChunk chunk = chunks.get(index);
+            ((RegionFileAccessor) regionFile).accessor$write(chunk.coords.x & 31, chunk.coords.z & 31, data[index], data[index].length);
+            bytesWritten += data[index].length;
+            onWritten.accept(chunk);
+        }
+        return bytesWritten;
+    }
+
+    private static int sectorOf(final int[] offsets, final ChunkPos pos) {
+        return offsets[(pos.x & 31) + (pos.z & 31) * 32] >> 8;
+    }
+
+    private static byte[][] compress(final List<QueuedChunk> chunks, final int compressionThreads) {
+        final byte[][] data = new byte[chunks.size()][];
+        if (compressionThreads <= 0 || chunks.size() == 1) {
+            for (int i = 0; i < chunks.size(); i++) {
+                data[i] = compressOrLog(chunks.get(i));
+            }
+            return data;
+        }
+        final ExecutorService executor = getCompressionExecutor(compressionThreads);
+        final List<Future<byte[]>> futures = new ArrayList<>(chunks.size());
+        for (final QueuedChunk chunk : chunks) {
+            futures.add(executor.submit(() -> compressOrLog(chunk)));
+        }
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                data[i] = futures.get(i).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                data[i] = compressOrLog(chunks.get(i));
+            } catch (ExecutionException e) {
+                SpongeImpl.getLogger().error("Failed to compress chunk {}", chunks.get(i).coords, e.getCause());
+            }
+        }
+        return data;
+    }
+
+    @Nullable
+    private static byte[] compressOrLog(final QueuedChunk chunk) {
+        try {
+            return compress(chunk.compound);
+        } catch (IOException e) {
+            SpongeImpl.getLogger().error("Failed to compress chunk {}", chunk.coords, e);
+            return null;
+        }
+    }
+
+    /**
+     * Compresses the given chunk compound into the zlib format stored in
+     * region files, like {@link RegionFile#getChunkDataOutputStream} does.
+     *
+     * @param compound The chunk compound
+     * @return The compressed data
+     * @throws IOException If the compound could not be written
+     */
+    public static byte[] compress(final NBTTagCompound compound) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(8192);
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes))) {
+            CompressedStreamTools.write(compound, out);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static ExecutorService getCompressionExecutor(final int threads) {
+        ExecutorService executor = compressionExecutor;
+        if (executor == null) {
+            synchronized (RegionBatchedChunkWriter.class) {
+                executor = compressionExecutor;
+                if (executor == null) {
+                    executor = compressionExecutor = Executors.newFixedThreadPool(threads,
+                            new ThreadFactoryBuilder().setNameFormat("Sponge - Chunk Compression Thread #%d").setDaemon(true).build());
+                }
+            }
+        }
+        return executor;
+    }
+
+    private RegionBatchedChunkWriter() {
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import com.google.common.util.concurrent.Striped;
+import org.spongepowered.common.util.Constants;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+
+/**
+ * Locks guarding region files against being copied while chunks are
+ * written to them. Any amount of chunk writes may hold the lock of a region
+ * file at the same time, region files themselves synchronize their writes.
+ * Copying a region file excludes all writes to it, but only to it.
+ */
+public final class RegionFileLocks {
+
+    private static final Striped<ReadWriteLock> LOCKS = Striped.readWriteLock(256);
+
+    /**
+     * Gets the lock to hold while writing the given chunk to its region file.
+     *
+     * @param saveLocation The directory containing the region folder
+     * @param chunkX The chunk x coordinate
+     * @param chunkZ The chunk z coordinate
+     * @return The shared lock of the region file
+     */
+    public static Lock forWriting(final File saveLocation, final int chunkX, final int chunkZ) {
+        final Path regionFile = WorldStorageUtil.getRegionFilePath(saveLocation.toPath(), chunkX >> Constants.World.REGION_SHIFT,
+            chunkZ >> Constants.World.REGION_SHIFT);
+        return get(regionFile).readLock();
+    }
+
+    /**
+     * Gets the lock to hold while copying the given region file.
+     *
+     * @param regionFile The region file
+     * @return The exclusive lock of the region file
+     */
+    public static Lock forCopying(final Path regionFile) {
+        return get(regionFile).writeLock();
+    }
+
+    private static ReadWriteLock get(final Path regionFile) {
+        return LOCKS.get(regionFile.toAbsolutePath().normalize());
+    }
+
+    private RegionFileLocks() {
+    }
+}
@@ -28,7 +28,7 @@
 import net.minecraft.world.chunk.storage.RegionFile;
 import org.spongepowered.api.data.DataContainer;
 import org.spongepowered.api.world.storage.ChunkDataStream;
-import org.spongepowered.common.bridge.world.chunk.storage.RegionFileAccessor;
+import org.spongepowered.common.mixin.core.world.chunk.storage.RegionFileAccessor;
 
 import java.io.DataInputStream;
 import java.io.IOException;
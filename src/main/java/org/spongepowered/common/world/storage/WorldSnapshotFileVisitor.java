@@ -0,0 +1,85 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import org.spongepowered.api.util.file.CopyFileVisitor;
+import org.spongepowered.api.util.file.ForwardingFileVisitor;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * Copies the folder of a world that may still be saved to. The world is
+ * expected to have been flushed once before the copy starts, after which
+ * region files are copied one at a time while only that region file is
+ * locked against chunk writes, see {@link RegionFileLocks}.
+ *
+ * <p>Every region file is consistent in itself, but regions copied later
+ * may contain chunks saved after the flush. Other files that are replaced
+ * while the copy is running, like the level data, are skipped if they are
+ * missing when visited.</p>
+ */
+public final class WorldSnapshotFileVisitor extends ForwardingFileVisitor<Path> {
+
+    public WorldSnapshotFileVisitor(final Path target) {
+        super(new CopyFileVisitor(target));
+    }
+
+    @Override
+    public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) throws IOException {
+        try {
+            if (!isRegionFile(file)) {
+                return super.visitFile(file, attrs);
+            }
+            final Lock lock = RegionFileLocks.forCopying(file);
+            lock.lock();
+            try {
+                return super.visitFile(file, attrs);
+            } finally {
+                lock.unlock();
+            }
+        } catch (NoSuchFileException e) {
+            return FileVisitResult.CONTINUE;
+        }
+    }
+
+    @Override
+    public FileVisitResult visitFileFailed(final Path file, final IOException exc) throws IOException {
+        if (exc instanceof NoSuchFileException) {
+            return FileVisitResult.CONTINUE;
+        }
+        return super.visitFileFailed(file, exc);
+    }
+
+    private static boolean isRegionFile(final Path file) {
+        final Path parent = file.getParent();
+        return parent != null && parent.getFileName() != null && "region".equals(parent.getFileName().toString())
+            && file.getFileName().toString().endsWith(".mca");
+    }
+}
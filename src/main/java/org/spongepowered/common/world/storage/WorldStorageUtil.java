@@ -43,15 +43,21 @@
 import java.io.DataInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.Optional;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
+import javax.annotation.Nullable;
+
 public class WorldStorageUtil {
 
     public static CompletableFuture<Boolean> doesChunkExist(WorldServer world, IChunkLoader chunkLoader, Vector3i chunkCoords) {
@@ -90,8 +96,18 @@ public static DataContainer readDataFromRegion(DataInputStream stream) throws IO
         if (stream == null) {
             return null;
         }
-        NBTTagCompound data = CompressedStreamTools.read(stream);
+        return readChunkData(CompressedStreamTools.read(stream));
+    }
 
+    /**
+     * Converts the root compound of a saved chunk into its level data,
+     * returning null if the chunk is incomplete.
+     *
+     * @param data The root compound of the chunk
+     * @return The level data, or null
+     */
+    @Nullable
+    public static DataContainer readChunkData(NBTTagCompound data) {
         // Checks are based on AnvilChunkLoader#checkedReadChunkFromNBT
 
         if (!data.hasKey(Constants.Chunk.CHUNK_DATA_LEVEL, Constants.NBT.TAG_COMPOUND)) {
@@ -101,7 +117,7 @@ public static DataContainer readDataFromRegion(DataInputStream stream) throws IO
         if (!level.hasKey(Constants.Chunk.CHUNK_DATA_SECTIONS, Constants.NBT.TAG_LIST)) {
             return null;
         }
-        return NbtTranslator.getInstance().translateFrom(level);
+        return NbtTranslator.getInstance().translateLazily(level);
     }
 
     public static Iterable<Path> listRegionFiles(Path worldDir) {
@@ -112,6 +128,43 @@ public static Iterable<Path> listRegionFiles(Path worldDir) {
         }
     }
 
+    public static Path getRegionFilePath(Path worldDir, int regionX, int regionZ) {
+        return worldDir.resolve("region").resolve("r." + regionX + "." + regionZ + ".mca");
+    }
+
+    /**
+     * Reads the location table of the given region file in a single read,
+     * without going through the {@link RegionFileCache}, and returns which of
+     * its 32x32 chunks have been saved. The bit of a chunk is
+     * <code>(x &amp; 31) + (z &amp; 31) * 32</code>, the same index the
+     * region file uses for its offsets.
+     *
+     * @param regionFilePath The path of the region file
+     * @return The chunks present in the region, empty if the file does not exist
+     * @throws IOException If the region file could not be read
+     */
+    public static BitSet getSavedChunks(Path regionFilePath) throws IOException {
+        final BitSet saved = new BitSet(Constants.World.CHUNKS_PER_REGION);
+        if (!Files.isRegularFile(regionFilePath)) {
+            return saved;
+        }
+        final ByteBuffer header = ByteBuffer.allocate(Constants.World.CHUNKS_PER_REGION * 4);
+        try (FileChannel channel = FileChannel.open(regionFilePath, StandardOpenOption.READ)) {
+            while (header.hasRemaining()) {
+                if (channel.read(header, header.position()) < 0) {
+                    break;
+                }
+            }
+        }
+        header.flip();
+        for (int i = 0; header.remaining() >= 4; i++) {
+            if (header.getInt() != 0) {
+                saved.set(i);
+            }
+        }
+        return saved;
+    }
+
     // Similar to RegionFileCache#createOrLoadRegionFile except this uses direct
     // file name instead of x,z
     public static RegionFile getRegionFile(Path regionFilePath) {
@@ -0,0 +1,178 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.teleport;
+
+import com.flowpowered.math.vector.Vector3i;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Lazily enumerates the positions of a search box around an origin in
+ * increasing distance shells. Within a shell, positions with a larger change
+ * in Y come first, then higher positions, then lower X and lower Z, which is
+ * the order a full sort of the box used to produce.
+ *
+ * <p>Only the positions that are actually consumed are created, so a search
+ * that finds a safe location near the origin never touches the rest of the
+ * box.</p>
+ */
+final class SafeLocationCandidates implements Iterator<Vector3i> {
+
+    private static final int NO_DX = Integer.MIN_VALUE;
+
+    private final int originX;
+    private final int originY;
+    private final int originZ;
+    private final int minDx;
+    private final int maxDx;
+    private final int minDy;
+    private final int maxDy;
+    private final int minDz;
+    private final int maxDz;
+    // Bounds of |dy| inside the box, used to skip the Y offsets of a shell that fall outside of it
+    private final int minAbsDy;
+    private final int maxAbsDyInBox;
+    private final long maxDistanceSquared;
+
+    private long distanceSquared;
+    // Index into the Y offsets of the current shell, ordered by descending |dy|, positive first
+    private int dyIndex;
+    // NO_DX until the range of X offsets of the current Y offset is known
+    private int dx;
+    // 0 for the negative Z offset, 1 for the positive one
+    private int dzSign;
+    private Vector3i next;
+
+    SafeLocationCandidates(final Vector3i origin, final int minX, final int maxX, final int minY, final int maxY, final int minZ, final int maxZ) {
+        this.originX = origin.getX();
+        this.originY = origin.getY();
+        this.originZ = origin.getZ();
+        this.minDx = minX - this.originX;
+        this.maxDx = maxX - this.originX;
+        this.minDy = minY - this.originY;
+        this.maxDy = maxY - this.originY;
+        this.minDz = minZ - this.originZ;
+        this.maxDz = maxZ - this.originZ;
+        this.minAbsDy = (int) Math.sqrt(minSquare(this.minDy, this.maxDy));
+        this.maxAbsDyInBox = Math.max(Math.abs(this.minDy), Math.abs(this.maxDy));
+        this.maxDistanceSquared = maxSquare(this.minDx, this.maxDx) + maxSquare(this.minDy, this.maxDy) + maxSquare(this.minDz, this.maxDz);
+        if (this.minDx <= this.maxDx && this.minDy <= this.maxDy && this.minDz <= this.maxDz) {
+            // Shells closer than the nearest point of the box can not contain any position, which
+            // matters when the origin lies outside of the box, e.g. above the build height
+            this.distanceSquared = minSquare(this.minDx, this.maxDx) + minSquare(this.minDy, this.maxDy) + minSquare(this.minDz, this.maxDz) - 1;
+            this.nextShell();
+            this.next = this.computeNext();
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.next != null;
+    }
+
+    @Override
+    public Vector3i next() {
+        final Vector3i current = this.next;
+        if (current == null) {
+            throw new NoSuchElementException();
+        }
+        this.next = this.computeNext();
+        return current;
+    }
+
+    private static long maxSquare(final int min, final int max) {
+        return Math.max((long) min * min, (long) max * max);
+    }
+
+    private static long minSquare(final int min, final int max) {
+        if (min <= 0 && max >= 0) {
+            return 0;
+        }
+        return Math.min((long) min * min, (long) max * max);
+    }
+
+    private void nextShell() {
+        this.distanceSquared++;
+        this.dyIndex = 0;
+        this.dx = NO_DX;
+        this.dzSign = 0;
+    }
+
+    private Vector3i computeNext() {
+        while (this.distanceSquared <= this.maxDistanceSquared) {
+            final int maxAbsDy = (int) Math.sqrt(this.distanceSquared);
+            // Offsets are visited as maxAbsDy, -maxAbsDy, maxAbsDy - 1, -(maxAbsDy - 1), ..., 0,
+            // starting at the largest |dy| the box can hold
+            this.dyIndex = Math.max(this.dyIndex, 2 * (maxAbsDy - Math.min(maxAbsDy, this.maxAbsDyInBox)));
+            while (this.dyIndex <= 2 * maxAbsDy) {
+                final int absDy = maxAbsDy - this.dyIndex / 2;
+                if (absDy < this.minAbsDy) {
+                    break;
+                }
+                final int dy = (this.dyIndex & 1) == 0 ? absDy : -absDy;
+                if ((absDy == 0 && (this.dyIndex & 1) == 1) || dy < this.minDy || dy > this.maxDy) {
+                    this.nextY();
+                    continue;
+                }
+                final long remainingXz = this.distanceSquared - (long) dy * dy;
+                // Only |dx| <= sqrt(remainingXz) leaves a non-negative remainder for Z
+                final long maxAbsDx = (long) Math.sqrt(remainingXz);
+                if (this.dx == NO_DX) {
+                    this.dx = (int) Math.max(this.minDx, -maxAbsDx);
+                }
+                final int lastDx = (int) Math.min(this.maxDx, maxAbsDx);
+                while (this.dx <= lastDx) {
+                    final long remainingZ = remainingXz - (long) this.dx * this.dx;
+                    if (remainingZ >= 0) {
+                        final long absDz = (long) Math.sqrt(remainingZ);
+                        if (absDz * absDz == remainingZ) {
+                            while (this.dzSign < 2) {
+                                final int dz = (int) (this.dzSign == 0 ? -absDz : absDz);
+                                this.dzSign++;
+                                if ((absDz == 0 && this.dzSign == 2) || dz < this.minDz || dz > this.maxDz) {
+                                    continue;
+                                }
+                                return new Vector3i(this.originX + this.dx, this.originY + dy, this.originZ + dz);
+                            }
+                        }
+                    }
+                    this.dx++;
+                    this.dzSign = 0;
+                }
+                this.nextY();
+            }
+            this.nextShell();
+        }
+        return null;
+    }
+
+    private void nextY() {
+        this.dyIndex++;
+        this.dx = NO_DX;
+        this.dzSign = 0;
+    }
+
+}
@@ -28,6 +28,8 @@
 import com.flowpowered.math.vector.Vector3i;
 import com.google.common.collect.Sets;
 import com.google.inject.Singleton;
+import it.unimi.dsi.fastutil.longs.Long2ByteMap;
+import it.unimi.dsi.fastutil.longs.Long2ByteOpenHashMap;
 import net.minecraft.world.border.WorldBorder;
 import org.spongepowered.api.block.BlockState;
 import org.spongepowered.api.util.Tristate;
@@ -41,17 +43,18 @@
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Comparator;
-import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Stream;
 
 @Singleton
 public class SpongeTeleportHelper implements TeleportHelper {
 
+    private static final byte UNKNOWN = -1;
+    private static final byte SAFE_FLOOR = 1;
+    private static final byte SAFE_BODY = 2;
+
     @Override
     public Optional<Location<World>> getSafeLocation(Location<World> location, int height, int width, int distanceToDrop,
             TeleportHelperFilter filter, TeleportHelperFilter... additionalFilters) {
@@ -81,7 +84,7 @@ public Optional<Location<World>> getSafeLocation(Location<World> location, int h
 
     }
 
-    private Stream<Vector3i> getBlockLocations(Location<World> worldLocation, int height, int width) {
+    private Iterator<Vector3i> getBlockLocations(Location<World> worldLocation, int height, int width) {
         // We don't want to warp outside of the world border, so we want to check that we're within it.
         WorldBorder worldBorder = (WorldBorder) worldLocation.getExtent().getWorldBorder();
         int worldBorderMinX = GenericMath.floor(worldBorder.minX());
@@ -105,121 +108,113 @@ private Stream<Vector3i> getBlockLocations(Location<World> worldLocation, int he
         int minZ = GenericMath.clamp(vectorLocation.getZ() - width, worldBorderMinZ, worldBorderMaxZ);
         int maxZ = GenericMath.clamp(vectorLocation.getZ() + width, worldBorderMinZ, worldBorderMaxZ);
 
-        // We now iterate over all possible x, y and z positions to get all possible vectors.
-        List<Vector3i> vectors = new ArrayList<>();
-        for (int y = minY; y <= maxY; y++) {
-            for (int x = minX; x <= maxX; x++) {
-                for (int z = minZ; z <= maxZ; z++) {
-                    vectors.add(new Vector3i(x, y, z));
-                }
-            }
-        }
-
-        Comparator<Vector3i> c = Comparator.comparingInt(vectorLocation::distanceSquared);
-
-        // The compiler seems to need this to be a new line.
-        // We check to see what the y location is, preferring changes in Y over X and Z, and higher over lower locations.
-        c = c.thenComparing(x -> -Math.abs(vectorLocation.getY() - x.getY())).thenComparing(x -> -x.getY());
-
-        // Sort them according to the distance to the provided worldLocation.
-        return vectors.stream().sorted(c);
+        // Positions are generated on demand, sorted by distance to the provided worldLocation, preferring
+        // changes in Y over X and Z, and higher over lower locations.
+        return new SafeLocationCandidates(vectorLocation, minX, maxX, minY, maxY, minZ, maxZ);
     }
 
-    private Optional<Vector3i> getSafeLocation(World world, Stream<Vector3i> positionsToCheck, int floorDistanceCheck,
+    private Optional<Vector3i> getSafeLocation(World world, Iterator<Vector3i> positionsToCheck, int floorDistanceCheck,
             Collection<TeleportHelperFilter> filters) {
         // We cache the various block lookup results so we don't check a block twice.
-        final Map<Vector3i, BlockData> blockCache = new HashMap<>();
-
-        return positionsToCheck.filter(currentTarget -> {
-            List<TeleportHelperFilter> undefinedResults = new ArrayList<>();
-            for (TeleportHelperFilter filter : filters) {
-                // If any return Tristate.FALSE, we're not safe.
-                Tristate isValid = filter.isValidLocation(world, currentTarget);
-                if (isValid == Tristate.FALSE) {
-                    // Completely fails the AND check at this point.
-                    return false;
-                }
-
-                if (isValid == Tristate.UNDEFINED) {
-                    undefinedResults.add(filter);
-                }
+        final Long2ByteMap blockCache = new Long2ByteOpenHashMap();
+        blockCache.defaultReturnValue(UNKNOWN);
+        final List<TeleportHelperFilter> undefinedResults = new ArrayList<>();
+
+        while (positionsToCheck.hasNext()) {
+            final Vector3i currentTarget = positionsToCheck.next();
+            if (isSafeLocation(world, currentTarget, floorDistanceCheck, filters, blockCache, undefinedResults)) {
+                return Optional.of(currentTarget);
             }
+        }
+        return Optional.empty();
+    }
 
-            // If we don't have any undefined results, then we return true here.
-            if (undefinedResults.isEmpty()) {
-                return true;
+    private boolean isSafeLocation(World world, Vector3i currentTarget, int floorDistanceCheck, Collection<TeleportHelperFilter> filters,
+            Long2ByteMap blockCache, List<TeleportHelperFilter> undefinedResults) {
+        undefinedResults.clear();
+        for (TeleportHelperFilter filter : filters) {
+            // If any return Tristate.FALSE, we're not safe.
+            Tristate isValid = filter.isValidLocation(world, currentTarget);
+            if (isValid == Tristate.FALSE) {
+                // Completely fails the AND check at this point.
+                return false;
+            }
+
+            if (isValid == Tristate.UNDEFINED) {
+                undefinedResults.add(filter);
             }
+        }
 
-            // Get the block, add it to the cache.
-            BlockData block = getBlockData(currentTarget, world, blockCache, undefinedResults);
+        // If we don't have any undefined results, then we return true here.
+        if (undefinedResults.isEmpty()) {
+            return true;
+        }
 
-            // If the block isn't safe, no point in continuing on this run.
-            if (block.isSafeBody) {
+        final int x = currentTarget.getX();
+        final int y = currentTarget.getY();
+        final int z = currentTarget.getZ();
 
-                // Check the block ABOVE is safe for the body, and the two BELOW are safe too.
-                if (getBlockData(
-                    currentTarget.add(0, 1, 0), world, blockCache, undefinedResults).isSafeBody
-                        && (floorDistanceCheck <= 0 || isFloorSafe(currentTarget, world, blockCache, undefinedResults, floorDistanceCheck))) {
+        // Get the block, add it to the cache.
+        // If the block isn't safe, no point in continuing on this run.
+        if ((getBlockData(x, y, z, world, blockCache, undefinedResults) & SAFE_BODY) != 0) {
 
-                    // This position should be safe. Get the center of the block to spawn into.
-                    return true;
-                }
-            }
+            // Check the block ABOVE is safe for the body, and the two BELOW are safe too.
+            // This position should be safe. Get the center of the block to spawn into.
+            return (getBlockData(x, y + 1, z, world, blockCache, undefinedResults) & SAFE_BODY) != 0
+                    && (floorDistanceCheck <= 0 || isFloorSafe(x, y, z, world, blockCache, undefinedResults, floorDistanceCheck));
+        }
 
-            return false;
-        }).findFirst();
+        return false;
     }
 
-    private boolean isFloorSafe(Vector3i currentTarget, World world, Map<Vector3i, BlockData> blockCache, Collection<TeleportHelperFilter> filters,
+    private boolean isFloorSafe(int x, int y, int z, World world, Long2ByteMap blockCache, Collection<TeleportHelperFilter> filters,
             int floorDistanceCheck) {
         for (int i = 1; i < floorDistanceCheck; ++i) {
-            BlockData data = getBlockData(currentTarget.sub(0, i, 0), world, blockCache, filters);
+            final byte data = getBlockData(x, y - i, z, world, blockCache, filters);
 
             // If it's a safe floor, we can just say yes now.
-            if (data.isSafeFloor) {
+            if ((data & SAFE_FLOOR) != 0) {
                 return true;
             }
 
             // If it's not safe for the body, then we don't want to go through it anyway.
-            if (!data.isSafeBody) {
+            if ((data & SAFE_BODY) == 0) {
                 return false;
             }
         }
 
         // Check the next block down, if it's a floor, then we're good to go, otherwise we'd fall too far for our liking.
-        return getBlockData(currentTarget.sub(0, floorDistanceCheck, 0), world, blockCache, filters).isSafeFloor;
+        return (getBlockData(x, y - floorDistanceCheck, z, world, blockCache, filters) & SAFE_FLOOR) != 0;
     }
 
-    private BlockData getBlockData(Vector3i vector3i, World world, Map<Vector3i, BlockData> cache, Collection<TeleportHelperFilter> filters) {
-        if (vector3i.getY() < 0) {
+    /**
+     * Gets whether the block at the given position is a safe floor and body
+     * material, as a combination of {@link #SAFE_FLOOR} and
+     * {@link #SAFE_BODY} flags.
+     */
+    private byte getBlockData(int x, int y, int z, World world, Long2ByteMap cache, Collection<TeleportHelperFilter> filters) {
+        if (y < 0) {
             // Anything below this isn't safe, no point going further.
-            return new BlockData();
+            return 0;
         }
 
-        if (cache.containsKey(vector3i)) {
-            return cache.get(vector3i);
+        // Same packing as BlockPos#toLong
+        final long key = ((long) x & 0x3FFFFFFL) << 38 | ((long) y & 0xFFFL) << 26 | ((long) z & 0x3FFFFFFL);
+        byte data = cache.get(key);
+        if (data != UNKNOWN) {
+            return data;
         }
 
-        BlockData data = new BlockData(world.getBlock(vector3i), filters);
-        cache.put(vector3i, data);
-        return data;
-    }
-
-    private class BlockData {
-
-        private final boolean isSafeFloor;
-        private final boolean isSafeBody;
-
-        private BlockData() {
-            this.isSafeFloor = false;
-            this.isSafeBody = false;
+        final BlockState blockState = world.getBlock(x, y, z);
+        data = 0;
+        if (filters.stream().allMatch(filter -> filter.isSafeFloorMaterial(blockState))) {
+            data |= SAFE_FLOOR;
         }
-
-        private BlockData(BlockState blockState, Collection<TeleportHelperFilter> filters) {
-            this.isSafeFloor = filters.stream().allMatch(x -> x.isSafeFloorMaterial(blockState));
-            this.isSafeBody = filters.stream().allMatch(x -> x.isSafeBodyMaterial(blockState));
+        if (filters.stream().allMatch(filter -> filter.isSafeBodyMaterial(blockState))) {
+            data |= SAFE_BODY;
         }
-
+        cache.put(key, data);
+        return data;
     }
 
 }
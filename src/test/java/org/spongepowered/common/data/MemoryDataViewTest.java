@@ -0,0 +1,116 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
+
+import java.util.Optional;
+
+public class MemoryDataViewTest {
+
+    private static final DataQuery NAME = DataQuery.of("UnsafeData", "display", "Name");
+    private static final DataQuery LEVEL = DataQuery.of("UnsafeData", "ench", "lvl");
+
+    @Test
+    public void testNestedSetCreatesViews() {
+        final DataContainer container = new MemoryDataContainer()
+            .set(NAME, "Sword")
+            .set(LEVEL, 5);
+
+        final DataView display = container.getView(DataQuery.of("UnsafeData", "display")).get();
+        assertEquals(DataQuery.of("UnsafeData", "display"), display.getCurrentPath());
+        assertEquals(Optional.of("Sword"), display.getString(DataQuery.of("Name")));
+        assertEquals(Optional.of("Sword"), container.getString(NAME));
+        assertEquals(Optional.of(5), container.getInt(LEVEL));
+        assertTrue(container.contains(LEVEL));
+    }
+
+    @Test
+    public void testMissingPaths() {
+        final DataContainer container = new MemoryDataContainer().set(NAME, "Sword");
+
+        assertFalse(container.contains(DataQuery.of("UnsafeData", "display", "Lore")));
+        assertFalse(container.contains(DataQuery.of("UnsafeData", "display", "Name", "Deeper")));
+        assertFalse(container.get(DataQuery.of("Missing", "Name")).isPresent());
+        assertFalse(container.getInt(NAME).isPresent());
+    }
+
+    @Test
+    public void testTypedGettersCoerce() {
+        final DataContainer container = new MemoryDataContainer()
+            .set(DataQuery.of("Count"), (byte) 3)
+            .set(DataQuery.of("Amount"), "12");
+
+        assertEquals(Optional.of(3), container.getInt(DataQuery.of("Count")));
+        assertEquals(Optional.of((byte) 3), container.getByte(DataQuery.of("Count")));
+        assertEquals(Optional.of(12.0D), container.getDouble(DataQuery.of("Amount")));
+    }
+
+    @Test
+    public void testRemoveNested() {
+        final DataContainer container = new MemoryDataContainer()
+            .set(NAME, "Sword")
+            .set(LEVEL, 5);
+
+        container.remove(NAME);
+        container.remove(DataQuery.of("Missing", "Name"));
+
+        assertFalse(container.contains(NAME));
+        assertTrue(container.contains(LEVEL));
+    }
+
+    @Test
+    public void testArraysAreCloned() {
+        final int[] values = {1, 2, 3};
+        final DataContainer container = new MemoryDataContainer().set(DataQuery.of("Nested", "Values"), values);
+        values[0] = 4;
+
+        final int[] stored = (int[]) container.get(DataQuery.of("Nested", "Values")).get();
+        assertArrayEquals(new int[] {1, 2, 3}, stored);
+        assertNotSame(stored, container.get(DataQuery.of("Nested", "Values")).get());
+    }
+
+    @Test
+    public void testCopy() {
+        final DataContainer container = new MemoryDataContainer()
+            .set(NAME, "Sword")
+            .set(LEVEL, 5);
+
+        final DataContainer copy = container.copy();
+        assertEquals(container, copy);
+        copy.set(LEVEL, 6);
+        assertEquals(Optional.of(5), container.getInt(LEVEL));
+    }
+
+}
@@ -0,0 +1,176 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import static org.junit.Assert.assertEquals;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockTypes;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.persistence.DataFormats;
+import org.spongepowered.api.data.persistence.DataTranslators;
+import org.spongepowered.api.data.persistence.InvalidDataException;
+import org.spongepowered.api.world.schematic.PaletteTypes;
+import org.spongepowered.api.world.schematic.Schematic;
+import org.spongepowered.common.util.gen.ArrayMutableBlockBuffer;
+import org.spongepowered.common.world.schematic.BimapPalette;
+import org.spongepowered.lwts.runner.LaunchWrapperTestRunner;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+
+@RunWith(LaunchWrapperTestRunner.class)
+public class SchematicCodecTest {
+
+    private static final int AIR = 0;
+    // Two bytes as a varint
+    private static final int STONE = 200;
+
+    @Test
+    public void testRoundTripThroughTranslator() throws IOException {
+        final Schematic schematic = loadV2();
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataFormats.NBT.writeTo(bytes, DataTranslators.SCHEMATIC.translate(schematic));
+        final DataContainer container = DataFormats.NBT.readFrom(new ByteArrayInputStream(bytes.toByteArray()));
+        assertSameBlocks(schematic, DataTranslators.SCHEMATIC.translate(container));
+    }
+
+    @Test
+    public void testDecodeAcrossBatches() {
+        // More ids than fit into one decoded batch, with a single byte id shifting
+        // every following two byte id by one
+        final Vector3i size = new Vector3i(16, 17, 16);
+        final int volume = size.getX() * size.getY() * size.getZ();
+        final byte[] data = new byte[1 + (volume - 1) * 2];
+        data[0] = AIR;
+        for (int i = 1; i < data.length; i += 2) {
+            data[i] = (byte) (STONE & 127 | 128);
+            data[i + 1] = (byte) (STONE >>> 7);
+        }
+        final ArrayMutableBlockBuffer buffer = buffer(size);
+        SchematicCodec.decodeBlockData(data, buffer);
+        assertEquals(BlockTypes.AIR.getDefaultState(), buffer.getBlock(0, 0, 0));
+        for (int y = 0; y < size.getY(); y++) {
+            for (int z = 0; z < size.getZ(); z++) {
+                for (int x = 0; x < size.getX(); x++) {
+                    if (x != 0 || y != 0 || z != 0) {
+                        assertEquals(BlockTypes.STONE.getDefaultState(), buffer.getBlock(x, y, z));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testDecodeInSchematicOrder() {
+        final ArrayMutableBlockBuffer buffer = buffer(new Vector3i(2, 1, 2));
+        SchematicCodec.decodeBlockData(varInts(AIR, STONE, STONE, AIR), buffer);
+        assertEquals(BlockTypes.AIR.getDefaultState(), buffer.getBlock(0, 0, 0));
+        assertEquals(BlockTypes.STONE.getDefaultState(), buffer.getBlock(1, 0, 0));
+        assertEquals(BlockTypes.STONE.getDefaultState(), buffer.getBlock(0, 0, 1));
+        assertEquals(BlockTypes.AIR.getDefaultState(), buffer.getBlock(1, 0, 1));
+    }
+
+    @Test(expected = InvalidDataException.class)
+    public void testTooFewEntries() {
+        SchematicCodec.decodeBlockData(varInts(AIR, STONE, STONE), buffer(new Vector3i(2, 1, 2)));
+    }
+
+    @Test(expected = InvalidDataException.class)
+    public void testTruncatedVarInt() {
+        final byte[] data = varInts(AIR, STONE, STONE, STONE);
+        final byte[] truncated = new byte[data.length - 1];
+        System.arraycopy(data, 0, truncated, 0, truncated.length);
+        SchematicCodec.decodeBlockData(truncated, buffer(new Vector3i(2, 1, 2)));
+    }
+
+    @Test(expected = InvalidDataException.class)
+    public void testTooManyEntries() {
+        SchematicCodec.decodeBlockData(varInts(AIR, STONE, STONE, AIR, AIR), buffer(new Vector3i(2, 1, 2)));
+    }
+
+    @Test(expected = InvalidDataException.class)
+    public void testVarIntTooBig() {
+        final byte[] data = {AIR, AIR, AIR, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x01};
+        SchematicCodec.decodeBlockData(data, buffer(new Vector3i(2, 1, 2)));
+    }
+
+    @Test(expected = InvalidDataException.class)
+    public void testIdOutsidePalette() {
+        SchematicCodec.decodeBlockData(varInts(AIR, STONE, STONE + 1, AIR), buffer(new Vector3i(2, 1, 2)));
+    }
+
+    private Schematic loadV2() throws IOException {
+        try (final InputStream stream = this.getClass().getClassLoader().getResource("loadv2.schematic").openStream();
+             final GZIPInputStream gzipStream = new GZIPInputStream(stream)) {
+            return DataTranslators.SCHEMATIC.translate(DataFormats.NBT.readFrom(gzipStream));
+        }
+    }
+
+    /**
+     * Creates a buffer whose palette holds air as id {@link #AIR} and stone
+     * as id {@link #STONE}.
+     */
+    private static ArrayMutableBlockBuffer buffer(final Vector3i size) {
+        final BimapPalette<BlockState> palette = new BimapPalette<>(PaletteTypes.LOCAL_BLOCKS);
+        palette.assign(BlockTypes.AIR.getDefaultState(), AIR);
+        palette.assign(BlockTypes.STONE.getDefaultState(), STONE);
+        return ArrayMutableBlockBuffer.forPaletteIds(palette, Vector3i.ZERO, size);
+    }
+
+    private static void assertSameBlocks(final Schematic expected, final Schematic actual) {
+        assertEquals(expected.getBlockMin(), actual.getBlockMin());
+        assertEquals(expected.getBlockSize(), actual.getBlockSize());
+        final Vector3i min = expected.getBlockMin();
+        final Vector3i max = expected.getBlockMax();
+        for (int y = min.getY(); y <= max.getY(); y++) {
+            for (int z = min.getZ(); z <= max.getZ(); z++) {
+                for (int x = min.getX(); x <= max.getX(); x++) {
+                    final BlockState state = expected.getBlock(x, y, z);
+                    assertEquals(state, actual.getBlock(x, y, z));
+                }
+            }
+        }
+    }
+
+    private static byte[] varInts(final int... ids) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        for (int id : ids) {
+            while ((id & -128) != 0) {
+                bytes.write(id & 127 | 128);
+                id >>>= 7;
+            }
+            bytes.write(id);
+        }
+        return bytes.toByteArray();
+    }
+
+}
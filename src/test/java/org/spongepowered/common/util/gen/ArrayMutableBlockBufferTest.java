@@ -0,0 +1,86 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util.gen;
+
+import static org.junit.Assert.assertEquals;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockTypes;
+import org.spongepowered.api.world.schematic.PaletteTypes;
+import org.spongepowered.common.world.schematic.BimapPalette;
+import org.spongepowered.lwts.runner.LaunchWrapperTestRunner;
+
+@RunWith(LaunchWrapperTestRunner.class)
+public class ArrayMutableBlockBufferTest {
+
+    private static final Vector3i START = new Vector3i(-1, 4, 2);
+    private static final Vector3i SIZE = new Vector3i(3, 2, 2);
+
+    @Test
+    public void testSetPaletteIds() {
+        final BimapPalette<BlockState> palette = palette();
+        final ArrayMutableBlockBuffer buffer = ArrayMutableBlockBuffer.forPaletteIds(palette, START, SIZE);
+        final int[] ids = {0, 1, 2, 1, 0, 2, 2, 2, 1, 0, 0, 1};
+        // Written in two calls, the second starting half way through a row
+        buffer.setPaletteIds(0, ids, 4);
+        final int[] rest = new int[ids.length - 4];
+        System.arraycopy(ids, 4, rest, 0, rest.length);
+        buffer.setPaletteIds(4, rest, rest.length);
+
+        // Schematic order is x fastest, then z, then y
+        int index = 0;
+        for (int y = 0; y < SIZE.getY(); y++) {
+            for (int z = 0; z < SIZE.getZ(); z++) {
+                for (int x = 0; x < SIZE.getX(); x++) {
+                    assertEquals(palette.get(ids[index++]).get(), buffer.getBlock(START.getX() + x, START.getY() + y, START.getZ() + z));
+                }
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIdOutsidePalette() {
+        final ArrayMutableBlockBuffer buffer = ArrayMutableBlockBuffer.forPaletteIds(palette(), START, SIZE);
+        buffer.setPaletteIds(0, new int[] {-1}, 1);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testIdsPastVolume() {
+        final ArrayMutableBlockBuffer buffer = ArrayMutableBlockBuffer.forPaletteIds(palette(), START, SIZE);
+        buffer.setPaletteIds(10, new int[3], 3);
+    }
+
+    private static BimapPalette<BlockState> palette() {
+        final BimapPalette<BlockState> palette = new BimapPalette<>(PaletteTypes.LOCAL_BLOCKS);
+        palette.assign(BlockTypes.AIR.getDefaultState(), 0);
+        palette.assign(BlockTypes.STONE.getDefaultState(), 1);
+        palette.assign(BlockTypes.DIRT.getDefaultState(), 2);
+        return palette;
+    }
+
+}
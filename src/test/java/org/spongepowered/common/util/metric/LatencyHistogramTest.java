@@ -0,0 +1,74 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util.metric;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void testBucketBoundaries() {
+        for (long value = 0; value < 1 << 20; value++) {
+            final int index = LatencyHistogram.indexOf(value);
+            assertTrue(LatencyHistogram.lowestValueAt(index) <= value);
+            assertTrue(LatencyHistogram.highestValueAt(index) >= value);
+        }
+        final int last = LatencyHistogram.indexOf(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.highestValueAt(last));
+    }
+
+    @Test
+    public void testRelativeError() {
+        for (long value = 1; value > 0 && value < Long.MAX_VALUE / 3; value *= 3) {
+            final long highest = LatencyHistogram.highestValueAt(LatencyHistogram.indexOf(value));
+            assertTrue((double) (highest - value) / value <= 1.0 / 16);
+        }
+    }
+
+    @Test
+    public void testSnapshot() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (long millis = 1; millis <= 100; millis++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+        final LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(100, snapshot.getCount());
+        assertEquals(50.5, snapshot.getMean(TimeUnit.MILLISECONDS), 0.001);
+        assertEquals(100.0, snapshot.getMax(TimeUnit.MILLISECONDS), 0.001);
+        assertEquals(50.0, snapshot.getValueAtPercentile(50, TimeUnit.MILLISECONDS), 50.0 / 16);
+        assertEquals(99.0, snapshot.getValueAtPercentile(99, TimeUnit.MILLISECONDS), 99.0 / 16);
+        assertEquals(100.0, snapshot.getValueAtPercentile(100, TimeUnit.MILLISECONDS), 0.001);
+
+        histogram.reset();
+        assertEquals(0, histogram.snapshot().getCount());
+        assertEquals(0.0, histogram.snapshot().getValueAtPercentile(99, TimeUnit.MILLISECONDS), 0.0);
+    }
+
+}
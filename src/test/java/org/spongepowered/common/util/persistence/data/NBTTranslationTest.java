@@ -25,6 +25,7 @@
 package org.spongepowered.common.util.persistence.data;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.mockito.Mockito.when;
 
 import net.minecraft.nbt.NBTTagCompound;
@@ -63,4 +64,38 @@ public void testDotContainerKeys() {
         assertEquals(container, translatedContainer);
     }
 
+    @Test
+    public void testLazyContainerMatchesEagerTranslation() {
+        final DataContainer container = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED)
+            .set(DataQuery.of("foo"), "bar")
+            .set(DataQuery.of("flag"), true)
+            .set(DataQuery.of("nested", "numbers"), new int[] {1, 2, 3})
+            .set(DataQuery.of("nested", "value"), 7L);
+        final NBTTagCompound compound = NbtTranslator.getInstance().translateData(container);
+        final DataView lazyContainer = NbtTranslator.getInstance().translateLazily(compound);
+        assertEquals(NbtTranslator.getInstance().translateFrom(compound), lazyContainer);
+        assertEquals(Optional.of(true), lazyContainer.getBoolean(DataQuery.of("flag")));
+        assertEquals(Optional.of(7L), lazyContainer.getLong(DataQuery.of("nested", "value")));
+        assertEquals(compound, NbtTranslator.getInstance().translateData(lazyContainer));
+    }
+
+    @Test
+    public void testLazyContainerDoesNotModifyCompound() {
+        final NBTTagCompound compound = new NBTTagCompound();
+        compound.setString("foo", "bar");
+        final NBTTagCompound nested = new NBTTagCompound();
+        nested.setInteger("value", 1);
+        compound.setTag("nested", nested);
+        final NBTTagCompound original = compound.copy();
+
+        final DataView lazyContainer = NbtTranslator.getInstance().translateLazily(compound);
+        lazyContainer.set(DataQuery.of("nested", "value"), 2);
+        lazyContainer.remove(DataQuery.of("foo"));
+
+        assertEquals(original, compound);
+        final NBTTagCompound translated = NbtTranslator.getInstance().translateData(lazyContainer);
+        assertEquals(2, translated.getCompoundTag("nested").getInteger("value"));
+        assertFalse(translated.hasKey("foo"));
+    }
+
 }
@@ -0,0 +1,89 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.teleport;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+public class SafeLocationCandidatesTest {
+
+    @Test
+    public void testOrderMatchesSortedBox() {
+        assertSortedOrder(new Vector3i(0, 64, 0), 0, 0, 64, 64, 0, 0);
+        assertSortedOrder(new Vector3i(0, 64, 0), -9, 9, 61, 67, -9, 9);
+        assertSortedOrder(new Vector3i(5, 2, -3), 0, 12, 0, 5, -8, -1);
+    }
+
+    @Test
+    public void testOriginOutsideBox() {
+        // The box is clamped to the world border and height, so the origin may lie outside of it
+        assertSortedOrder(new Vector3i(20, 300, 20), 10, 15, 250, 255, 10, 15);
+    }
+
+    @Test(timeout = 1000)
+    public void testFarOriginStartsAtNearestShell() {
+        // An origin far above the height limit must not walk every empty shell between it and the box
+        final SafeLocationCandidates candidates = new SafeLocationCandidates(new Vector3i(0, 100000, 0), -2, 2, 0, 255, -2, 2);
+        Assert.assertEquals(new Vector3i(0, 255, 0), candidates.next());
+        Assert.assertEquals(new Vector3i(-1, 255, 0), candidates.next());
+    }
+
+    @Test
+    public void testLargeWidth() {
+        // The squared distances of a box this wide no longer fit into an int
+        final SafeLocationCandidates candidates = new SafeLocationCandidates(new Vector3i(0, 0, 0), -60000, 60000, 0, 0, 0, 0);
+        Assert.assertEquals(new Vector3i(0, 0, 0), candidates.next());
+        Assert.assertEquals(new Vector3i(-1, 0, 0), candidates.next());
+
+        final SafeLocationCandidates far = new SafeLocationCandidates(new Vector3i(0, 0, 0), 59999, 60000, 0, 0, 0, 0);
+        Assert.assertEquals(new Vector3i(59999, 0, 0), far.next());
+        Assert.assertEquals(new Vector3i(60000, 0, 0), far.next());
+        Assert.assertFalse(far.hasNext());
+    }
+
+    private static void assertSortedOrder(Vector3i origin, int minX, int maxX, int minY, int maxY, int minZ, int maxZ) {
+        final List<Vector3i> expected = new ArrayList<>();
+        for (int y = minY; y <= maxY; y++) {
+            for (int x = minX; x <= maxX; x++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    expected.add(new Vector3i(x, y, z));
+                }
+            }
+        }
+        Comparator<Vector3i> c = Comparator.comparingInt(origin::distanceSquared);
+        c = c.thenComparing(v -> -Math.abs(origin.getY() - v.getY())).thenComparing(v -> -v.getY());
+        expected.sort(c);
+
+        final List<Vector3i> actual = new ArrayList<>();
+        new SafeLocationCandidates(origin, minX, maxX, minY, maxY, minZ, maxZ).forEachRemaining(actual::add);
+        Assert.assertEquals(expected, actual);
+    }
+
+}